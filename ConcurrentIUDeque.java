@@ -0,0 +1,320 @@
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Lock-free, thread safe doubly linked deque that implements the indexed
+ * unsorted list. Built for work queues: any number of threads can call
+ * addToFront, addToRear, removeFirst and removeLast at the same time
+ * without a lock.
+ *
+ * The linking is done by java.util.concurrent.ConcurrentLinkedDeque, the
+ * same way GoodList wraps LinkedList. Its nodes are doubly linked like
+ * IUDoubleLinkedList's, but every link and element change is a
+ * compare-and-set, which lets a thread finish or help another thread's
+ * half done update instead of waiting for it.
+ *
+ * Iterators are weakly consistent: they never throw
+ * ConcurrentModificationException and may or may not show changes made
+ * after they were created. Positional changes (add(int, T), addAfter,
+ * set, remove(int), removeRange) cannot be made atomic against concurrent
+ * ends operations and throw UnsupportedOperationException, as does
+ * remove() through an iterator and listIterator, whose add, set and remove
+ * are positional too. Null elements are not supported.
+ *
+ * @param <T> - type of elements held in this collection
+ */
+public class ConcurrentIUDeque<T> implements IndexedUnsortedList<T> {
+    private final ConcurrentLinkedDeque<T> deque;
+    // ConcurrentLinkedDeque.size() walks the whole deque, so keep a count.
+    // A LongAdder spreads the updates so producers and consumers do not
+    // all fight over one counter.
+    private final LongAdder size;
+
+    /**
+     * Initialize a new empty deque
+     */
+    public ConcurrentIUDeque() {
+        deque = new ConcurrentLinkedDeque<T>();
+        size = new LongAdder();
+    }
+
+    /**
+     * Remove and return the first element, or null if the deque is empty.
+     * Cheaper than removeFirst for consumers that poll an often empty queue.
+     *
+     * @return the first element or null
+     */
+    public T pollFirst() {
+        T element = deque.pollFirst();
+        if (element != null) {
+            size.decrement();
+        }
+        return element;
+    }
+
+    /**
+     * Remove and return the last element, or null if the deque is empty.
+     *
+     * @return the last element or null
+     */
+    public T pollLast() {
+        T element = deque.pollLast();
+        if (element != null) {
+            size.decrement();
+        }
+        return element;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        deque.addFirst(element);
+        size.increment();
+    }
+
+    @Override
+    public void addToRear(T element) {
+        deque.addLast(element);
+        size.increment();
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        throw new UnsupportedOperationException("positional changes are not supported");
+    }
+
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException("positional changes are not supported");
+    }
+
+    @Override
+    public T removeFirst() {
+        T element = pollFirst();
+        if (element == null) {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+    @Override
+    public T removeLast() {
+        T element = pollLast();
+        if (element == null) {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+    @Override
+    public T remove(T element) {
+        // Find the stored element first so it can be returned
+        T found = null;
+        Iterator<T> iterator = deque.iterator();
+        while (found == null && iterator.hasNext()) {
+            T current = iterator.next();
+            if (element.equals(current)) {
+                found = current;
+            }
+        }
+
+        // Another thread may have taken it in the meantime
+        if (found == null || !deque.removeFirstOccurrence(found)) {
+            throw new NoSuchElementException();
+        }
+        size.decrement();
+        return found;
+    }
+
+    @Override
+    public T remove(int index) {
+        throw new UnsupportedOperationException("positional changes are not supported");
+    }
+
+    @Override
+    public void set(int index, T element) {
+        throw new UnsupportedOperationException("positional changes are not supported");
+    }
+
+    /**
+     * Returns the element at index by walking a weakly consistent iterator,
+     * so under concurrent changes the result reflects some recent state of
+     * the deque rather than one exact moment.
+     */
+    @Override
+    public T get(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        Iterator<T> iterator = deque.iterator();
+        for (int i = 0; i < index && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        if (!iterator.hasNext()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return iterator.next();
+    }
+
+    @Override
+    public int indexOf(T element) {
+        int currentIndex = 0;
+        for (T current : deque) {
+            if (element.equals(current)) {
+                return currentIndex;
+            }
+            currentIndex++;
+        }
+        return -1;
+    }
+
+    @Override
+    public T first() {
+        T element = deque.peekFirst();
+        if (element == null) {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+    @Override
+    public T last() {
+        T element = deque.peekLast();
+        if (element == null) {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return deque.contains(target);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return deque.isEmpty();
+    }
+
+    /**
+     * Returns the number of elements. Exact when no other thread is changing
+     * the deque, otherwise it may briefly lag the operations in progress.
+     */
+    @Override
+    public int size() {
+        // An add may finish before its increment lands, never report below 0
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> elements) {
+        // Add one at a time so the count never runs ahead of the deque
+        boolean changed = false;
+        for (T element : elements) {
+            addToRear(element);
+            changed = true;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        throw new UnsupportedOperationException("positional changes are not supported");
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        boolean removed = false;
+        for (T element : deque) {
+            // removeFirstOccurrence only succeeds for one thread per node
+            if (filter.test(element) && deque.removeFirstOccurrence(element)) {
+                size.decrement();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("positional changes are not supported");
+    }
+
+    @Override
+    public void clear() {
+        while (pollFirst() != null) {
+            // Each poll keeps the count in step
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (T element : this) {
+            stringBuilder.append(element.toString());
+            stringBuilder.append(", ");
+        }
+
+        if (stringBuilder.length() > 1) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = deque.iterator();
+        // Read-only view, removing through the deque's own iterator could
+        // not tell us whether it or a concurrent poll took the element
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        deque.forEach(action);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return deque.spliterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        throw new UnsupportedOperationException("list iterators are not supported: they make positional changes");
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        throw new UnsupportedOperationException("list iterators are not supported: they make positional changes");
+    }
+}
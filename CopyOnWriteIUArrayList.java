@@ -0,0 +1,529 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Thread safe, copy-on-write implementation of the indexed unsorted list.
+ * The elements live in an exactly sized array that is never changed once
+ * published. Every mutation copies the array under a lock, edits the copy
+ * and publishes it with a single volatile write.
+ *
+ * Reads take no lock: each one reads the current array once and works on
+ * that snapshot. Iterators also walk the snapshot taken when they were
+ * created, so they never see later changes and never throw
+ * ConcurrentModificationException. They do not support remove, set or add.
+ *
+ * Writes cost a full copy each, so the list suits data that is read far
+ * more often than it changes. To apply several edits for the price of one
+ * publish, pass them all to batch().
+ *
+ * @param <T> - type of elements held in this collection
+ */
+public class CopyOnWriteIUArrayList<T> implements IndexedUnsortedList<T> {
+    // Replaced, never modified, once published
+    private volatile Object[] array;
+    // Serializes writers, readers never take it
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Initialize a new empty list
+     */
+    public CopyOnWriteIUArrayList() {
+        array = new Object[0];
+    }
+
+    /**
+     * Element at index of a snapshot array.
+     *
+     * @param snapshot the array to read
+     * @param index    index of the element
+     * @return the element
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T elementAt(Object[] snapshot, int index) {
+        return (T) snapshot[index];
+    }
+
+    /**
+     * First index of element in a snapshot array.
+     *
+     * @param snapshot the array to search
+     * @param element  the element to look for
+     * @return the index or -1 if not found
+     */
+    private static int indexOf(Object[] snapshot, Object element) {
+        for (int i = 0; i < snapshot.length; i++) {
+            if (element.equals(snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Publish a copy of the current array with element inserted at index.
+     * Must be called while holding the lock.
+     *
+     * @param index   index to insert at, 0 <= index <= length
+     * @param element the element to insert
+     */
+    private void insertAt(int index, T element) {
+        Object[] current = array;
+        Object[] newArray = new Object[current.length + 1];
+        System.arraycopy(current, 0, newArray, 0, index);
+        newArray[index] = element;
+        System.arraycopy(current, index, newArray, index + 1, current.length - index);
+        array = newArray;
+    }
+
+    /**
+     * Publish a copy of the current array without the element at index.
+     * Must be called while holding the lock.
+     *
+     * @param index index to remove, 0 <= index < length
+     * @return the removed element
+     */
+    private T removeAt(int index) {
+        Object[] current = array;
+        T returnValue = elementAt(current, index);
+        Object[] newArray = new Object[current.length - 1];
+        System.arraycopy(current, 0, newArray, 0, index);
+        System.arraycopy(current, index + 1, newArray, index, current.length - index - 1);
+        array = newArray;
+        return returnValue;
+    }
+
+    /**
+     * Apply any number of edits with a single publish. The edits run, while
+     * holding the write lock, against a private IUArrayList holding a copy
+     * of the elements. When they finish the result is published in one
+     * step, so readers see either none of the edits or all of them. If an
+     * edit throws, nothing is published.
+     *
+     * Edits must go through the list passed to them. Changes made directly
+     * to this list from inside edits are overwritten when the batch
+     * publishes, and the list passed to edits must not be kept or used once
+     * batch returns.
+     *
+     * @param edits the changes to make
+     */
+    public void batch(Consumer<? super IndexedUnsortedList<T>> edits) {
+        if (edits == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            Object[] current = array;
+            @SuppressWarnings("unchecked")
+            T[] elements = (T[]) current;
+            IUArrayList<T> working = new IUArrayList<T>(current.length);
+            working.addAll(Arrays.asList(elements));
+            edits.accept(working);
+            // The working list's spliterator is SIZED, so this is one exact copy
+            array = working.stream().toArray();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void addToFront(T element) {
+        add(0, element);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        lock.lock();
+        try {
+            insertAt(array.length, element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        lock.lock();
+        try {
+            int targetIndex = indexOf(array, target);
+
+            // Necessary to check since indexOf does not throw an exception.
+            if (targetIndex < 0) {
+                throw new NoSuchElementException();
+            }
+            insertAt(targetIndex + 1, element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void add(int index, T element) {
+        lock.lock();
+        try {
+            if (index < 0 || index > array.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            insertAt(index, element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T removeFirst() {
+        lock.lock();
+        try {
+            if (array.length == 0) {
+                throw new NoSuchElementException();
+            }
+            return removeAt(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T removeLast() {
+        lock.lock();
+        try {
+            if (array.length == 0) {
+                throw new NoSuchElementException();
+            }
+            return removeAt(array.length - 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T remove(T element) {
+        lock.lock();
+        try {
+            int index = indexOf(array, element);
+
+            if (index < 0) {
+                throw new NoSuchElementException();
+            }
+            return removeAt(index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T remove(int index) {
+        lock.lock();
+        try {
+            if (index < 0 || index >= array.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            return removeAt(index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void set(int index, T element) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            Object[] newArray = current.clone();
+            newArray[index] = element;
+            array = newArray;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        Object[] snapshot = array;
+        if (index < 0 || index >= snapshot.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        return elementAt(snapshot, index);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        return indexOf(array, element);
+    }
+
+    @Override
+    public T first() {
+        Object[] snapshot = array;
+        if (snapshot.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(snapshot, 0);
+    }
+
+    @Override
+    public T last() {
+        Object[] snapshot = array;
+        if (snapshot.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return elementAt(snapshot, snapshot.length - 1);
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(array, target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        // Copy the collection before taking the lock
+        Object[] newElements = elements.toArray();
+        lock.lock();
+        try {
+            Object[] current = array;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (newElements.length == 0) {
+                return false;
+            }
+            Object[] newArray = new Object[current.length + newElements.length];
+            System.arraycopy(current, 0, newArray, 0, index);
+            System.arraycopy(newElements, 0, newArray, index, newElements.length);
+            System.arraycopy(current, index, newArray, index + newElements.length, current.length - index);
+            array = newArray;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        lock.lock();
+        try {
+            Object[] current = array;
+            // Kept elements are packed into the new array in one pass
+            Object[] kept = new Object[current.length];
+            int keptCount = 0;
+            for (int i = 0; i < current.length; i++) {
+                T element = elementAt(current, i);
+                if (!filter.test(element)) {
+                    kept[keptCount] = element;
+                    keptCount++;
+                }
+            }
+            if (keptCount == current.length) {
+                return false;
+            }
+            array = Arrays.copyOf(kept, keptCount);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        lock.lock();
+        try {
+            Object[] current = array;
+            if (fromIndex < 0 || toIndex > current.length || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (fromIndex == toIndex) {
+                return;
+            }
+            Object[] newArray = new Object[current.length - (toIndex - fromIndex)];
+            System.arraycopy(current, 0, newArray, 0, fromIndex);
+            System.arraycopy(current, toIndex, newArray, fromIndex, current.length - toIndex);
+            array = newArray;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            array = new Object[0];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (T element : this) {
+            stringBuilder.append(element.toString());
+            stringBuilder.append(", ");
+        }
+
+        if (stringBuilder.length() > 1) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new COWIterator(array, 0);
+    }
+
+    /**
+     * Runs the action on every element of the current snapshot, in order.
+     * Changes made while it runs are not seen.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        Object[] snapshot = array;
+        for (int i = 0; i < snapshot.length; i++) {
+            action.accept(elementAt(snapshot, i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        // The snapshot never changes, so the spliterator can be IMMUTABLE
+        return Spliterators.spliterator(array, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new COWIterator(array, 0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        Object[] snapshot = array;
+        if (startingIndex < 0 || startingIndex > snapshot.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new COWIterator(snapshot, startingIndex);
+    }
+
+    /**
+     * Copy-On-Write Iterator (COWIterator)
+     * A read-only list iterator over one snapshot of the array. It never
+     * sees later changes, so it never throws ConcurrentModificationException.
+     */
+    private class COWIterator implements ListIterator<T> {
+        private final Object[] snapshot;
+        private int nextIndex;
+
+        /**
+         * Initialize the iterator in front of the given index of a snapshot
+         *
+         * @param snapshot   the array to walk
+         * @param startIndex index of the element the first next() returns
+         */
+        public COWIterator(Object[] snapshot, int startIndex) {
+            this.snapshot = snapshot;
+            nextIndex = startIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < snapshot.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            nextIndex++;
+            return elementAt(snapshot, nextIndex - 1);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            nextIndex--;
+            return elementAt(snapshot, nextIndex);
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            while (nextIndex < snapshot.length) {
+                action.accept(elementAt(snapshot, nextIndex));
+                nextIndex++;
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("snapshot iterators are read-only");
+        }
+
+        @Override
+        public void set(T e) {
+            throw new UnsupportedOperationException("snapshot iterators are read-only");
+        }
+
+        @Override
+        public void add(T e) {
+            throw new UnsupportedOperationException("snapshot iterators are read-only");
+        }
+    } // End of COWIterator class
+} // End of CopyOnWriteIUArrayList class
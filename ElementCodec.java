@@ -0,0 +1,96 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Converts list elements to and from a fixed number of bytes, so lists that
+ * keep their elements outside the Java heap can store any element type.
+ * Every element takes exactly width() bytes. Reads and writes use absolute
+ * offsets and never move the buffer position.
+ *
+ * @param <T> - class of objects the codec converts
+ */
+public interface ElementCodec<T> {
+    /**
+     * Codec for Integer elements, 4 bytes each.
+     */
+    public static final ElementCodec<Integer> INTEGER = new ElementCodec<Integer>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Codec for Long elements, 8 bytes each.
+     */
+    public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Codec for Double elements, 8 bytes each.
+     */
+    public static final ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Returns the number of bytes every encoded element takes.
+     *
+     * @return the fixed element width in bytes
+     */
+    public int width();
+
+    /**
+     * Encodes an element into the buffer at the given byte offset.
+     *
+     * @param buffer  the buffer to write into
+     * @param offset  byte offset of the element's first byte
+     * @param element the element to encode, never null
+     */
+    public void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * Decodes the element stored at the given byte offset.
+     *
+     * @param buffer the buffer to read from
+     * @param offset byte offset of the element's first byte
+     * @return the decoded element
+     */
+    public T read(ByteBuffer buffer, int offset);
+}
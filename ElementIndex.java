@@ -0,0 +1,150 @@
+import java.util.HashMap;
+
+/**
+ * Opt-in hash index from element values to where a list stores them, used
+ * by lists to answer contains in O(1) and to find the element for indexOf,
+ * remove(T) and addAfter without a scan.
+ *
+ * For every distinct element the index keeps how many times it is in the
+ * list, so contains and the "not in the list" answers never scan. It also
+ * keeps one location (a node, or a PositionTree position) for elements
+ * that are in the list exactly once. An element held more than once has no
+ * trusted location, since the lookups need its first occurrence, and the
+ * list falls back to a scan; the result of that scan can be remembered
+ * again once the element is back to a single copy.
+ *
+ * The list calls added and removed on every change, so the counts are
+ * always exact. Locations are only as good as the list keeps them, so a
+ * list whose elements shift stores something that follows the element,
+ * such as a PositionTree position, rather than a plain index.
+ *
+ * @param <T> - type of elements indexed
+ * @param <L> - type of location the list stores
+ */
+public class ElementIndex<T, L> {
+    // Estimated bytes per distinct element: a HashMap node (32) and an
+    // Entry (24), with compressed references
+    private static final long BYTES_PER_ENTRY = 56;
+    // Estimated bytes per HashMap table slot
+    private static final long BYTES_PER_SLOT = 4;
+    private final HashMap<T, Entry<L>> entries;
+
+    /**
+     * Initialize an empty index
+     */
+    public ElementIndex() {
+        entries = new HashMap<T, Entry<L>>();
+    }
+
+    /**
+     * Record one more copy of element. Its location is remembered only if
+     * this is the only copy.
+     *
+     * @param element  the element added
+     * @param location where it is stored, may be null if unknown
+     */
+    public void added(T element, L location) {
+        Entry<L> entry = entries.get(element);
+        if (entry == null) {
+            entry = new Entry<L>();
+            entries.put(element, entry);
+        }
+        entry.count++;
+        entry.location = (entry.count == 1) ? location : null;
+    }
+
+    /**
+     * Record that one copy of element is gone. The location is forgotten,
+     * since it may have been the copy removed.
+     *
+     * @param element the element removed
+     */
+    public void removed(T element) {
+        Entry<L> entry = entries.get(element);
+        if (entry == null) {
+            return;
+        }
+        entry.count--;
+        if (entry.count <= 0) {
+            entries.remove(element);
+        } else {
+            entry.location = null;
+        }
+    }
+
+    /**
+     * Returns how many times element is in the list
+     *
+     * @param element the element to count
+     * @return the number of copies
+     */
+    public int count(T element) {
+        Entry<L> entry = entries.get(element);
+        return (entry == null) ? 0 : entry.count;
+    }
+
+    /**
+     * Returns true if element is in the list at least once
+     *
+     * @param element the element to look for
+     * @return true if the list holds element
+     */
+    public boolean contains(T element) {
+        return entries.containsKey(element);
+    }
+
+    /**
+     * Returns the location of element if it is in the list exactly once and
+     * its location is known, otherwise null.
+     *
+     * @param element the element to look for
+     * @return its location or null
+     */
+    public L location(T element) {
+        Entry<L> entry = entries.get(element);
+        return (entry == null || entry.count != 1) ? null : entry.location;
+    }
+
+    /**
+     * Remember a location the list found by scanning. Ignored unless the
+     * element is in the list exactly once.
+     *
+     * @param element  the element found
+     * @param location where it is stored
+     */
+    public void remember(T element, L location) {
+        Entry<L> entry = entries.get(element);
+        if (entry != null && entry.count == 1) {
+            entry.location = location;
+        }
+    }
+
+    /**
+     * Forget every element
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Estimate the memory the index uses beyond the list itself, from the
+     * number of distinct elements. The elements are shared with the list
+     * and not counted.
+     *
+     * @return estimated bytes used by the index
+     */
+    public long footprintBytes() {
+        long distinct = entries.size();
+        // HashMap keeps its table a power of two at most 3/4 full
+        long slots = Long.highestOneBit(Math.max(16, distinct * 4 / 3) * 2 - 1);
+        return distinct * BYTES_PER_ENTRY + slots * BYTES_PER_SLOT;
+    }
+
+    /**
+     * Copies of one distinct element, and where the single copy is stored
+     */
+    private static class Entry<L> {
+        private int count;
+        private L location;
+    }
+}
@@ -2,6 +2,7 @@ import java.util.LinkedList;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Iterator;
+import java.util.Spliterator;
 
 /**
  * "Good" implementation of IndexedUnsortedList interface 
@@ -118,6 +119,11 @@ public class GoodList<T> implements IndexedUnsortedList<T> {
 		return list.iterator();
 	}
 
+	@Override
+	public Spliterator<T> spliterator() {
+		return list.spliterator();
+	}
+
 	@Override
 	public ListIterator<T> listIterator() {
 		throw new UnsupportedOperationException();
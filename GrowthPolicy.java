@@ -0,0 +1,153 @@
+/**
+ * Strategy an array based list uses to pick a new backing array capacity.
+ * Growth is required, shrinking is optional and defaults to never.
+ * Use the static factories for the common strategies, or wrap one with
+ * capped() or autoShrink() to limit how the array changes size.
+ */
+public interface GrowthPolicy {
+    /**
+     * Largest array size the policies will ask for. Some VMs reserve a few
+     * header words in an array, so stay a little under Integer.MAX_VALUE.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns the capacity to grow to when the list needs room for at least
+     * minCapacity elements.
+     *
+     * @param currentCapacity the current length of the backing array
+     * @param minCapacity     the smallest capacity that will fit the list
+     * @return the new capacity, never less than minCapacity
+     */
+    public int grow(int currentCapacity, int minCapacity);
+
+    /**
+     * Returns the capacity to shrink to after an element has been removed.
+     * Returning currentCapacity leaves the array alone.
+     *
+     * @param currentCapacity the current length of the backing array
+     * @param size            the number of elements in the list
+     * @return the new capacity, never less than size
+     */
+    public default int shrink(int currentCapacity, int size) {
+        return currentCapacity;
+    }
+
+    /**
+     * Doubles the capacity every time the list runs out of room.
+     *
+     * @return a doubling growth policy
+     */
+    public static GrowthPolicy doubling() {
+        return factor(2.0);
+    }
+
+    /**
+     * Multiplies the capacity by the given factor every time the list runs out
+     * of room, for example 1.5 for a gentler curve than doubling.
+     *
+     * @param factor the growth factor
+     * @return a multiplicative growth policy
+     * @throws IllegalArgumentException if factor is not greater than 1
+     */
+    public static GrowthPolicy factor(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException("factor must be greater than 1: " + factor);
+        }
+        return (currentCapacity, minCapacity) -> clamp((long) (currentCapacity * factor), minCapacity);
+    }
+
+    /**
+     * Adds the same number of slots every time the list runs out of room.
+     *
+     * @param increment the number of slots to add
+     * @return a fixed increment growth policy
+     * @throws IllegalArgumentException if increment is not positive
+     */
+    public static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("increment must be positive: " + increment);
+        }
+        return (currentCapacity, minCapacity) -> clamp((long) currentCapacity + increment, minCapacity);
+    }
+
+    /**
+     * Limits how many slots a single growth step of another policy may add,
+     * so a very large list grows in bounded chunks instead of doubling.
+     *
+     * @param policy       the policy to limit
+     * @param maxIncrement the most slots one growth step may add
+     * @return a capped growth policy
+     * @throws IllegalArgumentException if maxIncrement is not positive
+     */
+    public static GrowthPolicy capped(GrowthPolicy policy, int maxIncrement) {
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("maxIncrement must be positive: " + maxIncrement);
+        }
+        return new GrowthPolicy() {
+            @Override
+            public int grow(int currentCapacity, int minCapacity) {
+                long limit = (long) currentCapacity + maxIncrement;
+                return clamp(Math.min(policy.grow(currentCapacity, minCapacity), limit), minCapacity);
+            }
+
+            @Override
+            public int shrink(int currentCapacity, int size) {
+                return policy.shrink(currentCapacity, size);
+            }
+        };
+    }
+
+    /**
+     * Adds shrinking to another policy. Once occupancy drops below the
+     * threshold the array shrinks so that it is twice the threshold full,
+     * which leaves a gap between the grow and shrink points so alternating
+     * adds and removes do not resize the array every time.
+     *
+     * @param policy      the policy used for growth
+     * @param threshold   occupancy below which the array shrinks, 0 <
+     *                    threshold <= 0.5
+     * @param minCapacity the array never shrinks below this capacity
+     * @return a growth policy that also shrinks
+     * @throws IllegalArgumentException if threshold is out of range or
+     *                                  minCapacity is negative
+     */
+    public static GrowthPolicy autoShrink(GrowthPolicy policy, double threshold, int minCapacity) {
+        if (!(threshold > 0.0 && threshold <= 0.5)) {
+            throw new IllegalArgumentException("threshold must be in (0, 0.5]: " + threshold);
+        }
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("minCapacity must not be negative: " + minCapacity);
+        }
+        return new GrowthPolicy() {
+            @Override
+            public int grow(int currentCapacity, int needed) {
+                return policy.grow(currentCapacity, needed);
+            }
+
+            @Override
+            public int shrink(int currentCapacity, int size) {
+                if (currentCapacity <= minCapacity || size >= currentCapacity * threshold) {
+                    return currentCapacity;
+                }
+                int target = (int) Math.ceil(size / (threshold * 2));
+                return Math.max(Math.max(target, size), minCapacity);
+            }
+        };
+    }
+
+    /**
+     * Keep a requested capacity between minCapacity and MAX_CAPACITY.
+     *
+     * @param requested   the capacity a policy would like
+     * @param minCapacity the smallest capacity that will fit the list
+     * @return the capacity to use
+     */
+    private static int clamp(long requested, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            // Requested more than an array can hold
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        return (int) Math.max(Math.min(requested, MAX_CAPACITY), minCapacity);
+    }
+}
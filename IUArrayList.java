@@ -1,8 +1,12 @@
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public class IUArrayList<T> implements IndexedUnsortedList<T> {
     public static final int DEFAULT_CAPACITY = 10;
@@ -10,6 +14,18 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
     private int rear;
     // Modification count any time the list gets added or removed
     private int versionNumber;
+    // Decides the new array size when growing or shrinking
+    private GrowthPolicy growthPolicy;
+    // Empty slots [gapStart, gapEnd) left by a list iterator's batched edits.
+    // While open, elements at index >= gapStart are stored gapEnd - gapStart
+    // slots further right. Equal values mean there is no gap.
+    private int gapStart;
+    private int gapEnd;
+    // Element to position, null unless enableElementIndex was called.
+    // positions holds one Position per element, in list order, so a stored
+    // Position gives the element's index even after the array shifts.
+    private ElementIndex<T, PositionTree.Position> elementIndex;
+    private PositionTree positions;
 
     /**
      * Default constructor that creates an array of size 10, the 
@@ -25,46 +41,225 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
      * @param initialCapacity An integer value that will serve as the array
      * size
      */
-    @SuppressWarnings("unchecked")
     public IUArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Third constructor that also takes the policy used to grow, and optionally
+     * shrink, the array.
+     * 
+     * @param initialCapacity An integer value that will serve as the array
+     * size
+     * @param growthPolicy Decides the new array size whenever the list runs
+     * out of room or, if the policy supports it, gets too empty
+     */
+    @SuppressWarnings("unchecked")
+    public IUArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException();
+        }
         array = (T[])(new Object[initialCapacity]);
         rear = 0;
         versionNumber = 0;
+        this.growthPolicy = growthPolicy;
+        gapStart = 0;
+        gapEnd = 0;
+    }
+
+    /**
+     * Apply any edits a list iterator has batched up by closing its gap with a
+     * single shift, so index i is stored at array[i] again. Every method that
+     * changes the structure of the list calls this first. Read-only methods
+     * go through physicalIndex instead, so reading during cursor editing does
+     * not undo the iterator's batching.
+     */
+    private void closeGap() {
+        if (gapEnd > gapStart) {
+            int gapLength = gapEnd - gapStart;
+            System.arraycopy(array, gapEnd, array, gapStart, rear - gapStart);
+
+            // Clear the stale copies left past the new rear
+            Arrays.fill(array, rear, rear + gapLength, null);
+            gapStart = 0;
+            gapEnd = 0;
+
+            // Removes through the iterator skipped shrinking, catch up now
+            shrinkIfNecessary();
+        }
     }
 
     /**
-     * Double list capacity if necessary before adding.
+     * Translate a list index into its array slot, skipping over an open gap.
+     * 
+     * @param index list index
+     * @return the array index
+     */
+    private int physicalIndex(int index) {
+        if (gapEnd > gapStart && index >= gapStart) {
+            return index + (gapEnd - gapStart);
+        }
+        return index;
+    }
+
+    /**
+     * Grow the list capacity using the growth policy if necessary before adding.
      */
     private void expandIfNecessary() {
         if (array.length == rear) {
             // Out of room
-            // Use the Array class to copy and overwrite the list now with twice the size
-            array = Arrays.copyOf(array, array.length * 2);
+            // Use the Array class to copy and overwrite the list with the bigger size
+            array = Arrays.copyOf(array, growthPolicy.grow(array.length, rear + 1));
+        }
+    }
+
+    /**
+     * Give the growth policy a chance to shrink the array after a remove.
+     */
+    private void shrinkIfNecessary() {
+        int newCapacity = growthPolicy.shrink(array.length, rear);
+        if (newCapacity < array.length) {
+            array = Arrays.copyOf(array, Math.max(newCapacity, rear));
+        }
+    }
+
+    /**
+     * Grow the array, if necessary, so it can hold at least minCapacity
+     * elements without another resize. Useful before adding many elements.
+     * 
+     * @param minCapacity the number of elements the list should have room for
+     */
+    public void ensureCapacity(int minCapacity) {
+        closeGap();
+        if (minCapacity > array.length) {
+            array = Arrays.copyOf(array, growthPolicy.grow(array.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrink the array to exactly the number of elements in the list,
+     * releasing any unused slots.
+     */
+    public void trimToSize() {
+        closeGap();
+        if (rear < array.length) {
+            array = Arrays.copyOf(array, rear);
+        }
+    }
+
+    /**
+     * Returns the number of elements the list can hold before it must grow.
+     * 
+     * @return the length of the backing array
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Start keeping a hash index from elements to where they are, built
+     * from the current contents and updated on every change. While it is
+     * on, contains is O(1), and indexOf, remove(T) and addAfter find an
+     * element held only once in O(log n) instead of a scan, since a
+     * PositionTree keeps its index exact as elements shift. An element that
+     * is not in the list is always answered without a scan. Every add and
+     * remove pays O(log n) to keep the positions. Elements must have a
+     * hashCode consistent with equals.
+     */
+    public void enableElementIndex() {
+        closeGap();
+        if (elementIndex == null) {
+            elementIndex = new ElementIndex<T, PositionTree.Position>();
+            positions = new PositionTree();
+            for (int i = 0; i < rear; i++) {
+                elementIndex.added(array[i], positions.insert(i));
+            }
+        }
+    }
+
+    /**
+     * Stop keeping the element index and release its memory.
+     */
+    public void disableElementIndex() {
+        elementIndex = null;
+        positions = null;
+    }
+
+    /**
+     * Returns the estimated memory used by the element index, or 0 if it is
+     * not enabled.
+     *
+     * @return estimated bytes used by the element index and its positions
+     */
+    public long getElementIndexBytes() {
+        return (elementIndex == null) ? 0 : elementIndex.footprintBytes() + positions.footprintBytes();
+    }
+
+    /**
+     * Tell the element index, if any, that element was inserted at index
+     *
+     * @param element the element added
+     * @param index   its index
+     */
+    private void indexAdded(T element, int index) {
+        if (elementIndex != null) {
+            elementIndex.added(element, positions.insert(index));
+        }
+    }
+
+    /**
+     * Tell the element index, if any, that the element at index is gone
+     *
+     * @param element the element removed
+     * @param index   the index it was removed from
+     */
+    private void indexRemoved(T element, int index) {
+        if (elementIndex != null) {
+            elementIndex.removed(element);
+            positions.remove(index);
+        }
+    }
+
+    /**
+     * Tell the element index, if any, that the element at index was replaced
+     * without anything moving
+     *
+     * @param oldElement the element replaced
+     * @param element    the element now at index
+     * @param index      its index
+     */
+    private void indexReplaced(T oldElement, T element, int index) {
+        if (elementIndex != null) {
+            elementIndex.removed(oldElement);
+            elementIndex.added(element, positions.positionAt(index));
         }
     }
 
     @Override
     public void addToFront(T element) {
+        closeGap();
         expandIfNecessary();
         // Shift everything in the list by one index position
-        // Use a for loop since we have a range value known
-        // Index must be greater than 0 since nothing is to the left of 0
-        // This also introduces an O(n) growth factor, where n is the elements in the list.
-        for (int i = rear; i > 0; i--) {
-            // index - 1 is the left value to the current index position
-            array[i] = array[i - 1];
-        }
-        
+        // System.arraycopy moves the whole block at once and handles the
+        // overlapping source and destination ranges for us.
+        // This is still an O(n) growth factor, where n is the elements in the list.
+        System.arraycopy(array, 0, array, 1, rear);
+
         // Now assign the element to the front
         array[0] = element;
 
         // Rear now needs to be updated after an add
         rear++;
         versionNumber++;
+        indexAdded(element, 0);
     }
 
     @Override
     public void addToRear(T element) {
+        closeGap();
         expandIfNecessary();
         // Rear would be the last spot prior to expanding
         array[rear] = element;
@@ -72,6 +267,7 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
         // Incremenet rear
         rear++;
         versionNumber++;
+        indexAdded(element, rear - 1);
     }
 
     @Override
@@ -81,6 +277,7 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
 
     @Override
     public void addAfter(T element, T target) {
+        closeGap();
         int targetIndex = indexOf(target);
 
         // Necessary to check since indexOf does not throw an exception.
@@ -90,52 +287,55 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
         expandIfNecessary();
 
         // Shift everything at the target value to the right by one to free up space
-        for (int i = rear; i > targetIndex; i--) {
-            array[i] = array[i - 1];
-        }
+        System.arraycopy(array, targetIndex + 1, array, targetIndex + 2, rear - targetIndex - 1);
         rear++;
 
         // Now add the element
         array[targetIndex + 1] = element;
         versionNumber++;
+        indexAdded(element, targetIndex + 1);
     }
 
     @Override
     public void add(int index, T element) {
+        closeGap();
         if (index < 0 || index > rear) {
             throw new IndexOutOfBoundsException();
         }
         expandIfNecessary();
 
-        // Start at rear because if [a, b, c, rear]
-        // and we want to add at index 1, which is be we would need
-        // [a, empty, b, c]
-        for (int i = rear; i > index; i--) {
-            array[i] = array[i - 1];
-        }
+        // If [a, b, c, rear] and we want to add at index 1, which is b,
+        // we would need [a, empty, b, c], so move the block [index, rear) right by one
+        System.arraycopy(array, index, array, index + 1, rear - index);
         array[index] = element;
         rear++;
         versionNumber++;
+        indexAdded(element, index);
     }
 
     @Override
     public T removeFirst() {
+        closeGap();
         if (isEmpty()) {
             throw new NoSuchElementException();
         }
         T returnValue = array[0];
 
-        // array.lenght - 1 exludes rear
-        for (int i = 0; i < array.length - 1; i++) {
-            array[i] = array[i + 1];
-        }
+        // Only the occupied range [1, rear) needs to move left
+        System.arraycopy(array, 1, array, 0, rear - 1);
         rear--;
+
+        // Prevent a memory leak by clearing the now unused slot
+        array[rear] = null;
         versionNumber++;
+        indexRemoved(returnValue, 0);
+        shrinkIfNecessary();
         return returnValue;
     }
 
     @Override
     public T removeLast() {
+        closeGap();
         if (isEmpty()) {
             throw new NoSuchElementException();
         }
@@ -145,11 +345,14 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
         array[rear - 1] = null;
         rear--;
         versionNumber++;
+        indexRemoved(returnValue, rear);
+        shrinkIfNecessary();
         return returnValue;
     }
 
     @Override
     public T remove(T element) {
+        closeGap();
         // Search once for the element at the first occurence
         // using the already tested indexOf method
         int index = indexOf(element);
@@ -163,15 +366,10 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
         // according to the interface javadoc
         T returnValue = array[index];
 
-        // Cannot start at the back, since it will overwrite values
-        // Start at the first value to be index
-        // Last index would now be rear - 2 (or up to and not including
-        // rear - 1)
+        // Move the block after index left by one
         // From this : [a, b, c, rear]
         // to now this after removing b: [a, c, , rear]
-        for (int i = index; i < rear - 1; i++) {
-            array[i] = array[i + 1];
-        }
+        System.arraycopy(array, index + 1, array, index, rear - index - 1);
 
         // Decrement rear since it is out of poisition by one
         rear--;
@@ -180,6 +378,8 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
         // element value that was removed by setting to null
         array[rear] = null;
         versionNumber++;
+        indexRemoved(returnValue, index);
+        shrinkIfNecessary();
         
         // Return the removed value according to the interface javadoc
         return returnValue;
@@ -187,32 +387,32 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
 
     @Override
     public T remove(int index) {
+        closeGap();
         if (index < 0 || index >= rear) {
             throw new IndexOutOfBoundsException();
         }
         T returnValue = array[index];
-        // Now remove the value by overwriting to null
-        
 
         // If [a, b, c, rear] is the scenario and we remove
-        // at index 1, or b, it becomes [a, null, c/rear]
-        // then index + 1 is now 2, or c, and that overwrites index 1, where b used to be
-        // then goes up to but not including rear and ends the loop
-        for (int i = index; i < rear; i++) {
-            array[i] = array[i + 1];
-        }
+        // at index 1, or b, then the block [2, rear) moves left by one
+        // and c overwrites index 1, where b used to be
+        System.arraycopy(array, index + 1, array, index, rear - index - 1);
         rear--;
         array[rear] = null;
         versionNumber++;
+        indexRemoved(returnValue, index);
+        shrinkIfNecessary();
         return returnValue;
     }
 
     @Override
     public void set(int index, T element) {
+        closeGap();
         // Check if element is valid first
         if (index < 0 || index >= rear) {
             throw new IndexOutOfBoundsException();
         }
+        indexReplaced(array[index], element, index);
         array[index] = element;
         versionNumber++;
     }
@@ -222,18 +422,29 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
         if (index < 0 || index >= rear) {
             throw new IndexOutOfBoundsException();
         }
-        return array[index];
+        return array[physicalIndex(index)];
     }
 
     @Override
     public int indexOf(T element) {
+        if (elementIndex != null) {
+            // Not in the index means not in the list
+            if (!elementIndex.contains(element)) {
+                return -1;
+            }
+            // An element held once has a position that knows its index
+            PositionTree.Position position = elementIndex.location(element);
+            if (position != null) {
+                return positions.indexOf(position);
+            }
+        }
         int returnIndex = -1;
         int currentIndex = 0;
     
         while (returnIndex < 0 && currentIndex < rear) {
             // the '==' operater checks object address
             // equals() method compares contents
-            if (element.equals(array[currentIndex])) {
+            if (element.equals(array[physicalIndex(currentIndex)])) {
                 returnIndex = currentIndex;
             }
                 
@@ -241,6 +452,9 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
                 currentIndex++;
             }
         }
+        if (elementIndex != null && returnIndex >= 0 && elementIndex.count(element) == 1) {
+            elementIndex.remember(element, positions.positionAt(returnIndex));
+        }
         return returnIndex;
     }
 
@@ -249,7 +463,7 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
         if (isEmpty()) {
             throw new NoSuchElementException();
         }
-        return array[0];
+        return array[physicalIndex(0)];
     }
 
     @Override
@@ -257,11 +471,14 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
         if (isEmpty()) {
             throw new NoSuchElementException();
         }
-        return array[rear-1];
+        return array[physicalIndex(rear - 1)];
     }
 
     @Override
     public boolean contains(T target) {
+        if (elementIndex != null) {
+            return elementIndex.contains(target);
+        }
         return indexOf(target) > -1;
     }
 
@@ -276,6 +493,101 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
         return rear;
     }
 
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        closeGap();
+        if (index < 0 || index > rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        // Snapshot the collection once so its size cannot change part way
+        Object[] newElements = elements.toArray();
+        int count = newElements.length;
+        if (count == 0) {
+            return false;
+        }
+
+        // One growth for the whole batch instead of one per element
+        if (count > array.length - rear) {
+            array = Arrays.copyOf(array, growthPolicy.grow(array.length, rear + count));
+        }
+
+        // Move the block [index, rear) right by count, then copy the batch in
+        System.arraycopy(array, index, array, index + count, rear - index);
+        System.arraycopy(newElements, 0, array, index, count);
+        rear += count;
+        versionNumber++;
+        if (elementIndex != null) {
+            for (int i = 0; i < count; i++) {
+                indexAdded(array[index + i], index + i);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        closeGap();
+        int expectedVersion = versionNumber;
+        int oldRear = rear;
+        // Kept elements are packed down to [0, kept) as we go
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < oldRear; i++) {
+                T element = array[i];
+                if (!filter.test(element)) {
+                    array[kept] = element;
+                    kept++;
+                } else {
+                    indexRemoved(element, kept);
+                }
+            }
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // If the filter threw, keep the elements it never got to
+            if (i < oldRear) {
+                System.arraycopy(array, i, array, kept, oldRear - i);
+                kept += oldRear - i;
+            }
+            if (kept < oldRear) {
+                Arrays.fill(array, kept, oldRear, null);
+                rear = kept;
+                versionNumber++;
+                shrinkIfNecessary();
+            }
+        }
+        return kept < oldRear;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        closeGap();
+        if (fromIndex < 0 || toIndex > rear || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        int newRear = rear - (toIndex - fromIndex);
+        if (elementIndex != null) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                indexRemoved(array[i], fromIndex);
+            }
+        }
+
+        // One block move closes the whole range
+        System.arraycopy(array, toIndex, array, fromIndex, rear - toIndex);
+        Arrays.fill(array, newRear, rear, null);
+        rear = newRear;
+        versionNumber++;
+        shrinkIfNecessary();
+    }
+
     @Override
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder();
@@ -297,47 +609,138 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return new ALIterator();
+        return new ALIterator(0);
+    }
+
+    /**
+     * Runs the action on every element in order. Loops straight over the
+     * array without creating an iterator, and checks for concurrent
+     * modification once at the end instead of on every element.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        // Local copies so the loop does not re-read fields every element
+        T[] elements = array;
+        int size = rear;
+        // Read around an open gap instead of closing it: elements before it
+        // are in place, the rest are stored gapLength slots further right
+        int gapLength = gapEnd - gapStart;
+        int split = (gapLength > 0) ? gapStart : size;
+        for (int i = 0; i < split; i++) {
+            action.accept(elements[i]);
+        }
+        for (int i = split + gapLength; i < size + gapLength; i++) {
+            action.accept(elements[i]);
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        // Splits the index range in half, reading straight from the array
+        return new IndexedSpliterator<T>(index -> array[physicalIndex(index)], () -> rear, () -> versionNumber);
     }
 
     @Override
     public ListIterator<T> listIterator() {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'listIterator'");
+        return new ALIterator(0);
     }
 
     @Override
     public ListIterator<T> listIterator(int startingIndex) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'listIterator'");
+        return new ALIterator(startingIndex);
     }
     
     /**
      * Array List Iterator (ALIterator)
-     * A basic iterator for IUArrayList and will include remove().
+     * A full list iterator for IUArrayList.
+     * 
+     * Instead of shifting the tail of the array on every add() or remove(),
+     * the iterator keeps a gap of empty slots at its cursor. Adds fill the
+     * gap, removes widen it, and next()/previous() carry one element across
+     * it, so a run of edits costs a single shift when the list next closes
+     * the gap.
      */
-    private class ALIterator implements Iterator<T> {
+    private class ALIterator implements ListIterator<T> {
         private int nextIndex;
-        private boolean canRemove;
+        // Index of the element last returned by next() or previous(),
+        // -1 when remove() and set() are not allowed
+        private int lastReturnedIndex;
         private int iterVersionNumber;
         
         /**
-         * Initialize the iterator in front of the first element
+         * Initialize the iterator in front of the given index
+         * 
+         * @param startIndex index of the element the first next() returns
          */
-        public ALIterator() {
-            // Beginning of the list is array[0]
-            nextIndex = 0;
-            canRemove = false;
+        public ALIterator(int startIndex) {
+            if (startIndex < 0 || startIndex > rear) {
+                throw new IndexOutOfBoundsException();
+            }
+            // Another iterator may have left a gap, start from a plain array
+            closeGap();
+            nextIndex = startIndex;
+            lastReturnedIndex = -1;
             // Should be the same number and can now be compared
             iterVersionNumber = versionNumber;
         }
 
-        @Override
-        public boolean hasNext() {
-            // If something changed, throw a concurrent modification exception
+        /**
+         * Throw if the list changed without going through this iterator.
+         */
+        private void checkVersion() {
             if (iterVersionNumber != versionNumber) {
                 throw new ConcurrentModificationException();
             }
+        }
+
+        /**
+         * Returns true if this iterator's gap is open at the cursor. A valid
+         * iterator only ever sees its own gap, or none at all.
+         * 
+         * @return true if there are empty slots at the cursor
+         */
+        private boolean gapAtCursor() {
+            return gapEnd > gapStart && gapStart == nextIndex;
+        }
+
+        /**
+         * Make sure the gap, possibly empty, sits at the cursor.
+         */
+        private void moveGapToCursor() {
+            if (!gapAtCursor()) {
+                closeGap();
+                gapStart = nextIndex;
+                gapEnd = nextIndex;
+            }
+        }
+
+        /**
+         * Widen an empty gap at the cursor to every free slot in the array,
+         * growing the array first if it is full. Moves the tail once.
+         */
+        private void openGap() {
+            if (rear == array.length) {
+                array = Arrays.copyOf(array, growthPolicy.grow(array.length, rear + 1));
+            }
+            int free = array.length - rear;
+            System.arraycopy(array, gapStart, array, gapStart + free, rear - gapStart);
+            Arrays.fill(array, gapStart, gapStart + free, null);
+            gapEnd = gapStart + free;
+        }
+
+        @Override
+        public boolean hasNext() {
+            // If something changed, throw a concurrent modification exception
+            checkVersion();
             return nextIndex < rear;
         }
 
@@ -346,37 +749,146 @@ public class IUArrayList<T> implements IndexedUnsortedList<T> {
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
+            T returnValue;
+            if (gapAtCursor()) {
+                // Carry the next element across the gap so it stays at the cursor
+                returnValue = array[gapEnd];
+                array[gapStart] = returnValue;
+                array[gapEnd] = null;
+                gapStart++;
+                gapEnd++;
+            } else {
+                returnValue = array[nextIndex];
+            }
+            lastReturnedIndex = nextIndex;
             nextIndex++;
-            canRemove = true;
-            // Instead of storing the variable, we can retrieve the current position behind
-            return array[nextIndex - 1];
+            return returnValue;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            checkVersion();
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            T returnValue;
+            if (gapAtCursor()) {
+                // Carry the previous element across the gap to the right
+                gapStart--;
+                gapEnd--;
+                returnValue = array[gapStart];
+                array[gapEnd] = returnValue;
+                array[gapStart] = null;
+            } else {
+                returnValue = array[nextIndex - 1];
+            }
+            nextIndex--;
+            lastReturnedIndex = nextIndex;
+            return returnValue;
+        }
+
+        @Override
+        public int nextIndex() {
+            checkVersion();
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            checkVersion();
+            return nextIndex - 1;
         }
         
         @Override
-        public void remove() {
-            if (iterVersionNumber != versionNumber) {
-                throw new ConcurrentModificationException();
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
             }
+            checkVersion();
+            // Apply any batched edits first so the rest of the list is contiguous
+            closeGap();
+            T[] elements = array;
+            int size = rear;
+            int i = nextIndex;
+            while (i < size) {
+                action.accept(elements[i]);
+                i++;
+            }
+            if (i > nextIndex) {
+                lastReturnedIndex = i - 1;
+                nextIndex = i;
+            }
+            checkVersion();
+        }
 
-            if (!canRemove) {
+        @Override
+        public void remove() {
+            checkVersion();
+
+            if (lastReturnedIndex < 0) {
                 throw new IllegalStateException();
             }
-            canRemove = false;
-
-            for (int i = nextIndex - 1; i < rear - 1; i++) {
-                // Pull the value to its right
-                array[i] = array[i + 1];
+            moveGapToCursor();
+
+            if (lastReturnedIndex < nextIndex) {
+                // Last move was next, the element sits just left of the gap
+                gapStart--;
+                indexRemoved(array[gapStart], lastReturnedIndex);
+                array[gapStart] = null;
+                nextIndex--;
+            } else {
+                // Last move was previous, the element sits just right of the gap
+                indexRemoved(array[gapEnd], lastReturnedIndex);
+                array[gapEnd] = null;
+                gapEnd++;
             }
-            // Same process as the arraylist remove method
-            array[rear - 1] = null;
             rear--;
-
-            // Position the next index by decrementing by one
-            nextIndex--;
+            lastReturnedIndex = -1;
 
             // Increment the version number for this specific iterator object
             versionNumber++;
             iterVersionNumber++;
         }
+
+        @Override
+        public void set(T e) {
+            checkVersion();
+
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            int slot = physicalIndex(lastReturnedIndex);
+            indexReplaced(array[slot], e, lastReturnedIndex);
+            array[slot] = e;
+
+            versionNumber++;
+            iterVersionNumber++;
+        }
+
+        @Override
+        public void add(T e) {
+            checkVersion();
+            moveGapToCursor();
+
+            if (gapStart == gapEnd) {
+                openGap();
+            }
+            // The new element goes in front of the cursor, filling the gap
+            array[gapStart] = e;
+            indexAdded(e, nextIndex);
+            gapStart++;
+            nextIndex++;
+            rear++;
+            lastReturnedIndex = -1;
+
+            versionNumber++;
+            iterVersionNumber++;
+        }
     } // End of ALIterator class
 } // End of IUArrayList class
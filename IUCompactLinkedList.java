@@ -0,0 +1,861 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Double linked implementation of the indexed unsorted list that stores its
+ * nodes as parallel arrays instead of Node objects. A node is a slot number:
+ * its element is elements[slot] and its links are next[slot] and
+ * previous[slot], with NIL in place of null. The whole list is three arrays
+ * however long it gets, so there is no object header or reference pair per
+ * element, and nodes added in order sit next to each other in memory.
+ *
+ * Removed slots go on a free list, chained through next, and are reused by
+ * later adds before the arrays grow. trimToSize() rewrites the slots in list
+ * order and drops the unused ones, which restores locality after heavy
+ * churn.
+ *
+ * The operations, their costs and the iterator behave as in
+ * IUDoubleLinkedList, including a finger for positional access.
+ *
+ * @param <T> - type of elements held in this collection
+ */
+public class IUCompactLinkedList<T> implements IndexedUnsortedList<T> {
+    public static final int DEFAULT_CAPACITY = 10;
+    // Stands for a null link
+    private static final int NIL = -1;
+    private T[] elements;
+    private int[] next;
+    private int[] previous;
+    private int head;
+    private int tail;
+    private int size;
+    private int versionNumber;
+    // Slots [0, used) have been handed out at least once, the rest are new
+    private int used;
+    // First free slot below used, NIL if there is none
+    private int freeHead;
+    private final GrowthPolicy growthPolicy;
+    // Last slot reached by index, trusted while fingerVersion matches
+    private int fingerSlot;
+    private int fingerIndex;
+    private int fingerVersion;
+
+    /**
+     * Initialize a new empty list with room for DEFAULT_CAPACITY elements
+     */
+    public IUCompactLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Initialize a new empty list with room for initialCapacity elements
+     * before the arrays have to grow.
+     *
+     * @param initialCapacity number of slots to start with
+     */
+    @SuppressWarnings("unchecked")
+    public IUCompactLinkedList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = (T[]) (new Object[initialCapacity]);
+        next = new int[initialCapacity];
+        previous = new int[initialCapacity];
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        versionNumber = 0;
+        used = 0;
+        freeHead = NIL;
+        growthPolicy = GrowthPolicy.doubling();
+        fingerSlot = NIL;
+    }
+
+    /**
+     * Returns the number of slots the list can use before its arrays grow.
+     *
+     * @return the length of the backing arrays
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Rewrite the slots in list order, so a traversal reads the arrays
+     * front to back, and shrink the arrays to exactly the number of
+     * elements. Slot numbers change, so open iterators are invalidated.
+     */
+    @SuppressWarnings("unchecked")
+    public void trimToSize() {
+        T[] newElements = (T[]) (new Object[size]);
+        int[] newNext = new int[size];
+        int[] newPrevious = new int[size];
+        int slot = head;
+        for (int i = 0; i < size; i++) {
+            newElements[i] = elements[slot];
+            newNext[i] = i + 1;
+            newPrevious[i] = i - 1;
+            slot = next[slot];
+        }
+        if (size > 0) {
+            newNext[size - 1] = NIL;
+        }
+        elements = newElements;
+        next = newNext;
+        previous = newPrevious;
+        head = (size == 0) ? NIL : 0;
+        tail = size - 1;
+        used = size;
+        freeHead = NIL;
+        versionNumber++;
+    }
+
+    /**
+     * Take a free slot, growing the arrays if every slot is in use, and
+     * store element in it.
+     *
+     * @param element the element to store
+     * @return an unlinked slot holding element
+     */
+    private int allocate(T element) {
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (used == elements.length) {
+                int newCapacity = growthPolicy.grow(elements.length, used + 1);
+                elements = Arrays.copyOf(elements, newCapacity);
+                next = Arrays.copyOf(next, newCapacity);
+                previous = Arrays.copyOf(previous, newCapacity);
+            }
+            slot = used;
+            used++;
+        }
+        elements[slot] = element;
+        next[slot] = NIL;
+        previous[slot] = NIL;
+        return slot;
+    }
+
+    /**
+     * Put an unlinked slot on the free list, clearing its element so the
+     * array does not keep it alive.
+     *
+     * @param slot a slot no longer in the list
+     */
+    private void release(int slot) {
+        elements[slot] = null;
+        previous[slot] = NIL;
+        next[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    /**
+     * Walk to the slot at the given index, starting from whichever of the
+     * head, the tail or a still valid finger is closest, and leave the
+     * finger on the slot that was found.
+     *
+     * @param index index of the slot, 0 <= index < size
+     * @return the slot at index
+     */
+    private int slotAt(int index) {
+        int slot = head;
+        int currentIndex = 0;
+        if (size - 1 - index < index) {
+            slot = tail;
+            currentIndex = size - 1;
+        }
+        if (fingerVersion == versionNumber && fingerSlot != NIL
+                && Math.abs(index - fingerIndex) < Math.abs(index - currentIndex)) {
+            slot = fingerSlot;
+            currentIndex = fingerIndex;
+        }
+
+        while (currentIndex < index) {
+            slot = next[slot];
+            currentIndex++;
+        }
+        while (currentIndex > index) {
+            slot = previous[slot];
+            currentIndex--;
+        }
+        moveFinger(slot, index);
+        return slot;
+    }
+
+    /**
+     * Point the finger at a slot until the next change to the list.
+     *
+     * @param slot  slot to remember
+     * @param index index of the slot
+     */
+    private void moveFinger(int slot, int index) {
+        fingerSlot = slot;
+        fingerIndex = index;
+        fingerVersion = versionNumber;
+    }
+
+    /**
+     * Store element in a new slot and link it in front of nextSlot, or at
+     * the rear if nextSlot is NIL.
+     *
+     * @param element  the element to insert
+     * @param nextSlot the slot that will follow the new one, or NIL
+     * @return the new slot
+     */
+    private int linkBefore(T element, int nextSlot) {
+        int slot = allocate(element);
+        int previousSlot = (nextSlot == NIL) ? tail : previous[nextSlot];
+
+        previous[slot] = previousSlot;
+        next[slot] = nextSlot;
+        if (previousSlot == NIL) {
+            head = slot;
+        } else {
+            next[previousSlot] = slot;
+        }
+        if (nextSlot == NIL) {
+            tail = slot;
+        } else {
+            previous[nextSlot] = slot;
+        }
+
+        size++;
+        versionNumber++;
+        return slot;
+    }
+
+    /**
+     * Remove the given slot from the chain and free it.
+     *
+     * @param slot the slot to remove
+     * @return the removed element
+     */
+    private T unlink(int slot) {
+        T returnValue = elements[slot];
+        int previousSlot = previous[slot];
+        int nextSlot = next[slot];
+        if (previousSlot == NIL) {
+            head = nextSlot;
+        } else {
+            next[previousSlot] = nextSlot;
+        }
+        if (nextSlot == NIL) {
+            tail = previousSlot;
+        } else {
+            previous[nextSlot] = previousSlot;
+        }
+        release(slot);
+
+        size--;
+        versionNumber++;
+        return returnValue;
+    }
+
+    /**
+     * Find the first slot holding element.
+     *
+     * @param element the element to look for
+     * @return the slot, or NIL if element is not in the list
+     */
+    private int slotOf(T element) {
+        int slot = head;
+        while (slot != NIL && !element.equals(elements[slot])) {
+            slot = next[slot];
+        }
+        return slot;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        linkBefore(element, head);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        linkBefore(element, NIL);
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetSlot = slotOf(target);
+        if (targetSlot == NIL) {
+            throw new NoSuchElementException();
+        }
+        linkBefore(element, next[targetSlot]);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == size) {
+            linkBefore(element, NIL);
+        } else {
+            int slot = linkBefore(element, slotAt(index));
+
+            // The new slot is at index now, so the next nearby access can start there
+            moveFinger(slot, index);
+        }
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return unlink(head);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return unlink(tail);
+    }
+
+    @Override
+    public T remove(T element) {
+        int slot = slotOf(element);
+        if (slot == NIL) {
+            throw new NoSuchElementException();
+        }
+        return unlink(slot);
+    }
+
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int slot = slotAt(index);
+        int previousSlot = previous[slot];
+        T returnValue = unlink(slot);
+
+        // The slot before the removed one kept its index
+        if (previousSlot != NIL) {
+            moveFinger(previousSlot, index - 1);
+        }
+        return returnValue;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int slot = slotAt(index);
+        elements[slot] = element;
+        versionNumber++;
+
+        // No slot moved, so the finger still points at index
+        moveFinger(slot, index);
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return elements[slotAt(index)];
+    }
+
+    @Override
+    public int indexOf(T element) {
+        int currentIndex = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (element.equals(elements[slot])) {
+                return currentIndex;
+            }
+            currentIndex++;
+        }
+        return -1;
+    }
+
+    /**
+     * Searches from the tail towards the head using the previous links.
+     */
+    @Override
+    public int lastIndexOf(T element) {
+        int currentIndex = size - 1;
+        for (int slot = tail; slot != NIL; slot = previous[slot]) {
+            if (element.equals(elements[slot])) {
+                return currentIndex;
+            }
+            currentIndex--;
+        }
+        return -1;
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elements[head];
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return elements[tail];
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        // Snapshot the collection once so its size cannot change part way
+        Object[] newElements = elements.toArray();
+        if (newElements.length == 0) {
+            return false;
+        }
+
+        // Walk to the insertion point once, then link each element in
+        // front of the same slot
+        int nextSlot = (index == size) ? NIL : slotAt(index);
+        for (Object element : newElements) {
+            @SuppressWarnings("unchecked")
+            T newElement = (T) element;
+            linkBefore(newElement, nextSlot);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        int removed = 0;
+        int slot = head;
+        try {
+            while (slot != NIL) {
+                int nextSlot = next[slot];
+                if (filter.test(elements[slot])) {
+                    // Unlink in place, the list stays valid after every step
+                    int previousSlot = previous[slot];
+                    if (previousSlot == NIL) {
+                        head = nextSlot;
+                    } else {
+                        next[previousSlot] = nextSlot;
+                    }
+                    if (nextSlot == NIL) {
+                        tail = previousSlot;
+                    } else {
+                        previous[nextSlot] = previousSlot;
+                    }
+                    release(slot);
+                    removed++;
+                }
+                slot = nextSlot;
+            }
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // Slots unlinked before a throwing filter stay removed
+            if (removed > 0) {
+                size -= removed;
+                versionNumber++;
+            }
+        }
+        return removed > 0;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        // The slots on either side of the range
+        int firstSlot = slotAt(fromIndex);
+        int previousSlot = previous[firstSlot];
+        int nextSlot = (toIndex == size) ? NIL : slotAt(toIndex);
+
+        // Every removed slot has to be freed, so walk the range once
+        int slot = firstSlot;
+        while (slot != nextSlot) {
+            int following = next[slot];
+            release(slot);
+            slot = following;
+        }
+
+        if (previousSlot == NIL) {
+            head = nextSlot;
+        } else {
+            next[previousSlot] = nextSlot;
+        }
+        if (nextSlot == NIL) {
+            tail = previousSlot;
+        } else {
+            previous[nextSlot] = previousSlot;
+        }
+        size -= toIndex - fromIndex;
+        versionNumber++;
+    }
+
+    @Override
+    public void clear() {
+        // Every slot is free again, and the arrays keep their capacity
+        Arrays.fill(elements, 0, used, null);
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        used = 0;
+        freeHead = NIL;
+        versionNumber++;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (T element : this) {
+            stringBuilder.append(element.toString());
+            stringBuilder.append(", ");
+        }
+
+        if (size > 0) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new CLLIterator(0);
+    }
+
+    /**
+     * Runs the action on every element in order by following the next
+     * array directly. The version is checked once at the end.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            action.accept(elements[slot]);
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new CLLSpliterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new CLLIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return new CLLIterator(startingIndex);
+    }
+
+    /**
+     * Compact Linked List Iterator (CLLIterator)
+     * A full list iterator that works like IUDoubleLinkedList's, with slot
+     * numbers in place of node references.
+     */
+    private class CLLIterator implements ListIterator<T> {
+        // Slot the next next() returns, NIL at the end of the list
+        private int nextSlot;
+        private int nextIndex;
+        // Slot last returned by next() or previous(), NIL when remove() and
+        // set() are not allowed
+        private int lastReturnedSlot;
+        private int iterVersionNumber;
+
+        /**
+         * Initialize the iterator in front of the given index
+         *
+         * @param startIndex index of the element the first next() returns
+         */
+        public CLLIterator(int startIndex) {
+            if (startIndex < 0 || startIndex > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            nextSlot = (startIndex == size) ? NIL : slotAt(startIndex);
+            nextIndex = startIndex;
+            lastReturnedSlot = NIL;
+            iterVersionNumber = versionNumber;
+        }
+
+        /**
+         * Throw if the list changed without going through this iterator.
+         */
+        private void checkVersion() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkVersion();
+            return nextSlot != NIL;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturnedSlot = nextSlot;
+            nextSlot = next[nextSlot];
+            nextIndex++;
+            return elements[lastReturnedSlot];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            checkVersion();
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            nextSlot = (nextSlot == NIL) ? tail : previous[nextSlot];
+            lastReturnedSlot = nextSlot;
+            nextIndex--;
+            return elements[nextSlot];
+        }
+
+        @Override
+        public int nextIndex() {
+            checkVersion();
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            checkVersion();
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            checkVersion();
+            while (nextSlot != NIL) {
+                action.accept(elements[nextSlot]);
+                lastReturnedSlot = nextSlot;
+                nextSlot = next[nextSlot];
+                nextIndex++;
+            }
+            checkVersion();
+        }
+
+        @Override
+        public void remove() {
+            checkVersion();
+
+            if (lastReturnedSlot == NIL) {
+                throw new IllegalStateException();
+            }
+            if (lastReturnedSlot == nextSlot) {
+                // Last move was previous, the cursor now sits in front of
+                // the element after the removed one
+                nextSlot = next[nextSlot];
+            } else {
+                // Last move was next, one fewer element in front of the cursor
+                nextIndex--;
+            }
+            unlink(lastReturnedSlot);
+            lastReturnedSlot = NIL;
+            iterVersionNumber++;
+        }
+
+        @Override
+        public void set(T e) {
+            checkVersion();
+
+            if (lastReturnedSlot == NIL) {
+                throw new IllegalStateException();
+            }
+            elements[lastReturnedSlot] = e;
+            versionNumber++;
+            iterVersionNumber++;
+        }
+
+        @Override
+        public void add(T e) {
+            checkVersion();
+            linkBefore(e, nextSlot);
+            nextIndex++;
+            lastReturnedSlot = NIL;
+            iterVersionNumber++;
+        }
+    } // End of CLLIterator class
+
+    /**
+     * Spliterator for IUCompactLinkedList. Like the other linked list
+     * spliterators, trySplit() copies the next batch of elements into an
+     * array and hands that off. Batches grow by BATCH_UNIT each split.
+     * Late-binding and fail-fast on versionNumber.
+     */
+    private class CLLSpliterator implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+        private int current;
+        // Elements left to traverse, -1 until bound to the list
+        private int remaining;
+        private int batchSize;
+        private int expectedVersion;
+
+        /**
+         * Spliterator over the whole list, bound on first use
+         */
+        public CLLSpliterator() {
+            remaining = -1;
+            batchSize = 0;
+        }
+
+        /**
+         * Bind to the list on first use and return the number of elements left.
+         *
+         * @return the number of elements left to traverse
+         */
+        private int getRemaining() {
+            if (remaining < 0) {
+                current = head;
+                remaining = size;
+                expectedVersion = versionNumber;
+            }
+            return remaining;
+        }
+
+        /**
+         * Throw if the list changed since this spliterator was bound.
+         */
+        private void checkVersion() {
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int left = getRemaining();
+            checkVersion();
+            if (left <= 1 || current == NIL) {
+                return null;
+            }
+            int batch = Math.min(Math.min(batchSize + BATCH_UNIT, left), MAX_BATCH);
+            Object[] batchElements = new Object[batch];
+            for (int i = 0; i < batch; i++) {
+                batchElements[i] = elements[current];
+                current = next[current];
+            }
+            batchSize = batch;
+            remaining -= batch;
+            return Spliterators.spliterator(batchElements, 0, batch, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (getRemaining() > 0 && current != NIL) {
+                // Nodes may have been freed or reused since binding, so check
+                // before reading
+                checkVersion();
+                T element = elements[current];
+                current = next[current];
+                remaining--;
+                action.accept(element);
+                checkVersion();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            int left = getRemaining();
+            // Check before starting and after each step, so no element of a
+            // changed list reaches the action
+            checkVersion();
+            int slot = current;
+            for (int i = 0; i < left && slot != NIL; i++) {
+                action.accept(elements[slot]);
+                checkVersion();
+                slot = next[slot];
+            }
+            current = NIL;
+            remaining = 0;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+} // End of IUCompactLinkedList class
@@ -1,7 +1,12 @@
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Double linked node base implementation of IndexUnsortedList that supports
@@ -14,22 +19,247 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
     private Node<T> tail;
     private int size;
     private int versionNumber;
+    // Last node reached by index, trusted while fingerVersion matches
+    private Node<T> fingerNode;
+    private int fingerIndex;
+    private int fingerVersion;
+    // Nodes stepped over by positional walks
+    private long hopCount;
+    // Element to node index, null unless enableElementIndex was called
+    private ElementIndex<T, Node<T>> elementIndex;
+    // Unlinked nodes kept for reuse, chained through their next links
+    private Node<T> poolHead;
+    private int poolSize;
+    private final int poolCapacity;
 
     /**
      * Initialzie a new empty list
      */
     public IUDoubleLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Initialize a new empty list that keeps up to nodePoolCapacity removed
+     * nodes and reuses them for later adds, so a list used as a queue stops
+     * allocating once it reaches a steady size. The single element adds
+     * and removes, including the iterator's, go through the pool; bulk
+     * removals leave their nodes to the garbage collector.
+     *
+     * @param nodePoolCapacity most nodes to keep for reuse, 0 for none
+     */
+    public IUDoubleLinkedList(int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) {
+            throw new IllegalArgumentException("Illegal pool capacity: " + nodePoolCapacity);
+        }
         head = null;
         tail = null;
         size = 0;
         versionNumber = 0;
+        poolHead = null;
+        poolSize = 0;
+        poolCapacity = nodePoolCapacity;
+    }
+
+    /**
+     * Returns the number of removed nodes waiting in the pool for reuse.
+     *
+     * @return nodes in the pool
+     */
+    public int getPooledNodeCount() {
+        return poolSize;
+    }
+
+    /**
+     * Returns a node holding element, taken from the pool if it has one.
+     *
+     * @param element the element to store
+     * @return an unlinked node holding element
+     */
+    private Node<T> newNode(T element) {
+        if (poolHead == null) {
+            return new Node<T>(element);
+        }
+        Node<T> node = poolHead;
+        poolHead = node.getNextNode();
+        poolSize--;
+        node.setNextNode(null);
+        node.setElement(element);
+        return node;
+    }
+
+    /**
+     * Put an unlinked node in the pool if there is room. Its element and
+     * previous link are cleared so the pool does not keep them alive.
+     *
+     * @param node a node no longer in the list
+     */
+    private void recycle(Node<T> node) {
+        if (poolSize < poolCapacity) {
+            node.setElement(null);
+            node.setPreviousNode(null);
+            node.setNextNode(poolHead);
+            poolHead = node;
+            poolSize++;
+        }
+    }
+
+    /**
+     * Returns the number of nodes stepped over by index based walks since
+     * the list was created or resetHopCount was last called. A loop over
+     * the indexes in order should add about one hop per call.
+     *
+     * @return nodes stepped over by positional walks
+     */
+    public long getHopCount() {
+        return hopCount;
+    }
+
+    /**
+     * Set the hop count back to 0.
+     */
+    public void resetHopCount() {
+        hopCount = 0;
+    }
+
+    /**
+     * Start keeping a hash index from elements to their nodes, built from
+     * the current contents and updated on every change. While it is on,
+     * contains is O(1), indexOf returns -1 without a scan, and remove(T)
+     * and addAfter go straight to the node of any element held only once.
+     * Elements must have a hashCode consistent with equals.
+     */
+    public void enableElementIndex() {
+        if (elementIndex == null) {
+            elementIndex = new ElementIndex<T, Node<T>>();
+            for (Node<T> node = head; node != null; node = node.getNextNode()) {
+                elementIndex.added(node.getElement(), node);
+            }
+        }
+    }
+
+    /**
+     * Stop keeping the element index and release its memory.
+     */
+    public void disableElementIndex() {
+        elementIndex = null;
+    }
+
+    /**
+     * Returns the estimated memory used by the element index, or 0 if it is
+     * not enabled.
+     *
+     * @return estimated bytes used by the element index
+     */
+    public long getElementIndexBytes() {
+        return (elementIndex == null) ? 0 : elementIndex.footprintBytes();
+    }
+
+    /**
+     * Tell the element index, if any, about a node just linked in
+     *
+     * @param node the new node
+     */
+    private void indexAdded(Node<T> node) {
+        if (elementIndex != null) {
+            elementIndex.added(node.getElement(), node);
+        }
+    }
+
+    /**
+     * Tell the element index, if any, about a node just unlinked
+     *
+     * @param node the removed node
+     */
+    private void indexRemoved(Node<T> node) {
+        if (elementIndex != null) {
+            elementIndex.removed(node.getElement());
+        }
+    }
+
+    /**
+     * Walk to the node at the given index, starting from whichever of the
+     * head, the tail or a still valid finger is closest, and leave the
+     * finger on the node that was found. No walk is longer than a quarter
+     * of the list when the finger is in the middle, or half of it when not.
+     *
+     * @param index index of the node, 0 <= index < size
+     * @return the node at index
+     */
+    private Node<T> nodeAt(int index) {
+        Node<T> targetNode = head;
+        int currentIndex = 0;
+        if (size - 1 - index < index) {
+            targetNode = tail;
+            currentIndex = size - 1;
+        }
+        if (fingerVersion == versionNumber && fingerNode != null
+                && Math.abs(index - fingerIndex) < Math.abs(index - currentIndex)) {
+            targetNode = fingerNode;
+            currentIndex = fingerIndex;
+        }
+
+        hopCount += Math.abs(index - currentIndex);
+        while (currentIndex < index) {
+            targetNode = targetNode.getNextNode();
+            currentIndex++;
+        }
+        while (currentIndex > index) {
+            targetNode = targetNode.getPreviousNode();
+            currentIndex--;
+        }
+        moveFinger(targetNode, index);
+        return targetNode;
+    }
+
+    /**
+     * Point the finger at a node until the next change to the list.
+     * Changes that know where a node ends up call this again after they
+     * bump versionNumber.
+     *
+     * @param node  node to remember
+     * @param index index of the node
+     */
+    private void moveFinger(Node<T> node, int index) {
+        fingerNode = node;
+        fingerIndex = index;
+        fingerVersion = versionNumber;
+    }
+
+    /**
+     * Find the first node holding element. Uses the element index when it
+     * is on: an element it does not have is not in the list, and one held
+     * only once has its node remembered. Otherwise walks from the head and,
+     * with the index on, remembers what it found.
+     *
+     * @param element the element to look for
+     * @return the first node holding element, or null if there is none
+     */
+    private Node<T> findNode(T element) {
+        if (elementIndex != null) {
+            if (!elementIndex.contains(element)) {
+                return null;
+            }
+            Node<T> indexedNode = elementIndex.location(element);
+            if (indexedNode != null) {
+                return indexedNode;
+            }
+        }
+        Node<T> targetNode = head;
+        while (targetNode != null && !targetNode.getElement().equals(element)) {
+            targetNode = targetNode.getNextNode();
+        }
+        if (elementIndex != null && targetNode != null) {
+            elementIndex.remember(element, targetNode);
+        }
+        return targetNode;
     }
 
     @Override
     public void addToFront(T element) {
         // Similar to single linked list, we essentially overwrite the head to the new
         // node
-        Node<T> newNode = new Node<T>(element);
+        Node<T> newNode = newNode(element);
 
         // If empty, tail also must be the newNode [] to [A] where A is both the tail
         // and the head.
@@ -49,12 +279,13 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
         head = newNode;
         size++;
         versionNumber++;
+        indexAdded(newNode);
     }
 
     @Override
     public void addToRear(T element) {
         // 1. Create a new Node
-        Node<T> newNode = new Node<T>(element);
+        Node<T> newNode = newNode(element);
 
         // List has no element values then check
         if (isEmpty()) {
@@ -79,6 +310,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 
         size++;
         versionNumber++;
+        indexAdded(newNode);
     }
 
     @Override
@@ -88,15 +320,8 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 
     @Override
     public void addAfter(T element, T target) {
-        // Start at the beginning, the head
-        Node<T> targetNode = head;
-
-        // While the targetNode is not null, since the addAfter could be trying to add
-        // at tail.
-        // and keep searching until we retrieve the node's element.
-        while (targetNode != null && !targetNode.getElement().equals(target)) {
-            targetNode = targetNode.getNextNode();
-        }
+        // The element index knows the node of a target held only once
+        Node<T> targetNode = findNode(target);
 
         // If the target is null, we never found the target value in the list
         if (targetNode == null) {
@@ -107,7 +332,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
         // Always start by connecting where the newNode is placed so we do not lose our
         // last references
         // 1. Create a node first
-        Node<T> newNode = new Node<T>(element);
+        Node<T> newNode = newNode(element);
 
         // 2. Set the node after targetNode to newNode. Attach newNode first
         newNode.setNextNode(targetNode.getNextNode());
@@ -133,6 +358,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 
         size++;
         versionNumber++;
+        indexAdded(newNode);
     }
 
     @Override
@@ -141,22 +367,17 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             throw new IndexOutOfBoundsException();
         }
 
-        Node<T> newNode = new Node<T>(element);
-
         if (index == 0) {
             addToFront(element);
         } else if (index == size()) {
             addToRear(element);
         } else {
+            Node<T> newNode = newNode(element);
+
             // Inserting node in the middle of the list, so if [A, B, C], and we try
-            // add(1,E) we account index - 1,
-            // to become 1 - 1 = 0. We do not enter the loop in this situation so targetNode
-            // stays as head, or index 1,
-            // or A
-            Node<T> targetNode = head;
-            for (int i = 0; i < index - 1; i++) {
-                targetNode = targetNode.getNextNode();
-            }
+            // add(1,E) we need the node at index - 1, which is 0, or A.
+            // nodeAt starts from the finger when it can.
+            Node<T> targetNode = nodeAt(index - 1);
             // Calling targetNode, which is currently A, getNext will retrieve B, and we use
             // this later
             Node<T> afterIndexNode = targetNode.getNextNode();
@@ -177,6 +398,10 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 
             size++;
             versionNumber++;
+            indexAdded(newNode);
+
+            // E is at index now, so the next nearby access can start there
+            moveFinger(newNode, index);
         }
     }
 
@@ -186,7 +411,8 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             throw new NoSuchElementException();
         }
 
-        T returnValue = head.getElement();
+        Node<T> removedNode = head;
+        T returnValue = removedNode.getElement();
 
         // [A] only for single element list
         if (size() == 1) {
@@ -197,10 +423,17 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
         else {
             // Overwrite head by pointing to the next node
             head = head.getNextNode();
+
+            // The new head must not point back at the removed node
+            head.setPreviousNode(null);
         }
+        recycle(removedNode);
 
         size--;
         versionNumber++;
+        if (elementIndex != null) {
+            elementIndex.removed(returnValue);
+        }
         return returnValue;
     }
 
@@ -210,7 +443,8 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             throw new NoSuchElementException();
         }
 
-        T returnValue = tail.getElement();
+        Node<T> removedNode = tail;
+        T returnValue = removedNode.getElement();
 
         // For one element list
         if (size() == 1) {
@@ -224,20 +458,21 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             // Update the new null position
             tail.setNextNode(null);
         }
+        recycle(removedNode);
 
         size--;
         versionNumber++;
+        if (elementIndex != null) {
+            elementIndex.removed(returnValue);
+        }
         return returnValue;
     }
 
     @Override
     public T remove(T element) {
-        Node<T> targetNode = head;
-
-        // Continue to search until we get an exact match for the element
-        while (targetNode != null && !targetNode.getElement().equals(element)) {
-            targetNode = targetNode.getNextNode();
-        }
+        // Continue to search until we get an exact match for the element,
+        // or go straight to it through the element index
+        Node<T> targetNode = findNode(element);
 
         // If no element was found, meaning targetNode reached the end of the list, the
         // element does not exist
@@ -272,10 +507,13 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 
         size--;
         versionNumber++;
+        indexRemoved(targetNode);
 
         // Never modified the targetNode after the four scenarios,
-        // so we can retrieve it at the end
-        return targetNode.getElement();
+        // so we can retrieve it before the node goes back to the pool
+        T returnValue = targetNode.getElement();
+        recycle(targetNode);
+        return returnValue;
     }
 
     @Override
@@ -286,14 +524,9 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             throw new IndexOutOfBoundsException();
         }
 
-        // Always start at the beginning
-        Node<T> targetNode = head;
-
         // Unlike with a single list, we can go directly to the node.
-        // [A, B, C] and we want index 2, which is C, we keep going
-        for (int i = 0; i < index; i++) {
-            targetNode = targetNode.getNextNode();
-        }
+        // [A, B, C] and we want index 2, which is C
+        Node<T> targetNode = nodeAt(index);
 
         // The idea is to ensure the references for the forward and previous do not
         // point to C.
@@ -318,13 +551,21 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             targetNode.getNextNode().setPreviousNode(targetNode.getPreviousNode());
         }
 
-        // Now the node can be handled by java's garbage collection
+        // Now the node can go back to the pool, or to java's garbage collection
         size--;
         versionNumber++;
+        indexRemoved(targetNode);
+
+        // The node before the removed one kept its index
+        if (index > 0) {
+            moveFinger(targetNode.getPreviousNode(), index - 1);
+        }
 
         // Similar to the remove element,
         // we never modified targetNode, so we can retrieve it
-        return targetNode.getElement();
+        T returnValue = targetNode.getElement();
+        recycle(targetNode);
+        return returnValue;
     }
 
     @Override
@@ -334,30 +575,17 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             throw new IndexOutOfBoundsException();
         }
 
-        // Start at the head
-        Node<T> targetNode = head;
-
-        // In the case of a single element list
-        if (index == 0) {
-            targetNode.setElement(element);
-        }
-
-        else {
-            // Go up to the element index previous value
-            // So, for [A, B, C, D] and we call set(2, F) we really want to replace C at
-            // index 2
-            // Go up to index but not including, which is 2, so we stop at B and call
-            // getNextNode
-            // targetNode is now updated to become C
-            for (int i = 0; i < index; i++) {
-                targetNode = targetNode.getNextNode();
-            }
-            // Now call setElement onto the index 2 node to hold element F or whatever
-            // element value.
-            targetNode.setElement(element);
-        }
+        // So, for [A, B, C, D] and we call set(2, F) we really want to replace C at
+        // index 2
+        Node<T> targetNode = nodeAt(index);
+        indexRemoved(targetNode);
+        targetNode.setElement(element);
+        indexAdded(targetNode);
 
         versionNumber++;
+
+        // No node moved, so the finger still points at index
+        moveFinger(targetNode, index);
     }
 
     @Override
@@ -366,27 +594,16 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             throw new IndexOutOfBoundsException();
         }
 
-        T returnValue;
-
-        // In the case of index is 0, the head
-        if (index == 0) {
-            returnValue = head.getElement();
-        }
-
-        else {
-            Node<T> targetNode = head;
-
-            for (int i = 0; i < index; i++) {
-                targetNode = targetNode.getNextNode();
-            }
-            returnValue = targetNode.getElement();
-        }
-
-        return returnValue;
+        return nodeAt(index).getElement();
     }
 
     @Override
     public int indexOf(T element) {
+        // An element the index has never seen is not in the list
+        if (elementIndex != null && !elementIndex.contains(element)) {
+            return -1;
+        }
+
         // Concept is to navigate through the list using node references, always start
         // at the head.
         // Check if the current node is equal to the node storing the desired element.
@@ -426,6 +643,24 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
         return currentIndex;
     }
 
+    /**
+     * Searches from the tail towards the head using the previous links, so a
+     * match near the end of the list is found without walking the whole list.
+     */
+    @Override
+    public int lastIndexOf(T element) {
+        if (elementIndex != null && !elementIndex.contains(element)) {
+            return -1;
+        }
+        Node<T> targetNode = tail;
+        int currentIndex = size - 1;
+        while (targetNode != null && !targetNode.getElement().equals(element)) {
+            targetNode = targetNode.getPreviousNode();
+            currentIndex--;
+        }
+        return currentIndex;
+    }
+
     @Override
     public T first() {
         // Conditional check to see if an exception must be thrown according to the
@@ -452,6 +687,10 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 
     @Override
     public boolean contains(T target) {
+        if (elementIndex != null) {
+            return elementIndex.contains(target);
+        }
+
         // Simply calls the indexOf method and if it passes, which would mean
         // currentIndex is
         // not assigned to -1, the value of the target will exist and be returned to the
@@ -470,6 +709,149 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
         return size;
     }
 
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        // Build the new nodes as their own chain first, so the list only has
+        // to be walked and relinked once
+        Node<T> chainHead = null;
+        Node<T> chainTail = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> newNode = newNode(element);
+            if (chainHead == null) {
+                chainHead = newNode;
+            } else {
+                chainTail.setNextNode(newNode);
+                newNode.setPreviousNode(chainTail);
+            }
+            chainTail = newNode;
+            count++;
+        }
+        if (count == 0) {
+            return false;
+        }
+
+        // Splice the chain in between the node at index - 1 and the node at index
+        Node<T> nextNode = (index == size) ? null : nodeAt(index);
+        Node<T> previousNode = (nextNode == null) ? tail : nextNode.getPreviousNode();
+
+        chainHead.setPreviousNode(previousNode);
+        if (previousNode == null) {
+            head = chainHead;
+        } else {
+            previousNode.setNextNode(chainHead);
+        }
+
+        chainTail.setNextNode(nextNode);
+        if (nextNode == null) {
+            tail = chainTail;
+        } else {
+            nextNode.setPreviousNode(chainTail);
+        }
+
+        size += count;
+        versionNumber++;
+        if (elementIndex != null) {
+            for (Node<T> node = chainHead; node != nextNode; node = node.getNextNode()) {
+                indexAdded(node);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        int removed = 0;
+        Node<T> currentNode = head;
+        try {
+            while (currentNode != null) {
+                Node<T> nextNode = currentNode.getNextNode();
+                if (filter.test(currentNode.getElement())) {
+                    // Unlink in place, the list stays valid after every step
+                    Node<T> previousNode = currentNode.getPreviousNode();
+                    if (previousNode == null) {
+                        head = nextNode;
+                    } else {
+                        previousNode.setNextNode(nextNode);
+                    }
+                    if (nextNode == null) {
+                        tail = previousNode;
+                    } else {
+                        nextNode.setPreviousNode(previousNode);
+                    }
+                    indexRemoved(currentNode);
+                    removed++;
+                }
+                currentNode = nextNode;
+            }
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // Nodes unlinked before a throwing filter stay removed
+            if (removed > 0) {
+                size -= removed;
+                versionNumber++;
+            }
+        }
+        return removed > 0;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        // The nodes on either side of the range
+        Node<T> nextNode = (toIndex == size) ? null : nodeAt(toIndex);
+        Node<T> previousNode = (fromIndex == 0) ? null : nodeAt(fromIndex - 1);
+
+        if (elementIndex != null) {
+            Node<T> firstRemoved = (previousNode == null) ? head : previousNode.getNextNode();
+            for (Node<T> node = firstRemoved; node != nextNode; node = node.getNextNode()) {
+                indexRemoved(node);
+            }
+        }
+
+        // One relink drops the whole range
+        if (previousNode == null) {
+            head = nextNode;
+        } else {
+            previousNode.setNextNode(nextNode);
+        }
+        if (nextNode == null) {
+            tail = previousNode;
+        } else {
+            nextNode.setPreviousNode(previousNode);
+        }
+        size -= toIndex - fromIndex;
+        versionNumber++;
+    }
+
+    @Override
+    public void clear() {
+        // The garbage collector reclaims the whole chain
+        head = null;
+        tail = null;
+        size = 0;
+        versionNumber++;
+        if (elementIndex != null) {
+            elementIndex.clear();
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder();
@@ -497,6 +879,32 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
         return new DLLIterator();
     }
 
+    /**
+     * Runs the action on every element in order by following the node chain
+     * from head, with no iterator object. The version is checked once after
+     * the loop.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        for (Node<T> targetNode = head; targetNode != null; targetNode = targetNode.getNextNode()) {
+            action.accept(targetNode.getElement());
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new DLLSpliterator();
+    }
+
     @Override
     public ListIterator<T> listIterator() {
         // Inherits the basic iterator methods but also the added functionality of the
@@ -553,14 +961,9 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
                 throw new IndexOutOfBoundsException();
             }
 
-            // For a large index, could also determine the best starting point instead of
-            // always from the beginning
-            nextNode = head;
-
-            // Go up to the index, call next node so we are at the exact index
-            for (int i = 0; i < startIndex; i++) {
-                nextNode = nextNode.getNextNode();
-            }
+            // Start from whichever end, or the finger, is closest to startIndex.
+            // At size the cursor is past the tail, so there is no next node.
+            nextNode = (startIndex == size()) ? null : nodeAt(startIndex);
 
             nextIndex = startIndex;
             iterVersionNumber = versionNumber;
@@ -646,6 +1049,26 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             return nextIndex - 1;
         }
 
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            // Walk the rest of the chain, one check at the end
+            while (nextNode != null) {
+                action.accept(nextNode.getElement());
+                lastReturnedNode = nextNode;
+                nextNode = nextNode.getNextNode();
+                nextIndex++;
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
         @Override
         public void remove() {
             if (iterVersionNumber != versionNumber) {
@@ -689,6 +1112,9 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
                 nextNode = nextNode.getNextNode();
             }
 
+            indexRemoved(lastReturnedNode);
+            recycle(lastReturnedNode);
+
             // Now "switch" the ability to remove to false by setting lastReturned node
             lastReturnedNode = null;
             size--;
@@ -708,7 +1134,9 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             }
 
             // Simply just need to set the element at the last returned node
+            indexRemoved(lastReturnedNode);
             lastReturnedNode.setElement(e);
+            indexAdded(lastReturnedNode);
 
             versionNumber++;
             iterVersionNumber++;
@@ -723,11 +1151,12 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             // For an empty list, head is null, so we assign a newNode to become the head
             // and tail
             if (head == null) {
-                Node<T> newNode = new Node<T>(e);
+                Node<T> newNode = newNode(e);
                 head = newNode;
                 tail = newNode;
                 size++;
                 versionNumber++;
+                indexAdded(newNode);
             }
 
             // If the nextNode is equal to head, meaning a list has elements, we simply add
@@ -743,7 +1172,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             }
 
             else {
-                Node<T> newNode = new Node<T>(e);
+                Node<T> newNode = newNode(e);
                 // [A,/\ B, C, D] cursor is adding between A and B, and iterator will return B
                 // as its next value
                 // First create a temp variable that retrieves A, the nextNode, B, previous Node
@@ -763,10 +1192,127 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 
                 size++;
                 versionNumber++;
+                indexAdded(newNode);
             }
 
             nextIndex++;
             iterVersionNumber++;
+            // remove and set need a fresh next or previous after an add
+            lastReturnedNode = null;
+        }
+    }
+
+    /**
+     * Spliterator for IUDoubleLinkedList. A linked list cannot be split in the middle
+     * without walking to it, so each trySplit() copies the next batch of
+     * elements into an array and hands that off instead. Batches grow by
+     * BATCH_UNIT each split so large lists produce enough parallel work.
+     * Late-binding and fail-fast on versionNumber.
+     */
+    private class DLLSpliterator implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+        private Node<T> current;
+        // Elements left to traverse, -1 until bound to the list
+        private int remaining;
+        private int batchSize;
+        private int expectedVersion;
+
+        /**
+         * Spliterator over the whole list, bound on first use
+         */
+        public DLLSpliterator() {
+            remaining = -1;
+            batchSize = 0;
+        }
+
+        /**
+         * Bind to the list on first use and return the number of elements left.
+         * 
+         * @return the number of elements left to traverse
+         */
+        private int getRemaining() {
+            if (remaining < 0) {
+                current = head;
+                remaining = size;
+                expectedVersion = versionNumber;
+            }
+            return remaining;
+        }
+
+        /**
+         * Throw if the list changed since this spliterator was bound.
+         */
+        private void checkVersion() {
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int left = getRemaining();
+            checkVersion();
+            if (left <= 1 || current == null) {
+                return null;
+            }
+            int batch = Math.min(Math.min(batchSize + BATCH_UNIT, left), MAX_BATCH);
+            Object[] elements = new Object[batch];
+            for (int i = 0; i < batch; i++) {
+                elements[i] = current.getElement();
+                current = current.getNextNode();
+            }
+            batchSize = batch;
+            remaining -= batch;
+            return Spliterators.spliterator(elements, 0, batch, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (getRemaining() > 0 && current != null) {
+                // Nodes may have been freed or reused since binding, so check
+                // before reading
+                checkVersion();
+                T element = current.getElement();
+                current = current.getNextNode();
+                remaining--;
+                action.accept(element);
+                checkVersion();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            int left = getRemaining();
+            // Check before starting and after each step, so no element of a
+            // changed list reaches the action
+            checkVersion();
+            Node<T> node = current;
+            for (int i = 0; i < left && node != null; i++) {
+                action.accept(node.getElement());
+                checkVersion();
+                node = node.getNextNode();
+            }
+            current = null;
+            remaining = 0;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
     }
-}
\ No newline at end of file
+}
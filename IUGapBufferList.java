@@ -0,0 +1,571 @@
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Gap buffer implementation of the indexed unsorted list.
+ * The backing array keeps a run of empty slots, the gap, at the position of
+ * the last edit. Adding or removing next to the gap is O(1), and moving the
+ * gap costs only the distance between the old and new edit positions, so
+ * edits clustered around a moving cursor stay cheap. get and set are O(1).
+ *
+ * @param <T> - type of elements held in this collection
+ */
+public class IUGapBufferList<T> implements IndexedUnsortedList<T> {
+    public static final int DEFAULT_CAPACITY = 10;
+    private T[] array;
+    // Empty slots are [gapStart, gapEnd), elements at index >= gapStart
+    // are stored gapEnd - gapStart slots further right
+    private int gapStart;
+    private int gapEnd;
+    // Modification count any time the list gets added or removed
+    private int versionNumber;
+    // Decides the new array size when the gap fills up
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * Default constructor that creates an array of size 10, the
+     * default capacity, to start a list.
+     */
+    public IUGapBufferList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor that takes the starting array size and the policy used to
+     * grow the array when the gap runs out.
+     *
+     * @param initialCapacity An integer value that will serve as the array
+     *                        size
+     * @param growthPolicy    Decides the new array size when the list runs out
+     *                        of room
+     */
+    @SuppressWarnings("unchecked")
+    public IUGapBufferList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException();
+        }
+        array = (T[]) (new Object[initialCapacity]);
+        // The whole array starts out as gap
+        gapStart = 0;
+        gapEnd = initialCapacity;
+        versionNumber = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Translate a list index into its array slot, skipping over the gap.
+     *
+     * @param index list index
+     * @return the array index
+     */
+    private int physicalIndex(int index) {
+        return (index < gapStart) ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Move the gap so it starts at the given index. Only the elements between
+     * the old and new gap positions are copied.
+     *
+     * @param index list index the gap should start at, 0 <= index <= size
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            // Slide [index, gapStart) to the right side of the gap
+            int count = gapStart - index;
+            System.arraycopy(array, index, array, gapEnd - count, count);
+            Arrays.fill(array, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            // Slide the elements after the gap back to its left side
+            int count = index - gapStart;
+            System.arraycopy(array, gapEnd, array, gapStart, count);
+            Arrays.fill(array, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Grow the array if the gap has fewer than count slots, putting all new
+     * slots in the gap.
+     *
+     * @param count number of empty slots the gap needs
+     */
+    @SuppressWarnings("unchecked")
+    private void expandIfNecessary(int count) {
+        if (gapEnd - gapStart < count) {
+            int newCapacity = growthPolicy.grow(array.length, size() + count);
+            T[] newArray = (T[]) (new Object[newCapacity]);
+            int tailLength = array.length - gapEnd;
+            System.arraycopy(array, 0, newArray, 0, gapStart);
+            System.arraycopy(array, gapEnd, newArray, newCapacity - tailLength, tailLength);
+            array = newArray;
+            gapEnd = newCapacity - tailLength;
+        }
+    }
+
+    /**
+     * Move the gap to index and store the element in its first slot.
+     *
+     * @param index   list index to insert at, 0 <= index <= size
+     * @param element the element to insert
+     */
+    private void insertAt(int index, T element) {
+        moveGap(index);
+        expandIfNecessary(1);
+        array[gapStart] = element;
+        gapStart++;
+        versionNumber++;
+    }
+
+    /**
+     * Move the gap next to index and widen it over the element, from
+     * whichever side of the gap is closer.
+     *
+     * @param index list index to remove, 0 <= index < size
+     * @return the removed element
+     */
+    private T removeAt(int index) {
+        T returnValue;
+        if (index < gapStart) {
+            // Gap ends up right after the element, remove like a backspace
+            moveGap(index + 1);
+            gapStart--;
+            returnValue = array[gapStart];
+            array[gapStart] = null;
+        } else {
+            // Gap ends up right before the element, remove like a delete
+            moveGap(index);
+            returnValue = array[gapEnd];
+            array[gapEnd] = null;
+            gapEnd++;
+        }
+        versionNumber++;
+        return returnValue;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        insertAt(0, element);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        insertAt(size(), element);
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetIndex = indexOf(target);
+
+        // Necessary to check since indexOf does not throw an exception.
+        if (targetIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        insertAt(targetIndex + 1, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        insertAt(index, element);
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(size() - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = indexOf(element);
+
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        array[physicalIndex(index)] = element;
+        versionNumber++;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return array[physicalIndex(index)];
+    }
+
+    @Override
+    public int indexOf(T element) {
+        int returnIndex = -1;
+        int currentIndex = 0;
+        int size = size();
+
+        while (returnIndex < 0 && currentIndex < size) {
+            if (element.equals(array[physicalIndex(currentIndex)])) {
+                returnIndex = currentIndex;
+            } else {
+                currentIndex++;
+            }
+        }
+        return returnIndex;
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[physicalIndex(0)];
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[physicalIndex(size() - 1)];
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        return array.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        // Snapshot the collection once so its size cannot change part way
+        Object[] newElements = elements.toArray();
+        int count = newElements.length;
+        if (count == 0) {
+            return false;
+        }
+
+        // The whole batch lands in the gap after one move and at most one growth
+        moveGap(index);
+        expandIfNecessary(count);
+        System.arraycopy(newElements, 0, array, gapStart, count);
+        gapStart += count;
+        versionNumber++;
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        // With the gap at the rear every element sits in [0, gapStart)
+        moveGap(size());
+        int expectedVersion = versionNumber;
+        int oldSize = gapStart;
+        // Kept elements are packed down to [0, kept) as we go
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < oldSize; i++) {
+                T element = array[i];
+                if (!filter.test(element)) {
+                    array[kept] = element;
+                    kept++;
+                }
+            }
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // If the filter threw, keep the elements it never got to
+            if (i < oldSize) {
+                System.arraycopy(array, i, array, kept, oldSize - i);
+                kept += oldSize - i;
+            }
+            if (kept < oldSize) {
+                // Removed slots simply become part of the gap
+                Arrays.fill(array, kept, oldSize, null);
+                gapStart = kept;
+                versionNumber++;
+            }
+        }
+        return kept < oldSize;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        // Put the gap right before the range and widen it over the whole range
+        moveGap(fromIndex);
+        int newGapEnd = gapEnd + (toIndex - fromIndex);
+        Arrays.fill(array, gapEnd, newGapEnd, null);
+        gapEnd = newGapEnd;
+        versionNumber++;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (T element : this) {
+            stringBuilder.append(element.toString());
+            stringBuilder.append(", ");
+        }
+
+        if (size() > 0) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new GBLIterator(0);
+    }
+
+    /**
+     * Runs the action on every element in order. The elements before the
+     * gap and the elements after it are each one plain array loop, so no
+     * index is translated. The version is checked once after both loops.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        T[] elements = array;
+        int end = gapStart;
+        // Elements before the gap, then elements after it
+        for (int i = 0; i < end; i++) {
+            action.accept(elements[i]);
+        }
+        end = elements.length;
+        for (int i = gapEnd; i < end; i++) {
+            action.accept(elements[i]);
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexedSpliterator<T>(index -> array[physicalIndex(index)], this::size, () -> versionNumber);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new GBLIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return new GBLIterator(startingIndex);
+    }
+
+    /**
+     * Gap Buffer List Iterator (GBLIterator)
+     * A full list iterator for IUGapBufferList. Edits go through the list at
+     * the cursor index, so the gap follows the cursor and a run of edits in
+     * one place does not shift anything.
+     */
+    private class GBLIterator implements ListIterator<T> {
+        private int nextIndex;
+        // Index of the element last returned by next() or previous(),
+        // -1 when remove() and set() are not allowed
+        private int lastReturnedIndex;
+        private int iterVersionNumber;
+
+        /**
+         * Initialize the iterator in front of the given index
+         *
+         * @param startIndex index of the element the first next() returns
+         */
+        public GBLIterator(int startIndex) {
+            if (startIndex < 0 || startIndex > size()) {
+                throw new IndexOutOfBoundsException();
+            }
+            nextIndex = startIndex;
+            lastReturnedIndex = -1;
+            iterVersionNumber = versionNumber;
+        }
+
+        /**
+         * Throw if the list changed without going through this iterator.
+         */
+        private void checkVersion() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkVersion();
+            return nextIndex < size();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturnedIndex = nextIndex;
+            nextIndex++;
+            return array[physicalIndex(lastReturnedIndex)];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            checkVersion();
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            nextIndex--;
+            lastReturnedIndex = nextIndex;
+            return array[physicalIndex(lastReturnedIndex)];
+        }
+
+        @Override
+        public int nextIndex() {
+            checkVersion();
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            checkVersion();
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            checkVersion();
+            T[] elements = array;
+            int size = size();
+            int i = nextIndex;
+            while (i < size) {
+                action.accept(elements[physicalIndex(i)]);
+                i++;
+            }
+            if (i > nextIndex) {
+                lastReturnedIndex = i - 1;
+                nextIndex = i;
+            }
+            checkVersion();
+        }
+
+        @Override
+        public void remove() {
+            checkVersion();
+
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(lastReturnedIndex);
+
+            // Last move was next, one fewer element in front of the cursor
+            if (lastReturnedIndex < nextIndex) {
+                nextIndex--;
+            }
+            lastReturnedIndex = -1;
+            iterVersionNumber++;
+        }
+
+        @Override
+        public void set(T e) {
+            checkVersion();
+
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+            array[physicalIndex(lastReturnedIndex)] = e;
+            versionNumber++;
+            iterVersionNumber++;
+        }
+
+        @Override
+        public void add(T e) {
+            checkVersion();
+            insertAt(nextIndex, e);
+            nextIndex++;
+            lastReturnedIndex = -1;
+            iterVersionNumber++;
+        }
+    } // End of GBLIterator class
+} // End of IUGapBufferList class
@@ -0,0 +1,699 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * File backed implementation of the indexed unsorted list.
+ * Elements are encoded by an ElementCodec into fixed width records in a
+ * memory mapped file, so opening an existing list only maps the file and
+ * reads its header, and get() decodes straight from the mapped pages with
+ * no copy. Index semantics match IUArrayList.
+ *
+ * File layout: a 16 byte header (magic number, format version, element
+ * width, element count) followed by the records, element i at byte
+ * HEADER_SIZE + i * width. The file is mapped in segments of at most 1 GiB
+ * so lists larger than a single MappedByteBuffer can address still work.
+ *
+ * Changes to the records reach the mapped pages immediately, but the count
+ * in the header is only written by force() and close(), after the records
+ * have been forced. Until then the file keeps the count from the last
+ * force(), and the pages under it may hold any mix of old and new records.
+ * Null elements are not supported.
+ *
+ * @param <T> - type of elements held in this collection
+ */
+public class IUMappedList<T> implements IndexedUnsortedList<T>, AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 10;
+    // "IUML" in ASCII, identifies a file written by this class
+    public static final int MAGIC = 0x49554D4C;
+    public static final int FORMAT_VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    private static final int WIDTH_OFFSET = 8;
+    private static final int COUNT_OFFSET = 12;
+    // Largest mapping per segment
+    private static final int SEGMENT_BYTES = 1 << 30;
+
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    // Mapped record regions, all but the last hold segmentRecords records
+    private MappedByteBuffer[] segments;
+    private final ElementCodec<T> codec;
+    // Bytes per element, cached from the codec
+    private final int width;
+    // Records per segment is a power of two, so an index splits into a
+    // segment number and a record within it with a shift and a mask
+    private final int segmentShift;
+    private final int segmentMask;
+    private int capacity;
+    private int rear;
+    // Modification count any time the list gets added or removed
+    private int versionNumber;
+    // Decides the new file size when growing
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * Open the list stored in the given file, creating an empty one if the
+     * file does not exist or is empty. Only the header is read, the records
+     * are mapped in place.
+     *
+     * @param <T>   type of elements in the list
+     * @param path  file holding the list
+     * @param codec converts elements to and from bytes, must have the same
+     *              width the file was written with
+     * @return the opened list
+     * @throws IOException if the file cannot be opened or mapped, or does not
+     *                     hold a list with this codec's width
+     */
+    public static <T> IUMappedList<T> open(Path path, ElementCodec<T> codec) throws IOException {
+        if (path == null || codec == null) {
+            throw new NullPointerException();
+        }
+        if (codec.width() <= 0 || codec.width() > SEGMENT_BYTES) {
+            throw new IllegalArgumentException("codec width out of range: " + codec.width());
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE);
+        try {
+            return new IUMappedList<T>(channel, codec);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Map the header and existing records of an open file.
+     *
+     * @param channel open read/write channel to the file
+     * @param codec   converts elements to and from bytes
+     * @throws IOException if mapping fails or the header is invalid
+     */
+    private IUMappedList(FileChannel channel, ElementCodec<T> codec) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.width = codec.width();
+        this.growthPolicy = GrowthPolicy.doubling();
+        int segmentRecords = Integer.highestOneBit(SEGMENT_BYTES / width);
+        segmentShift = Integer.numberOfTrailingZeros(segmentRecords);
+        segmentMask = segmentRecords - 1;
+        segments = new MappedByteBuffer[0];
+        capacity = 0;
+        versionNumber = 0;
+
+        long fileSize = channel.size();
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        if (fileSize == 0) {
+            // New file, write an empty header
+            header.putInt(0, MAGIC);
+            header.putInt(4, FORMAT_VERSION);
+            header.putInt(WIDTH_OFFSET, width);
+            header.putInt(COUNT_OFFSET, 0);
+            rear = 0;
+            return;
+        }
+
+        if (fileSize < HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IOException("not a mapped list file");
+        }
+        if (header.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("unsupported format version: " + header.getInt(4));
+        }
+        if (header.getInt(WIDTH_OFFSET) != width) {
+            throw new IOException("file holds " + header.getInt(WIDTH_OFFSET) + " byte elements, codec uses "
+                    + width);
+        }
+        long records = Math.min((fileSize - HEADER_SIZE) / width, GrowthPolicy.MAX_CAPACITY);
+        int count = header.getInt(COUNT_OFFSET);
+        if (count < 0 || count > records) {
+            throw new IOException("corrupt element count: " + count);
+        }
+        remap((int) records);
+        rear = count;
+    }
+
+    /**
+     * Throw if the list has already been closed.
+     */
+    private void checkOpen() {
+        if (channel == null) {
+            throw new IllegalStateException("list is closed");
+        }
+    }
+
+    /**
+     * Map enough segments to hold newCapacity records. Segments that are
+     * already big enough are kept, so growing only maps the new tail of the
+     * file. Mapping past the end of the file extends it.
+     *
+     * @param newCapacity number of records to map
+     * @throws IOException if mapping fails
+     */
+    private void remap(int newCapacity) throws IOException {
+        int segmentRecords = segmentMask + 1;
+        int segmentCount = (newCapacity == 0) ? 0 : ((newCapacity - 1) >>> segmentShift) + 1;
+        MappedByteBuffer[] newSegments = Arrays.copyOf(segments, segmentCount);
+
+        for (int s = 0; s < segmentCount; s++) {
+            int records = Math.min(segmentRecords, newCapacity - s * segmentRecords);
+            if (newSegments[s] == null || newSegments[s].capacity() < records * width) {
+                long position = HEADER_SIZE + ((long) s << segmentShift) * width;
+                newSegments[s] = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) records * width);
+            }
+        }
+        // Replaced mappings are released once the garbage collector drops them
+        segments = newSegments;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Grow the file if there is no room for count more elements.
+     *
+     * @param count number of elements about to be added
+     */
+    private void expandIfNecessary(int count) {
+        checkOpen();
+        if (capacity - rear < count) {
+            int newCapacity = Math.max(growthPolicy.grow(capacity, rear + count), DEFAULT_CAPACITY);
+            try {
+                remap(newCapacity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Read the element at index without a bounds check.
+     *
+     * @param index index of the element
+     * @return the decoded element
+     */
+    private T read(int index) {
+        return codec.read(segments[index >>> segmentShift], (index & segmentMask) * width);
+    }
+
+    /**
+     * Write the element at index without a bounds check.
+     *
+     * @param index   index of the element
+     * @param element the element to encode
+     */
+    private void write(int index, T element) {
+        codec.write(segments[index >>> segmentShift], (index & segmentMask) * width, element);
+    }
+
+    /**
+     * Copy count records starting at index from so they start at index to.
+     * The source and destination may overlap. The copy is split wherever
+     * either range crosses a segment boundary.
+     *
+     * @param from  first record to copy
+     * @param to    index the first record is copied to
+     * @param count number of records to copy
+     */
+    private void moveRecords(int from, int to, int count) {
+        int segmentRecords = segmentMask + 1;
+        if (to < from) {
+            // Moving left, copy front to back
+            int done = 0;
+            while (done < count) {
+                int source = from + done;
+                int target = to + done;
+                int piece = Math.min(count - done, Math.min(segmentRecords - (source & segmentMask),
+                        segmentRecords - (target & segmentMask)));
+                segments[target >>> segmentShift].put((target & segmentMask) * width,
+                        segments[source >>> segmentShift], (source & segmentMask) * width, piece * width);
+                done += piece;
+            }
+        } else if (to > from) {
+            // Moving right, copy back to front so nothing is overwritten
+            // before it has been read
+            int left = count;
+            while (left > 0) {
+                int sourceEnd = from + left;
+                int targetEnd = to + left;
+                int piece = Math.min(left, Math.min(((sourceEnd - 1) & segmentMask) + 1,
+                        ((targetEnd - 1) & segmentMask) + 1));
+                int source = sourceEnd - piece;
+                int target = targetEnd - piece;
+                segments[target >>> segmentShift].put((target & segmentMask) * width,
+                        segments[source >>> segmentShift], (source & segmentMask) * width, piece * width);
+                left -= piece;
+            }
+        }
+    }
+
+    /**
+     * Remove the element at index by moving the records after it left by one.
+     *
+     * @param index index of the element to remove, 0 <= index < rear
+     * @return the removed element
+     */
+    private T removeAt(int index) {
+        T returnValue = read(index);
+        moveRecords(index + 1, index, rear - index - 1);
+        rear--;
+        versionNumber++;
+        return returnValue;
+    }
+
+    /**
+     * Write every change in the mapped records through to the file, then
+     * store the element count in the header and write that through too.
+     * The count only reaches the mapping once the records it covers are on
+     * disk, so after a crash the stored count never covers records that
+     * were not yet written.
+     */
+    public void force() {
+        checkOpen();
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        header.putInt(COUNT_OFFSET, rear);
+        header.force();
+    }
+
+    /**
+     * Force all changes to the file and close it. Any further use of the
+     * list throws IllegalStateException. Closing twice has no effect. The
+     * file keeps any spare capacity, so reopening and adding does not have
+     * to grow it right away.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        force();
+        channel.close();
+        // The mappings themselves are released once the garbage collector
+        // drops them
+        channel = null;
+        header = null;
+        segments = null;
+        rear = 0;
+        versionNumber++;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        add(0, element);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        expandIfNecessary(1);
+        write(rear, element);
+        rear++;
+        versionNumber++;
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetIndex = indexOf(target);
+
+        // Necessary to check since indexOf does not throw an exception.
+        if (targetIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        add(targetIndex + 1, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkOpen();
+        if (index < 0 || index > rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        expandIfNecessary(1);
+
+        moveRecords(index, index + 1, rear - index);
+        write(index, element);
+        rear++;
+        versionNumber++;
+    }
+
+    @Override
+    public T removeFirst() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public T removeLast() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(rear - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = indexOf(element);
+
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        checkOpen();
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkOpen();
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        write(index, element);
+        versionNumber++;
+    }
+
+    @Override
+    public T get(int index) {
+        checkOpen();
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        return read(index);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        checkOpen();
+        int returnIndex = -1;
+        int currentIndex = 0;
+
+        while (returnIndex < 0 && currentIndex < rear) {
+            if (element.equals(read(currentIndex))) {
+                returnIndex = currentIndex;
+            } else {
+                currentIndex++;
+            }
+        }
+        return returnIndex;
+    }
+
+    @Override
+    public T first() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return read(0);
+    }
+
+    @Override
+    public T last() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return read(rear - 1);
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        checkOpen();
+        return rear == 0;
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return rear;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        checkOpen();
+        if (index < 0 || index > rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        // Snapshot the collection once, and reject nulls before anything moves
+        Object[] newElements = elements.toArray();
+        int count = newElements.length;
+        for (Object element : newElements) {
+            if (element == null) {
+                throw new NullPointerException();
+            }
+        }
+        if (count == 0) {
+            return false;
+        }
+
+        // One growth and one block move for the whole batch
+        expandIfNecessary(count);
+        moveRecords(index, index + count, rear - index);
+        for (int i = 0; i < count; i++) {
+            write(index + i, (T) newElements[i]);
+        }
+        rear += count;
+        versionNumber++;
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        checkOpen();
+        int expectedVersion = versionNumber;
+        int oldRear = rear;
+        // Kept records are packed down to [0, kept) as we go, copying their
+        // bytes rather than encoding them again
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < oldRear; i++) {
+                if (!filter.test(read(i))) {
+                    if (kept != i) {
+                        moveRecords(i, kept, 1);
+                    }
+                    kept++;
+                }
+            }
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // If the filter threw, keep the elements it never got to
+            if (i < oldRear) {
+                moveRecords(i, kept, oldRear - i);
+                kept += oldRear - i;
+            }
+            if (kept < oldRear) {
+                rear = kept;
+                versionNumber++;
+            }
+        }
+        return kept < oldRear;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkOpen();
+        if (fromIndex < 0 || toIndex > rear || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        moveRecords(toIndex, fromIndex, rear - toIndex);
+        rear -= toIndex - fromIndex;
+        versionNumber++;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (T element : this) {
+            stringBuilder.append(element.toString());
+            stringBuilder.append(", ");
+        }
+
+        if (size() > 0) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new MLIterator();
+    }
+
+    /**
+     * Runs the action on every element in order, decoding straight from the
+     * mapped records. The version is checked once after the loop.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        checkOpen();
+        int expectedVersion = versionNumber;
+        int size = rear;
+        for (int i = 0; i < size; i++) {
+            action.accept(read(i));
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        checkOpen();
+        // size() and the getter check too, so a spliterator made before
+        // close() fails the same way as the list
+        return new IndexedSpliterator<T>(index -> {
+            checkOpen();
+            return read(index);
+        }, this::size, () -> versionNumber);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        // Checking on every step makes the iterator fail like the list once
+        // it is closed
+        return new IndexedListIterator<T>(this, startingIndex, () -> {
+            checkOpen();
+            return versionNumber;
+        });
+    }
+
+    /**
+     * Mapped List Iterator (MLIterator)
+     * A basic fail-fast iterator for IUMappedList that includes remove().
+     * Once the list is closed, its iterators throw IllegalStateException.
+     */
+    private class MLIterator implements Iterator<T> {
+        private int nextIndex;
+        private boolean canRemove;
+        private int iterVersionNumber;
+
+        /**
+         * Initialize the iterator in front of the first element
+         */
+        public MLIterator() {
+            nextIndex = 0;
+            canRemove = false;
+            iterVersionNumber = versionNumber;
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkOpen();
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex < rear;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            nextIndex++;
+            canRemove = true;
+            return read(nextIndex - 1);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            checkOpen();
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            int size = rear;
+            int i = nextIndex;
+            while (i < size) {
+                action.accept(read(i));
+                i++;
+            }
+            if (i > nextIndex) {
+                nextIndex = i;
+                canRemove = true;
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public void remove() {
+            checkOpen();
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            canRemove = false;
+
+            removeAt(nextIndex - 1);
+            nextIndex--;
+            iterVersionNumber++;
+        }
+    } // End of MLIterator class
+} // End of IUMappedList class
@@ -0,0 +1,552 @@
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Off-heap array based implementation of the indexed unsorted list.
+ * Elements are encoded by an ElementCodec into a direct ByteBuffer, so the
+ * garbage collector never has to trace or copy them. Layout and index
+ * semantics match IUArrayList, with element i stored at byte offset
+ * i * codec.width().
+ *
+ * The list must be closed when no longer needed. Null elements are not
+ * supported since a fixed width codec has no way to encode them.
+ *
+ * @param <T> - type of elements held in this collection
+ */
+public class IUOffHeapList<T> implements IndexedUnsortedList<T>, AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 10;
+    private ByteBuffer buffer;
+    private final ElementCodec<T> codec;
+    // Bytes per element, cached from the codec
+    private final int width;
+    private int rear;
+    // Modification count any time the list gets added or removed
+    private int versionNumber;
+    // Decides the new buffer size when growing
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * Create an empty list with the default capacity.
+     *
+     * @param codec converts elements to and from bytes
+     */
+    public IUOffHeapList(ElementCodec<T> codec) {
+        this(codec, DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Create an empty list with room for initialCapacity elements.
+     *
+     * @param codec           converts elements to and from bytes
+     * @param initialCapacity number of elements to allocate room for
+     * @param growthPolicy    decides the new capacity when the list runs out
+     *                        of room
+     */
+    public IUOffHeapList(ElementCodec<T> codec, int initialCapacity, GrowthPolicy growthPolicy) {
+        if (codec == null || growthPolicy == null) {
+            throw new NullPointerException();
+        }
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("codec width must be positive: " + codec.width());
+        }
+        if (initialCapacity < 0 || initialCapacity > maxCapacity(codec.width())) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.growthPolicy = growthPolicy;
+        buffer = ByteBuffer.allocateDirect(initialCapacity * width);
+        rear = 0;
+        versionNumber = 0;
+    }
+
+    /**
+     * Largest number of elements a single direct buffer can hold at this width.
+     *
+     * @param width bytes per element
+     * @return the maximum capacity in elements
+     */
+    private static int maxCapacity(int width) {
+        return Integer.MAX_VALUE / width;
+    }
+
+    /**
+     * Throw if the list has already been closed.
+     */
+    private void checkOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("list is closed");
+        }
+    }
+
+    /**
+     * Returns the number of elements the list can hold before it must grow.
+     *
+     * @return the capacity in elements
+     */
+    private int capacity() {
+        return buffer.capacity() / width;
+    }
+
+    /**
+     * Reallocate a bigger buffer if there is no room for count more elements,
+     * copying the encoded elements over in one bulk transfer.
+     *
+     * @param count number of elements about to be added
+     */
+    private void expandIfNecessary(int count) {
+        checkOpen();
+        if (capacity() - rear < count) {
+            if (count > maxCapacity(width) - rear) {
+                throw new OutOfMemoryError("Required buffer size too large");
+            }
+            int newCapacity = Math.min(growthPolicy.grow(capacity(), rear + count), maxCapacity(width));
+            ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity * width);
+            newBuffer.put(0, buffer, 0, rear * width);
+            // The old buffer is released once the garbage collector drops it
+            buffer = newBuffer;
+        }
+    }
+
+    /**
+     * Move the encoded elements [from, rear) so they start at index to. The
+     * source and destination may overlap.
+     *
+     * @param from first index to move
+     * @param to   index the first element moves to
+     */
+    private void shift(int from, int to) {
+        int length = (rear - from) * width;
+        if (length > 0) {
+            buffer.put(to * width, buffer, from * width, length);
+        }
+    }
+
+    /**
+     * Read the element at index without a bounds check.
+     *
+     * @param index index of the element
+     * @return the decoded element
+     */
+    private T read(int index) {
+        return codec.read(buffer, index * width);
+    }
+
+    /**
+     * Remove the element at index by moving the block after it left by one.
+     *
+     * @param index index of the element to remove, 0 <= index < rear
+     * @return the removed element
+     */
+    private T removeAt(int index) {
+        T returnValue = read(index);
+        shift(index + 1, index);
+        rear--;
+        versionNumber++;
+        return returnValue;
+    }
+
+    /**
+     * Close the list and release its buffer. Any further use of the list
+     * throws IllegalStateException. Closing twice has no effect.
+     */
+    @Override
+    public void close() {
+        buffer = null;
+        rear = 0;
+        versionNumber++;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        add(0, element);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        expandIfNecessary(1);
+        codec.write(buffer, rear * width, element);
+        rear++;
+        versionNumber++;
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetIndex = indexOf(target);
+
+        // Necessary to check since indexOf does not throw an exception.
+        if (targetIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        add(targetIndex + 1, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkOpen();
+        if (index < 0 || index > rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        expandIfNecessary(1);
+
+        shift(index, index + 1);
+        codec.write(buffer, index * width, element);
+        rear++;
+        versionNumber++;
+    }
+
+    @Override
+    public T removeFirst() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public T removeLast() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(rear - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = indexOf(element);
+
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        checkOpen();
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkOpen();
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        codec.write(buffer, index * width, element);
+        versionNumber++;
+    }
+
+    @Override
+    public T get(int index) {
+        checkOpen();
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        return read(index);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        checkOpen();
+        int returnIndex = -1;
+        int currentIndex = 0;
+
+        while (returnIndex < 0 && currentIndex < rear) {
+            if (element.equals(read(currentIndex))) {
+                returnIndex = currentIndex;
+            } else {
+                currentIndex++;
+            }
+        }
+        return returnIndex;
+    }
+
+    @Override
+    public T first() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return read(0);
+    }
+
+    @Override
+    public T last() {
+        checkOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return read(rear - 1);
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        checkOpen();
+        return rear == 0;
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return rear;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        checkOpen();
+        if (index < 0 || index > rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        // Snapshot the collection once, and reject nulls before anything moves
+        Object[] newElements = elements.toArray();
+        int count = newElements.length;
+        for (Object element : newElements) {
+            if (element == null) {
+                throw new NullPointerException();
+            }
+        }
+        if (count == 0) {
+            return false;
+        }
+
+        // One reallocation and one block move for the whole batch
+        expandIfNecessary(count);
+        shift(index, index + count);
+        for (int i = 0; i < count; i++) {
+            T element = (T) newElements[i];
+            codec.write(buffer, (index + i) * width, element);
+        }
+        rear += count;
+        versionNumber++;
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        checkOpen();
+        int expectedVersion = versionNumber;
+        int oldRear = rear;
+        // Kept elements are packed down to [0, kept) as we go, copying their
+        // encoded bytes rather than encoding them again
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < oldRear; i++) {
+                if (!filter.test(read(i))) {
+                    if (kept != i) {
+                        buffer.put(kept * width, buffer, i * width, width);
+                    }
+                    kept++;
+                }
+            }
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // If the filter threw, keep the elements it never got to
+            if (i < oldRear) {
+                shift(i, kept);
+                kept += oldRear - i;
+            }
+            if (kept < oldRear) {
+                rear = kept;
+                versionNumber++;
+            }
+        }
+        return kept < oldRear;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkOpen();
+        if (fromIndex < 0 || toIndex > rear || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        shift(toIndex, fromIndex);
+        rear -= toIndex - fromIndex;
+        versionNumber++;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (T element : this) {
+            stringBuilder.append(element.toString());
+            stringBuilder.append(", ");
+        }
+
+        if (size() > 0) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new OHLIterator();
+    }
+
+    /**
+     * Runs the action on every element in order, decoding straight from the
+     * buffer. The version is checked once after the loop.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        checkOpen();
+        int expectedVersion = versionNumber;
+        int size = rear;
+        for (int i = 0; i < size; i++) {
+            action.accept(read(i));
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        checkOpen();
+        // size() and the getter check too, so a spliterator made before
+        // close() fails the same way as the list
+        return new IndexedSpliterator<T>(index -> {
+            checkOpen();
+            return read(index);
+        }, this::size, () -> versionNumber);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        // Checking on every step makes the iterator fail like the list once
+        // it is closed
+        return new IndexedListIterator<T>(this, startingIndex, () -> {
+            checkOpen();
+            return versionNumber;
+        });
+    }
+
+    /**
+     * Off-Heap List Iterator (OHLIterator)
+     * A basic fail-fast iterator for IUOffHeapList that includes remove().
+     * Once the list is closed, its iterators throw IllegalStateException.
+     */
+    private class OHLIterator implements Iterator<T> {
+        private int nextIndex;
+        private boolean canRemove;
+        private int iterVersionNumber;
+
+        /**
+         * Initialize the iterator in front of the first element
+         */
+        public OHLIterator() {
+            nextIndex = 0;
+            canRemove = false;
+            iterVersionNumber = versionNumber;
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkOpen();
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex < rear;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            nextIndex++;
+            canRemove = true;
+            return read(nextIndex - 1);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            checkOpen();
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            int size = rear;
+            int i = nextIndex;
+            while (i < size) {
+                action.accept(read(i));
+                i++;
+            }
+            if (i > nextIndex) {
+                nextIndex = i;
+                canRemove = true;
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public void remove() {
+            checkOpen();
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            canRemove = false;
+
+            removeAt(nextIndex - 1);
+            nextIndex--;
+            iterVersionNumber++;
+        }
+    } // End of OHLIterator class
+} // End of IUOffHeapList class
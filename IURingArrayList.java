@@ -0,0 +1,626 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Circular array based implementation of the indexed unsorted list.
+ * Elements live between a front index and front + size, wrapping around the
+ * end of the backing array, so adding or removing at either end never shifts
+ * the rest of the list. Inserts and removes in the middle move the shorter
+ * side with System.arraycopy, split where the range wraps. The array grows,
+ * and optionally shrinks, by a GrowthPolicy as in IUArrayList. Includes a
+ * basic Iterator to support remove operations, and a full ListIterator
+ * built on the positional methods.
+ *
+ * @param <T> - type of elements held in this collection
+ */
+public class IURingArrayList<T> implements IndexedUnsortedList<T> {
+    public static final int DEFAULT_CAPACITY = 10;
+    private T[] array;
+    // Physical index of the first element
+    private int front;
+    // Number of elements, the logical rear
+    private int size;
+    // Modification count any time the list gets added or removed
+    private int versionNumber;
+    // Decides the new array size when growing or shrinking
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * Default constructor that creates an array of size 10, the
+     * default capacity, to start a list.
+     */
+    public IURingArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Second constructor that can take in a user specified array size to start a
+     * list.
+     *
+     * @param initialCapacity An integer value that will serve as the array
+     *                        size
+     */
+    public IURingArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Third constructor that also takes the policy used to grow, and
+     * optionally shrink, the array.
+     *
+     * @param initialCapacity An integer value that will serve as the array
+     *                        size
+     * @param growthPolicy    Decides the new array size whenever the list
+     *                        runs out of room or, if the policy supports it,
+     *                        gets too empty
+     */
+    @SuppressWarnings("unchecked")
+    public IURingArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException();
+        }
+        // A ring needs at least one slot to wrap around
+        array = (T[]) (new Object[Math.max(initialCapacity, 1)]);
+        front = 0;
+        size = 0;
+        versionNumber = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Translate a logical list index into the physical array slot, wrapping
+     * past the end of the array.
+     *
+     * @param index logical index, 0 <= index <= array.length
+     * @return the physical array index
+     */
+    private int physicalIndex(int index) {
+        int physical = front + index;
+        // Cheaper than the modulus operator since we never wrap more than once
+        if (physical >= array.length) {
+            physical -= array.length;
+        }
+        return physical;
+    }
+
+    /**
+     * Copy count elements starting at logical index from into dest, unrolled
+     * so they start at destPos. The range wraps at most once, so this takes
+     * at most two System.arraycopy calls.
+     *
+     * @param from    logical index of the first element to copy
+     * @param dest    array to copy into
+     * @param destPos index in dest of the first copied element
+     * @param count   number of elements to copy
+     */
+    private void copyOut(int from, T[] dest, int destPos, int count) {
+        int start = physicalIndex(from);
+        int firstPart = Math.min(count, array.length - start);
+        System.arraycopy(array, start, dest, destPos, firstPart);
+        System.arraycopy(array, 0, dest, destPos + firstPart, count - firstPart);
+    }
+
+    /**
+     * Move count elements starting at logical index from so they start at
+     * logical index to. The ranges may overlap. The copy is split wherever
+     * either range wraps past the end of the array, so it takes at most
+     * three System.arraycopy calls.
+     *
+     * @param from  logical index of the first element to move
+     * @param to    logical index the first element is moved to
+     * @param count number of elements to move
+     */
+    private void moveRange(int from, int to, int count) {
+        if (to < from) {
+            // Moving left, copy front to back
+            int done = 0;
+            while (done < count) {
+                int source = physicalIndex(from + done);
+                int target = physicalIndex(to + done);
+                int piece = Math.min(count - done, Math.min(array.length - source, array.length - target));
+                System.arraycopy(array, source, array, target, piece);
+                done += piece;
+            }
+        } else if (to > from) {
+            // Moving right, copy back to front so nothing is overwritten
+            // before it has been read
+            int left = count;
+            while (left > 0) {
+                int sourceEnd = physicalIndex(from + left - 1) + 1;
+                int targetEnd = physicalIndex(to + left - 1) + 1;
+                int piece = Math.min(left, Math.min(sourceEnd, targetEnd));
+                System.arraycopy(array, sourceEnd - piece, array, targetEnd - piece, piece);
+                left -= piece;
+            }
+        }
+    }
+
+    /**
+     * Clear count slots starting at logical index from, so removed elements
+     * can be garbage collected.
+     *
+     * @param from  logical index of the first slot to clear
+     * @param count number of slots to clear
+     */
+    private void clearRange(int from, int count) {
+        int start = physicalIndex(from);
+        int firstPart = Math.min(count, array.length - start);
+        Arrays.fill(array, start, start + firstPart, null);
+        Arrays.fill(array, 0, count - firstPart, null);
+    }
+
+    /**
+     * Move the elements into a new array of the given capacity. The wrapped
+     * range is unrolled so front starts at 0 again.
+     *
+     * @param newCapacity length of the new array, at least size
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int newCapacity) {
+        T[] newArray = (T[]) (new Object[newCapacity]);
+        copyOut(0, newArray, 0, size);
+        array = newArray;
+        front = 0;
+    }
+
+    /**
+     * Grow the list capacity using the growth policy if necessary before
+     * adding.
+     */
+    private void expandIfNecessary() {
+        if (array.length == size) {
+            resize(growthPolicy.grow(array.length, size + 1));
+        }
+    }
+
+    /**
+     * Give the growth policy a chance to shrink the array after a remove.
+     */
+    private void shrinkIfNecessary() {
+        int newCapacity = growthPolicy.shrink(array.length, size);
+        if (newCapacity < array.length) {
+            // A ring needs at least one slot to wrap around
+            resize(Math.max(newCapacity, Math.max(size, 1)));
+        }
+    }
+
+    /**
+     * Open a slot at the given index by moving whichever side of the list is
+     * shorter, then store the element there.
+     *
+     * @param index   logical index to insert at, 0 <= index <= size
+     * @param element the element to insert
+     */
+    private void insertAt(int index, T element) {
+        expandIfNecessary();
+
+        if (index < size - index) {
+            // Closer to the front, slide the first index elements one slot left
+            front = (front == 0) ? array.length - 1 : front - 1;
+            moveRange(1, 0, index);
+        } else {
+            // Closer to the rear, slide the remaining elements one slot right
+            moveRange(index, index + 1, size - index);
+        }
+
+        array[physicalIndex(index)] = element;
+        size++;
+        versionNumber++;
+    }
+
+    /**
+     * Close the slot at the given index by moving whichever side of the list is
+     * shorter.
+     *
+     * @param index logical index to remove, 0 <= index < size
+     * @return the removed element
+     */
+    private T removeAt(int index) {
+        T returnValue = array[physicalIndex(index)];
+
+        if (index < size - 1 - index) {
+            // Closer to the front, slide the first elements one slot right
+            moveRange(0, 1, index);
+            // Prevent a memory leak, then advance the front
+            array[front] = null;
+            front = physicalIndex(1);
+        } else {
+            // Closer to the rear, slide the remaining elements one slot left
+            moveRange(index + 1, index, size - 1 - index);
+            array[physicalIndex(size - 1)] = null;
+        }
+
+        size--;
+        versionNumber++;
+        shrinkIfNecessary();
+        return returnValue;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        // Moving front back one slot is O(1), nothing shifts
+        insertAt(0, element);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        insertAt(size, element);
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetIndex = indexOf(target);
+
+        // Necessary to check since indexOf does not throw an exception.
+        if (targetIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        insertAt(targetIndex + 1, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        insertAt(index, element);
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(size - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = indexOf(element);
+
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        array[physicalIndex(index)] = element;
+        versionNumber++;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return array[physicalIndex(index)];
+    }
+
+    @Override
+    public int indexOf(T element) {
+        int returnIndex = -1;
+        int currentIndex = 0;
+
+        while (returnIndex < 0 && currentIndex < size) {
+            if (element.equals(array[physicalIndex(currentIndex)])) {
+                returnIndex = currentIndex;
+            } else {
+                currentIndex++;
+            }
+        }
+        return returnIndex;
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[front];
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[physicalIndex(size - 1)];
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        // Snapshot the collection once so its size cannot change part way
+        Object[] newElements = elements.toArray();
+        int count = newElements.length;
+        if (count == 0) {
+            return false;
+        }
+
+        if (count > array.length - size) {
+            // Not enough room, unroll into a bigger array leaving a hole of
+            // count slots at index
+            T[] newArray = (T[]) (new Object[growthPolicy.grow(array.length, size + count)]);
+            copyOut(0, newArray, 0, index);
+            copyOut(index, newArray, index + count, size - index);
+            array = newArray;
+            front = 0;
+        } else if (index < size - index) {
+            // Closer to the front, slide the first index elements count slots left
+            front -= count;
+            if (front < 0) {
+                front += array.length;
+            }
+            moveRange(count, 0, index);
+        } else {
+            // Closer to the rear, slide the remaining elements count slots right
+            moveRange(index, index + count, size - index);
+        }
+
+        for (int i = 0; i < count; i++) {
+            T element = (T) newElements[i];
+            array[physicalIndex(index + i)] = element;
+        }
+        size += count;
+        versionNumber++;
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        int oldSize = size;
+        // Kept elements are packed down to logical [0, kept) as we go
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < oldSize; i++) {
+                T element = array[physicalIndex(i)];
+                if (!filter.test(element)) {
+                    array[physicalIndex(kept)] = element;
+                    kept++;
+                }
+            }
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // If the filter threw, keep the elements it never got to
+            for (; i < oldSize; i++) {
+                array[physicalIndex(kept)] = array[physicalIndex(i)];
+                kept++;
+            }
+            if (kept < oldSize) {
+                clearRange(kept, oldSize - kept);
+                size = kept;
+                versionNumber++;
+                shrinkIfNecessary();
+            }
+        }
+        return kept < oldSize;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+
+        if (fromIndex < size - toIndex) {
+            // Fewer elements in front of the range, slide them right over it
+            moveRange(0, count, fromIndex);
+            clearRange(0, count);
+            front = physicalIndex(count);
+        } else {
+            // Fewer elements after the range, slide them left over it
+            moveRange(toIndex, fromIndex, size - toIndex);
+            clearRange(size - count, count);
+        }
+        size -= count;
+        versionNumber++;
+        shrinkIfNecessary();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (T element : this) {
+            stringBuilder.append(element.toString());
+            stringBuilder.append(", ");
+        }
+
+        if (size() > 0) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new RALIterator();
+    }
+
+    /**
+     * Runs the action on every element in order, walking the wrapped range
+     * of the array directly. The version is checked once after the loop.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        T[] elements = array;
+        int count = size;
+        for (int i = 0; i < count; i++) {
+            action.accept(elements[physicalIndex(i)]);
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new IndexedSpliterator<T>(index -> array[physicalIndex(index)], () -> size, () -> versionNumber);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        // get and set are O(1), and add and remove move the shorter side
+        return new IndexedListIterator<T>(this, startingIndex, () -> versionNumber);
+    }
+
+    /**
+     * Ring Array List Iterator (RALIterator)
+     * A basic iterator for IURingArrayList that walks the wrapped range and
+     * includes remove().
+     */
+    private class RALIterator implements Iterator<T> {
+        // Logical index, translated through physicalIndex on every access
+        private int nextIndex;
+        private boolean canRemove;
+        private int iterVersionNumber;
+
+        /**
+         * Initialize the iterator in front of the first element
+         */
+        public RALIterator() {
+            nextIndex = 0;
+            canRemove = false;
+            iterVersionNumber = versionNumber;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            nextIndex++;
+            canRemove = true;
+            return array[physicalIndex(nextIndex - 1)];
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            T[] elements = array;
+            int count = size;
+            int i = nextIndex;
+            while (i < count) {
+                action.accept(elements[physicalIndex(i)]);
+                i++;
+            }
+            if (i > nextIndex) {
+                nextIndex = i;
+                canRemove = true;
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public void remove() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            canRemove = false;
+
+            // Same shorter-side shift as the list's remove(int)
+            removeAt(nextIndex - 1);
+            nextIndex--;
+            iterVersionNumber++;
+        }
+    } // End of RALIterator class
+} // End of IURingArrayList class
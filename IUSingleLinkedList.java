@@ -1,6 +1,11 @@
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.ConcurrentModificationException;
 
 /**
@@ -11,11 +16,11 @@ import java.util.ConcurrentModificationException;
  */
 public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
     // Represents the beginning of the list.
-    private Node<T> head;
+    private SingleNode<T> head;
 
     // Represents the end of the list.
     // Ensures addToRear is an O(1) operation.
-    private Node<T> tail;
+    private SingleNode<T> tail;
 
     // Similar to the rear in order to keep track of size.
     // Ensures size is an O(1) operation.
@@ -24,6 +29,15 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
     // Assists the Iterator in comparing changes.
     private int versionNumber;
 
+    // Finger: the last node reached by index, and its index.
+    // Only trusted while fingerVersion matches versionNumber.
+    private SingleNode<T> fingerNode;
+    private int fingerIndex;
+    private int fingerVersion;
+
+    // Nodes stepped over by positional walks, see getHopCount.
+    private long hopCount;
+
     /**
      * Initialize a new EMPTY list, no nodes to start.
      */
@@ -34,6 +48,67 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
         this.versionNumber = 0;
     }
 
+    /**
+     * Returns the number of nodes stepped over by index based walks since
+     * the list was created or resetHopCount was last called. A loop over
+     * the indexes in order should add about one hop per call.
+     *
+     * @return nodes stepped over by positional walks
+     */
+    public long getHopCount() {
+        return hopCount;
+    }
+
+    /**
+     * Set the hop count back to 0.
+     */
+    public void resetHopCount() {
+        hopCount = 0;
+    }
+
+    /**
+     * Walk to the node at the given index. The walk starts at the finger
+     * when it is still valid and not past index, otherwise at the head, and
+     * the finger is left on the node that was found.
+     *
+     * @param index index of the node, 0 <= index < size
+     * @return the node at index
+     */
+    private SingleNode<T> nodeAt(int index) {
+        SingleNode<T> currentNode = head;
+        int currentIndex = 0;
+        if (index == size - 1) {
+            // The tail is always known
+            currentNode = tail;
+            currentIndex = index;
+        } else if (fingerVersion == versionNumber && fingerNode != null && fingerIndex <= index) {
+            currentNode = fingerNode;
+            currentIndex = fingerIndex;
+        }
+
+        hopCount += index - currentIndex;
+        while (currentIndex < index) {
+            currentNode = currentNode.getNextNode();
+            currentIndex++;
+        }
+        moveFinger(currentNode, index);
+        return currentNode;
+    }
+
+    /**
+     * Point the finger at a node, trusting it until the next change to the
+     * list. Changes that know where a node ends up call this again after
+     * they bump versionNumber.
+     *
+     * @param node  node to remember
+     * @param index index of the node
+     */
+    private void moveFinger(SingleNode<T> node, int index) {
+        fingerNode = node;
+        fingerIndex = index;
+        fingerVersion = versionNumber;
+    }
+
     @Override
     public void addToFront(T element) {
         // Cannot add to a link list without pointing to a node.
@@ -44,7 +119,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
         // If adding to an empty list, the tail needs to be incremented.
         // This also results in an O(1) operation, no loops and no need to calculate the
         // size.
-        Node<T> newNode = new Node<T>(element);
+        SingleNode<T> newNode = new SingleNode<T>(element);
         newNode.setNextNode(head);
 
         // Assigning the head to become the new newNode object
@@ -68,7 +143,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
         // the list;
         // there will be no nodes and only null will exist.
         // Similarly, this also results in an O(1) operation.
-        Node<T> newNode = new Node<T>(element);
+        SingleNode<T> newNode = new SingleNode<T>(element);
 
         // If the linked list is empty, every list requires a head to function, even
         // though we are adding
@@ -94,7 +169,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
 
     @Override
     public void addAfter(T element, T target) {
-        Node<T> currentNode = head;
+        SingleNode<T> currentNode = head;
 
         // Go 1 up before reaching the target node
         while (currentNode != null && !currentNode.getElement().equals(target)) {
@@ -106,7 +181,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
             throw new NoSuchElementException();
         }
 
-        Node<T> newNode = new Node<T>(element);
+        SingleNode<T> newNode = new SingleNode<T>(element);
         newNode.setNextNode(currentNode.getNextNode());
         currentNode.setNextNode(newNode);
 
@@ -137,21 +212,12 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
             // For instance if we try add(2, E) we would need the reference at index 1, the
             // node
             // in front of the place of add (or remove).
-            // We need a way to keep track of nodes, since we do not use indexing in linked
-            // lists.
-            Node<T> currentNode = head;
-
-            // We know how many times we will move, since we have the index known, so we use
-            // a for loop.
-            // Stop in front of index, since if try to add at 2, we actually need to get 1,
-            // which is 2 - 1.
-            for (int i = 0; i < index - 1; i++) {
-                // Assignment is from right to left, so currentNode now points at spot 1.
-                currentNode = currentNode.getNextNode();
-            }
+            // nodeAt starts from the finger when it can, so adding at nearby indexes does
+            // not walk from the head every time.
+            SingleNode<T> currentNode = nodeAt(index - 1);
 
             // First create a new node
-            Node<T> newNode = new Node<T>(element);
+            SingleNode<T> newNode = new SingleNode<T>(element);
 
             // Now attach the node at the spot of 2, using the getNextNode.
             newNode.setNextNode(currentNode.getNextNode());
@@ -166,9 +232,12 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
                 tail = newNode;
             }
             size++;
-        }
+            versionNumber++;
 
-        versionNumber++;
+            // Keep the finger on the node before the new one. A single list cannot step
+            // back, and the next add or remove at this index needs that node again.
+            moveFinger(currentNode, index - 1);
+        }
     }
 
     @Override
@@ -186,7 +255,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
         } else {
             // Overwrite the head to the next node
             // If [A, B, C] remove A, then point to B as the new head.
-            Node<T> currentNode = head;
+            SingleNode<T> currentNode = head;
             head = currentNode.getNextNode();
         }
 
@@ -211,15 +280,9 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
             tail = null;
 
         } else {
-            Node<T> current = head;
-            // Size is less than one because we will eventually remove the head and shift
-            // down by
-            // one
             // [A, B, C] we want to remove C the last element, size is 3
-            // Go up to size - 2, which is 1
-            for (int i = 0; i < size() - 2; i++) {
-                current = current.getNextNode();
-            }
+            // The node before the tail is at size - 2, which is 1
+            SingleNode<T> current = nodeAt(size() - 2);
             returnValue = tail.getElement();
             current.setNextNode(null);
             tail = current;
@@ -256,7 +319,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
             }
         } else {
             // We must use iterNextNode, getElement, and equals method for this to function.
-            Node<T> currentNode = head;
+            SingleNode<T> currentNode = head;
 
             // Seek out the node before the desired removal node.
             // Ensure the tail node does not keep seeking, since it would result in a null
@@ -304,20 +367,12 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
             returnValue = removeFirst();
 
         } else { // somewhere in the middle
-            Node<T> currentNode = head;
-            Node<T> previousNode = null;
-
             // [A, B, C, D] and we want to remove at 2, which is index C.
-            // Go up to index 2 but not including, which is 1 at node B.
-            // Then call iterNextNode to get node C, which will be used to retrieve the
+            // Find the node before it, which is 1 at node B.
+            // Then call getNextNode to get node C, which will be used to retrieve the
             // element.
-            // Previous node is stored as B.
-            // Go up to the index but not including.
-            // Then, call getNextNode to get the actual index.
-            for (int i = 0; i < index; i++) {
-                previousNode = currentNode;
-                currentNode = currentNode.getNextNode();
-            }
+            SingleNode<T> previousNode = nodeAt(index - 1);
+            SingleNode<T> currentNode = previousNode.getNextNode();
 
             returnValue = currentNode.getElement();
 
@@ -328,6 +383,9 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
             }
             size--;
             versionNumber++;
+
+            // B did not move, so it is still a good place to start from.
+            moveFinger(previousNode, index - 1);
         }
         return returnValue;
     }
@@ -338,17 +396,13 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
             throw new IndexOutOfBoundsException();
         }
 
-        Node<T> currentNode = head;
-
-        // Go up to index but not including.
-        // Then, when getNextNode is called, we will be at the actual index.
-        for (int i = 0; i < index; i++) {
-            currentNode = currentNode.getNextNode();
-        }
-
+        SingleNode<T> currentNode = nodeAt(index);
         currentNode.setElement(element);
 
         versionNumber++;
+
+        // Replacing an element moves no nodes, so keep the finger.
+        moveFinger(currentNode, index);
     }
 
     @Override
@@ -357,21 +411,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
             throw new IndexOutOfBoundsException();
         }
 
-        T returnValue;
-
-        if (index == 0) { // first node
-            returnValue = head.getElement();
-
-        } else { // somewhere in the middle
-            Node<T> currentNode = head;
-            for (int i = 0; i < index; i++) {
-                currentNode = currentNode.getNextNode();
-            }
-
-            returnValue = currentNode.getElement();
-
-        }
-        return returnValue;
+        return nodeAt(index).getElement();
     }
 
     @Override
@@ -383,7 +423,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
         // If current is equal to null, one past the tail, then the node containing the
         // element
         // was not found.
-        Node<T> currentNode = head;
+        SingleNode<T> currentNode = head;
         int currentIndex = 0;
 
         // While loop since we do not know the exact size.
@@ -464,6 +504,130 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
         return size;
     }
 
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        // Build the new nodes as their own chain first, so the list only has
+        // to be walked and relinked once
+        SingleNode<T> chainHead = null;
+        SingleNode<T> chainTail = null;
+        int count = 0;
+        for (T element : elements) {
+            SingleNode<T> newNode = new SingleNode<T>(element);
+            if (chainHead == null) {
+                chainHead = newNode;
+            } else {
+                chainTail.setNextNode(newNode);
+            }
+            chainTail = newNode;
+            count++;
+        }
+        if (count == 0) {
+            return false;
+        }
+
+        // Splice the chain in after the node at index - 1
+        if (index == 0) {
+            chainTail.setNextNode(head);
+            head = chainHead;
+        } else {
+            SingleNode<T> previousNode = nodeAt(index - 1);
+            chainTail.setNextNode(previousNode.getNextNode());
+            previousNode.setNextNode(chainHead);
+        }
+
+        if (chainTail.getNextNode() == null) {
+            tail = chainTail;
+        }
+        size += count;
+        versionNumber++;
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        int removed = 0;
+        // Last node that was kept, matching nodes are unlinked from it
+        SingleNode<T> previousNode = null;
+        SingleNode<T> currentNode = head;
+        try {
+            while (currentNode != null) {
+                SingleNode<T> nextNode = currentNode.getNextNode();
+                if (filter.test(currentNode.getElement())) {
+                    if (previousNode == null) {
+                        head = nextNode;
+                    } else {
+                        previousNode.setNextNode(nextNode);
+                    }
+                    removed++;
+                } else {
+                    previousNode = currentNode;
+                }
+                currentNode = nextNode;
+            }
+            // The last kept node is the new tail
+            tail = previousNode;
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // Nodes unlinked before a throwing filter stay removed
+            if (removed > 0) {
+                size -= removed;
+                versionNumber++;
+            }
+        }
+        return removed > 0;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        // Find the node before the range, then the first node after it
+        SingleNode<T> previousNode = null;
+        SingleNode<T> currentNode = head;
+        for (int i = 0; i < fromIndex; i++) {
+            previousNode = currentNode;
+            currentNode = currentNode.getNextNode();
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            currentNode = currentNode.getNextNode();
+        }
+
+        // One relink drops the whole range
+        if (previousNode == null) {
+            head = currentNode;
+        } else {
+            previousNode.setNextNode(currentNode);
+        }
+        if (currentNode == null) {
+            tail = previousNode;
+        }
+        size -= toIndex - fromIndex;
+        versionNumber++;
+    }
+
+    @Override
+    public void clear() {
+        // The garbage collector reclaims the whole chain
+        head = tail = null;
+        size = 0;
+        versionNumber++;
+    }
+
     @Override
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder();
@@ -489,6 +653,32 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
         // lists)
     }
 
+    /**
+     * Runs the action on every element in order by following the node chain
+     * directly, with no iterator object. The version is checked once after
+     * the loop.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        for (SingleNode<T> currentNode = head; currentNode != null; currentNode = currentNode.getNextNode()) {
+            action.accept(currentNode.getElement());
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SLLSpliterator();
+    }
+
     @Override
     public ListIterator<T> listIterator() {
         // TODO Auto-generated method stub
@@ -508,7 +698,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
      * a shadow generic.
      */
     private class SLLIterator implements Iterator<T> {
-        private Node<T> iterNextNode;
+        private SingleNode<T> iterNextNode;
         private boolean canRemove;
         private int iterVersionNumber;
 
@@ -545,6 +735,27 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
             return returnValue;
         }
 
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            if (iterNextNode != null) {
+                // Walk the rest of the chain, one check at the end
+                while (iterNextNode != null) {
+                    action.accept(iterNextNode.getElement());
+                    iterNextNode = iterNextNode.getNextNode();
+                }
+                canRemove = true;
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
         @Override
         public void remove() {
             if (iterVersionNumber != versionNumber) {
@@ -556,7 +767,7 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
             }
             canRemove = false;
             // Declare outside to refractor and avoid code duplication for the if checks.
-            Node<T> prevPrevNode = null;
+            SingleNode<T> prevPrevNode = null;
 
             // Scenario where we remove at the head in a normal sized list
             // Simply point to the next node and let the java garbage collector remove the
@@ -596,4 +807,118 @@ public class IUSingleLinkedList<T> implements IndexedUnsortedList<T> {
         }
 
     } // End of Iterator class
+
+    /**
+     * Spliterator for IUSingleLinkedList. A linked list cannot be split in the middle
+     * without walking to it, so each trySplit() copies the next batch of
+     * elements into an array and hands that off instead. Batches grow by
+     * BATCH_UNIT each split so large lists produce enough parallel work.
+     * Late-binding and fail-fast on versionNumber.
+     */
+    private class SLLSpliterator implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+        private SingleNode<T> current;
+        // Elements left to traverse, -1 until bound to the list
+        private int remaining;
+        private int batchSize;
+        private int expectedVersion;
+
+        /**
+         * Spliterator over the whole list, bound on first use
+         */
+        public SLLSpliterator() {
+            remaining = -1;
+            batchSize = 0;
+        }
+
+        /**
+         * Bind to the list on first use and return the number of elements left.
+         * 
+         * @return the number of elements left to traverse
+         */
+        private int getRemaining() {
+            if (remaining < 0) {
+                current = head;
+                remaining = size;
+                expectedVersion = versionNumber;
+            }
+            return remaining;
+        }
+
+        /**
+         * Throw if the list changed since this spliterator was bound.
+         */
+        private void checkVersion() {
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int left = getRemaining();
+            checkVersion();
+            if (left <= 1 || current == null) {
+                return null;
+            }
+            int batch = Math.min(Math.min(batchSize + BATCH_UNIT, left), MAX_BATCH);
+            Object[] elements = new Object[batch];
+            for (int i = 0; i < batch; i++) {
+                elements[i] = current.getElement();
+                current = current.getNextNode();
+            }
+            batchSize = batch;
+            remaining -= batch;
+            return Spliterators.spliterator(elements, 0, batch, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (getRemaining() > 0 && current != null) {
+                // Nodes may have been freed or reused since binding, so check
+                // before reading
+                checkVersion();
+                T element = current.getElement();
+                current = current.getNextNode();
+                remaining--;
+                action.accept(element);
+                checkVersion();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            int left = getRemaining();
+            // Check before starting and after each step, so no element of a
+            // changed list reaches the action
+            checkVersion();
+            SingleNode<T> node = current;
+            for (int i = 0; i < left && node != null; i++) {
+                action.accept(node.getElement());
+                checkVersion();
+                node = node.getNextNode();
+            }
+            current = null;
+            remaining = 0;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 } // End of IUSingleLinkedList class
\ No newline at end of file
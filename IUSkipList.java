@@ -0,0 +1,732 @@
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Indexable skip list implementation of the indexed unsorted list.
+ * Every node is on level 0, which links the elements in order like a single
+ * linked list. Each node is also on the levels above with probability 1/4
+ * per level, and those levels skip over runs of nodes. Every link stores its
+ * width, the number of level 0 steps it skips, so a search for an index can
+ * drop down the levels adding up widths, and get, set, add(int) and
+ * remove(int) take O(log n) expected steps. The ListIterator moves with
+ * those same positional calls, so each step is O(log n) as well.
+ *
+ * The head is a sentinel at position -1 with a link on every level. Widths
+ * are only kept for links that point at a node; a link to the end of the
+ * list has no width. The last node on each level is remembered too, so
+ * addToRear links straight onto the end without a search, and addToFront
+ * starts at the head. Neither searches; both only pass over the levels,
+ * and there are never more than MAX_LEVEL of them.
+ *
+ * @param <T> - type of elements held in this collection
+ */
+public class IUSkipList<T> implements IndexedUnsortedList<T> {
+    public static final int MAX_LEVEL = 16;
+    private final SkipNode<T> head;
+    // Number of levels in use, at least 1
+    private int levels;
+    private int size;
+    private int versionNumber;
+    // Last node on each level and its position, head and -1 when a level
+    // is empty
+    private final SkipNode<T>[] tailNodes;
+    private final int[] tailPositions;
+    // Filled by findPredecessors: on each level, the last node before the
+    // index searched for and its position
+    private final SkipNode<T>[] update;
+    private final int[] updatePositions;
+
+    /**
+     * Initialize a new empty list
+     */
+    @SuppressWarnings("unchecked")
+    public IUSkipList() {
+        head = new SkipNode<T>(null, MAX_LEVEL);
+        levels = 1;
+        size = 0;
+        versionNumber = 0;
+        tailNodes = (SkipNode<T>[]) new SkipNode<?>[MAX_LEVEL];
+        tailPositions = new int[MAX_LEVEL];
+        update = (SkipNode<T>[]) new SkipNode<?>[MAX_LEVEL];
+        updatePositions = new int[MAX_LEVEL];
+        resetLevels();
+    }
+
+    /**
+     * Unlink everything from the head and point every level's tail at it.
+     */
+    private void resetLevels() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            tailNodes[i] = head;
+            tailPositions[i] = -1;
+        }
+        levels = 1;
+    }
+
+    /**
+     * Pick the number of levels for a new node: each extra level with
+     * probability 1/4, and at most one more than the list has now.
+     *
+     * @return a level count from 1 to MAX_LEVEL
+     */
+    private int randomLevel() {
+        // Every two trailing zero bits is one more level
+        int level = 1 + Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt()) / 2;
+        return Math.min(level, Math.min(levels + 1, MAX_LEVEL));
+    }
+
+    /**
+     * Fill update and updatePositions with the last node before index on
+     * every level in use. Appending uses the tails, no search needed.
+     *
+     * @param index list index, 0 <= index <= size
+     */
+    private void findPredecessors(int index) {
+        if (index == size) {
+            System.arraycopy(tailNodes, 0, update, 0, levels);
+            System.arraycopy(tailPositions, 0, updatePositions, 0, levels);
+            return;
+        }
+        SkipNode<T> node = head;
+        int position = -1;
+        for (int i = levels - 1; i >= 0; i--) {
+            // Move right while the next node is still before index
+            while (node.next[i] != null && position + node.width[i] < index) {
+                position += node.width[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+            updatePositions[i] = position;
+        }
+    }
+
+    /**
+     * Find the node at index.
+     *
+     * @param index index of the node, 0 <= index < size
+     * @return the node at index
+     */
+    private SkipNode<T> nodeAt(int index) {
+        if (index == size - 1) {
+            return tailNodes[0];
+        }
+        findPredecessors(index);
+        return update[0].next[0];
+    }
+
+    /**
+     * Link a new node in at index. Does not change versionNumber.
+     *
+     * @param index   list index to insert at, 0 <= index <= size
+     * @param element the element to insert
+     */
+    private void linkAt(int index, T element) {
+        findPredecessors(index);
+        int level = randomLevel();
+        if (level > levels) {
+            // The new level starts out empty, linked from the head
+            update[levels] = head;
+            updatePositions[levels] = -1;
+            levels = level;
+        }
+
+        SkipNode<T> node = new SkipNode<T>(element, level);
+        for (int i = 0; i < level; i++) {
+            SkipNode<T> previous = update[i];
+            int previousPosition = updatePositions[i];
+            node.next[i] = previous.next[i];
+            if (node.next[i] != null) {
+                // The old link is split in two around the new node
+                node.width[i] = previous.width[i] - (index - previousPosition) + 1;
+            }
+            previous.next[i] = node;
+            previous.width[i] = index - previousPosition;
+        }
+        // Links over the new node on the higher levels skip one more step
+        for (int i = level; i < levels; i++) {
+            if (update[i].next[i] != null) {
+                update[i].width[i]++;
+            }
+        }
+
+        for (int i = 0; i < levels; i++) {
+            if (i < level && node.next[i] == null) {
+                tailNodes[i] = node;
+                tailPositions[i] = index;
+            } else if (tailPositions[i] >= index) {
+                tailPositions[i]++;
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Unlink the nodes in [fromIndex, toIndex). findPredecessors(fromIndex)
+     * must have just been called. Each level only walks the nodes of the
+     * range that are on it. Does not change versionNumber.
+     *
+     * @param fromIndex index of the first node to unlink
+     * @param toIndex   index after the last node to unlink
+     */
+    private void unlink(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        for (int i = 0; i < levels; i++) {
+            SkipNode<T> previous = update[i];
+            SkipNode<T> next = previous.next[i];
+            int nextPosition = updatePositions[i] + previous.width[i];
+            while (next != null && nextPosition < toIndex) {
+                nextPosition += next.width[i];
+                next = next.next[i];
+            }
+            previous.next[i] = next;
+            if (next != null) {
+                previous.width[i] = nextPosition - updatePositions[i] - count;
+            }
+
+            if (tailPositions[i] >= toIndex) {
+                tailPositions[i] -= count;
+            } else if (tailPositions[i] >= fromIndex) {
+                // The old tail was in the range
+                tailNodes[i] = previous;
+                tailPositions[i] = updatePositions[i];
+            }
+        }
+
+        // Drop levels that are now empty
+        while (levels > 1 && head.next[levels - 1] == null) {
+            levels--;
+        }
+        size -= count;
+    }
+
+    /**
+     * Link a node that is not in the list onto the end of every level it
+     * has, keeping its element and level. Used to rebuild the list in one
+     * pass. Does not change versionNumber.
+     *
+     * @param node the node to append
+     */
+    private void appendNode(SkipNode<T> node) {
+        int level = node.next.length;
+        for (int i = 0; i < level; i++) {
+            SkipNode<T> previous = tailNodes[i];
+            previous.next[i] = node;
+            previous.width[i] = size - tailPositions[i];
+            node.next[i] = null;
+            tailNodes[i] = node;
+            tailPositions[i] = size;
+        }
+        levels = Math.max(levels, level);
+        size++;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        linkAt(0, element);
+        versionNumber++;
+    }
+
+    @Override
+    public void addToRear(T element) {
+        linkAt(size, element);
+        versionNumber++;
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetIndex = indexOf(target);
+
+        // Necessary to check since indexOf does not throw an exception.
+        if (targetIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        linkAt(targetIndex + 1, element);
+        versionNumber++;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        linkAt(index, element);
+        versionNumber++;
+    }
+
+    /**
+     * Unlink the node at index and return its element.
+     *
+     * @param index index to remove, 0 <= index < size
+     * @return the removed element
+     */
+    private T removeAt(int index) {
+        findPredecessors(index);
+        T returnValue = update[0].next[0].element;
+        unlink(index, index + 1);
+        versionNumber++;
+        return returnValue;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(size - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = indexOf(element);
+
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        nodeAt(index).element = element;
+        versionNumber++;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return nodeAt(index).element;
+    }
+
+    @Override
+    public int indexOf(T element) {
+        int currentIndex = 0;
+        for (SkipNode<T> node = head.next[0]; node != null; node = node.next[0]) {
+            if (element.equals(node.element)) {
+                return currentIndex;
+            }
+            currentIndex++;
+        }
+        return -1;
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return head.next[0].element;
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return tailNodes[0].element;
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        // Snapshot the collection once so its size cannot change part way
+        Object[] newElements = elements.toArray();
+        if (newElements.length == 0) {
+            return false;
+        }
+        // At the rear each link is found from the tails, elsewhere each is
+        // one O(log n) search
+        for (int i = 0; i < newElements.length; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) newElements[i];
+            linkAt(index + i, element);
+        }
+        versionNumber++;
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        // Take the nodes off the list and append back the ones that are
+        // kept. Each keeps its level, so the list is rebuilt in one pass
+        // without any search.
+        SkipNode<T> node = head.next[0];
+        resetLevels();
+        size = 0;
+        int removed = 0;
+        try {
+            while (node != null) {
+                SkipNode<T> next = node.next[0];
+                if (filter.test(node.element)) {
+                    removed++;
+                } else {
+                    appendNode(node);
+                }
+                node = next;
+            }
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // If the filter threw, keep the nodes it never got to
+            while (node != null) {
+                SkipNode<T> next = node.next[0];
+                appendNode(node);
+                node = next;
+            }
+            if (removed > 0) {
+                versionNumber++;
+            }
+        }
+        return removed > 0;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        findPredecessors(fromIndex);
+        unlink(fromIndex, toIndex);
+        versionNumber++;
+    }
+
+    @Override
+    public void clear() {
+        resetLevels();
+        size = 0;
+        versionNumber++;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (T element : this) {
+            stringBuilder.append(element.toString());
+            stringBuilder.append(", ");
+        }
+
+        if (size > 0) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SkipIterator();
+    }
+
+    /**
+     * Runs the action on every element in order along level 0. The version
+     * is checked once at the end.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        for (SkipNode<T> node = head.next[0]; node != null; node = node.next[0]) {
+            action.accept(node.element);
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SkipSpliterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return new IndexedListIterator<T>(this, startingIndex, () -> versionNumber);
+    }
+
+    /**
+     * Node of the skip list. next[i] is the following node on level i and
+     * width[i] is how many positions that link skips. The arrays are as long
+     * as the node's level.
+     */
+    private static class SkipNode<T> {
+        private T element;
+        private final SkipNode<T>[] next;
+        private final int[] width;
+
+        /**
+         * Initialize an unlinked node
+         *
+         * @param element the element held
+         * @param level   number of levels the node is on
+         */
+        @SuppressWarnings("unchecked")
+        public SkipNode(T element, int level) {
+            this.element = element;
+            next = (SkipNode<T>[]) new SkipNode<?>[level];
+            width = new int[level];
+        }
+    }
+
+    /**
+     * Skip List Iterator (SkipIterator)
+     * Walks level 0 like a single linked list iterator. remove() searches
+     * for the node's predecessors again, O(log n) expected.
+     */
+    private class SkipIterator implements Iterator<T> {
+        private SkipNode<T> nextNode;
+        private int nextIndex;
+        private boolean canRemove;
+        private int iterVersionNumber;
+
+        /**
+         * Initialize the iterator before the first element
+         */
+        public SkipIterator() {
+            nextNode = head.next[0];
+            nextIndex = 0;
+            canRemove = false;
+            iterVersionNumber = versionNumber;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            return nextNode != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T returnValue = nextNode.element;
+            nextNode = nextNode.next[0];
+            nextIndex++;
+            canRemove = true;
+            return returnValue;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            SkipNode<T> node = nextNode;
+            while (node != null) {
+                action.accept(node.element);
+                node = node.next[0];
+                nextIndex++;
+                canRemove = true;
+            }
+            nextNode = null;
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public void remove() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            // nextNode is not touched, it just moves down one position
+            nextIndex--;
+            removeAt(nextIndex);
+            canRemove = false;
+            iterVersionNumber++;
+        }
+    } // End of SkipIterator class
+
+    /**
+     * Spliterator for IUSkipList. Like the linked list spliterators, each
+     * trySplit() copies the next batch of elements along level 0 into an
+     * array and hands that off. Batches grow by BATCH_UNIT each split.
+     * Late-binding and fail-fast on versionNumber.
+     */
+    private class SkipSpliterator implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+        private SkipNode<T> current;
+        // Elements left to traverse, -1 until bound to the list
+        private int remaining;
+        private int batchSize;
+        private int expectedVersion;
+
+        /**
+         * Spliterator over the whole list, bound on first use
+         */
+        public SkipSpliterator() {
+            remaining = -1;
+            batchSize = 0;
+        }
+
+        /**
+         * Bind to the list on first use and return the number of elements left.
+         *
+         * @return the number of elements left to traverse
+         */
+        private int getRemaining() {
+            if (remaining < 0) {
+                current = head.next[0];
+                remaining = size;
+                expectedVersion = versionNumber;
+            }
+            return remaining;
+        }
+
+        /**
+         * Throw if the list changed since this spliterator was bound.
+         */
+        private void checkVersion() {
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int left = getRemaining();
+            checkVersion();
+            if (left <= 1 || current == null) {
+                return null;
+            }
+            int batch = Math.min(Math.min(batchSize + BATCH_UNIT, left), MAX_BATCH);
+            Object[] elements = new Object[batch];
+            for (int i = 0; i < batch; i++) {
+                elements[i] = current.element;
+                current = current.next[0];
+            }
+            batchSize = batch;
+            remaining -= batch;
+            return Spliterators.spliterator(elements, 0, batch, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (getRemaining() > 0 && current != null) {
+                // Nodes may have been freed or reused since binding, so check
+                // before reading
+                checkVersion();
+                T element = current.element;
+                current = current.next[0];
+                remaining--;
+                action.accept(element);
+                checkVersion();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            int left = getRemaining();
+            // Check before starting and after each step, so no element of a
+            // changed list reaches the action
+            checkVersion();
+            SkipNode<T> node = current;
+            for (int i = 0; i < left && node != null; i++) {
+                action.accept(node.element);
+                checkVersion();
+                node = node.next[0];
+            }
+            current = null;
+            remaining = 0;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+} // End of IUSkipList class
@@ -0,0 +1,799 @@
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Balanced tree implementation of the indexed unsorted list, an implicit
+ * treap. The elements are stored in order in a binary tree: everything in
+ * a node's left subtree comes before it and everything in its right
+ * subtree after it. Each node keeps the size of its subtree, so the node at
+ * any index is found by comparing the index with left subtree sizes on the
+ * way down. No keys are stored, positions are implied by the shape.
+ *
+ * Each node also gets a random priority, and a parent always has a higher
+ * priority than its children. That keeps the tree balanced with high
+ * probability no matter the order of edits, so get, set, add(int) and
+ * remove(int) take O(log n) expected steps. Every change is made with two
+ * primitives, split (cut the tree in two at an index) and merge (join two
+ * trees end to end), both O(log n), and both offered as split(int) and
+ * concat for whole lists. The ListIterator moves with the positional
+ * calls, so each of its steps is O(log n) as well.
+ *
+ * @param <T> - type of elements held in this collection
+ */
+public class IUTreeList<T> implements IndexedUnsortedList<T> {
+    private TreeNode<T> root;
+    private int versionNumber;
+    // Results of the last split, left holds the first count elements
+    private TreeNode<T> splitLeft;
+    private TreeNode<T> splitRight;
+
+    /**
+     * Initialize a new empty list
+     */
+    public IUTreeList() {
+        root = null;
+        versionNumber = 0;
+    }
+
+    /**
+     * Remove the elements from index onwards and return them, in order, as
+     * a new list. This list keeps the elements before index. O(log n)
+     * expected, no element is copied.
+     *
+     * @param index index of the first element to move to the new list
+     * @return a new list holding the elements from index onwards
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public IUTreeList<T> split(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        split(root, index);
+        IUTreeList<T> rest = new IUTreeList<T>();
+        rest.root = splitRight;
+        root = splitLeft;
+        splitLeft = splitRight = null;
+        versionNumber++;
+        return rest;
+    }
+
+    /**
+     * Move every element of the other list onto the end of this one, in
+     * order, leaving the other list empty. O(log n) expected, no element is
+     * copied.
+     *
+     * @param other the list to append
+     * @throws IllegalArgumentException if other is this list
+     */
+    public void concat(IUTreeList<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("cannot concat a list to itself");
+        }
+        if (other.root == null) {
+            return;
+        }
+        root = merge(root, other.root);
+        other.root = null;
+        other.versionNumber++;
+        versionNumber++;
+    }
+
+    /**
+     * Returns the number of nodes in a subtree
+     *
+     * @param node subtree root, may be null
+     * @return the subtree size
+     */
+    private static int size(TreeNode<?> node) {
+        return (node == null) ? 0 : node.size;
+    }
+
+    /**
+     * Recompute a node's subtree size from its children
+     *
+     * @param node the node to update
+     */
+    private static void update(TreeNode<?> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    /**
+     * Cut a subtree in two: splitLeft gets its first count elements and
+     * splitRight the rest. Both are valid treaps.
+     *
+     * @param node  subtree root, may be null
+     * @param count elements that go left, 0 <= count <= size(node)
+     */
+    private void split(TreeNode<T> node, int count) {
+        if (node == null) {
+            splitLeft = splitRight = null;
+            return;
+        }
+        if (count <= size(node.left)) {
+            // The cut is in the left subtree, node and its right side go right
+            split(node.left, count);
+            node.left = splitRight;
+            update(node);
+            splitRight = node;
+        } else {
+            // The cut is in the right subtree, node and its left side go left
+            split(node.right, count - size(node.left) - 1);
+            node.right = splitLeft;
+            update(node);
+            splitLeft = node;
+        }
+    }
+
+    /**
+     * Join two subtrees, every element of left coming before every element
+     * of right. The higher priority root stays on top.
+     *
+     * @param left  first subtree, may be null
+     * @param right second subtree, may be null
+     * @return the root of the joined tree
+     */
+    private TreeNode<T> merge(TreeNode<T> left, TreeNode<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            update(right);
+            return right;
+        }
+    }
+
+    /**
+     * Build a treap from nodes already in list order in O(count), by
+     * keeping the right spine of the tree built so far on a stack. Each
+     * node's children are replaced, its priority is kept.
+     *
+     * @param nodes the nodes in order
+     * @param count number of nodes to use from the start of the array
+     * @return the root of the new tree
+     */
+    private TreeNode<T> build(TreeNode<T>[] nodes, int count) {
+        @SuppressWarnings("unchecked")
+        TreeNode<T>[] spine = (TreeNode<T>[]) new TreeNode<?>[count];
+        int top = 0;
+        for (int i = 0; i < count; i++) {
+            TreeNode<T> node = nodes[i];
+            node.right = null;
+            // Lower priority nodes on the spine become node's left subtree
+            TreeNode<T> last = null;
+            while (top > 0 && spine[top - 1].priority < node.priority) {
+                last = spine[--top];
+                update(last);
+            }
+            node.left = last;
+            if (top > 0) {
+                spine[top - 1].right = node;
+            }
+            spine[top++] = node;
+        }
+        while (top > 1) {
+            update(spine[--top]);
+        }
+        if (top == 0) {
+            return null;
+        }
+        update(spine[0]);
+        return spine[0];
+    }
+
+    /**
+     * Find the node at index by comparing with left subtree sizes.
+     *
+     * @param index index of the node, 0 <= index < size
+     * @return the node at index
+     */
+    private TreeNode<T> nodeAt(int index) {
+        TreeNode<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Fill a stack with the nodes to visit from index on: the node at index
+     * on top, then the later ancestors it is in the left subtree of.
+     *
+     * @param path  stack to fill, emptied first
+     * @param index index of the first node to visit, 0 <= index <= size
+     */
+    private void seek(ArrayDeque<TreeNode<T>> path, int index) {
+        path.clear();
+        TreeNode<T> node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                path.push(node);
+                node = node.left;
+            } else if (index == leftSize) {
+                path.push(node);
+                return;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Pop the next node of an in order walk and push the leftmost path of
+     * its right subtree.
+     *
+     * @param path stack filled by seek
+     * @return the next node
+     */
+    private static <T> TreeNode<T> advance(ArrayDeque<TreeNode<T>> path) {
+        TreeNode<T> node = path.pop();
+        for (TreeNode<T> child = node.right; child != null; child = child.left) {
+            path.push(child);
+        }
+        return node;
+    }
+
+    /**
+     * Insert an element at index with a split and two merges. Does not
+     * change versionNumber.
+     *
+     * @param index   list index to insert at, 0 <= index <= size
+     * @param element the element to insert
+     */
+    private void insertAt(int index, T element) {
+        split(root, index);
+        TreeNode<T> right = splitRight;
+        root = merge(merge(splitLeft, new TreeNode<T>(element)), right);
+        splitLeft = splitRight = null;
+    }
+
+    /**
+     * Remove the element at index.
+     *
+     * @param index list index to remove, 0 <= index < size
+     * @return the removed element
+     */
+    private T removeAt(int index) {
+        TreeNode<T> node = nodeAt(index);
+        // Cut out [index, index + 1) and join the two sides
+        split(root, index);
+        TreeNode<T> left = splitLeft;
+        split(splitRight, 1);
+        root = merge(left, splitRight);
+        splitLeft = splitRight = null;
+        versionNumber++;
+        return node.element;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        insertAt(0, element);
+        versionNumber++;
+    }
+
+    @Override
+    public void addToRear(T element) {
+        insertAt(size(), element);
+        versionNumber++;
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetIndex = indexOf(target);
+
+        // Necessary to check since indexOf does not throw an exception.
+        if (targetIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        insertAt(targetIndex + 1, element);
+        versionNumber++;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        insertAt(index, element);
+        versionNumber++;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(size() - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = indexOf(element);
+
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        nodeAt(index).element = element;
+        versionNumber++;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return nodeAt(index).element;
+    }
+
+    @Override
+    public int indexOf(T element) {
+        ArrayDeque<TreeNode<T>> path = new ArrayDeque<TreeNode<T>>();
+        seek(path, 0);
+        int currentIndex = 0;
+        while (!path.isEmpty()) {
+            if (element.equals(advance(path).element)) {
+                return currentIndex;
+            }
+            currentIndex++;
+        }
+        return -1;
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return nodeAt(0).element;
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return nodeAt(size() - 1).element;
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        // Snapshot the collection once so its size cannot change part way
+        Object[] newElements = elements.toArray();
+        int count = newElements.length;
+        if (count == 0) {
+            return false;
+        }
+
+        // Build the new elements into their own treap in O(count), then
+        // one split and two merges put it in place
+        @SuppressWarnings("unchecked")
+        TreeNode<T>[] nodes = (TreeNode<T>[]) new TreeNode<?>[count];
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) newElements[i];
+            nodes[i] = new TreeNode<T>(element);
+        }
+        TreeNode<T> middle = build(nodes, count);
+        split(root, index);
+        TreeNode<T> right = splitRight;
+        root = merge(merge(splitLeft, middle), right);
+        splitLeft = splitRight = null;
+        versionNumber++;
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        // Collect the kept nodes in order and rebuild the tree from them.
+        // Each keeps its priority, so the result is still a valid treap.
+        @SuppressWarnings("unchecked")
+        TreeNode<T>[] kept = (TreeNode<T>[]) new TreeNode<?>[size()];
+        int keptCount = 0;
+        ArrayDeque<TreeNode<T>> path = new ArrayDeque<TreeNode<T>>();
+        seek(path, 0);
+        try {
+            while (!path.isEmpty()) {
+                TreeNode<T> node = path.peek();
+                if (!filter.test(node.element)) {
+                    kept[keptCount++] = node;
+                }
+                advance(path);
+            }
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // If the filter threw, keep the nodes it never got to
+            while (!path.isEmpty()) {
+                kept[keptCount++] = advance(path);
+            }
+            if (keptCount < kept.length) {
+                root = build(kept, keptCount);
+                versionNumber++;
+            }
+        }
+        return keptCount < kept.length;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        // Cut out the middle and join the two sides, O(log n)
+        split(root, fromIndex);
+        TreeNode<T> left = splitLeft;
+        split(splitRight, toIndex - fromIndex);
+        root = merge(left, splitRight);
+        splitLeft = splitRight = null;
+        versionNumber++;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        versionNumber++;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (T element : this) {
+            stringBuilder.append(element.toString());
+            stringBuilder.append(", ");
+        }
+
+        if (!isEmpty()) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeIterator();
+    }
+
+    /**
+     * Runs the action on every element with one in order walk. The version
+     * is checked once at the end.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        ArrayDeque<TreeNode<T>> path = new ArrayDeque<TreeNode<T>>();
+        seek(path, 0);
+        while (!path.isEmpty()) {
+            action.accept(advance(path).element);
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator(0, -1, 0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return new IndexedListIterator<T>(this, startingIndex, () -> versionNumber);
+    }
+
+    /**
+     * Node of the treap, with the size of the subtree it roots.
+     */
+    private static class TreeNode<T> {
+        private T element;
+        private TreeNode<T> left;
+        private TreeNode<T> right;
+        private final int priority;
+        private int size;
+
+        /**
+         * Initialize a leaf with a random priority
+         *
+         * @param element the element held
+         */
+        public TreeNode(T element) {
+            this.element = element;
+            this.priority = ThreadLocalRandom.current().nextInt();
+            this.size = 1;
+        }
+    }
+
+    /**
+     * Tree List Iterator (TreeIterator)
+     * An in order walk with an explicit stack of O(log n) nodes. remove()
+     * goes through the list, and the stack is rebuilt at the same index.
+     */
+    private class TreeIterator implements Iterator<T> {
+        private final ArrayDeque<TreeNode<T>> path;
+        private int nextIndex;
+        private boolean canRemove;
+        private int iterVersionNumber;
+
+        /**
+         * Initialize the iterator before the first element
+         */
+        public TreeIterator() {
+            path = new ArrayDeque<TreeNode<T>>();
+            seek(path, 0);
+            nextIndex = 0;
+            canRemove = false;
+            iterVersionNumber = versionNumber;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            nextIndex++;
+            canRemove = true;
+            return advance(path).element;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            while (!path.isEmpty()) {
+                action.accept(advance(path).element);
+                nextIndex++;
+                canRemove = true;
+            }
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public void remove() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            nextIndex--;
+            removeAt(nextIndex);
+            // The tree was reshaped, find the cursor again
+            seek(path, nextIndex);
+            canRemove = false;
+            iterVersionNumber++;
+        }
+    } // End of TreeIterator class
+
+    /**
+     * Spliterator for IUTreeList. Splits the remaining index range in half,
+     * like IndexedSpliterator, but traverses with an in order walk seeded
+     * at the first index instead of one lookup per element. Late-binding
+     * and fail-fast on versionNumber.
+     */
+    private class TreeSpliterator implements Spliterator<T> {
+        // Next index to hand out
+        private int index;
+        // One past the last index, -1 until bound to the list
+        private int fence;
+        private int expectedVersion;
+        // Walk positioned at index, created on first traversal
+        private ArrayDeque<TreeNode<T>> path;
+
+        /**
+         * Create a spliterator over the index range [origin, fence).
+         *
+         * @param origin          first index
+         * @param fence           one past the last index, -1 to bind later
+         * @param expectedVersion version number the range was bound at
+         */
+        public TreeSpliterator(int origin, int fence, int expectedVersion) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedVersion = expectedVersion;
+        }
+
+        /**
+         * Bind to the list on first use and return the fence.
+         *
+         * @return one past the last index
+         */
+        private int getFence() {
+            if (fence < 0) {
+                fence = size();
+                expectedVersion = versionNumber;
+            }
+            return fence;
+        }
+
+        /**
+         * Throw if the tree changed since this spliterator was bound.
+         */
+        private void checkVersion() {
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Return the walk, seeking to index the first time.
+         *
+         * @return the walk positioned at index
+         */
+        private ArrayDeque<TreeNode<T>> getPath() {
+            if (path == null) {
+                path = new ArrayDeque<TreeNode<T>>();
+                seek(path, index);
+            }
+            return path;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int mid = (index + hi) >>> 1;
+            if (index >= mid) {
+                return null;
+            }
+            // Hand off the prefix [index, mid), with the walk if there is
+            // one, and keep [mid, hi)
+            TreeSpliterator prefix = new TreeSpliterator(index, mid, expectedVersion);
+            prefix.path = path;
+            path = null;
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (index < getFence()) {
+                // A walk into a tree that changed since binding can run off
+                // its end, so check before the step
+                checkVersion();
+                T element = advance(getPath()).element;
+                index++;
+                action.accept(element);
+                checkVersion();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            int hi = getFence();
+            // A walk into a tree that changed since binding can run off its
+            // end, so check before starting and after each step
+            checkVersion();
+            if (index < hi) {
+                ArrayDeque<TreeNode<T>> walk = getPath();
+                for (; index < hi; index++) {
+                    action.accept(advance(walk).element);
+                    checkVersion();
+                }
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+} // End of IUTreeList class
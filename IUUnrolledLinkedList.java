@@ -0,0 +1,1019 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Unrolled linked list implementation of the indexed unsorted list.
+ * Instead of one element per node, each node (a chunk) holds a small array
+ * of up to nodeCapacity elements, so the pointers and object headers are
+ * shared by a whole run of elements and a traversal reads mostly
+ * contiguous memory.
+ *
+ * A chunk that is full when an element is added splits in two halves. A
+ * chunk that drops below half full when an element is removed merges with
+ * a neighbor if the two fit in three quarters of a chunk, which leaves room
+ * for a few adds before the merged chunk has to split again.
+ *
+ * Positional access walks whole chunks, from the nearer end or from the
+ * chunk of the last positional access (the finger), then indexes into the
+ * chunk's array.
+ *
+ * @param <T> - type of elements held in this collection
+ */
+public class IUUnrolledLinkedList<T> implements IndexedUnsortedList<T> {
+    public static final int DEFAULT_NODE_CAPACITY = 64;
+    public static final int MIN_NODE_CAPACITY = 16;
+    public static final int MAX_NODE_CAPACITY = 128;
+    private final int nodeCapacity;
+    // Two neighbors merge when they hold at most this many elements together
+    private final int mergeLimit;
+    private Chunk<T> head;
+    private Chunk<T> tail;
+    private int size;
+    private int versionNumber;
+    // Chunk of the last positional access and the index of its first
+    // element, trusted while fingerVersion matches versionNumber
+    private Chunk<T> fingerChunk;
+    private int fingerStart;
+    private int fingerVersion;
+
+    /**
+     * Initialize a new empty list with chunks of DEFAULT_NODE_CAPACITY
+     * elements.
+     */
+    public IUUnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Initialize a new empty list with the given chunk size. Bigger chunks
+     * use less memory per element and traverse faster, smaller chunks make
+     * adds and removes in the middle of a chunk shift fewer elements.
+     *
+     * @param nodeCapacity elements per chunk, from MIN_NODE_CAPACITY to
+     *                     MAX_NODE_CAPACITY
+     */
+    public IUUnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY || nodeCapacity > MAX_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Illegal node capacity: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+        this.mergeLimit = nodeCapacity - nodeCapacity / 4;
+        head = null;
+        tail = null;
+        size = 0;
+        versionNumber = 0;
+    }
+
+    /**
+     * Find the chunk holding the element at index, starting from whichever
+     * of the head, the tail and a still valid finger is closest. The finger
+     * is left on the chunk found, so its first index can be read from
+     * fingerStart.
+     *
+     * @param index index of an element, 0 <= index < size
+     * @return the chunk holding index
+     */
+    private Chunk<T> chunkAt(int index) {
+        Chunk<T> chunk = head;
+        int start = 0;
+        if (index >= size / 2) {
+            chunk = tail;
+            start = size - tail.count;
+        }
+        if (fingerVersion == versionNumber && fingerChunk != null
+                && Math.abs(index - fingerStart) < Math.abs(index - start)) {
+            chunk = fingerChunk;
+            start = fingerStart;
+        }
+
+        while (index < start) {
+            chunk = chunk.previous;
+            start -= chunk.count;
+        }
+        while (index >= start + chunk.count) {
+            start += chunk.count;
+            chunk = chunk.next;
+        }
+        moveFinger(chunk, start);
+        return chunk;
+    }
+
+    /**
+     * Point the finger at a chunk until the next change to the list.
+     *
+     * @param chunk chunk to remember
+     * @param start index of the chunk's first element
+     */
+    private void moveFinger(Chunk<T> chunk, int start) {
+        fingerChunk = chunk;
+        fingerStart = start;
+        fingerVersion = versionNumber;
+    }
+
+    /**
+     * Link a new empty chunk after the given chunk.
+     *
+     * @param previous chunk to link after, null to link before the head
+     * @return the new chunk
+     */
+    private Chunk<T> newChunkAfter(Chunk<T> previous) {
+        Chunk<T> chunk = new Chunk<T>(nodeCapacity);
+        Chunk<T> next = (previous == null) ? head : previous.next;
+        chunk.previous = previous;
+        chunk.next = next;
+        if (previous == null) {
+            head = chunk;
+        } else {
+            previous.next = chunk;
+        }
+        if (next == null) {
+            tail = chunk;
+        } else {
+            next.previous = chunk;
+        }
+        return chunk;
+    }
+
+    /**
+     * Unlink a chunk from the list. Its elements are not counted out of
+     * size here.
+     *
+     * @param chunk chunk to unlink
+     */
+    private void unlink(Chunk<T> chunk) {
+        if (chunk.previous == null) {
+            head = chunk.next;
+        } else {
+            chunk.previous.next = chunk.next;
+        }
+        if (chunk.next == null) {
+            tail = chunk.previous;
+        } else {
+            chunk.next.previous = chunk.previous;
+        }
+    }
+
+    /**
+     * Move the elements from keep onwards into a new chunk linked right
+     * after this one. Indexes do not change.
+     *
+     * @param chunk chunk to split
+     * @param keep  number of elements that stay, 0 < keep < chunk.count
+     * @return the new chunk holding the rest
+     */
+    private Chunk<T> split(Chunk<T> chunk, int keep) {
+        Chunk<T> right = newChunkAfter(chunk);
+        int moved = chunk.count - keep;
+        System.arraycopy(chunk.elements, keep, right.elements, 0, moved);
+        Arrays.fill(chunk.elements, keep, chunk.count, null);
+        right.count = moved;
+        chunk.count = keep;
+        return right;
+    }
+
+    /**
+     * Move every element of the next chunk onto the end of this one and
+     * unlink the next chunk. The caller checks they fit.
+     *
+     * @param chunk chunk that takes in its next neighbor
+     */
+    private void mergeNext(Chunk<T> chunk) {
+        Chunk<T> next = chunk.next;
+        System.arraycopy(next.elements, 0, chunk.elements, chunk.count, next.count);
+        chunk.count += next.count;
+        unlink(next);
+    }
+
+    /**
+     * Merge a chunk with its next neighbor if together they are under the
+     * merge limit.
+     *
+     * @param chunk chunk to check, may be null
+     */
+    private void joinIfSmall(Chunk<T> chunk) {
+        if (chunk != null && chunk.next != null && chunk.count + chunk.next.count <= mergeLimit) {
+            mergeNext(chunk);
+        }
+    }
+
+    /**
+     * Make index the first element of a chunk, splitting the chunk that
+     * holds it if necessary. Indexes do not change.
+     *
+     * @param index list index, 0 <= index <= size
+     * @return the chunk starting at index, or null if index is size
+     */
+    private Chunk<T> splitAt(int index) {
+        if (index == size) {
+            return null;
+        }
+        Chunk<T> chunk = chunkAt(index);
+        int offset = index - fingerStart;
+        return (offset == 0) ? chunk : split(chunk, offset);
+    }
+
+    /**
+     * Insert an element, splitting a full chunk or starting a new one when
+     * there is no room.
+     *
+     * @param index   list index to insert at, 0 <= index <= size
+     * @param element the element to insert
+     */
+    private void insertAt(int index, T element) {
+        if (head == null) {
+            newChunkAfter(null);
+        }
+
+        Chunk<T> chunk;
+        int start;
+        if (index == size) {
+            chunk = tail;
+            start = size - tail.count;
+        } else {
+            chunk = chunkAt(index);
+            start = fingerStart;
+        }
+        int offset = index - start;
+
+        if (chunk.count == nodeCapacity) {
+            Chunk<T> previous = chunk.previous;
+            if (offset == nodeCapacity) {
+                // Appending past a full chunk, start a fresh one so a run
+                // of appends leaves every chunk full
+                chunk = newChunkAfter(chunk);
+                start = index;
+                offset = 0;
+            } else if (offset == 0 && previous != null && previous.count < nodeCapacity) {
+                // The end of the previous chunk is the same position
+                chunk = previous;
+                start -= previous.count;
+                offset = previous.count;
+            } else if (offset == 0) {
+                chunk = newChunkAfter(previous);
+            } else {
+                int keep = nodeCapacity / 2;
+                Chunk<T> right = split(chunk, keep);
+                if (offset > keep) {
+                    chunk = right;
+                    start += keep;
+                    offset -= keep;
+                }
+            }
+        }
+
+        System.arraycopy(chunk.elements, offset, chunk.elements, offset + 1, chunk.count - offset);
+        chunk.elements[offset] = element;
+        chunk.count++;
+        size++;
+        versionNumber++;
+        moveFinger(chunk, start);
+    }
+
+    /**
+     * Remove an element, unlinking its chunk if it empties or merging it
+     * with a neighbor if it gets too small.
+     *
+     * @param index list index to remove, 0 <= index < size
+     * @return the removed element
+     */
+    private T removeAt(int index) {
+        Chunk<T> chunk = chunkAt(index);
+        int start = fingerStart;
+        int offset = index - start;
+        T returnValue = chunk.elements[offset];
+
+        System.arraycopy(chunk.elements, offset + 1, chunk.elements, offset, chunk.count - offset - 1);
+        chunk.count--;
+        chunk.elements[chunk.count] = null;
+        size--;
+        versionNumber++;
+
+        if (chunk.count == 0) {
+            unlink(chunk);
+        } else {
+            if (chunk.count < nodeCapacity / 2) {
+                Chunk<T> previous = chunk.previous;
+                if (previous != null && previous.count + chunk.count <= mergeLimit) {
+                    start -= previous.count;
+                    mergeNext(previous);
+                    chunk = previous;
+                } else {
+                    joinIfSmall(chunk);
+                }
+            }
+            moveFinger(chunk, start);
+        }
+        return returnValue;
+    }
+
+    @Override
+    public void addToFront(T element) {
+        insertAt(0, element);
+    }
+
+    @Override
+    public void addToRear(T element) {
+        insertAt(size, element);
+    }
+
+    @Override
+    public void add(T element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(T element, T target) {
+        int targetIndex = indexOf(target);
+
+        // Necessary to check since indexOf does not throw an exception.
+        if (targetIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        insertAt(targetIndex + 1, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        insertAt(index, element);
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(size - 1);
+    }
+
+    @Override
+    public T remove(T element) {
+        int index = indexOf(element);
+
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Chunk<T> chunk = chunkAt(index);
+        int start = fingerStart;
+        chunk.elements[index - start] = element;
+        versionNumber++;
+
+        // No chunk changed shape, keep the finger
+        moveFinger(chunk, start);
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Chunk<T> chunk = chunkAt(index);
+        return chunk.elements[index - fingerStart];
+    }
+
+    @Override
+    public int indexOf(T element) {
+        int start = 0;
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                if (element.equals(chunk.elements[i])) {
+                    return start + i;
+                }
+            }
+            start += chunk.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Searches from the tail chunk towards the head.
+     */
+    @Override
+    public int lastIndexOf(T element) {
+        int start = size;
+        for (Chunk<T> chunk = tail; chunk != null; chunk = chunk.previous) {
+            start -= chunk.count;
+            for (int i = chunk.count - 1; i >= 0; i--) {
+                if (element.equals(chunk.elements[i])) {
+                    return start + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public T first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return head.elements[0];
+    }
+
+    @Override
+    public T last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return tail.elements[tail.count - 1];
+    }
+
+    @Override
+    public boolean contains(T target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        // Snapshot the collection once so its size cannot change part way
+        Object[] newElements = elements.toArray();
+        int count = newElements.length;
+        if (count == 0) {
+            return false;
+        }
+
+        // Open the list up at index, top up the chunk before the opening,
+        // then link in full chunks for the rest
+        Chunk<T> next = splitAt(index);
+        Chunk<T> previous = (next == null) ? tail : next.previous;
+        int copied = 0;
+        if (previous != null) {
+            copied = Math.min(nodeCapacity - previous.count, count);
+            System.arraycopy(newElements, 0, previous.elements, previous.count, copied);
+            previous.count += copied;
+        }
+        while (copied < count) {
+            Chunk<T> chunk = newChunkAfter(previous);
+            int batch = Math.min(nodeCapacity, count - copied);
+            System.arraycopy(newElements, copied, chunk.elements, 0, batch);
+            chunk.count = batch;
+            copied += batch;
+            previous = chunk;
+        }
+        // The split may have left a small chunk after the new elements
+        joinIfSmall(previous);
+
+        size += count;
+        versionNumber++;
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        // Kept elements are packed into full chunks from the head as we go.
+        // The write position never passes the read position.
+        Chunk<T> readChunk = head;
+        int readOffset = 0;
+        Chunk<T> writeChunk = head;
+        int writeOffset = 0;
+        int removed = 0;
+        boolean testing = true;
+        try {
+            for (; readChunk != null; readChunk = readChunk.next, readOffset = 0) {
+                for (; readOffset < readChunk.count; readOffset++) {
+                    T element = readChunk.elements[readOffset];
+                    if (testing && filter.test(element)) {
+                        removed++;
+                    } else {
+                        if (writeOffset == nodeCapacity) {
+                            writeChunk.count = nodeCapacity;
+                            writeChunk = writeChunk.next;
+                            writeOffset = 0;
+                        }
+                        writeChunk.elements[writeOffset] = element;
+                        writeOffset++;
+                    }
+                }
+            }
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            // If the filter threw, keep the elements it never got to
+            testing = false;
+            for (; readChunk != null; readChunk = readChunk.next, readOffset = 0) {
+                for (; readOffset < readChunk.count; readOffset++) {
+                    if (writeOffset == nodeCapacity) {
+                        writeChunk.count = nodeCapacity;
+                        writeChunk = writeChunk.next;
+                        writeOffset = 0;
+                    }
+                    writeChunk.elements[writeOffset] = readChunk.elements[readOffset];
+                    writeOffset++;
+                }
+            }
+            // Packing moves elements between chunks even when none were
+            // removed, so always drop the slots and chunks past the last
+            // kept element, and forget the finger
+            if (writeOffset == 0) {
+                writeChunk = (writeChunk == head) ? null : writeChunk.previous;
+                writeOffset = nodeCapacity;
+            }
+            if (writeChunk == null) {
+                head = tail = null;
+            } else {
+                if (writeOffset < writeChunk.count) {
+                    Arrays.fill(writeChunk.elements, writeOffset, writeChunk.count, null);
+                }
+                writeChunk.count = writeOffset;
+                writeChunk.next = null;
+                tail = writeChunk;
+            }
+            fingerChunk = null;
+            if (removed > 0) {
+                size -= removed;
+                versionNumber++;
+            }
+        }
+        return removed > 0;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        // Cut the list at both ends of the range, then one relink drops
+        // every chunk in between
+        Chunk<T> first = splitAt(fromIndex);
+        Chunk<T> after = splitAt(toIndex);
+        Chunk<T> before = first.previous;
+        if (before == null) {
+            head = after;
+        } else {
+            before.next = after;
+        }
+        if (after == null) {
+            tail = before;
+        } else {
+            after.previous = before;
+        }
+        joinIfSmall(before);
+
+        size -= toIndex - fromIndex;
+        versionNumber++;
+    }
+
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+        versionNumber++;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (T element : this) {
+            stringBuilder.append(element.toString());
+            stringBuilder.append(", ");
+        }
+
+        if (size > 0) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ULLIterator(0);
+    }
+
+    /**
+     * Runs the action on every element in order, one array loop per chunk.
+     * The version is checked once after the last chunk.
+     *
+     * @param action the action to run on each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedVersion = versionNumber;
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            T[] elements = chunk.elements;
+            int count = chunk.count;
+            for (int i = 0; i < count; i++) {
+                action.accept(elements[i]);
+            }
+        }
+        if (expectedVersion != versionNumber) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ULLSpliterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new ULLIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int startingIndex) {
+        return new ULLIterator(startingIndex);
+    }
+
+    /**
+     * One node of the list, holding a run of elements in
+     * elements[0, count).
+     */
+    private static class Chunk<T> {
+        private final T[] elements;
+        private int count;
+        private Chunk<T> next;
+        private Chunk<T> previous;
+
+        /**
+         * Initialize an empty chunk
+         *
+         * @param capacity most elements the chunk can hold
+         */
+        @SuppressWarnings("unchecked")
+        public Chunk(int capacity) {
+            elements = (T[]) (new Object[capacity]);
+            count = 0;
+        }
+    }
+
+    /**
+     * Unrolled Linked List Iterator (ULLIterator)
+     * A full list iterator. The cursor is a chunk and an offset into it, so
+     * next() and previous() only change chunks at chunk boundaries. Edits
+     * go through the list at the cursor index and then find the cursor's
+     * chunk again, which the finger makes cheap.
+     */
+    private class ULLIterator implements ListIterator<T> {
+        // Chunk and offset of the cursor; offset may equal chunk.count when
+        // the cursor sits at the end of a chunk
+        private Chunk<T> chunk;
+        private int offset;
+        private int nextIndex;
+        // Index of the element last returned by next() or previous(),
+        // -1 when remove() and set() are not allowed
+        private int lastReturnedIndex;
+        private int iterVersionNumber;
+
+        /**
+         * Initialize the iterator in front of the given index
+         *
+         * @param startIndex index of the element the first next() returns
+         */
+        public ULLIterator(int startIndex) {
+            if (startIndex < 0 || startIndex > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            seek(startIndex);
+            lastReturnedIndex = -1;
+            iterVersionNumber = versionNumber;
+        }
+
+        /**
+         * Put the cursor in front of the given index
+         *
+         * @param index index of the element the next next() returns
+         */
+        private void seek(int index) {
+            nextIndex = index;
+            if (index == size) {
+                chunk = tail;
+                offset = (tail == null) ? 0 : tail.count;
+            } else {
+                chunk = chunkAt(index);
+                offset = index - fingerStart;
+            }
+        }
+
+        /**
+         * Throw if the list changed without going through this iterator.
+         */
+        private void checkVersion() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkVersion();
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (offset == chunk.count) {
+                chunk = chunk.next;
+                offset = 0;
+            }
+            T element = chunk.elements[offset];
+            offset++;
+            lastReturnedIndex = nextIndex;
+            nextIndex++;
+            return element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            checkVersion();
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            if (offset == 0) {
+                chunk = chunk.previous;
+                offset = chunk.count;
+            }
+            offset--;
+            nextIndex--;
+            lastReturnedIndex = nextIndex;
+            return chunk.elements[offset];
+        }
+
+        @Override
+        public int nextIndex() {
+            checkVersion();
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            checkVersion();
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            checkVersion();
+            int start = nextIndex;
+            while (nextIndex < size) {
+                if (offset == chunk.count) {
+                    chunk = chunk.next;
+                    offset = 0;
+                }
+                T[] elements = chunk.elements;
+                int count = chunk.count;
+                for (; offset < count; offset++) {
+                    action.accept(elements[offset]);
+                    nextIndex++;
+                }
+            }
+            if (nextIndex > start) {
+                lastReturnedIndex = nextIndex - 1;
+            }
+            checkVersion();
+        }
+
+        @Override
+        public void remove() {
+            checkVersion();
+
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(lastReturnedIndex);
+
+            // Last move was next, one fewer element in front of the cursor
+            if (lastReturnedIndex < nextIndex) {
+                nextIndex--;
+            }
+            lastReturnedIndex = -1;
+            iterVersionNumber++;
+            seek(nextIndex);
+        }
+
+        @Override
+        public void set(T e) {
+            checkVersion();
+
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+            // After next() the element is just behind the cursor, after
+            // previous() it is just in front of it
+            if (lastReturnedIndex < nextIndex) {
+                chunk.elements[offset - 1] = e;
+            } else {
+                chunk.elements[offset] = e;
+            }
+            versionNumber++;
+            iterVersionNumber++;
+        }
+
+        @Override
+        public void add(T e) {
+            checkVersion();
+            insertAt(nextIndex, e);
+            lastReturnedIndex = -1;
+            iterVersionNumber++;
+            seek(nextIndex + 1);
+        }
+    } // End of ULLIterator class
+
+    /**
+     * Spliterator for IUUnrolledLinkedList. Like the linked list
+     * spliterators, trySplit() copies the next batch of elements into an
+     * array and hands that off, but here the copy is a few array copies,
+     * one per chunk. Batches grow by BATCH_UNIT each split. Late-binding
+     * and fail-fast on versionNumber.
+     */
+    private class ULLSpliterator implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+        private Chunk<T> current;
+        private int offset;
+        // Elements left to traverse, -1 until bound to the list
+        private int remaining;
+        private int batchSize;
+        private int expectedVersion;
+
+        /**
+         * Spliterator over the whole list, bound on first use
+         */
+        public ULLSpliterator() {
+            remaining = -1;
+            batchSize = 0;
+        }
+
+        /**
+         * Bind to the list on first use and return the number of elements left.
+         *
+         * @return the number of elements left to traverse
+         */
+        private int getRemaining() {
+            if (remaining < 0) {
+                current = head;
+                offset = 0;
+                remaining = size;
+                expectedVersion = versionNumber;
+            }
+            return remaining;
+        }
+
+        /**
+         * Throw if the list changed since this spliterator was bound.
+         */
+        private void checkVersion() {
+            if (expectedVersion != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int left = getRemaining();
+            checkVersion();
+            if (left <= 1 || current == null) {
+                return null;
+            }
+            int batch = Math.min(Math.min(batchSize + BATCH_UNIT, left), MAX_BATCH);
+            Object[] elements = new Object[batch];
+            int copied = 0;
+            while (copied < batch && current != null) {
+                int run = Math.min(current.count - offset, batch - copied);
+                System.arraycopy(current.elements, offset, elements, copied, run);
+                copied += run;
+                offset += run;
+                if (offset == current.count) {
+                    current = current.next;
+                    offset = 0;
+                }
+            }
+            batchSize = batch;
+            remaining -= copied;
+            return Spliterators.spliterator(elements, 0, copied, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (getRemaining() > 0 && current != null) {
+                // Nodes may have been freed or reused since binding, so check
+                // before reading
+                checkVersion();
+                T element = current.elements[offset];
+                offset++;
+                if (offset == current.count) {
+                    current = current.next;
+                    offset = 0;
+                }
+                remaining--;
+                action.accept(element);
+                checkVersion();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            int left = getRemaining();
+            // Check before starting and after each step, so no element of a
+            // changed list reaches the action
+            checkVersion();
+            Chunk<T> chunk = current;
+            int from = offset;
+            while (left > 0 && chunk != null) {
+                int end = Math.min(chunk.count, from + left);
+                for (int i = from; i < end; i++) {
+                    action.accept(chunk.elements[i]);
+                    checkVersion();
+                }
+                left -= end - from;
+                chunk = chunk.next;
+                from = 0;
+            }
+            current = null;
+            remaining = 0;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+} // End of IUUnrolledLinkedList class
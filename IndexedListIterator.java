@@ -0,0 +1,137 @@
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntSupplier;
+
+/**
+ * ListIterator for lists with cheap positional access, built only on the
+ * list's own get, set, add(int, T) and remove(int). Each step costs what
+ * the list charges for a positional call, so this suits lists where those
+ * are O(1) or O(log n), such as the ring, tree and skip lists. Lists that
+ * can do better at the cursor, like IUArrayList or IUDoubleLinkedList,
+ * keep their own iterators.
+ *
+ * The iterator is fail-fast: it remembers the list version number and
+ * throws ConcurrentModificationException if the list changed other than
+ * through this iterator. After each of its own changes it takes the new
+ * version number.
+ *
+ * @param <T> - type of elements being iterated
+ */
+public class IndexedListIterator<T> implements ListIterator<T> {
+    private final IndexedUnsortedList<T> list;
+    private final IntSupplier versionSupplier;
+    private int nextIndex;
+    // Index of the element last returned by next() or previous(),
+    // -1 when remove() and set() are not allowed
+    private int lastReturnedIndex;
+    private int expectedVersion;
+
+    /**
+     * Create an iterator in front of the given index.
+     *
+     * @param list            the list to iterate
+     * @param startingIndex   index of the element the first next() returns
+     * @param versionSupplier returns the current list version number
+     * @throws IndexOutOfBoundsException if startingIndex < 0 or
+     *                                   startingIndex > size
+     */
+    public IndexedListIterator(IndexedUnsortedList<T> list, int startingIndex, IntSupplier versionSupplier) {
+        if (startingIndex < 0 || startingIndex > list.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.list = list;
+        this.versionSupplier = versionSupplier;
+        this.nextIndex = startingIndex;
+        this.lastReturnedIndex = -1;
+        this.expectedVersion = versionSupplier.getAsInt();
+    }
+
+    /**
+     * Throw if the list changed without going through this iterator.
+     */
+    private void checkVersion() {
+        if (versionSupplier.getAsInt() != expectedVersion) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        checkVersion();
+        return nextIndex < list.size();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        lastReturnedIndex = nextIndex;
+        nextIndex++;
+        return list.get(lastReturnedIndex);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        checkVersion();
+        return nextIndex > 0;
+    }
+
+    @Override
+    public T previous() {
+        if (!hasPrevious()) {
+            throw new NoSuchElementException();
+        }
+        nextIndex--;
+        lastReturnedIndex = nextIndex;
+        return list.get(lastReturnedIndex);
+    }
+
+    @Override
+    public int nextIndex() {
+        checkVersion();
+        return nextIndex;
+    }
+
+    @Override
+    public int previousIndex() {
+        checkVersion();
+        return nextIndex - 1;
+    }
+
+    @Override
+    public void remove() {
+        checkVersion();
+        if (lastReturnedIndex < 0) {
+            throw new IllegalStateException();
+        }
+        list.remove(lastReturnedIndex);
+        // After next() the cursor was past the removed element
+        if (lastReturnedIndex < nextIndex) {
+            nextIndex--;
+        }
+        lastReturnedIndex = -1;
+        expectedVersion = versionSupplier.getAsInt();
+    }
+
+    @Override
+    public void set(T e) {
+        checkVersion();
+        if (lastReturnedIndex < 0) {
+            throw new IllegalStateException();
+        }
+        list.set(lastReturnedIndex, e);
+        expectedVersion = versionSupplier.getAsInt();
+    }
+
+    @Override
+    public void add(T e) {
+        checkVersion();
+        // The new element goes in front of the cursor
+        list.add(nextIndex, e);
+        nextIndex++;
+        lastReturnedIndex = -1;
+        expectedVersion = versionSupplier.getAsInt();
+    }
+}
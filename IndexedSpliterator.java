@@ -0,0 +1,142 @@
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * Spliterator for lists with cheap positional access, such as the array
+ * based lists. Splits the remaining index range in half, so every piece
+ * knows its exact size.
+ *
+ * The spliterator is late-binding: the list size and version number are
+ * read on first use rather than at creation. It is fail-fast: if the
+ * version number changed since it was bound, ConcurrentModificationException
+ * is thrown before the next element is read, so no element of a changed list
+ * reaches the action.
+ *
+ * @param <T> - type of elements being traversed
+ */
+public class IndexedSpliterator<T> implements Spliterator<T> {
+    private final IntFunction<? extends T> getter;
+    private final IntSupplier sizeSupplier;
+    private final IntSupplier versionSupplier;
+    // Next index to hand out
+    private int index;
+    // One past the last index, -1 until bound to the list
+    private int fence;
+    private int expectedVersion;
+
+    /**
+     * Create a spliterator over a whole list.
+     *
+     * @param getter          returns the element at an index, without a bounds
+     *                        check
+     * @param sizeSupplier    returns the current list size
+     * @param versionSupplier returns the current list version number
+     */
+    public IndexedSpliterator(IntFunction<? extends T> getter, IntSupplier sizeSupplier,
+            IntSupplier versionSupplier) {
+        this(getter, sizeSupplier, versionSupplier, 0, -1, 0);
+    }
+
+    /**
+     * Create a spliterator over the index range [origin, fence).
+     *
+     * @param getter          returns the element at an index
+     * @param sizeSupplier    returns the current list size
+     * @param versionSupplier returns the current list version number
+     * @param origin          first index
+     * @param fence           one past the last index, -1 to bind later
+     * @param expectedVersion version number the range was bound at
+     */
+    private IndexedSpliterator(IntFunction<? extends T> getter, IntSupplier sizeSupplier,
+            IntSupplier versionSupplier, int origin, int fence, int expectedVersion) {
+        this.getter = getter;
+        this.sizeSupplier = sizeSupplier;
+        this.versionSupplier = versionSupplier;
+        this.index = origin;
+        this.fence = fence;
+        this.expectedVersion = expectedVersion;
+    }
+
+    /**
+     * Bind to the list on first use and return the fence.
+     *
+     * @return one past the last index this spliterator covers
+     */
+    private int getFence() {
+        if (fence < 0) {
+            expectedVersion = versionSupplier.getAsInt();
+            fence = sizeSupplier.getAsInt();
+        }
+        return fence;
+    }
+
+    /**
+     * Throw if the list changed since this spliterator was bound.
+     */
+    private void checkVersion() {
+        if (versionSupplier.getAsInt() != expectedVersion) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int hi = getFence();
+        int lo = index;
+        int mid = (lo + hi) >>> 1;
+        if (lo >= mid) {
+            // Too small to split
+            return null;
+        }
+        // Hand the first half to the new spliterator, keep the second half
+        index = mid;
+        return new IndexedSpliterator<T>(getter, sizeSupplier, versionSupplier, lo, mid, expectedVersion);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int hi = getFence();
+        if (index < hi) {
+            // The list may have shrunk since binding, so check before reading
+            checkVersion();
+            T element = getter.apply(index);
+            index++;
+            action.accept(element);
+            checkVersion();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int hi = getFence();
+        // The list may have shrunk since binding, so check before reading
+        // up to the fence, and after each step
+        checkVersion();
+        for (int i = index; i < hi; i++) {
+            action.accept(getter.apply(i));
+            checkVersion();
+        }
+        index = hi;
+    }
+
+    @Override
+    public long estimateSize() {
+        return getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -1,4 +1,7 @@
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Interface for an Iterable, Indexed, Unsorted List ADT.
@@ -123,6 +126,27 @@ public interface IndexedUnsortedList<T> extends Iterable<T> {
      */
     public int indexOf(T element);
 
+    /**
+     * Returns the index of the last element from the list matching the specified
+     * element. The default walks the whole list with its iterator; lists that
+     * can walk backwards override it to search from the rear.
+     *
+     * @param element the element for the index is to be retrieved
+     * @return the integer index for this element or -1 if element is not in the
+     *         list
+     */
+    public default int lastIndexOf(T element) {
+        int lastIndex = -1;
+        int currentIndex = 0;
+        for (T current : this) {
+            if (current.equals(element)) {
+                lastIndex = currentIndex;
+            }
+            currentIndex++;
+        }
+        return lastIndex;
+    }
+
     /**
      * Returns a reference to the first element in this list.
      *
@@ -193,4 +217,108 @@ public interface IndexedUnsortedList<T> extends Iterable<T> {
      * @throws UnsupportedOperationException if not implemented
      */
     public ListIterator<T> listIterator(int startingIndex);
+
+    /**
+     * Adds every element of the collection to the rear of this list, in the
+     * collection's iteration order. Implementations should grow or link
+     * once for the whole collection rather than once per element.
+     *
+     * @param elements the elements to be added
+     * @return true if this list changed
+     * @throws NullPointerException if elements is null
+     */
+    public default boolean addAll(Collection<? extends T> elements) {
+        return addAll(size(), elements);
+    }
+
+    /**
+     * Inserts every element of the collection starting at the specified
+     * index, in the collection's iteration order. Elements at or after the
+     * index move right by elements.size().
+     *
+     * @param index    the index the first new element will have
+     * @param elements the elements to be inserted
+     * @return true if this list changed
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 ||
+     *                                   index > size)
+     * @throws NullPointerException      if elements is null
+     */
+    public default boolean addAll(int index, Collection<? extends T> elements) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        // Fallback, one add per element
+        for (T element : elements) {
+            add(index, element);
+            index++;
+        }
+        return !elements.isEmpty();
+    }
+
+    /**
+     * Removes every element of this list that matches the filter.
+     *
+     * @param filter returns true for the elements to be removed
+     * @return true if any element was removed
+     * @throws NullPointerException if filter is null
+     */
+    public default boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        boolean removed = false;
+        Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the elements from index fromIndex, inclusive, to toIndex,
+     * exclusive. Elements after the range move left by toIndex - fromIndex.
+     * Does nothing if the indexes are equal.
+     *
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex   index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size, or
+     *                                   fromIndex > toIndex
+     */
+    public default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    /**
+     * Removes all of the elements from this list.
+     */
+    public default void clear() {
+        removeRange(0, size());
+    }
+
+    /**
+     * Returns a sequential Stream over the elements in this list.
+     *
+     * @return a Stream over the elements in this list
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel Stream over the elements in this list.
+     * How well it splits depends on the list's spliterator().
+     *
+     * @return a parallel Stream over the elements in this list
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,312 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Array based implementation of IntIndexedUnsortedList.
+ * Same layout as IUArrayList, but elements are stored in an int[] so
+ * there is no Integer object or extra pointer per element.
+ */
+public class IntArrayList implements IntIndexedUnsortedList {
+    public static final int DEFAULT_CAPACITY = 10;
+    private int[] array;
+    private int rear;
+    // Modification count any time the list gets added or removed
+    private int versionNumber;
+    // Decides the new array size when growing or shrinking
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * Default constructor that creates an array of size 10, the
+     * default capacity, to start a list.
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Second constructor that can take in a user specified array size to start a list.
+     *
+     * @param initialCapacity An integer value that will serve as the array
+     * size
+     */
+    public IntArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Third constructor that also takes the policy used to grow, and optionally
+     * shrink, the array.
+     *
+     * @param initialCapacity An integer value that will serve as the array
+     * size
+     * @param growthPolicy Decides the new array size whenever the list runs
+     * out of room or, if the policy supports it, gets too empty
+     */
+    public IntArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException();
+        }
+        array = new int[initialCapacity];
+        rear = 0;
+        versionNumber = 0;
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Grow the list capacity using the growth policy if necessary before adding.
+     */
+    private void expandIfNecessary() {
+        if (array.length == rear) {
+            array = Arrays.copyOf(array, growthPolicy.grow(array.length, rear + 1));
+        }
+    }
+
+    /**
+     * Give the growth policy a chance to shrink the array after a remove.
+     */
+    private void shrinkIfNecessary() {
+        int newCapacity = growthPolicy.shrink(array.length, rear);
+        if (newCapacity < array.length) {
+            array = Arrays.copyOf(array, Math.max(newCapacity, rear));
+        }
+    }
+
+    /**
+     * Remove the element at index by moving the block after it left by one.
+     *
+     * @param index index of the element to remove, 0 <= index < rear
+     * @return the removed element
+     */
+    private int removeAt(int index) {
+        int returnValue = array[index];
+        System.arraycopy(array, index + 1, array, index, rear - index - 1);
+        rear--;
+        versionNumber++;
+        shrinkIfNecessary();
+        return returnValue;
+    }
+
+    @Override
+    public void addToFront(int element) {
+        add(0, element);
+    }
+
+    @Override
+    public void addToRear(int element) {
+        expandIfNecessary();
+        array[rear] = element;
+        rear++;
+        versionNumber++;
+    }
+
+    @Override
+    public void add(int element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(int element, int target) {
+        int targetIndex = indexOf(target);
+
+        // Necessary to check since indexOf does not throw an exception.
+        if (targetIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        add(targetIndex + 1, element);
+    }
+
+    @Override
+    public void add(int index, int element) {
+        if (index < 0 || index > rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        expandIfNecessary();
+
+        // Move the block [index, rear) right by one to open the slot
+        System.arraycopy(array, index, array, index + 1, rear - index);
+        array[index] = element;
+        rear++;
+        versionNumber++;
+    }
+
+    @Override
+    public int removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(0);
+    }
+
+    @Override
+    public int removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(rear - 1);
+    }
+
+    @Override
+    public int removeElement(int element) {
+        int index = indexOf(element);
+
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void set(int index, int element) {
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        array[index] = element;
+        versionNumber++;
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= rear) {
+            throw new IndexOutOfBoundsException();
+        }
+        return array[index];
+    }
+
+    @Override
+    public int indexOf(int element) {
+        int returnIndex = -1;
+        int currentIndex = 0;
+
+        // Plain int comparison, no equals() call or unboxing
+        while (returnIndex < 0 && currentIndex < rear) {
+            if (array[currentIndex] == element) {
+                returnIndex = currentIndex;
+            } else {
+                currentIndex++;
+            }
+        }
+        return returnIndex;
+    }
+
+    @Override
+    public int first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[0];
+    }
+
+    @Override
+    public int last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return array[rear - 1];
+    }
+
+    @Override
+    public boolean contains(int target) {
+        return indexOf(target) > -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return rear == 0;
+    }
+
+    @Override
+    public int size() {
+        return rear;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (int i = 0; i < rear; i++) {
+            stringBuilder.append(array[i]);
+            stringBuilder.append(", ");
+        }
+
+        if (size() > 0) {
+            // Remove trailing comma
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IALIterator();
+    }
+
+    /**
+     * Int Array List Iterator (IALIterator)
+     * A basic iterator for IntArrayList that hands out unboxed values through
+     * nextInt() and includes remove().
+     */
+    private class IALIterator implements PrimitiveIterator.OfInt {
+        private int nextIndex;
+        private boolean canRemove;
+        private int iterVersionNumber;
+
+        /**
+         * Initialize the iterator in front of the first element
+         */
+        public IALIterator() {
+            nextIndex = 0;
+            canRemove = false;
+            iterVersionNumber = versionNumber;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            return nextIndex < rear;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            nextIndex++;
+            canRemove = true;
+            return array[nextIndex - 1];
+        }
+
+        @Override
+        public void remove() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            canRemove = false;
+
+            removeAt(nextIndex - 1);
+            nextIndex--;
+            iterVersionNumber++;
+        }
+    } // End of IALIterator class
+} // End of IntArrayList class
@@ -0,0 +1,321 @@
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Double linked node based implementation of IntIndexedUnsortedList.
+ * Same structure as IUDoubleLinkedList, but each IntNode holds its element
+ * unboxed so there is no separate Integer object per node.
+ */
+public class IntDoubleLinkedList implements IntIndexedUnsortedList {
+    private IntNode head;
+    private IntNode tail;
+    private int size;
+    private int versionNumber;
+
+    /**
+     * Initialize a new empty list
+     */
+    public IntDoubleLinkedList() {
+        head = null;
+        tail = null;
+        size = 0;
+        versionNumber = 0;
+    }
+
+    /**
+     * Walk to the node at the given index.
+     *
+     * @param index index of the node, 0 <= index < size
+     * @return the node at index
+     */
+    private IntNode nodeAt(int index) {
+        IntNode targetNode = head;
+        for (int i = 0; i < index; i++) {
+            targetNode = targetNode.getNextNode();
+        }
+        return targetNode;
+    }
+
+    /**
+     * Insert a new node holding element in front of nextNode, or at the rear if
+     * nextNode is null.
+     *
+     * @param element  the element to insert
+     * @param nextNode the node that will follow the new node, or null
+     */
+    private void linkBefore(int element, IntNode nextNode) {
+        IntNode newNode = new IntNode(element);
+        IntNode prevNode = (nextNode == null) ? tail : nextNode.getPreviousNode();
+
+        newNode.setPreviousNode(prevNode);
+        newNode.setNextNode(nextNode);
+
+        if (prevNode == null) {
+            head = newNode;
+        } else {
+            prevNode.setNextNode(newNode);
+        }
+
+        if (nextNode == null) {
+            tail = newNode;
+        } else {
+            nextNode.setPreviousNode(newNode);
+        }
+
+        size++;
+        versionNumber++;
+    }
+
+    /**
+     * Remove the given node from the chain.
+     *
+     * @param targetNode the node to remove
+     * @return the removed node's element
+     */
+    private int unlink(IntNode targetNode) {
+        if (targetNode == head) {
+            head = targetNode.getNextNode();
+        } else {
+            targetNode.getPreviousNode().setNextNode(targetNode.getNextNode());
+        }
+
+        if (targetNode == tail) {
+            tail = targetNode.getPreviousNode();
+        } else {
+            targetNode.getNextNode().setPreviousNode(targetNode.getPreviousNode());
+        }
+
+        size--;
+        versionNumber++;
+        return targetNode.getElement();
+    }
+
+    /**
+     * Find the first node holding element.
+     *
+     * @param element the element to look for
+     * @return the matching node or null if not found
+     */
+    private IntNode findNode(int element) {
+        IntNode targetNode = head;
+        while (targetNode != null && targetNode.getElement() != element) {
+            targetNode = targetNode.getNextNode();
+        }
+        return targetNode;
+    }
+
+    @Override
+    public void addToFront(int element) {
+        linkBefore(element, head);
+    }
+
+    @Override
+    public void addToRear(int element) {
+        linkBefore(element, null);
+    }
+
+    @Override
+    public void add(int element) {
+        addToRear(element);
+    }
+
+    @Override
+    public void addAfter(int element, int target) {
+        IntNode targetNode = findNode(target);
+
+        if (targetNode == null) {
+            throw new NoSuchElementException();
+        }
+        linkBefore(element, targetNode.getNextNode());
+    }
+
+    @Override
+    public void add(int index, int element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (index == size) {
+            addToRear(element);
+        } else {
+            linkBefore(element, nodeAt(index));
+        }
+    }
+
+    @Override
+    public int removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return unlink(head);
+    }
+
+    @Override
+    public int removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return unlink(tail);
+    }
+
+    @Override
+    public int removeElement(int element) {
+        IntNode targetNode = findNode(element);
+
+        if (targetNode == null) {
+            throw new NoSuchElementException();
+        }
+        return unlink(targetNode);
+    }
+
+    @Override
+    public int remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(nodeAt(index));
+    }
+
+    @Override
+    public void set(int index, int element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        nodeAt(index).setElement(element);
+        versionNumber++;
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return nodeAt(index).getElement();
+    }
+
+    @Override
+    public int indexOf(int element) {
+        IntNode targetNode = head;
+        int currentIndex = 0;
+
+        while (targetNode != null && targetNode.getElement() != element) {
+            targetNode = targetNode.getNextNode();
+            currentIndex++;
+        }
+
+        // If the targetNode is null, we have reached the end of the list.
+        if (targetNode == null) {
+            currentIndex = -1;
+        }
+        return currentIndex;
+    }
+
+    @Override
+    public int first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return head.getElement();
+    }
+
+    @Override
+    public int last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return tail.getElement();
+    }
+
+    @Override
+    public boolean contains(int target) {
+        return findNode(target) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("[");
+
+        for (IntNode node = head; node != null; node = node.getNextNode()) {
+            stringBuilder.append(node.getElement());
+            stringBuilder.append(", ");
+        }
+
+        if (size() > 0) {
+            // Remove trailing comma.
+            stringBuilder.delete(stringBuilder.length() - 2, stringBuilder.length());
+        }
+
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IDLLIterator();
+    }
+
+    /**
+     * Iterator for IntDoubleLinkedList that hands out unboxed values through
+     * nextInt() and includes remove().
+     */
+    private class IDLLIterator implements PrimitiveIterator.OfInt {
+        private IntNode nextNode;
+        private IntNode lastReturnedNode;
+        private int iterVersionNumber;
+
+        /**
+         * Iterator that starts at the beginning of the list
+         */
+        public IDLLIterator() {
+            nextNode = head;
+            lastReturnedNode = null;
+            iterVersionNumber = versionNumber;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+            return nextNode != null;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturnedNode = nextNode;
+            nextNode = nextNode.getNextNode();
+            return lastReturnedNode.getElement();
+        }
+
+        @Override
+        public void remove() {
+            if (iterVersionNumber != versionNumber) {
+                throw new ConcurrentModificationException();
+            }
+
+            // Similar to canRemove being false
+            if (lastReturnedNode == null) {
+                throw new IllegalStateException();
+            }
+
+            unlink(lastReturnedNode);
+            lastReturnedNode = null;
+            iterVersionNumber++;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+/**
+ * Adapts an IntIndexedUnsortedList to IndexedUnsortedList&lt;Integer&gt; so
+ * that ListTester can run its scenarios against the primitive int lists.
+ * Every call unboxes its arguments and boxes its result, so this is for
+ * testing, not for speed. A primitive list never holds null, so looking
+ * for null finds nothing.
+ *
+ * The primitive lists have no spliterator of their own. The adapter counts
+ * the changes made through it and hands that count to an
+ * IndexedSpliterator over get(), so the spliterator is late-binding and
+ * fail-fast like the other lists' spliterators.
+ */
+public class IntListAdapter implements IndexedUnsortedList<Integer> {
+	private IntIndexedUnsortedList list;
+	// Changes made through this adapter, for the spliterator
+	private int versionNumber;
+
+	/**
+	 * Wrap the given list
+	 *
+	 * @param list the primitive list to adapt
+	 */
+	public IntListAdapter(IntIndexedUnsortedList list) {
+		if (list == null) {
+			throw new NullPointerException();
+		}
+		this.list = list;
+		versionNumber = 0;
+	}
+
+	@Override
+	public void addToFront(Integer element) {
+		list.addToFront(element);
+		versionNumber++;
+	}
+
+	@Override
+	public void addToRear(Integer element) {
+		list.addToRear(element);
+		versionNumber++;
+	}
+
+	@Override
+	public void add(Integer element) {
+		list.add(element);
+		versionNumber++;
+	}
+
+	@Override
+	public void addAfter(Integer element, Integer target) {
+		if (target == null) {
+			throw new NoSuchElementException();
+		}
+		list.addAfter(element, target);
+		versionNumber++;
+	}
+
+	@Override
+	public void add(int index, Integer element) {
+		list.add(index, element);
+		versionNumber++;
+	}
+
+	@Override
+	public Integer removeFirst() {
+		int removed = list.removeFirst();
+		versionNumber++;
+		return removed;
+	}
+
+	@Override
+	public Integer removeLast() {
+		int removed = list.removeLast();
+		versionNumber++;
+		return removed;
+	}
+
+	@Override
+	public Integer remove(Integer element) {
+		if (element == null) {
+			throw new NoSuchElementException();
+		}
+		int removed = list.removeElement(element);
+		versionNumber++;
+		return removed;
+	}
+
+	@Override
+	public Integer remove(int index) {
+		int removed = list.remove(index);
+		versionNumber++;
+		return removed;
+	}
+
+	@Override
+	public void set(int index, Integer element) {
+		list.set(index, element);
+		versionNumber++;
+	}
+
+	@Override
+	public Integer get(int index) {
+		return list.get(index);
+	}
+
+	@Override
+	public int indexOf(Integer element) {
+		if (element == null) {
+			return -1;
+		}
+		return list.indexOf(element);
+	}
+
+	@Override
+	public Integer first() {
+		return list.first();
+	}
+
+	@Override
+	public Integer last() {
+		return list.last();
+	}
+
+	@Override
+	public boolean contains(Integer target) {
+		if (target == null) {
+			return false;
+		}
+		return list.contains(target);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+
+	@Override
+	public int size() {
+		return list.size();
+	}
+
+	@Override
+	public String toString() {
+		return list.toString();
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		PrimitiveIterator.OfInt it = list.iterator();
+		return new Iterator<Integer>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public Integer next() {
+				return it.nextInt();
+			}
+
+			@Override
+			public void remove() {
+				it.remove();
+				versionNumber++;
+			}
+		};
+	}
+
+	@Override
+	public Spliterator<Integer> spliterator() {
+		return new IndexedSpliterator<Integer>(list::get, list::size, () -> versionNumber);
+	}
+
+	@Override
+	public ListIterator<Integer> listIterator() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public ListIterator<Integer> listIterator(int startingIndex) {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,75 @@
+/**
+ * A node class for creating a linked data structure of primitive int values.
+ * Same shape as Node, but the element is stored unboxed.
+ */
+
+public class IntNode {
+    private int element;
+    private IntNode nextNode;
+    private IntNode previousNode;
+
+    /**
+     * Initialize a new node with a desired element.
+     * 
+     * @param element a desired element to be stored.
+     */
+    public IntNode(int element) {
+        this.element = element;
+        nextNode = null;
+        previousNode = null;
+    }
+
+    /**
+     * Display the desired element.
+     * 
+     * @return an element value.
+     */
+    public int getElement() {
+        return element;
+    }
+
+    /**
+     * Overwrite an existing element.
+     * 
+     * @param element a desired element to be stored.
+     */
+    public void setElement(int element) {
+        this.element = element;
+    }
+
+    /**
+     * Display the next node in the chain.
+     * 
+     * @return the next node value.
+     */
+    public IntNode getNextNode() {
+        return nextNode;
+    }
+
+    /**
+     * Overwrite an existing known node.
+     * 
+     * @param nextNode a desired node to be overwritten.
+     */
+    public void setNextNode(IntNode nextNode) {
+        this.nextNode = nextNode;
+    }
+
+    /**
+     * Retrieve the previous node
+     * 
+     * @return the previous node
+     */
+    public IntNode getPreviousNode() {
+        return previousNode;
+    }
+
+    /**
+     * Set the previous node
+     * 
+     * @param previousNode the previous existing IntNode
+     */
+    public void setPreviousNode(IntNode previousNode) {
+        this.previousNode = previousNode;
+    }
+}
@@ -0,0 +1,784 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.ref.Reference;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A simple timing driver for lists that implement IndexedUnsortedList.
+ * Each benchmark fills a list to a given size, warms up, then reports the
+ * average cost of one operation in nanoseconds.
+ *
+ * This is not a replacement for a proper harness, but is enough to compare
+ * implementations and to catch regressions in the shifting and traversal
+ * code paths.
+ */
+public class ListBenchmark {
+	// list sizes used by the benchmarks
+	private static final int[] SIZES = { 1_000, 100_000, 10_000_000 };
+
+	// every element is the same boxed value so large lists stay cheap to fill
+	private static final Integer ELEMENT = 1;
+
+	// number of untimed rounds before the measured round
+	private static final int WARMUP_ROUNDS = 3;
+
+	// elements handed from producers to consumers in each queue benchmark
+	private static final int QUEUE_ITEMS = 1_000_000;
+
+	// elements in each structure measured by the memory report, enough to
+	// make the fixed costs and measuring noise vanish per element
+	private static final int MEMORY_REPORT_SIZE = 1_000_000;
+
+	// traversal results are summed here so the JIT cannot drop the loops
+	private long sink;
+
+	/**
+	 * Valid command line args include:
+	 * -q : smaller sizes only, for a quick run
+	 * -m : print the memory report instead of the timings
+	 *
+	 * @param args command line args
+	 */
+	public static void main(String[] args) {
+		int[] sizes = SIZES;
+		boolean memoryReport = false;
+		for (String arg : args) {
+			if (arg.equalsIgnoreCase("-q"))
+				sizes = new int[] { 1_000, 100_000 };
+			if (arg.equalsIgnoreCase("-m"))
+				memoryReport = true;
+		}
+
+		ListBenchmark benchmark = new ListBenchmark();
+		if (memoryReport) {
+			benchmark.reportMemory(MEMORY_REPORT_SIZE);
+		} else {
+			benchmark.runBenchmarks(sizes);
+		}
+	}
+
+	/**
+	 * Print the heap used per element by each list structure, measured as
+	 * the growth of the heap still in use after a full garbage collection.
+	 * Every element is the same shared Integer, so only the structure itself
+	 * is counted. The Node chain is the layout IUSingleLinkedList used before
+	 * it had SingleNode.
+	 *
+	 * @param size number of elements in each structure
+	 */
+	private void reportMemory(int size) {
+		System.out.println("compressed references: " + vmOption("UseCompressedOops"));
+		System.out.printf("%-44s %12s %14s\n", "structure", "size", "bytes/element");
+		printMemory("Node chain, next links only", size, bytesPerElement(() -> {
+			Node<Integer> chain = null;
+			for (int i = 0; i < size; i++) {
+				chain = new Node<Integer>(ELEMENT, chain);
+			}
+			return chain;
+		}, size));
+		printMemory("SingleNode chain", size, bytesPerElement(() -> {
+			SingleNode<Integer> chain = null;
+			for (int i = 0; i < size; i++) {
+				chain = new SingleNode<Integer>(ELEMENT, chain);
+			}
+			return chain;
+		}, size));
+		printMemory("IUSingleLinkedList", size,
+				bytesPerElement(() -> filledList(IUSingleLinkedList::new, size), size));
+		printMemory("IUDoubleLinkedList", size,
+				bytesPerElement(() -> filledList(IUDoubleLinkedList::new, size), size));
+		printMemory("IUCompactLinkedList", size,
+				bytesPerElement(() -> filledList(IUCompactLinkedList::new, size), size));
+		printMemory("IUUnrolledLinkedList", size,
+				bytesPerElement(() -> filledList(IUUnrolledLinkedList::new, size), size));
+		printMemory("IUArrayList", size, bytesPerElement(() -> filledList(IUArrayList::new, size), size));
+	}
+
+	/**
+	 * Measure how much the used heap grows while builder runs and its
+	 * result is still reachable, divided by size.
+	 *
+	 * @param builder builds the structure to measure
+	 * @param size    number of elements the structure holds
+	 * @return bytes of heap per element
+	 */
+	private double bytesPerElement(Supplier<Object> builder, int size) {
+		long before = usedHeap();
+		Object structure = builder.get();
+		long after = usedHeap();
+		Reference.reachabilityFence(structure);
+		return (after - before) / (double) size;
+	}
+
+	/**
+	 * Returns the heap in use right after a full garbage collection, as
+	 * reported by the heap memory pools.
+	 *
+	 * @return bytes of heap in use
+	 */
+	private static long usedHeap() {
+		System.gc();
+		long used = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			MemoryUsage usage = pool.getCollectionUsage();
+			if (pool.getType() == MemoryType.HEAP && usage != null) {
+				used += usage.getUsed();
+			}
+		}
+		return used;
+	}
+
+	/**
+	 * Returns the value of a HotSpot VM option, or "unknown" on other JVMs.
+	 *
+	 * @param name name of the option
+	 * @return its value as text
+	 */
+	private static String vmOption(String name) {
+		try {
+			com.sun.management.HotSpotDiagnosticMXBean bean = ManagementFactory
+					.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+			return bean.getVMOption(name).getValue();
+		} catch (RuntimeException e) {
+			return "unknown";
+		}
+	}
+
+	/**
+	 * Run every benchmark at every size
+	 *
+	 * @param sizes list sizes to run at
+	 */
+	private void runBenchmarks(int[] sizes) {
+		System.out.printf("%-44s %12s %14s\n", "benchmark", "size", "ns/op");
+		for (int size : sizes) {
+			benchMiddleInsertRemove("IUArrayList middle add/remove", IUArrayList::new, size);
+			benchFrontInsertRemove("IUArrayList front add/remove", IUArrayList::new, size);
+			benchIteratorEdits("IUArrayList listIterator remove/add", IUArrayList::new, size);
+			benchClusteredEdits("IUArrayList clustered add/remove", IUArrayList::new, size);
+			benchClusteredEdits("IUGapBufferList clustered add/remove", IUGapBufferList::new, size);
+			benchClusteredEdits("IUDoubleLinkedList clustered add/remove", IUDoubleLinkedList::new, size);
+			benchClusteredEdits("IUUnrolledLinkedList clustered add/remove", IUUnrolledLinkedList::new, size);
+			benchTraversal("IUArrayList for-each loop", IUArrayList::new, size, false);
+			benchTraversal("IUArrayList forEach", IUArrayList::new, size, true);
+			benchTraversal("IUSingleLinkedList for-each loop", IUSingleLinkedList::new, size, false);
+			benchTraversal("IUSingleLinkedList forEach", IUSingleLinkedList::new, size, true);
+			benchTraversal("IUDoubleLinkedList for-each loop", IUDoubleLinkedList::new, size, false);
+			benchTraversal("IUDoubleLinkedList forEach", IUDoubleLinkedList::new, size, true);
+			benchTraversal("IUUnrolledLinkedList for-each loop", IUUnrolledLinkedList::new, size, false);
+			benchTraversal("IUUnrolledLinkedList forEach", IUUnrolledLinkedList::new, size, true);
+			benchTraversal("IUCompactLinkedList for-each loop", IUCompactLinkedList::new, size, false);
+			benchTraversal("IUCompactLinkedList forEach", IUCompactLinkedList::new, size, true);
+			benchRandomPositional("IUArrayList random add/get/remove", IUArrayList::new, size);
+			benchRandomPositional("IUDoubleLinkedList random add/get/remove", IUDoubleLinkedList::new, size);
+			benchRandomPositional("IUUnrolledLinkedList random add/get/remove", IUUnrolledLinkedList::new, size);
+			benchRandomPositional("IUSkipList random add/get/remove", IUSkipList::new, size);
+			benchRandomPositional("IUTreeList random add/get/remove", IUTreeList::new, size);
+			benchIndexLoop("IUArrayList get/set index loop", IUArrayList::new, size);
+			benchIndexLoop("IUSingleLinkedList get/set index loop", IUSingleLinkedList::new, size);
+			benchIndexLoop("IUDoubleLinkedList get/set index loop", IUDoubleLinkedList::new, size);
+			benchIndexLoop("IUUnrolledLinkedList get/set index loop", IUUnrolledLinkedList::new, size);
+			benchIndexLoop("IUCompactLinkedList get/set index loop", IUCompactLinkedList::new, size);
+			benchValueLookup("IUArrayList value lookups", IUArrayList::new, size);
+			IUArrayList<Integer> indexedArrayList = benchValueLookup("IUArrayList indexed value lookups",
+					() -> {
+						IUArrayList<Integer> list = new IUArrayList<Integer>();
+						list.enableElementIndex();
+						return list;
+					}, size);
+			printFootprint("IUArrayList element index", size, indexedArrayList.getElementIndexBytes());
+			benchValueLookup("IUDoubleLinkedList value lookups", IUDoubleLinkedList::new, size);
+			IUDoubleLinkedList<Integer> indexedLinkedList = benchValueLookup("IUDoubleLinkedList indexed value lookups",
+					() -> {
+						IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+						list.enableElementIndex();
+						return list;
+					}, size);
+			printFootprint("IUDoubleLinkedList element index", size, indexedLinkedList.getElementIndexBytes());
+			benchGrowingAddAfter("IUArrayList growing addAfter", IUArrayList::new, size);
+			benchGrowingAddAfter("IUArrayList indexed growing addAfter", () -> {
+				IUArrayList<Integer> list = new IUArrayList<Integer>();
+				list.enableElementIndex();
+				return list;
+			}, size);
+			benchGrowingAddAfter("IUDoubleLinkedList growing addAfter", IUDoubleLinkedList::new, size);
+			benchGrowingAddAfter("IUDoubleLinkedList indexed growing addAfter", () -> {
+				IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+				list.enableElementIndex();
+				return list;
+			}, size);
+			benchNodeChurn("IUDoubleLinkedList queue churn", IUDoubleLinkedList::new, size, false);
+			benchNodeChurn("IUDoubleLinkedList pooled queue churn", () -> new IUDoubleLinkedList<Integer>(64), size,
+					false);
+			benchNodeChurn("IUDoubleLinkedList iterator churn", IUDoubleLinkedList::new, size, true);
+			benchNodeChurn("IUDoubleLinkedList pooled iterator churn", () -> new IUDoubleLinkedList<Integer>(64), size,
+					true);
+			benchNodeChurn("IUCompactLinkedList queue churn", IUCompactLinkedList::new, size, false);
+			benchNodeChurn("IUCompactLinkedList iterator churn", IUCompactLinkedList::new, size, true);
+			benchLoad("IUArrayList add loop", IUArrayList::new, size, false);
+			benchLoad("IUArrayList addAll", IUArrayList::new, size, true);
+			benchLoad("IUDoubleLinkedList add loop", IUDoubleLinkedList::new, size, false);
+			benchLoad("IUDoubleLinkedList addAll", IUDoubleLinkedList::new, size, true);
+			benchLoad("IUCompactLinkedList add loop", IUCompactLinkedList::new, size, false);
+			benchRemoveEveryOther("IUArrayList iterator remove", IUArrayList::new, size, false);
+			benchRemoveEveryOther("IUArrayList removeIf", IUArrayList::new, size, true);
+			benchRemoveEveryOther("IUDoubleLinkedList iterator remove", IUDoubleLinkedList::new, size, false);
+			benchRemoveEveryOther("IUDoubleLinkedList removeIf", IUDoubleLinkedList::new, size, true);
+		}
+		for (int threads = 1; threads <= 4; threads *= 2) {
+			benchProducerConsumer("ConcurrentIUDeque " + threads + "P/" + threads + "C",
+					ConcurrentIUDeque::new, false, threads);
+			benchProducerConsumer("locked IUDoubleLinkedList " + threads + "P/" + threads + "C",
+					IUDoubleLinkedList::new, true, threads);
+		}
+	}
+
+	/**
+	 * Time add(size / 2, x) followed by remove(size / 2), the hottest shifting
+	 * path of an array based list.
+	 *
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param size    number of elements in the list while measuring
+	 */
+	private void benchMiddleInsertRemove(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size) {
+		IndexedUnsortedList<Integer> list = filledList(factory, size);
+		int ops = operationsFor(size);
+		int middle = size / 2;
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < ops; i++) {
+				list.add(middle, ELEMENT);
+				list.remove(middle);
+			}
+			nanos = System.nanoTime() - start;
+		}
+		// two operations per loop
+		printResult(name, size, nanos / (2.0 * ops));
+	}
+
+	/**
+	 * Time add, get and remove at random indexes, where neither end of the
+	 * list nor a remembered position helps. The indexes come from a fixed
+	 * seed so every list sees the same sequence.
+	 *
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param size    number of elements in the list while measuring
+	 */
+	private void benchRandomPositional(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size) {
+		IndexedUnsortedList<Integer> list = filledList(factory, size);
+		int ops = operationsFor(size);
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			Random random = new Random(round);
+			long start = System.nanoTime();
+			for (int i = 0; i < ops; i++) {
+				list.add(random.nextInt(size), ELEMENT);
+				sink += list.get(random.nextInt(size));
+				list.remove(random.nextInt(size));
+			}
+			nanos = System.nanoTime() - start;
+		}
+		// three operations per loop
+		printResult(name, size, nanos / (3.0 * ops));
+	}
+
+	/**
+	 * Time addToFront(x) followed by removeFirst(), which shift the whole list
+	 * in an array based list.
+	 *
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param size    number of elements in the list while measuring
+	 */
+	private void benchFrontInsertRemove(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size) {
+		IndexedUnsortedList<Integer> list = filledList(factory, size);
+		int ops = operationsFor(size);
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < ops; i++) {
+				list.addToFront(ELEMENT);
+				list.removeFirst();
+			}
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, size, nanos / (2.0 * ops));
+	}
+
+	/**
+	 * Time the add and remove pairs that churn through nodes in a linked
+	 * list, and report both the cost and the bytes allocated per operation.
+	 * Either addToRear(x) then removeFirst(), like a queue, or a list
+	 * iterator in the middle doing add(x), previous() and remove().
+	 *
+	 * @param name     label for the output
+	 * @param factory  creates a new empty list
+	 * @param size     number of elements in the list while measuring
+	 * @param iterator true to churn through a list iterator, false for the
+	 *                 queue operations
+	 */
+	private void benchNodeChurn(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size,
+			boolean iterator) {
+		IndexedUnsortedList<Integer> list = filledList(factory, size);
+		// at least enough to measure, the list size does not change the cost
+		int ops = Math.max(1_000_000, operationsFor(size));
+
+		long nanos = 0;
+		long bytes = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			ListIterator<Integer> listIterator = iterator ? list.listIterator(size / 2) : null;
+			long startBytes = allocatedBytes();
+			long start = System.nanoTime();
+			for (int i = 0; i < ops; i++) {
+				if (iterator) {
+					listIterator.add(ELEMENT);
+					listIterator.previous();
+					listIterator.remove();
+				} else {
+					list.addToRear(ELEMENT);
+					list.removeFirst();
+				}
+			}
+			nanos = System.nanoTime() - start;
+			bytes = allocatedBytes() - startBytes;
+		}
+		printResult(name, size, nanos / (2.0 * ops));
+		if (bytes >= 0) {
+			printAllocation(name, size, bytes / (2.0 * ops));
+		}
+	}
+
+	/**
+	 * Returns the bytes allocated so far by the current thread, or -1 if the
+	 * JVM cannot tell.
+	 *
+	 * @return bytes allocated by this thread
+	 */
+	private static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getCurrentThreadAllocatedBytes();
+		}
+		return -1;
+	}
+
+	/**
+	 * Time one pass of a list iterator that removes every other element and
+	 * then a second pass that adds them back, reporting the cost per visited
+	 * element.
+	 *
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param size    number of elements in the list before each pass
+	 */
+	private void benchIteratorEdits(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size) {
+		IndexedUnsortedList<Integer> list = filledList(factory, size);
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = System.nanoTime();
+			ListIterator<Integer> iterator = list.listIterator();
+			while (iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+				if (iterator.hasNext()) {
+					iterator.next();
+				}
+			}
+			iterator = list.listIterator();
+			while (iterator.hasNext()) {
+				iterator.next();
+				iterator.add(ELEMENT);
+			}
+			// reading the list applies any batched edits
+			list.first();
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, size, nanos / (double) (size + size / 2));
+	}
+
+	/**
+	 * Time add(i, x) and remove(i) at a position that drifts a few slots per
+	 * operation, like a text cursor, starting from the middle of the list.
+	 *
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param size    number of elements in the list while measuring
+	 */
+	private void benchClusteredEdits(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size) {
+		IndexedUnsortedList<Integer> list = filledList(factory, size);
+		int ops = operationsFor(size);
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			int position = size / 2;
+			long start = System.nanoTime();
+			for (int i = 0; i < ops; i++) {
+				// drift back and forth by up to 3 slots
+				position += (i % 7) - 3;
+				list.add(position, ELEMENT);
+				list.remove(position);
+			}
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, size, nanos / (2.0 * ops));
+	}
+
+	/**
+	 * Time full passes over the list, either with an external for-each loop
+	 * over its iterator or with the list's own forEach, reporting the cost per
+	 * visited element.
+	 *
+	 * @param name     label for the output
+	 * @param factory  creates a new empty list
+	 * @param size     number of elements in the list
+	 * @param internal true to traverse with forEach, false for a for-each loop
+	 */
+	private void benchTraversal(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size,
+			boolean internal) {
+		IndexedUnsortedList<Integer> list = filledList(factory, size);
+		int passes = Math.max(1, operationsFor(size) / 10);
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int pass = 0; pass < passes; pass++) {
+				if (internal) {
+					list.forEach(element -> sink += element);
+				} else {
+					for (Integer element : list) {
+						sink += element;
+					}
+				}
+			}
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, size, nanos / ((double) passes * size));
+	}
+
+	/**
+	 * Time a classic index loop over the whole list, reading each element with
+	 * get and writing it back with set, reporting the cost per call. Without
+	 * the finger the linked lists would walk from the head on every call.
+	 *
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param size    number of elements in the list
+	 */
+	private void benchIndexLoop(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size) {
+		IndexedUnsortedList<Integer> list = filledList(factory, size);
+		int passes = Math.max(1, operationsFor(size) / 10);
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int pass = 0; pass < passes; pass++) {
+				for (int i = 0; i < size; i++) {
+					Integer element = list.get(i);
+					sink += element;
+					list.set(i, element);
+				}
+			}
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, size, nanos / (2.0 * passes * size));
+	}
+
+	/**
+	 * Time the value based calls on a list of distinct elements:
+	 * addAfter(x, target) at a random target, contains(target), then
+	 * remove(x). Without an element index each is a scan. Each loop puts the
+	 * list back as it was, so benchGrowingAddAfter covers lists whose
+	 * elements keep moving.
+	 *
+	 * @param <L>     type of list measured
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param size    number of elements in the list while measuring
+	 * @return the list measured, so its index footprint can be reported
+	 */
+	private <L extends IndexedUnsortedList<Integer>> L benchValueLookup(String name, Supplier<L> factory, int size) {
+		L list = factory.get();
+		for (int i = 0; i < size; i++) {
+			list.add(i);
+		}
+		int ops = operationsFor(size);
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			Random random = new Random(round);
+			long start = System.nanoTime();
+			for (int i = 0; i < ops; i++) {
+				// negative values never collide with the list's contents
+				Integer element = -1 - i;
+				Integer target = random.nextInt(size);
+				list.addAfter(element, target);
+				if (list.contains(target)) {
+					sink++;
+				}
+				sink += list.remove(element);
+			}
+			nanos = System.nanoTime() - start;
+		}
+		// three operations per loop
+		printResult(name, size, nanos / (3.0 * ops));
+		return list;
+	}
+
+	/**
+	 * Time addAfter(x, target) at a random target on a list that keeps
+	 * growing from size distinct elements. Every add moves the elements
+	 * after it, so an element index has to keep their locations right as
+	 * they shift.
+	 *
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param size    number of elements in the list before the adds
+	 */
+	private void benchGrowingAddAfter(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size) {
+		// at most doubles the list, so the adds see the size asked for
+		int ops = Math.min(operationsFor(size), size);
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			IndexedUnsortedList<Integer> list = factory.get();
+			for (int i = 0; i < size; i++) {
+				list.add(i);
+			}
+			Random random = new Random(round);
+			long start = System.nanoTime();
+			for (int i = 0; i < ops; i++) {
+				// every element added so far, including the new ones, is a target
+				list.addAfter(size + i, random.nextInt(size + i));
+			}
+			nanos = System.nanoTime() - start;
+			sink += list.size();
+		}
+		printResult(name, size, nanos / (double) ops);
+	}
+
+	/**
+	 * Time filling an empty list with size elements, either one add at a time
+	 * or with a single addAll, reporting the cost per element.
+	 *
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param size    number of elements to load
+	 * @param bulk    true to load with addAll, false for an add loop
+	 */
+	private void benchLoad(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size, boolean bulk) {
+		List<Integer> source = Collections.nCopies(size, ELEMENT);
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = System.nanoTime();
+			IndexedUnsortedList<Integer> list = factory.get();
+			if (bulk) {
+				list.addAll(source);
+			} else {
+				for (Integer element : source) {
+					list.add(element);
+				}
+			}
+			nanos = System.nanoTime() - start;
+			sink += list.size();
+		}
+		printResult(name, size, nanos / (double) size);
+	}
+
+	/**
+	 * Time removing every other element of a full list, either with an
+	 * iterator's remove or with a single removeIf, reporting the cost per
+	 * element of the original list. The iterator version is skipped above
+	 * 100,000 elements since it is quadratic for array based lists.
+	 *
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param size    number of elements in the list before each pass
+	 * @param bulk    true to remove with removeIf, false with an iterator
+	 */
+	private void benchRemoveEveryOther(String name, Supplier<IndexedUnsortedList<Integer>> factory, int size,
+			boolean bulk) {
+		if (!bulk && size > 100_000) {
+			return;
+		}
+
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			IndexedUnsortedList<Integer> list = factory.get();
+			for (int i = 0; i < size; i++) {
+				list.addToRear(i);
+			}
+			long start = System.nanoTime();
+			if (bulk) {
+				list.removeIf(element -> (element & 1) == 0);
+			} else {
+				Iterator<Integer> iterator = list.iterator();
+				while (iterator.hasNext()) {
+					if ((iterator.next() & 1) == 0) {
+						iterator.remove();
+					}
+				}
+			}
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, size, nanos / (double) size);
+	}
+
+	/**
+	 * Time handing QUEUE_ITEMS elements through a shared list used as a work
+	 * queue, with producers calling addToRear and consumers calling
+	 * removeFirst, reporting the wall clock cost per element. The size
+	 * column shows the number of elements handed over.
+	 *
+	 * @param name    label for the output
+	 * @param factory creates a new empty list
+	 * @param lock    true to guard every call with one lock on the list, as
+	 *                a list that is not thread safe needs
+	 * @param threads number of producer threads, and of consumer threads
+	 */
+	private void benchProducerConsumer(String name, Supplier<IndexedUnsortedList<Integer>> factory, boolean lock,
+			int threads) {
+		long nanos = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			IndexedUnsortedList<Integer> queue = factory.get();
+			AtomicInteger taken = new AtomicInteger();
+			Thread[] workers = new Thread[2 * threads];
+			int perProducer = QUEUE_ITEMS / threads;
+
+			for (int t = 0; t < threads; t++) {
+				workers[t] = new Thread(() -> {
+					for (int i = 0; i < perProducer; i++) {
+						if (lock) {
+							synchronized (queue) {
+								queue.addToRear(ELEMENT);
+							}
+						} else {
+							queue.addToRear(ELEMENT);
+						}
+					}
+				});
+				workers[threads + t] = new Thread(() -> {
+					while (taken.get() < perProducer * threads) {
+						try {
+							if (lock) {
+								synchronized (queue) {
+									queue.removeFirst();
+								}
+							} else {
+								queue.removeFirst();
+							}
+							taken.incrementAndGet();
+						} catch (NoSuchElementException e) {
+							// queue was empty, producers have not caught up
+							Thread.onSpinWait();
+						}
+					}
+				});
+			}
+
+			long start = System.nanoTime();
+			for (Thread worker : workers) {
+				worker.start();
+			}
+			for (Thread worker : workers) {
+				try {
+					worker.join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+			nanos = System.nanoTime() - start;
+		}
+		printResult(name, QUEUE_ITEMS, nanos / (double) QUEUE_ITEMS);
+	}
+
+	/**
+	 * Build a list holding size elements
+	 *
+	 * @param factory creates a new empty list
+	 * @param size    number of elements to add
+	 * @return the filled list
+	 */
+	private IndexedUnsortedList<Integer> filledList(Supplier<IndexedUnsortedList<Integer>> factory, int size) {
+		IndexedUnsortedList<Integer> list = factory.get();
+		for (int i = 0; i < size; i++) {
+			list.addToRear(ELEMENT);
+		}
+		return list;
+	}
+
+	/**
+	 * Scale the number of timed operations down as lists grow, so that O(n)
+	 * operations finish in a reasonable time at every size.
+	 *
+	 * @param size number of elements in the list
+	 * @return number of operations to time
+	 */
+	private int operationsFor(int size) {
+		return Math.max(10, 20_000_000 / size);
+	}
+
+	/**
+	 * Print one benchmark result in a consistent format
+	 *
+	 * @param name    label for the benchmark
+	 * @param size    list size used
+	 * @param nsPerOp average nanoseconds per operation
+	 */
+	private void printResult(String name, int size, double nsPerOp) {
+		System.out.printf("%-44s %12d %14.1f\n", name, size, nsPerOp);
+	}
+
+	/**
+	 * Print the bytes allocated per operation by a benchmark, in the same
+	 * columns as the timing results
+	 *
+	 * @param name       label for the benchmark
+	 * @param size       list size used
+	 * @param bytesPerOp average bytes allocated per operation
+	 */
+	private void printAllocation(String name, int size, double bytesPerOp) {
+		System.out.printf("%-44s %12d %11.1f B/op\n", name, size, bytesPerOp);
+	}
+
+	/**
+	 * Print the heap used per element by a structure, in the same columns
+	 * as the timing results
+	 *
+	 * @param name            label for the structure
+	 * @param size            number of elements
+	 * @param bytesPerElement bytes of heap per element
+	 */
+	private void printMemory(String name, int size, double bytesPerElement) {
+		System.out.printf("%-44s %12d %14.1f\n", name, size, bytesPerElement);
+	}
+
+	/**
+	 * Print the estimated memory used by some extra structure of a list,
+	 * in the same columns as the timing results
+	 *
+	 * @param name  label for the structure
+	 * @param size  list size used
+	 * @param bytes estimated bytes used
+	 */
+	private void printFootprint(String name, int size, long bytes) {
+		System.out.printf("%-44s %12d %12d B\n", name, size, bytes);
+	}
+}
@@ -0,0 +1,547 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A driver for the longer checks that do not fit ListTester's scenario
+ * suites: whole ranges of list sizes and buffer sizes, and runs that go on
+ * long enough to be worth timing. Like ListBenchmark it is run by hand.
+ * Every failed check is printed, and the driver ends with a count of
+ * checks run and failed.
+ */
+public class ListChecks {
+	// largest list written for every count from 0 up
+	private static final int ROUND_TRIP_EVERY_COUNT = 1_000;
+
+	// larger lists, written once per buffer size
+	private static final int[] ROUND_TRIP_LARGE_COUNTS = { 10_000, 100_000 };
+
+	// writer and reader buffer sizes, down to less than one record
+	private static final int[] ROUND_TRIP_BUFFER_SIZES = { 1, 5, 16, 4096, ListWriter.DEFAULT_BUFFER_SIZE };
+
+	// threads and batches per writer for the copy-on-write stress run
+	private static final int COPY_ON_WRITE_READERS = 4;
+	private static final int COPY_ON_WRITE_WRITERS = 2;
+	private static final int COPY_ON_WRITE_BATCHES = 2_000;
+
+	// threads and elements per producer for the deque stress run
+	private static final int DEQUE_PRODUCERS = 4;
+	private static final int DEQUE_CONSUMERS = 4;
+	private static final int DEQUE_ELEMENTS_PER_PRODUCER = 200_000;
+
+	private int checks = 0;
+	private int failures = 0;
+
+	/**
+	 * Valid command line args name the checks to run:
+	 * roundTrip   : ListWriter and ListReader
+	 * copyOnWrite : CopyOnWriteIUArrayList snapshots and batch()
+	 * deque       : ConcurrentIUDeque producers and consumers
+	 * With no args, every check runs.
+	 *
+	 * @param args command line args
+	 */
+	public static void main(String[] args) throws Exception {
+		List<String> names = Arrays.asList(args);
+		boolean all = names.isEmpty();
+		ListChecks checker = new ListChecks();
+		if (all || names.contains("roundTrip")) {
+			checker.checkRoundTrip();
+		}
+		if (all || names.contains("copyOnWrite")) {
+			checker.checkCopyOnWrite();
+		}
+		if (all || names.contains("deque")) {
+			checker.checkConcurrentDeque();
+		}
+		System.out.printf("\nChecks run: %d,  Failed: %d\n", checker.checks, checker.failures);
+		if (checker.failures > 0) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Record the outcome of one check, printing it if it failed
+	 *
+	 * @param description what was checked
+	 * @param passed      whether the check passed
+	 */
+	private void check(String description, boolean passed) {
+		checks++;
+		if (!passed) {
+			failures++;
+			System.out.println("FAILED: " + description);
+		}
+	}
+
+	/**
+	 * Write lists of every size from 0 to ROUND_TRIP_EVERY_COUNT, and a few
+	 * larger ones, with every buffer size, and read each one back into each
+	 * of the three list types ListReader builds directly. Channels that move
+	 * one byte per call make the reader and writer finish partial reads and
+	 * writes. Also checks that lists follow each other on one channel, that
+	 * a written file opens in place as an IUMappedList, that short or
+	 * foreign data is rejected, and that a corrupt count is not trusted.
+	 */
+	private void checkRoundTrip() throws IOException {
+		System.out.println("roundTrip: ListWriter and ListReader");
+		long start = System.nanoTime();
+		for (int bufferSize : ROUND_TRIP_BUFFER_SIZES) {
+			ListWriter<Integer> writer = new ListWriter<Integer>(ElementCodec.INTEGER, bufferSize);
+			ListReader<Integer> reader = new ListReader<Integer>(ElementCodec.INTEGER, bufferSize);
+			for (int count = 0; count <= ROUND_TRIP_EVERY_COUNT; count++) {
+				roundTrip(writer, reader, count, bufferSize, false);
+			}
+			for (int count : ROUND_TRIP_LARGE_COUNTS) {
+				roundTrip(writer, reader, count, bufferSize, false);
+			}
+			// one byte at a time only for small lists, it is slow
+			for (int count = 0; count <= 64; count++) {
+				roundTrip(writer, reader, count, bufferSize, true);
+			}
+		}
+
+		// several lists back to back on one channel
+		ListWriter<Integer> writer = new ListWriter<Integer>(ElementCodec.INTEGER, 16);
+		ListReader<Integer> reader = new ListReader<Integer>(ElementCodec.INTEGER, 16);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		WritableByteChannel out = Channels.newChannel(bytes);
+		for (int count = 0; count < 20; count++) {
+			writer.write(filledList(count), out);
+		}
+		ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray()));
+		for (int count = 0; count < 20; count++) {
+			check("back to back list " + count, contents(reader.readArrayList(in)).equals(expected(count)));
+		}
+		check("back to back channel ends after the last list", in.read(ByteBuffer.allocate(1)) < 0);
+
+		// a written file opens in place as a mapped list, and the mapped
+		// list's file reads back
+		Path file = Files.createTempFile("ListChecks", ".list");
+		try {
+			writer.write(filledList(1000), file);
+			try (IUMappedList<Integer> mapped = IUMappedList.open(file, ElementCodec.INTEGER)) {
+				check("written file opens as IUMappedList", contents(mapped).equals(expected(1000)));
+				mapped.addToRear(-1);
+			}
+			List<Integer> grown = expected(1000);
+			grown.add(-1);
+			check("IUMappedList file reads back", contents(reader.read(file, IUArrayList::new)).equals(grown));
+		} finally {
+			Files.delete(file);
+		}
+
+		// short and foreign data
+		bytes.reset();
+		writer.write(filledList(10), Channels.newChannel(bytes));
+		byte[] written = bytes.toByteArray();
+		for (int length = 0; length < written.length; length++) {
+			byte[] shortData = Arrays.copyOf(written, length);
+			boolean threw = false;
+			try {
+				reader.readArrayList(Channels.newChannel(new ByteArrayInputStream(shortData)));
+			} catch (EOFException e) {
+				threw = true;
+			}
+			check("EOFException for a list cut to " + length + " bytes", threw);
+		}
+		for (int headerByte : new int[] { 0, 4, 8 }) {
+			byte[] foreign = written.clone();
+			foreign[headerByte] ^= 1;
+			boolean threw = false;
+			try {
+				reader.readArrayList(Channels.newChannel(new ByteArrayInputStream(foreign)));
+			} catch (EOFException e) {
+				// the whole header was there, so running out is the wrong failure
+			} catch (IOException e) {
+				threw = true;
+			}
+			check("IOException for a bad header at byte " + headerByte, threw);
+		}
+
+		// a corrupt count with a short body must not presize for the count
+		byte[] huge = written.clone();
+		ByteBuffer.wrap(huge).putInt(12, Integer.MAX_VALUE);
+		boolean threw = false;
+		try {
+			reader.readArrayList(Channels.newChannel(new ByteArrayInputStream(huge)));
+		} catch (EOFException e) {
+			threw = true;
+		}
+		check("EOFException for a huge count on a stream", threw);
+		Path hugeFile = Files.createTempFile("ListChecks", ".list");
+		try {
+			Files.write(hugeFile, huge);
+			threw = false;
+			try {
+				reader.read(hugeFile, IUArrayList::new);
+			} catch (EOFException e) {
+				threw = true;
+			}
+			check("EOFException for a huge count in a file", threw);
+		} finally {
+			Files.delete(hugeFile);
+		}
+
+		// a stream list longer than the presize limit grows while it is read
+		int longCount = ListReader.MAX_PRESIZE + 3;
+		bytes.reset();
+		writer.write(filledList(longCount), Channels.newChannel(bytes));
+		check("list longer than MAX_PRESIZE reads back", contents(reader.readArrayList(
+				Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())))).equals(expected(longCount)));
+		System.out.printf("roundTrip: %.1f s\n", (System.nanoTime() - start) / 1e9);
+	}
+
+	/**
+	 * Check that CopyOnWriteIUArrayList iterators keep their snapshot, that
+	 * a batch whose edits throw publishes nothing, and then run readers
+	 * against writers. Each writer batch adds a pair of consecutive values,
+	 * so every snapshot a reader takes must hold an even number of elements
+	 * made of whole pairs. A torn publish would show up as an odd size or a
+	 * split pair.
+	 */
+	private void checkCopyOnWrite() throws InterruptedException {
+		System.out.println("copyOnWrite: CopyOnWriteIUArrayList");
+		long start = System.nanoTime();
+
+		CopyOnWriteIUArrayList<Integer> list = new CopyOnWriteIUArrayList<Integer>();
+		list.addAll(expected(3));
+		Iterator<Integer> snapshot = list.iterator();
+		list.removeFirst();
+		list.addToRear(-1);
+		List<Integer> seen = new ArrayList<Integer>();
+		snapshot.forEachRemaining(seen::add);
+		check("iterator keeps its snapshot", seen.equals(expected(3)));
+		boolean unsupported = false;
+		try {
+			snapshot.remove();
+		} catch (UnsupportedOperationException e) {
+			unsupported = true;
+		}
+		check("iterator remove is unsupported", unsupported);
+
+		List<Integer> before = contents(list);
+		boolean threw = false;
+		try {
+			list.batch(l -> {
+				l.addToRear(7);
+				l.removeFirst();
+				throw new IllegalStateException();
+			});
+		} catch (IllegalStateException e) {
+			threw = true;
+		}
+		check("batch rethrows the edit's exception", threw);
+		check("batch that throws publishes nothing", contents(list).equals(before));
+
+		// stress: writers add pairs, readers check every snapshot
+		CopyOnWriteIUArrayList<Integer> shared = new CopyOnWriteIUArrayList<Integer>();
+		AtomicInteger writersLeft = new AtomicInteger(COPY_ON_WRITE_WRITERS);
+		AtomicInteger tornReads = new AtomicInteger();
+		AtomicInteger reads = new AtomicInteger();
+		List<Runnable> tasks = new ArrayList<Runnable>();
+		for (int w = 0; w < COPY_ON_WRITE_WRITERS; w++) {
+			int firstValue = w * COPY_ON_WRITE_BATCHES * 2;
+			tasks.add(() -> {
+				for (int b = 0; b < COPY_ON_WRITE_BATCHES; b++) {
+					int value = firstValue + b * 2;
+					shared.batch(l -> {
+						l.addToRear(value);
+						l.addToRear(value + 1);
+					});
+				}
+				writersLeft.decrementAndGet();
+			});
+		}
+		for (int r = 0; r < COPY_ON_WRITE_READERS; r++) {
+			tasks.add(() -> {
+				do {
+					reads.incrementAndGet();
+					if (shared.size() % 2 != 0 || !wholePairs(shared.iterator())) {
+						tornReads.incrementAndGet();
+					}
+				} while (writersLeft.get() > 0);
+			});
+		}
+		check("stress threads finish without throwing", runAll(tasks) == 0);
+		check("no reader saw a torn state in " + reads.get() + " reads", tornReads.get() == 0);
+		check("every pair was published",
+				shared.size() == COPY_ON_WRITE_WRITERS * COPY_ON_WRITE_BATCHES * 2 && wholePairs(shared.iterator()));
+		System.out.printf("copyOnWrite: %.1f s\n", (System.nanoTime() - start) / 1e9);
+	}
+
+	/**
+	 * Producers add distinct values to both ends of a ConcurrentIUDeque
+	 * while consumers poll both ends until every value has been taken. Each
+	 * value must arrive exactly once, and the deque must end up empty with
+	 * a size of 0.
+	 */
+	private void checkConcurrentDeque() throws InterruptedException {
+		System.out.println("deque: ConcurrentIUDeque");
+		long start = System.nanoTime();
+
+		ConcurrentIUDeque<Integer> deque = new ConcurrentIUDeque<Integer>();
+		check("pollFirst on an empty deque returns null", deque.pollFirst() == null);
+		check("pollLast on an empty deque returns null", deque.pollLast() == null);
+
+		int total = DEQUE_PRODUCERS * DEQUE_ELEMENTS_PER_PRODUCER;
+		AtomicIntegerArray arrivals = new AtomicIntegerArray(total);
+		AtomicInteger producersLeft = new AtomicInteger(DEQUE_PRODUCERS);
+		List<Runnable> tasks = new ArrayList<Runnable>();
+		for (int p = 0; p < DEQUE_PRODUCERS; p++) {
+			int firstValue = p * DEQUE_ELEMENTS_PER_PRODUCER;
+			tasks.add(() -> {
+				for (int i = 0; i < DEQUE_ELEMENTS_PER_PRODUCER; i++) {
+					if (i % 2 == 0) {
+						deque.addToFront(firstValue + i);
+					} else {
+						deque.addToRear(firstValue + i);
+					}
+				}
+				producersLeft.decrementAndGet();
+			});
+		}
+		for (int c = 0; c < DEQUE_CONSUMERS; c++) {
+			boolean frontFirst = c % 2 == 0;
+			tasks.add(() -> {
+				boolean front = frontFirst;
+				while (true) {
+					// once every producer is done an empty poll means the end
+					boolean producing = producersLeft.get() > 0;
+					Integer value = front ? deque.pollFirst() : deque.pollLast();
+					front = !front;
+					if (value != null) {
+						arrivals.incrementAndGet(value);
+					} else if (!producing) {
+						break;
+					}
+				}
+			});
+		}
+		check("stress threads finish without throwing", runAll(tasks) == 0);
+		int missing = 0;
+		int repeated = 0;
+		for (int value = 0; value < total; value++) {
+			int count = arrivals.get(value);
+			if (count == 0) {
+				missing++;
+			} else if (count > 1) {
+				repeated++;
+			}
+		}
+		check(missing + " of " + total + " values never arrived", missing == 0);
+		check(repeated + " of " + total + " values arrived more than once", repeated == 0);
+		check("deque ends empty", deque.isEmpty() && deque.size() == 0);
+		System.out.printf("deque: %.1f s\n", (System.nanoTime() - start) / 1e9);
+	}
+
+	/**
+	 * Returns true if the iterator returns an even number of elements and
+	 * each odd element is one more than the even element before it
+	 *
+	 * @param it the elements to check
+	 * @return true if they are whole pairs
+	 */
+	private static boolean wholePairs(Iterator<Integer> it) {
+		while (it.hasNext()) {
+			int first = it.next();
+			if (!it.hasNext() || it.next() != first + 1) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Run each task on its own thread and wait for all of them. Exceptions
+	 * thrown by a task are printed.
+	 *
+	 * @param tasks the tasks to run
+	 * @return number of tasks that threw
+	 */
+	private static int runAll(List<Runnable> tasks) throws InterruptedException {
+		AtomicInteger thrown = new AtomicInteger();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (Runnable task : tasks) {
+			Thread thread = new Thread(task);
+			thread.setUncaughtExceptionHandler((t, e) -> {
+				thrown.incrementAndGet();
+				e.printStackTrace();
+			});
+			threads.add(thread);
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		return thrown.get();
+	}
+
+	/**
+	 * Write one list and check that it reads back into IUArrayList,
+	 * IUSingleLinkedList and IUDoubleLinkedList
+	 *
+	 * @param writer     writer to use
+	 * @param reader     reader to use
+	 * @param count      number of elements in the list
+	 * @param bufferSize buffer size of the writer and reader, for messages
+	 * @param trickle    true to move one byte per channel call
+	 */
+	private void roundTrip(ListWriter<Integer> writer, ListReader<Integer> reader, int count, int bufferSize,
+			boolean trickle) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		WritableByteChannel out = Channels.newChannel(bytes);
+		writer.write(filledList(count), trickle ? new TrickleWritableChannel(out) : out);
+		byte[] written = bytes.toByteArray();
+		String description = count + " elements, buffer " + bufferSize + (trickle ? ", one byte per call" : "");
+		check("size written for " + description, written.length == IUMappedList.HEADER_SIZE + count * 4);
+
+		List<Integer> expected = expected(count);
+		check("IUArrayList from " + description,
+				contents(reader.readArrayList(channel(written, trickle))).equals(expected));
+		check("IUSingleLinkedList from " + description,
+				contents(reader.readSingleLinkedList(channel(written, trickle))).equals(expected));
+		check("IUDoubleLinkedList from " + description,
+				contents(reader.readDoubleLinkedList(channel(written, trickle))).equals(expected));
+	}
+
+	/**
+	 * Returns a channel over the bytes
+	 *
+	 * @param bytes   the bytes to read
+	 * @param trickle true to return one byte per read
+	 * @return a channel reading the bytes
+	 */
+	private static ReadableByteChannel channel(byte[] bytes, boolean trickle) {
+		ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(bytes));
+		return trickle ? new TrickleReadableChannel(in) : in;
+	}
+
+	/**
+	 * Returns an IUArrayList holding the first count values of expected()
+	 *
+	 * @param count number of elements
+	 * @return the filled list
+	 */
+	private static IndexedUnsortedList<Integer> filledList(int count) {
+		IndexedUnsortedList<Integer> list = new IUArrayList<Integer>(Math.max(count, 1));
+		for (Integer element : expected(count)) {
+			list.addToRear(element);
+		}
+		return list;
+	}
+
+	/**
+	 * Returns count distinct values that use all four bytes of an int,
+	 * negative ones included
+	 *
+	 * @param count number of values
+	 * @return the values
+	 */
+	private static List<Integer> expected(int count) {
+		List<Integer> values = new ArrayList<Integer>(count);
+		for (int i = 0; i < count; i++) {
+			values.add(i * 0x9E3779B1);
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the elements of a list, in order
+	 *
+	 * @param list the list to copy
+	 * @return its elements
+	 */
+	private static List<Integer> contents(IndexedUnsortedList<Integer> list) {
+		List<Integer> elements = new ArrayList<Integer>(list.size());
+		for (Integer element : list) {
+			elements.add(element);
+		}
+		return elements;
+	}
+
+	/**
+	 * A channel that reads at most one byte per call
+	 */
+	private static class TrickleReadableChannel implements ReadableByteChannel {
+		private final ReadableByteChannel channel;
+
+		private TrickleReadableChannel(ReadableByteChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public int read(ByteBuffer destination) throws IOException {
+			if (!destination.hasRemaining()) {
+				return 0;
+			}
+			int limit = destination.limit();
+			destination.limit(destination.position() + 1);
+			try {
+				return channel.read(destination);
+			} finally {
+				destination.limit(limit);
+			}
+		}
+
+		@Override
+		public boolean isOpen() {
+			return channel.isOpen();
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+
+	/**
+	 * A channel that writes at most one byte per call
+	 */
+	private static class TrickleWritableChannel implements WritableByteChannel {
+		private final WritableByteChannel channel;
+
+		private TrickleWritableChannel(WritableByteChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public int write(ByteBuffer source) throws IOException {
+			if (!source.hasRemaining()) {
+				return 0;
+			}
+			int limit = source.limit();
+			source.limit(source.position() + 1);
+			try {
+				return channel.write(source);
+			} finally {
+				source.limit(limit);
+			}
+		}
+
+		@Override
+		public boolean isOpen() {
+			return channel.isOpen();
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,657 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks every IndexedUnsortedList method and iterator operation, one
+ * row per method, across list implementations, list sizes and element
+ * distributions, and can write the results as JSON to compare runs across
+ * releases.
+ *
+ * Each case (list, size, distribution, method) is run like a small JMH
+ * benchmark in average time mode: WARMUP_ITERATIONS untimed iterations,
+ * then MEASUREMENT_ITERATIONS timed ones, each lasting about
+ * iterationNanos. An iteration repeats batches of calls and doubles the
+ * batch until one batch takes a tenth of the iteration, so fast calls are
+ * not swamped by the clock and slow O(n) calls still finish. The score is
+ * the mean ns per call over the timed iterations and the error is the
+ * 99.9% confidence half width, as JMH reports them.
+ *
+ * Methods that change the size are measured together with the call that
+ * undoes them, named like "addToFront/removeFirst", so every call sees a
+ * list of exactly the given size. Methods a list does not support are
+ * skipped.
+ */
+public class ListMethodBenchmark {
+	// list sizes used by the benchmarks
+	private static final int[] SIZES = { 10, 1_000, 100_000, 10_000_000 };
+
+	// untimed and timed iterations per case
+	private static final int WARMUP_ITERATIONS = 3;
+	private static final int MEASUREMENT_ITERATIONS = 5;
+
+	// Student's t for a two sided 99.9% interval with
+	// MEASUREMENT_ITERATIONS - 1 degrees of freedom
+	private static final double T_999 = 8.610;
+
+	// largest number of calls timed as one batch
+	private static final int MAX_BATCH = 1 << 20;
+
+	// arguments are drawn from this many precomputed random positions
+	private static final int ARGUMENTS = 1 << 10;
+
+	// never produced by any distribution, so it is never in a filled list
+	private static final Integer MARKER = -1;
+
+	// elements added and removed together by the addAll/removeRange methods
+	private static final int CHUNK = 8;
+
+	// how the values in a filled list are laid out
+	private static enum Distribution {
+		sequential, random, fewDistinct;
+
+		/**
+		 * Returns the value stored at the given position of a filled list
+		 *
+		 * @param position index in the list
+		 * @param size     size of the list
+		 * @return the value at position, never negative
+		 */
+		int valueAt(int position, int size) {
+			switch (this) {
+				case random:
+					// a multiplicative hash spreads positions over [0, size)
+					return (int) Math.floorMod(position * 0x9E3779B97F4A7C15L, (long) size);
+				case fewDistinct:
+					return position % 16;
+				default:
+					return position;
+			}
+		}
+	}
+
+	// nanoseconds per warmup or measurement iteration
+	private final long iterationNanos;
+
+	// results are summed here so the JIT cannot drop the calls
+	private long sink;
+
+	// one JSON object per finished case
+	private final List<String> jsonResults;
+
+	/**
+	 * Initialize a benchmark run
+	 *
+	 * @param iterationNanos length of each warmup and measurement iteration
+	 */
+	public ListMethodBenchmark(long iterationNanos) {
+		this.iterationNanos = iterationNanos;
+		jsonResults = new ArrayList<String>();
+	}
+
+	/**
+	 * Valid command line args include:
+	 * -q : smaller sizes and shorter iterations, for a quick run
+	 * -all : every in-memory list, not just the four main ones
+	 * -json FILE : also write the results to FILE as JSON
+	 *
+	 * @param args command line args
+	 */
+	public static void main(String[] args) throws IOException {
+		int[] sizes = SIZES;
+		long iterationNanos = 100_000_000L;
+		boolean allLists = false;
+		String jsonFile = null;
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equalsIgnoreCase("-q")) {
+				sizes = new int[] { 10, 1_000, 100_000 };
+				iterationNanos = 20_000_000L;
+			}
+			if (args[i].equalsIgnoreCase("-all"))
+				allLists = true;
+			if (args[i].equalsIgnoreCase("-json") && i + 1 < args.length) {
+				i++;
+				jsonFile = args[i];
+			}
+		}
+
+		ListMethodBenchmark benchmark = new ListMethodBenchmark(iterationNanos);
+		benchmark.runBenchmarks(lists(allLists), sizes);
+		if (jsonFile != null) {
+			benchmark.writeJson(jsonFile);
+		}
+	}
+
+	/**
+	 * Returns the lists to benchmark by name
+	 *
+	 * @param all true for every in-memory list implementation
+	 * @return factories for new empty lists, by name
+	 */
+	private static Map<String, Supplier<IndexedUnsortedList<Integer>>> lists(boolean all) {
+		Map<String, Supplier<IndexedUnsortedList<Integer>>> lists = new LinkedHashMap<String, Supplier<IndexedUnsortedList<Integer>>>();
+		lists.put("GoodList", GoodList::new);
+		lists.put("IUArrayList", IUArrayList::new);
+		lists.put("IUSingleLinkedList", IUSingleLinkedList::new);
+		lists.put("IUDoubleLinkedList", IUDoubleLinkedList::new);
+		if (all) {
+			lists.put("IURingArrayList", IURingArrayList::new);
+			lists.put("IUGapBufferList", IUGapBufferList::new);
+			lists.put("IUUnrolledLinkedList", IUUnrolledLinkedList::new);
+			lists.put("IUCompactLinkedList", IUCompactLinkedList::new);
+			lists.put("IUSkipList", IUSkipList::new);
+			lists.put("IUTreeList", IUTreeList::new);
+		}
+		return lists;
+	}
+
+	/**
+	 * Run every method against every list at every size and distribution
+	 *
+	 * @param lists factories for the lists, by name
+	 * @param sizes list sizes to run at
+	 */
+	private void runBenchmarks(Map<String, Supplier<IndexedUnsortedList<Integer>>> lists, int[] sizes) {
+		System.out.printf("%-20s %-32s %10s %-12s %14s %12s\n", "list", "method", "size", "distribution", "ns/op",
+				"error");
+		for (int size : sizes) {
+			for (Distribution distribution : Distribution.values()) {
+				for (Map.Entry<String, Supplier<IndexedUnsortedList<Integer>>> entry : lists.entrySet()) {
+					// a fresh list per distribution, every method leaves it the same size
+					Workload workload = new Workload(distribution, size);
+					IndexedUnsortedList<Integer> list = entry.getValue().get();
+					list.addAll(workload.contents);
+					for (Method method : methods()) {
+						workload.reset();
+						try {
+							measure(entry.getKey(), list, workload, method);
+						} catch (UnsupportedOperationException e) {
+							// not every list has a list iterator
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Warm up and measure one method, then print and record the result
+	 *
+	 * @param listName label of the list
+	 * @param list     filled list to run against
+	 * @param workload arguments for the calls
+	 * @param method   the method to measure
+	 */
+	private void measure(String listName, IndexedUnsortedList<Integer> list, Workload workload, Method method) {
+		double[] scores = new double[MEASUREMENT_ITERATIONS];
+		int batch = 1;
+		for (int iteration = 0; iteration < WARMUP_ITERATIONS + MEASUREMENT_ITERATIONS; iteration++) {
+			long nanos = 0;
+			long calls = 0;
+			while (nanos < iterationNanos) {
+				long start = System.nanoTime();
+				sink += method.operation.run(list, workload, batch);
+				long elapsed = System.nanoTime() - start;
+				nanos += elapsed;
+				calls += batch;
+				if (elapsed < iterationNanos / 10 && batch < MAX_BATCH) {
+					batch *= 2;
+				}
+			}
+			if (iteration >= WARMUP_ITERATIONS) {
+				scores[iteration - WARMUP_ITERATIONS] = nanos / (double) calls;
+			}
+		}
+
+		double mean = 0;
+		for (double score : scores) {
+			mean += score;
+		}
+		mean /= scores.length;
+		double variance = 0;
+		for (double score : scores) {
+			variance += (score - mean) * (score - mean);
+		}
+		variance /= scores.length - 1;
+		double error = T_999 * Math.sqrt(variance / scores.length);
+
+		System.out.printf("%-20s %-32s %10d %-12s %14.1f %12.1f\n", listName, method.name, workload.size,
+				workload.distribution, mean, error);
+		jsonResults.add(toJson(listName, method.name, workload, mean, error, scores));
+	}
+
+	/**
+	 * Format one result in the layout of JMH's JSON output
+	 *
+	 * @param listName label of the list
+	 * @param method   name of the method
+	 * @param workload size and distribution used
+	 * @param mean     score in ns/op
+	 * @param error    half width of the 99.9% interval
+	 * @param scores   score of each measurement iteration
+	 * @return the result as a JSON object
+	 */
+	private String toJson(String listName, String method, Workload workload, double mean, double error,
+			double[] scores) {
+		StringBuilder json = new StringBuilder();
+		json.append("  {\n");
+		json.append("    \"benchmark\" : \"ListMethodBenchmark.").append(method).append("\",\n");
+		json.append("    \"mode\" : \"avgt\",\n");
+		json.append("    \"threads\" : 1,\n");
+		json.append("    \"forks\" : 1,\n");
+		json.append("    \"jdkVersion\" : \"").append(System.getProperty("java.version")).append("\",\n");
+		json.append("    \"warmupIterations\" : ").append(WARMUP_ITERATIONS).append(",\n");
+		json.append("    \"warmupTime\" : \"").append(iterationNanos / 1_000_000).append(" ms\",\n");
+		json.append("    \"measurementIterations\" : ").append(MEASUREMENT_ITERATIONS).append(",\n");
+		json.append("    \"measurementTime\" : \"").append(iterationNanos / 1_000_000).append(" ms\",\n");
+		json.append("    \"params\" : {\n");
+		json.append("      \"list\" : \"").append(listName).append("\",\n");
+		json.append("      \"size\" : \"").append(workload.size).append("\",\n");
+		json.append("      \"distribution\" : \"").append(workload.distribution).append("\"\n");
+		json.append("    },\n");
+		json.append("    \"primaryMetric\" : {\n");
+		json.append("      \"score\" : ").append(number(mean)).append(",\n");
+		json.append("      \"scoreError\" : ").append(number(error)).append(",\n");
+		json.append("      \"scoreConfidence\" : [ ").append(number(mean - error)).append(", ")
+				.append(number(mean + error)).append(" ],\n");
+		json.append("      \"scoreUnit\" : \"ns/op\",\n");
+		json.append("      \"rawData\" : [ [ ");
+		for (int i = 0; i < scores.length; i++) {
+			if (i > 0) {
+				json.append(", ");
+			}
+			json.append(number(scores[i]));
+		}
+		json.append(" ] ]\n");
+		json.append("    }\n");
+		json.append("  }");
+		return json.toString();
+	}
+
+	/**
+	 * Format a number for JSON, the same on every locale
+	 *
+	 * @param value the number
+	 * @return the number as JSON text
+	 */
+	private static String number(double value) {
+		return String.format(Locale.ROOT, "%.3f", value);
+	}
+
+	/**
+	 * Write every recorded result to a file as a JSON array
+	 *
+	 * @param fileName file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	private void writeJson(String fileName) throws IOException {
+		try (PrintWriter writer = new PrintWriter(fileName, "UTF-8")) {
+			writer.println("[");
+			for (int i = 0; i < jsonResults.size(); i++) {
+				writer.print(jsonResults.get(i));
+				writer.println(i + 1 < jsonResults.size() ? "," : "");
+			}
+			writer.println("]");
+		}
+		System.out.println("results written to " + fileName);
+	}
+
+	/**
+	 * Returns every benchmarked method, in the order of the interface
+	 *
+	 * @return the methods
+	 */
+	private static List<Method> methods() {
+		List<Method> methods = new ArrayList<Method>();
+		methods.add(new Method("addToFront/removeFirst", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				list.addToFront(work.nextValue());
+				sum += list.removeFirst();
+			}
+			return sum;
+		}));
+		methods.add(new Method("addToRear/removeLast", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				list.addToRear(work.nextValue());
+				sum += list.removeLast();
+			}
+			return sum;
+		}));
+		methods.add(new Method("add/removeLast", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				list.add(work.nextValue());
+				sum += list.removeLast();
+			}
+			return sum;
+		}));
+		methods.add(new Method("addAfter/remove(T)", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				list.addAfter(MARKER, work.nextValue());
+				sum += list.remove(MARKER);
+			}
+			return sum;
+		}));
+		methods.add(new Method("add(int)/remove(int)", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				int position = work.nextPosition();
+				list.add(position, MARKER);
+				sum += list.remove(position);
+			}
+			return sum;
+		}));
+		methods.add(new Method("set", (list, work, count) -> {
+			for (int i = 0; i < count; i++) {
+				// write back the value already there, so lookups still find it
+				int position = work.nextPosition();
+				list.set(position, work.contents.get(position));
+			}
+			return count;
+		}));
+		methods.add(new Method("get", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += list.get(work.nextPosition());
+			}
+			return sum;
+		}));
+		methods.add(new Method("indexOf", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += list.indexOf(work.nextValue());
+			}
+			return sum;
+		}));
+		methods.add(new Method("lastIndexOf", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += list.lastIndexOf(work.nextValue());
+			}
+			return sum;
+		}));
+		methods.add(new Method("first", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += list.first();
+			}
+			return sum;
+		}));
+		methods.add(new Method("last", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += list.last();
+			}
+			return sum;
+		}));
+		methods.add(new Method("contains", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				if (list.contains(work.nextValue())) {
+					sum++;
+				}
+			}
+			return sum;
+		}));
+		methods.add(new Method("contains (absent)", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				if (list.contains(MARKER)) {
+					sum++;
+				}
+			}
+			return sum;
+		}));
+		methods.add(new Method("isEmpty", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				if (list.isEmpty()) {
+					sum++;
+				}
+			}
+			return sum;
+		}));
+		methods.add(new Method("size", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += list.size();
+			}
+			return sum;
+		}));
+		methods.add(new Method("toString", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += list.toString().length();
+			}
+			return sum;
+		}));
+		methods.add(new Method("addAll/removeRange", (list, work, count) -> {
+			for (int i = 0; i < count; i++) {
+				int size = list.size();
+				list.addAll(work.chunk);
+				list.removeRange(size, size + CHUNK);
+			}
+			return count;
+		}));
+		methods.add(new Method("addAll(int)/removeRange", (list, work, count) -> {
+			for (int i = 0; i < count; i++) {
+				int position = work.nextPosition();
+				list.addAll(position, work.chunk);
+				list.removeRange(position, position + CHUNK);
+			}
+			return count;
+		}));
+		methods.add(new Method("removeIf (no match)", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				if (list.removeIf(element -> element < 0)) {
+					sum++;
+				}
+			}
+			return sum;
+		}));
+		methods.add(new Method("clear/addAll", (list, work, count) -> {
+			for (int i = 0; i < count; i++) {
+				list.clear();
+				list.addAll(work.contents);
+			}
+			return count;
+		}));
+		methods.add(new Method("iterator hasNext/next", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				if (work.iterator == null || !work.iterator.hasNext()) {
+					work.iterator = list.iterator();
+				}
+				sum += work.iterator.next();
+			}
+			return sum;
+		}));
+		methods.add(new Method("iterator remove/addToFront", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				Iterator<Integer> iterator = list.iterator();
+				Integer element = iterator.next();
+				iterator.remove();
+				list.addToFront(element);
+				sum += element;
+			}
+			return sum;
+		}));
+		methods.add(new Method("forEach", (list, work, count) -> {
+			long[] sum = new long[1];
+			for (int i = 0; i < count; i++) {
+				list.forEach(element -> sum[0] += element);
+			}
+			return sum[0];
+		}));
+		methods.add(new Method("stream sum", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += list.stream().mapToLong(Integer::longValue).sum();
+			}
+			return sum;
+		}));
+		methods.add(new Method("listIterator(int)", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				sum += list.listIterator(work.nextPosition()).nextIndex();
+			}
+			return sum;
+		}));
+		methods.add(new Method("listIterator previous", (list, work, count) -> {
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				if (work.listIterator == null || !work.listIterator.hasPrevious()) {
+					work.listIterator = list.listIterator(list.size());
+				}
+				sum += work.listIterator.previous();
+			}
+			return sum;
+		}));
+		methods.add(new Method("listIterator next/set", (list, work, count) -> {
+			for (int i = 0; i < count; i++) {
+				if (work.listIterator == null || !work.listIterator.hasNext()) {
+					work.listIterator = list.listIterator();
+				}
+				work.listIterator.set(work.listIterator.next());
+			}
+			return count;
+		}));
+		methods.add(new Method("listIterator add/remove", (list, work, count) -> {
+			if (work.listIterator == null) {
+				work.listIterator = list.listIterator(list.size() / 2);
+			}
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				work.listIterator.add(MARKER);
+				sum += work.listIterator.previous();
+				work.listIterator.remove();
+			}
+			return sum;
+		}));
+		return methods;
+	}
+
+	/**
+	 * One benchmarked call, or pair of calls that leave the list the same size
+	 */
+	private interface Operation {
+		/**
+		 * Make the calls count times
+		 *
+		 * @param list  filled list to run against
+		 * @param work  arguments for the calls
+		 * @param count number of times to make the calls
+		 * @return a value that depends on the results, for the sink
+		 */
+		long run(IndexedUnsortedList<Integer> list, Workload work, int count);
+	}
+
+	/**
+	 * A named operation
+	 */
+	private static class Method {
+		private final String name;
+		private final Operation operation;
+
+		/**
+		 * Initialize a method to benchmark
+		 *
+		 * @param name      label for the output
+		 * @param operation the calls to time
+		 */
+		public Method(String name, Operation operation) {
+			this.name = name;
+			this.operation = operation;
+		}
+	}
+
+	/**
+	 * The contents of a filled list and the arguments the calls draw from.
+	 * Values are taken from the positions the calls use, so every value
+	 * looked up is in the list.
+	 */
+	private static class Workload {
+		private final Distribution distribution;
+		private final int size;
+		// what a filled list holds, in order
+		private final List<Integer> contents;
+		// elements added and removed as one by the addAll methods
+		private final List<Integer> chunk;
+		private final int[] positions;
+		private final Integer[] values;
+		private int nextArgument;
+		// iterators kept between batches, dropped between methods
+		private Iterator<Integer> iterator;
+		private ListIterator<Integer> listIterator;
+
+		/**
+		 * Initialize the arguments for one size and distribution
+		 *
+		 * @param distribution how values are laid out
+		 * @param size         number of elements in the list
+		 */
+		public Workload(Distribution distribution, int size) {
+			this.distribution = distribution;
+			this.size = size;
+			contents = new ArrayList<Integer>(size);
+			for (int i = 0; i < size; i++) {
+				contents.add(distribution.valueAt(i, size));
+			}
+			chunk = new ArrayList<Integer>();
+			for (int i = 0; i < CHUNK; i++) {
+				chunk.add(MARKER);
+			}
+			// the same seed for every list, so they all see the same calls
+			Random random = new Random(size);
+			positions = new int[ARGUMENTS];
+			values = new Integer[ARGUMENTS];
+			for (int i = 0; i < ARGUMENTS; i++) {
+				positions[i] = random.nextInt(size);
+				values[i] = contents.get(random.nextInt(size));
+			}
+		}
+
+		/**
+		 * Forget the iterators of the previous method and start the
+		 * arguments over
+		 */
+		public void reset() {
+			nextArgument = 0;
+			iterator = null;
+			listIterator = null;
+		}
+
+		/**
+		 * Returns the next random index, 0 <= index < size
+		 *
+		 * @return an index in the list
+		 */
+		public int nextPosition() {
+			nextArgument = (nextArgument + 1) & (ARGUMENTS - 1);
+			return positions[nextArgument];
+		}
+
+		/**
+		 * Returns the next random value, one that is in the filled list
+		 *
+		 * @return a value in the list
+		 */
+		public Integer nextValue() {
+			nextArgument = (nextArgument + 1) & (ARGUMENTS - 1);
+			return values[nextArgument];
+		}
+	}
+}
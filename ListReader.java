@@ -0,0 +1,212 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+
+/**
+ * Streams a list written by ListWriter, or stored by IUMappedList, back
+ * into any IndexedUnsortedList. The header is read first, so the element
+ * count is known before the list is created. The list factory is handed
+ * that count, which lets an array based list allocate its exact capacity
+ * up front and never regrow while it is filled.
+ *
+ * The count is only trusted as far as the data can back it. From a file,
+ * or any other channel that knows its size, the factory is never handed
+ * more than the records left in the channel. From other channels it is
+ * handed at most MAX_PRESIZE, and a longer list grows as it is filled. A
+ * corrupt count then ends in EOFException rather than a huge allocation.
+ *
+ * Records are read through a single reusable buffer and decoded with an
+ * ElementCodec of the same width they were written with. A reader reuses
+ * its buffer, so it must not be shared between threads.
+ *
+ * @param <T> - type of elements being read
+ */
+public class ListReader<T> {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    // Largest count handed to the factory when the channel size is unknown
+    public static final int MAX_PRESIZE = 1 << 20;
+    private final ElementCodec<? extends T> codec;
+    private final int width;
+    private final ByteBuffer buffer;
+
+    /**
+     * Create a reader with the default buffer size.
+     *
+     * @param codec converts bytes back to elements
+     */
+    public ListReader(ElementCodec<? extends T> codec) {
+        this(codec, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a reader that reads about bufferSize bytes from the channel at
+     * a time. The buffer always holds at least the header and one record.
+     *
+     * @param codec      converts bytes back to elements
+     * @param bufferSize bytes to read at a time
+     */
+    public ListReader(ElementCodec<? extends T> codec, int bufferSize) {
+        if (codec == null) {
+            throw new NullPointerException();
+        }
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("codec width must be positive: " + codec.width());
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Illegal buffer size: " + bufferSize);
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        // Whole records only, so a record is never split between two reads
+        int records = Math.max(bufferSize / width, (IUMappedList.HEADER_SIZE + width - 1) / width);
+        this.buffer = ByteBuffer.allocateDirect(Math.max(records, 1) * width);
+    }
+
+    /**
+     * Read a list into an IUArrayList whose capacity is exactly the number
+     * of elements read, up to MAX_PRESIZE when the channel size is unknown.
+     *
+     * @param channel where the bytes come from
+     * @return the list that was read
+     * @throws IOException if reading fails or the data is not a list in
+     *                     this codec's width
+     */
+    public IUArrayList<T> readArrayList(ReadableByteChannel channel) throws IOException {
+        return read(channel, IUArrayList::new);
+    }
+
+    /**
+     * Read a list into an IUSingleLinkedList.
+     *
+     * @param channel where the bytes come from
+     * @return the list that was read
+     * @throws IOException if reading fails or the data is not a list in
+     *                     this codec's width
+     */
+    public IUSingleLinkedList<T> readSingleLinkedList(ReadableByteChannel channel) throws IOException {
+        return read(channel, count -> new IUSingleLinkedList<T>());
+    }
+
+    /**
+     * Read a list into an IUDoubleLinkedList.
+     *
+     * @param channel where the bytes come from
+     * @return the list that was read
+     * @throws IOException if reading fails or the data is not a list in
+     *                     this codec's width
+     */
+    public IUDoubleLinkedList<T> readDoubleLinkedList(ReadableByteChannel channel) throws IOException {
+        return read(channel, count -> new IUDoubleLinkedList<T>());
+    }
+
+    /**
+     * Read a list from a file into the list the factory creates.
+     *
+     * @param <L>     type of list to build
+     * @param path    the file to read
+     * @param factory creates an empty list, given the number of elements
+     *                expected to be added to it
+     * @return the list that was read
+     * @throws IOException if reading fails or the file is not a list in
+     *                     this codec's width
+     */
+    public <L extends IndexedUnsortedList<T>> L read(Path path, IntFunction<? extends L> factory)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel, factory);
+        }
+    }
+
+    /**
+     * Read the header and then every record from the channel, adding the
+     * decoded elements to the rear of the list the factory creates. The
+     * channel is left open, positioned just after the last record.
+     *
+     * @param <L>     type of list to build
+     * @param channel where the bytes come from
+     * @param factory creates an empty list, given the number of elements
+     *                expected to be added to it
+     * @return the list that was read
+     * @throws EOFException if the channel ends before the last record
+     * @throws IOException  if reading fails or the data is not a list in
+     *                      this codec's width
+     */
+    public <L extends IndexedUnsortedList<T>> L read(ReadableByteChannel channel, IntFunction<? extends L> factory)
+            throws IOException {
+        if (channel == null || factory == null) {
+            throw new NullPointerException();
+        }
+
+        buffer.clear();
+        buffer.limit(IUMappedList.HEADER_SIZE);
+        fill(channel);
+        if (buffer.getInt(0) != IUMappedList.MAGIC) {
+            throw new IOException("not a serialized list");
+        }
+        if (buffer.getInt(4) != IUMappedList.FORMAT_VERSION) {
+            throw new IOException("unsupported format version: " + buffer.getInt(4));
+        }
+        if (buffer.getInt(8) != width) {
+            throw new IOException("data holds " + buffer.getInt(8) + " byte elements, codec uses " + width);
+        }
+        int count = buffer.getInt(12);
+        if (count < 0) {
+            throw new IOException("corrupt element count: " + count);
+        }
+
+        L list = factory.apply(Math.min(count, presizeLimit(channel)));
+        int recordsPerRead = buffer.capacity() / width;
+        int remaining = count;
+        while (remaining > 0) {
+            // Only ask for the records that belong to this list
+            int records = Math.min(remaining, recordsPerRead);
+            buffer.clear();
+            buffer.limit(records * width);
+            fill(channel);
+            for (int offset = 0; offset < records * width; offset += width) {
+                list.addToRear(codec.read(buffer, offset));
+            }
+            remaining -= records;
+        }
+        return list;
+    }
+
+    /**
+     * Returns the most elements the factory may be told to expect: the
+     * whole records left in a channel that knows its size, otherwise
+     * MAX_PRESIZE.
+     *
+     * @param channel where the records come from
+     * @return the largest count to presize for
+     * @throws IOException if the channel size cannot be read
+     */
+    private int presizeLimit(ReadableByteChannel channel) throws IOException {
+        if (channel instanceof SeekableByteChannel) {
+            SeekableByteChannel seekable = (SeekableByteChannel) channel;
+            long records = Math.max(seekable.size() - seekable.position(), 0) / width;
+            return (int) Math.min(records, Integer.MAX_VALUE);
+        }
+        return MAX_PRESIZE;
+    }
+
+    /**
+     * Read from the channel until the buffer reaches its limit.
+     *
+     * @param channel where the bytes come from
+     * @throws EOFException if the channel ends first
+     * @throws IOException  if reading fails
+     */
+    private void fill(ReadableByteChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("list data ends early");
+            }
+        }
+    }
+}
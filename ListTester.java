@@ -1,7 +1,17 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A unit test class for lists that implement IndexedUnsortedList.
@@ -18,10 +28,14 @@ import java.util.NoSuchElementException;
 public class ListTester {
 	// possible lists that could be tested
 	private static enum ListToUse {
-		goodList, badList, arrayList, singleLinkedList, doubleLinkedList
+		goodList, badList, arrayList, singleLinkedList, doubleLinkedList, ringArrayList, offHeapList, gapBufferList, mappedList,
+		unrolledList, skipList, treeList, compactList, shrinkingArrayList,
+		indexedArrayList, indexedDoubleLinkedList, pooledDoubleLinkedList,
+		intArrayList, intDoubleLinkedList
 	};
 
 	// TODO: THIS IS WHERE YOU CHOOSE WHICH LIST TO TEST
+	// default when no lists are named on the command line
 	private final static ListToUse LIST_TO_USE = ListToUse.doubleLinkedList;
 
 	// possible results expected in tests
@@ -41,6 +55,11 @@ public class ListTester {
 	private static final Integer ELEMENT_D = 4;
 	private static final Integer ELEMENT_X = -1;// element that should appear in no lists
 	private static final Integer ELEMENT_Z = -2;// element that should appear in no lists
+	// long enough that a linked list spliterator's first split leaves elements
+	private static final int SHRINK_SIZE = 2000;
+
+	// implementation under test by this tester
+	private final ListToUse implementation;
 
 	// determine whether to include ListIterator functionality tests
 	private final boolean SUPPORTS_LIST_ITERATOR; // initialized in constructor
@@ -54,6 +73,10 @@ public class ListTester {
 	private int secPasses = 0;
 	private int secFails = 0;
 
+	// the mapped list in use and its temporary file
+	private Path mappedFile;
+	private IUMappedList<Integer> openMappedList;
+
 	// control output - modified by command-line args
 	private boolean printFailuresOnly = true;
 	private boolean showToString = true;
@@ -64,21 +87,101 @@ public class ListTester {
 	 * -a : print results from all tests (default is to print failed tests, only)
 	 * -s : hide Strings from toString() tests
 	 * -m : hide section summaries in output
+	 * Any other args name the lists to test, e.g. arrayList doubleLinkedList,
+	 * or all for every list. The whole suite runs against each list in turn
+	 * and a side-by-side summary follows. With no names, LIST_TO_USE is tested.
 	 * 
-	 * @param args not used
+	 * @param args command line args
 	 */
 	public static void main(String[] args) {
-		// to avoid every method being static
-		ListTester tester = new ListTester(args);
-		tester.runTests();
+		ArrayList<ListToUse> implementations = new ArrayList<ListToUse>();
+		for (String arg : args) {
+			if (arg.startsWith("-")) {
+				continue;
+			}
+			if (arg.equalsIgnoreCase("all")) {
+				for (ListToUse list : ListToUse.values()) {
+					implementations.add(list);
+				}
+				continue;
+			}
+			ListToUse named = null;
+			for (ListToUse list : ListToUse.values()) {
+				if (list.name().equalsIgnoreCase(arg)) {
+					named = list;
+				}
+			}
+			if (named == null) {
+				System.err.println("Unknown list: " + arg);
+				System.err.println("Valid lists: all " + Arrays.toString(ListToUse.values()));
+				return;
+			}
+			implementations.add(named);
+		}
+		if (implementations.isEmpty()) {
+			implementations.add(LIST_TO_USE);
+		}
+
+		int count = implementations.size();
+		ListTester[] testers = new ListTester[count];
+		long[] durations = new long[count];
+		String[] errors = new String[count];
+		for (int i = 0; i < count; i++) {
+			// to avoid every method being static
+			testers[i] = new ListTester(implementations.get(i), args);
+			if (count > 1) {
+				System.out.println("\n=== " + implementations.get(i) + " ===");
+			}
+			long start = System.nanoTime();
+			try {
+				testers[i].runTests();
+			} catch (RuntimeException | StackOverflowError e) {
+				// a broken list must not stop the lists after it
+				errors[i] = e.toString();
+				System.out.println("Aborted: " + errors[i]);
+			}
+			durations[i] = System.nanoTime() - start;
+		}
+		if (count > 1) {
+			printMatrixSummary(testers, durations, errors);
+		}
 	}
 
 	/**
-	 * tester constructor
+	 * Print one line per tested list with its totals and run time
+	 * 
+	 * @param testers   the testers that ran, one per list
+	 * @param durations nanoseconds each tester took
+	 * @param errors    the exception that aborted each run, or null
+	 */
+	private static void printMatrixSummary(ListTester[] testers, long[] durations, String[] errors) {
+		System.out.println("\nImplementation Summary");
+		System.out.printf("%-24s %8s %8s %8s %8s  %s\n", "List", "Tests", "Passed", "Failed", "ms", "Verdict");
+		for (int i = 0; i < testers.length; i++) {
+			ListTester tester = testers[i];
+			String verdict = (errors[i] != null) ? "ABORTED" : (tester.failures == 0 ? "PASS" : "FAIL");
+			System.out.printf("%-24s %8d %8d %8d %8.1f  %s\n", tester.implementation, tester.totalRun,
+					tester.passes, tester.failures, durations[i] / 1e6, verdict);
+		}
+	}
+
+	/**
+	 * tester constructor for the default list, LIST_TO_USE
 	 * 
 	 * @param args command line args
 	 */
 	public ListTester(String[] args) {
+		this(LIST_TO_USE, args);
+	}
+
+	/**
+	 * tester constructor
+	 * 
+	 * @param implementation list to test
+	 * @param args           command line args
+	 */
+	private ListTester(ListToUse implementation, String[] args) {
+		this.implementation = implementation;
 		for (String arg : args) {
 			if (arg.equalsIgnoreCase("-a"))
 				printFailuresOnly = false;
@@ -87,8 +190,21 @@ public class ListTester {
 			if (arg.equalsIgnoreCase("-m"))
 				printSectionSummaries = false;
 		}
-		switch (LIST_TO_USE) {
+		switch (implementation) {
+			case arrayList:
 			case doubleLinkedList:
+			case ringArrayList:
+			case offHeapList:
+			case mappedList:
+			case skipList:
+			case treeList:
+			case gapBufferList:
+			case unrolledList:
+			case compactList:
+			case shrinkingArrayList:
+			case indexedArrayList:
+			case indexedDoubleLinkedList:
+			case pooledDoubleLinkedList:
 				SUPPORTS_LIST_ITERATOR = true;
 				break;
 			default:
@@ -115,6 +231,46 @@ public class ListTester {
 		}
 	}
 
+	/**
+	 * Report a section that threw before all its tests ran. The section counts
+	 * as one failed test, so a list that cannot complete the suite never
+	 * reports a clean verdict.
+	 * 
+	 * @param sectionName name of the section that did not complete
+	 * @param e           the exception that stopped it
+	 */
+	private void printUnableToRun(String sectionName, Exception e) {
+		totalRun++;
+		failures++;
+		System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", sectionName);
+		e.printStackTrace();
+	}
+
+	/**
+	 * Check that a scenario can be built before running its tests. Lists
+	 * without a ListIterator cannot build the scenarios that use one, so
+	 * those scenarios are skipped rather than counted. Any other exception is
+	 * left for the tests to report.
+	 * 
+	 * @param scenario     lambda reference to scenario builder method
+	 * @param scenarioName name of the scenario being tested
+	 * @return true if the scenario's tests should run
+	 */
+	private boolean canBuild(Scenario<Integer> scenario, String scenarioName) {
+		if (SUPPORTS_LIST_ITERATOR) {
+			return true;
+		}
+		try {
+			scenario.build();
+		} catch (UnsupportedOperationException e) {
+			System.out.printf("SKIPPED %s: needs a ListIterator\n", scenarioName);
+			return false;
+		} catch (RuntimeException e) {
+			// reported when the tests run
+		}
+		return true;
+	}
+
 	/** Print a final summary */
 	private void printFinalSummary() {
 		String verdict = String.format("\nTotal Tests Run: %d,  Passed: %d (%.1f%%),  Failed: %d\n",
@@ -318,11 +474,59 @@ public class ListTester {
 				STRING_ADC); // 81
 		testThreeElementList(ABC_ListIterIndex3PreviousSetD_ABD, "ABC_ListIterIndex3PreviousSetD_ABD", LIST_ABD,
 				STRING_ABD); // 82
+		// bulk operations
+		testSingleElementList(A_addAllEmpty_A, "A_addAllEmpty_A", LIST_A, STRING_A);
+		testTwoElementList(emptyList_addAllAB_AB, "emptyList_addAllAB_AB", LIST_AB, STRING_AB);
+		testTwoElementList(A_addAll0B_BA, "A_addAll0B_BA", LIST_BA, STRING_BA);
+		testThreeElementList(A_addAll1BC_ABC, "A_addAll1BC_ABC", LIST_ABC, STRING_ABC);
+		testThreeElementList(AB_addAll1C_ACB, "AB_addAll1C_ACB", LIST_ACB, STRING_ACB);
+		testTwoElementList(ABC_removeIfB_AC, "ABC_removeIfB_AC", LIST_AC, STRING_AC);
+		testSingleElementList(ABC_removeIfAB_C, "ABC_removeIfAB_C", LIST_C, STRING_C);
+		testThreeElementList(ABC_removeIfX_ABC, "ABC_removeIfX_ABC", LIST_ABC, STRING_ABC);
+		testEmptyList(ABC_removeIfAll_emptyList, "ABC_removeIfAll_emptyList");
+		testTwoElementList(ABC_removeRange01_BC, "ABC_removeRange01_BC", LIST_BC, STRING_BC);
+		testTwoElementList(ABC_removeRange12_AC, "ABC_removeRange12_AC", LIST_AC, STRING_AC);
+		testSingleElementList(ABC_removeRange13_A, "ABC_removeRange13_A", LIST_A, STRING_A);
+		testThreeElementList(ABC_removeRange11_ABC, "ABC_removeRange11_ABC", LIST_ABC, STRING_ABC);
+		testEmptyList(ABC_removeRange03_emptyList, "ABC_removeRange03_emptyList");
+		testEmptyList(ABC_clear_emptyList, "ABC_clear_emptyList");
+		testSingleElementList(ABC_clearAddToRearA_A, "ABC_clearAddToRearA_A", LIST_A, STRING_A);
+		// array capacity, for the lists built on IUArrayList
+		if (newList() instanceof IUArrayList) {
+			testThreeElementList(ABC_trimToSize_ABC, "ABC_trimToSize_ABC", LIST_ABC, STRING_ABC);
+			testTwoElementList(AB_ensureCapacity100_AB, "AB_ensureCapacity100_AB", LIST_AB, STRING_AB);
+			testTwoElementList(ABC_trimToSizeRemoveLast_AB, "ABC_trimToSizeRemoveLast_AB", LIST_AB, STRING_AB);
+		}
+		// split and concat, for IUTreeList
+		if (newList() instanceof IUTreeList) {
+			testThreeElementList(A_concatBC_ABC, "A_concatBC_ABC", LIST_ABC, STRING_ABC);
+			testTwoElementList(emptyList_concatAB_AB, "emptyList_concatAB_AB", LIST_AB, STRING_AB);
+			testSingleElementList(A_concatEmpty_A, "A_concatEmpty_A", LIST_A, STRING_A);
+			testSingleElementList(ABC_split1_A, "ABC_split1_A", LIST_A, STRING_A);
+			testTwoElementList(ABC_split1Rest_BC, "ABC_split1Rest_BC", LIST_BC, STRING_BC);
+			testEmptyList(ABC_split0_emptyList, "ABC_split0_emptyList");
+			testEmptyList(ABC_split3Rest_emptyList, "ABC_split3Rest_emptyList");
+			testThreeElementList(ABC_split2Concat_ABC, "ABC_split2Concat_ABC", LIST_ABC, STRING_ABC);
+		}
+		// element index built from existing contents
+		IndexedUnsortedList<Integer> indexable = newList();
+		if (indexable instanceof IUArrayList || indexable instanceof IUDoubleLinkedList) {
+			testThreeElementList(ABC_enableElementIndex_ABC, "ABC_enableElementIndex_ABC", LIST_ABC, STRING_ABC);
+			testThreeElementList(CBC_enableElementIndex_CBC, "CBC_enableElementIndex_CBC", LIST_CBC, STRING_CBC);
+		}
+		// elements removed and added back, which reuses pooled nodes
+		testThreeElementList(ABC_removeEndsAddEnds_ABC, "ABC_removeEndsAddEnds_ABC", LIST_ABC, STRING_ABC);
+		testThreeElementList(ABC_removeMiddleAddMiddle_ABC, "ABC_removeMiddleAddMiddle_ABC", LIST_ABC, STRING_ABC);
 		// Iterator concurrency tests
 		test_IterConcurrency();
 		if (SUPPORTS_LIST_ITERATOR) {
 			test_ListIterConcurrency();
 		}
+		test_BulkOperations();
+		test_SpliteratorConcurrency();
+		test_ForEachConcurrency();
+
+		closeMappedList();
 
 		// report final verdict
 		printFinalSummary();
@@ -342,34 +546,145 @@ public class ListTester {
 	 */
 	private IndexedUnsortedList<Integer> newList() {
 		IndexedUnsortedList<Integer> listToUse;
-		switch (LIST_TO_USE) {
-			// case goodList:
-			// listToUse = new GoodList<Integer>();
-			// break;
-			// case badList:
-			// listToUse = new BadList<Integer>();
-			// break;
-			// case arrayList:
-			// listToUse = new IUArrayList<Integer>();
-			// break;
-			// case singleLinkedList:
-			// listToUse = new IUSingleLinkedList<Integer>();
-			// break;
+		switch (implementation) {
+			case goodList:
+				listToUse = new GoodList<Integer>();
+				break;
+			case badList:
+				listToUse = new BadList<Integer>();
+				break;
+			case arrayList:
+				listToUse = new IUArrayList<Integer>();
+				break;
+			case singleLinkedList:
+				listToUse = new IUSingleLinkedList<Integer>();
+				break;
 			case doubleLinkedList:
 				listToUse = new IUDoubleLinkedList<Integer>();
 				break;
+			case ringArrayList:
+				listToUse = new IURingArrayList<Integer>();
+				break;
+			case offHeapList:
+				listToUse = new IUOffHeapList<Integer>(ElementCodec.INTEGER);
+				break;
+			case gapBufferList:
+				listToUse = new IUGapBufferList<Integer>();
+				break;
+			case mappedList:
+				listToUse = newMappedList();
+				break;
+			case unrolledList:
+				listToUse = new IUUnrolledLinkedList<Integer>();
+				break;
+			case skipList:
+				listToUse = new IUSkipList<Integer>();
+				break;
+			case treeList:
+				listToUse = new IUTreeList<Integer>();
+				break;
+			case compactList:
+				listToUse = new IUCompactLinkedList<Integer>();
+				break;
+			case shrinkingArrayList:
+				listToUse = newShrinkingArrayList();
+				break;
+			case indexedArrayList:
+				IUArrayList<Integer> indexedArrayList = new IUArrayList<Integer>();
+				indexedArrayList.enableElementIndex();
+				listToUse = indexedArrayList;
+				break;
+			case indexedDoubleLinkedList:
+				IUDoubleLinkedList<Integer> indexedLinkedList = new IUDoubleLinkedList<Integer>();
+				indexedLinkedList.enableElementIndex();
+				listToUse = indexedLinkedList;
+				break;
+			case pooledDoubleLinkedList:
+				listToUse = new IUDoubleLinkedList<Integer>(2);
+				break;
+			case intArrayList:
+				listToUse = new IntListAdapter(new IntArrayList());
+				break;
+			case intDoubleLinkedList:
+				listToUse = new IntListAdapter(new IntDoubleLinkedList());
+				break;
 			default:
 				listToUse = null;
 		}
 		return listToUse;
 	}
 
+	/**
+	 * Create an IUArrayList whose growth policy also shrinks the array, and
+	 * trim it, so the first add has to grow an empty array and removes give
+	 * memory back.
+	 * 
+	 * @return a new empty array list with no spare capacity
+	 */
+	private IndexedUnsortedList<Integer> newShrinkingArrayList() {
+		IUArrayList<Integer> list = new IUArrayList<Integer>(4,
+				GrowthPolicy.autoShrink(GrowthPolicy.factor(1.5), 0.25, 1));
+		list.ensureCapacity(16);
+		list.trimToSize();
+		return list;
+	}
+
+	/**
+	 * Open an IUMappedList over a new temporary file. Tests use one list at a
+	 * time, so the list opened before is closed and its file deleted first,
+	 * and the tester never holds more than one file open.
+	 * 
+	 * @return a new empty mapped list
+	 */
+	private IndexedUnsortedList<Integer> newMappedList() {
+		try {
+			closeMappedList();
+			mappedFile = Files.createTempFile("ListTester", ".list");
+			openMappedList = IUMappedList.open(mappedFile, ElementCodec.INTEGER);
+			return openMappedList;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Close the mapped list opened last, if any, and delete its file
+	 */
+	private void closeMappedList() {
+		if (openMappedList == null) {
+			return;
+		}
+		try {
+			openMappedList.close();
+			Files.delete(mappedFile);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			openMappedList = null;
+			mappedFile = null;
+		}
+	}
+
 	// The following creates a "lambda" reference that allows us to pass a scenario
 	// builder method as an argument. You don't need to worry about how it works -
 	// just make sure each scenario building method has a corresponding Scenario
 	// assignment statement as in these examples.
 	private Scenario<Integer> newList = () -> newList();
 
+	/**
+	 * Returns a new list holding the values 0 to count - 1
+	 * 
+	 * @param count number of elements
+	 * @return [0 1 ... count-1]
+	 */
+	private IndexedUnsortedList<Integer> newListOfSize(int count) {
+		IndexedUnsortedList<Integer> list = newList();
+		for (int i = 0; i < count; i++) {
+			list.addToRear(i);
+		}
+		return list;
+	}
+
 	/////////////////////////////
 	// empty to 1-element list //
 	/////////////////////////////
@@ -1658,674 +1973,478 @@ public class ListTester {
 
 	private Scenario<Integer> ABC_ListIterIndex3PreviousSetD_ABD = () -> ABC_ListIterIndex3PreviousSetD_ABD();
 
-	/////////////////////////////////
-	// XXX Tests for 0-element list
-	/////////////////////////////////
+	//////////////////////////////////////
+	// BULK OPERATION SCENARIO BUILDERS //
+	//////////////////////////////////////
 
 	/**
-	 * Run all tests on scenarios resulting in an empty list
+	 * Scenario: empty list -> addAll([A,B]) -> [A,B]
 	 * 
-	 * @param scenario     lambda reference to scenario builder method
-	 * @param scenarioName name of the scenario being tested
+	 * @return [A,B] after addAll([A,B])
 	 */
-	private void testEmptyList(Scenario<Integer> scenario, String scenarioName) {
-		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
-		try {
-			// IndexedUnsortedList
-			printTest(scenarioName + "_testRemoveFirst", testRemoveFirst(scenario.build(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testRemoveLast", testRemoveLast(scenario.build(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testRemoveX", testRemoveElement(scenario.build(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testLast", testLast(scenario.build(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
-			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.True));
-			printTest(scenarioName + "_testSize", testSize(scenario.build(), 0));
-			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
-			printTest(scenarioName + "_testAddToFront",
-					testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAfterX",
-					testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
-			printTest(scenarioName + "_testAddAtIndexNeg1",
-					testAddAtIndex(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAddAtIndex0",
-					testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex1",
-					testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAddX", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
-			printTest(scenarioName + "_testRemoveNeg1",
-					testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testRemove0",
-					testRemoveIndex(scenario.build(), 0, null, Result.IndexOutOfBounds));
-			// Iterator
-			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException)); // Existential test,
-																									// creates an
-																									// iterator
-			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.False));
-			printTest(scenarioName + "_testIterNext",
-					testIterNext(scenario.build().iterator(), null, Result.NoSuchElement));
-			printTest(scenarioName + "_testIterRemove",
-					testIterRemove(scenario.build().iterator(), Result.IllegalState));
-			// ListIterator
-			if (SUPPORTS_LIST_ITERATOR) {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
-				printTest(scenarioName + "_testListIterNeg1",
-						testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
-				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIterHasNext",
-						testIterHasNext(scenario.build().listIterator(), Result.False));
-				printTest(scenarioName + "_testListIterNext",
-						testIterNext(scenario.build().listIterator(), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIterRemove",
-						testIterRemove(scenario.build().listIterator(), Result.IllegalState));
-				printTest(scenarioName + "_testListIterHasPrevious",
-						testListIterHasPrevious(scenario.build().listIterator(), Result.False));
-				printTest(scenarioName + "_testListIterPrevious",
-						testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIterAdd",
-						testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterSet",
-						testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextIndex",
-						testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0NextIndex",
-						testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterPreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0PreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
-			} else {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
-				printTest(scenarioName + "_testListIter0",
-						testListIter(scenario.build(), 0, Result.UnsupportedOperation));
-			}
-		} catch (Exception e) {
-			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
-			e.printStackTrace();
-		} finally {
-			if (printSectionSummaries) {
-				printSectionSummary();
-			}
-		}
+	private IndexedUnsortedList<Integer> emptyList_addAllAB_AB() {
+		IndexedUnsortedList<Integer> list = newList();
+		list.addAll(Arrays.asList(ELEMENT_A, ELEMENT_B));
+		return list;
 	}
 
-	//////////////////////////////////
-	// XXX Tests for 1-element list
-	//////////////////////////////////
+	private Scenario<Integer> emptyList_addAllAB_AB = () -> emptyList_addAllAB_AB();
 
 	/**
-	 * Run all tests on scenarios resulting in a single element list
+	 * Scenario: [A] -> addAll([]) -> [A]
 	 * 
-	 * @param scenario       lambda reference to scenario builder method
-	 * @param scenarioName   name of the scenario being tested
-	 * @param contents       elements expected in the list after scenario has been
-	 *                       set up
-	 * @param contentsString contains character labels corresponding to values in
-	 *                       contents
+	 * @return [A] after addAll([])
 	 */
-	private void testSingleElementList(Scenario<Integer> scenario, String scenarioName, Integer[] contents,
-			String contentsString) {
-		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
-		try {
-			// IndexedUnsortedList
-			printTest(scenarioName + "_testRemoveFirst",
-					testRemoveFirst(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveLast",
-					testRemoveLast(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveCharAt0" + contentsString.charAt(0),
-					testRemoveElement(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveX",
-					testRemoveElement(scenario.build(), ELEMENT_X, Result.NoSuchElement));
-			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testLast", testLast(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testContains" + contentsString.charAt(0),
-					testContains(scenario.build(), contents[0], Result.True));
-			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
-			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.False));
-			printTest(scenarioName + "_testSize", testSize(scenario.build(), 1));
-			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
-			printTest(scenarioName + "_testAddToFront",
-					testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAfter" + contentsString.charAt(0),
-					testAddAfter(scenario.build(), contents[0], ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAfterX",
-					testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
-			printTest(scenarioName + "_testAddAtIndexNeg1",
-					testAddAtIndex(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAddAtIndex0",
-					testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex1",
-					testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex2",
-					testAddAtIndex(scenario.build(), 2, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testSet1", testSet(scenario.build(), 1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAdd", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testGet1", testGet(scenario.build(), 1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testIndexOf" + contentsString.charAt(0),
-					testIndexOf(scenario.build(), contents[0], 0));
-			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
-			printTest(scenarioName + "_testRemoveNeg1",
-					testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testRemove0",
-					testRemoveIndex(scenario.build(), 0, contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemove1",
-					testRemoveIndex(scenario.build(), 1, null, Result.IndexOutOfBounds));
-			// Iterator
-			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException)); // Existential test,
-																									// creates an
-																									// iterator
+	private IndexedUnsortedList<Integer> A_addAllEmpty_A() {
+		IndexedUnsortedList<Integer> list = emptyList_addToFrontA_A();
+		list.addAll(new ArrayList<Integer>());
+		return list;
+	}
 
-			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
-			printTest(scenarioName + "_testIterNext",
-					testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testIterRemove",
-					testIterRemove(scenario.build().iterator(), Result.IllegalState));
+	private Scenario<Integer> A_addAllEmpty_A = () -> A_addAllEmpty_A();
 
-			printTest(scenarioName + "_iterNext_testIterHasNext",
-					testIterHasNext(iterAfterNext(scenario.build(), 1), Result.False));
-			printTest(scenarioName + "_iterNext_testIterNext",
-					testIterNext(iterAfterNext(scenario.build(), 1), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext_testIterRemove",
-					testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
+	/**
+	 * Scenario: [A] -> addAll(0, [B]) -> [B,A]
+	 * 
+	 * @return [B,A] after addAll(0, [B])
+	 */
+	private IndexedUnsortedList<Integer> A_addAll0B_BA() {
+		IndexedUnsortedList<Integer> list = emptyList_addToFrontA_A();
+		list.addAll(0, Arrays.asList(ELEMENT_B));
+		return list;
+	}
 
-			printTest(scenarioName + "_iterNextRemove_testIterHasNext",
-					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.False));
-			printTest(scenarioName + "_iterNextRemove_testIterNext",
-					testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNextRemove_testIterRemove",
-					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
-			// ListIterator
-			if (SUPPORTS_LIST_ITERATOR) {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
-				printTest(scenarioName + "_testListIterNeg1",
-						testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
-				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
-				printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.IndexOutOfBounds));
+	private Scenario<Integer> A_addAll0B_BA = () -> A_addAll0B_BA();
 
-				printTest(scenarioName + "_testListIterHasNext",
-						testIterHasNext(scenario.build().listIterator(), Result.True));
-				printTest(scenarioName + "_testListIterNext",
-						testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIterNextIndex",
-						testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterHasPrevious",
-						testListIterHasPrevious(scenario.build().listIterator(), Result.False));
-				printTest(scenarioName + "_testListIterPrevious",
-						testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIterPreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterRemove",
-						testIterRemove(scenario.build().listIterator(), Result.IllegalState));
-				printTest(scenarioName + "_testListIterAdd",
-						testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterSet",
-						testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextRemove",
-						testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
-				printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(
-						listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterNextSet", testListIterSet(
-						listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterNextRemoveRemove",
-						testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)),
-								Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextPreviousRemove",
-						testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
-								Result.NoException));
-				printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(
-						listIterAfterRemove(
-								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)),
-						Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextPreviousAdd",
-						testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
-								ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterNextPreviousSet",
-						testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
-								ELEMENT_X, Result.NoException));
+	/**
+	 * Scenario: [A] -> addAll(1, [B,C]) -> [A,B,C]
+	 * 
+	 * @return [A,B,C] after addAll(1, [B,C])
+	 */
+	private IndexedUnsortedList<Integer> A_addAll1BC_ABC() {
+		IndexedUnsortedList<Integer> list = emptyList_addToFrontA_A();
+		list.addAll(1, Arrays.asList(ELEMENT_B, ELEMENT_C));
+		return list;
+	}
 
-				printTest(scenarioName + "_testListIter0HasNext",
-						testIterHasNext(scenario.build().listIterator(0), Result.True));
-				printTest(scenarioName + "_testListIter0Next",
-						testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0NextIndex",
-						testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0HasPrevious",
-						testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
-				printTest(scenarioName + "_testListIter0Previous",
-						testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter0PreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0Remove",
-						testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
-				printTest(scenarioName + "_testListIter0Add",
-						testListIterAdd(scenario.build().listIterator(0), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0Set",
-						testListIterSet(scenario.build().listIterator(0), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter0NextRemove",
-						testIterRemove(listIterAfterNext(scenario.build().listIterator(0), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter0NextAdd", testListIterAdd(
-						listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0NextSet", testListIterSet(
-						listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousRemove",
-						testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
-								Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousAdd",
-						testListIterAdd(
-								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
-								ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousSet",
-						testListIterSet(
-								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
-								ELEMENT_X, Result.NoException));
+	private Scenario<Integer> A_addAll1BC_ABC = () -> A_addAll1BC_ABC();
 
-				printTest(scenarioName + "_testListIter1HasNext",
-						testIterHasNext(scenario.build().listIterator(1), Result.False));
-				printTest(scenarioName + "_testListIter1Next",
-						testIterNext(scenario.build().listIterator(1), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter1NextIndex",
-						testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1HasPrevious",
-						testListIterHasPrevious(scenario.build().listIterator(1), Result.True));
-				printTest(scenarioName + "_testListIter1Previous",
-						testListIterPrevious(scenario.build().listIterator(1), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1PreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(1), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1Remove",
-						testIterRemove(scenario.build().listIterator(1), Result.IllegalState));
-				printTest(scenarioName + "_testListIter1Add",
-						testListIterAdd(scenario.build().listIterator(1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1Set",
-						testListIterSet(scenario.build().listIterator(1), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter1PreviousRemove",
-						testIterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousAdd", testListIterAdd(
-						listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousSet", testListIterSet(
-						listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextRemove",
-						testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
-								Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextAdd",
-						testListIterAdd(
-								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
-								ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextSet",
-						testListIterSet(
-								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
-								ELEMENT_X, Result.NoException));
-			} else {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
-				printTest(scenarioName + "_testListIter0",
-						testListIter(scenario.build(), 0, Result.UnsupportedOperation));
-			}
-		} catch (Exception e) {
-			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
-			e.printStackTrace();
-		} finally {
-			if (printSectionSummaries) {
-				printSectionSummary();
-			}
-		}
+	/**
+	 * Scenario: [A,B] -> addAll(1, [C]) -> [A,C,B]
+	 * 
+	 * @return [A,C,B] after addAll(1, [C])
+	 */
+	private IndexedUnsortedList<Integer> AB_addAll1C_ACB() {
+		IndexedUnsortedList<Integer> list = A_addToRearB_AB();
+		list.addAll(1, Arrays.asList(ELEMENT_C));
+		return list;
 	}
 
-	/////////////////////////////////
-	// XXX Tests for 2-element list
-	/////////////////////////////////
+	private Scenario<Integer> AB_addAll1C_ACB = () -> AB_addAll1C_ACB();
 
 	/**
-	 * Run all tests on scenarios resulting in a two-element list
+	 * Scenario: [A,B,C] -> removeIf(B) -> [A,C]
 	 * 
-	 * @param scenario       lambda reference to scenario builder method
-	 * @param scenarioName   name of the scenario being tested
-	 * @param contents       elements expected in the list after scenario has been
-	 *                       set up
-	 * @param contentsString contains character labels corresponding to values in
-	 *                       contents
+	 * @return [A,C] after removeIf(element == B)
 	 */
-	private void testTwoElementList(Scenario<Integer> scenario, String scenarioName, Integer[] contents,
-			String contentsString) {
-		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
-		try {
-			printTest(scenarioName + "_testRemoveFirst",
-					testRemoveFirst(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveLast",
-					testRemoveLast(scenario.build(), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveCharAt0" + contentsString.charAt(0),
-					testRemoveElement(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveCharAt1" + contentsString.charAt(1),
-					testRemoveElement(scenario.build(), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveX",
-					testRemoveElement(scenario.build(), ELEMENT_X, Result.NoSuchElement));
-			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testLast", testLast(scenario.build(), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_testContains" + contentsString.charAt(0),
-					testContains(scenario.build(), contents[0], Result.True));
-			printTest(scenarioName + "_testContains" + contentsString.charAt(1),
-					testContains(scenario.build(), contents[1], Result.True));
-			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
-			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.False));
-			printTest(scenarioName + "_testSize", testSize(scenario.build(), 2));
-			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
-			printTest(scenarioName + "_testAddToFront",
-					testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAfter" + contentsString.charAt(0),
-					testAddAfter(scenario.build(), contents[0], ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAfterX",
-					testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
-			printTest(scenarioName + "_testAddAtIndexNeg1",
-					testAddAtIndex(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAddAtIndex0",
-					testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex1",
-					testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex2",
-					testAddAtIndex(scenario.build(), 2, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex3",
-					testAddAtIndex(scenario.build(), 3, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testSet1", testSet(scenario.build(), 1, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testSet2", testSet(scenario.build(), 2, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAdd", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testGet1", testGet(scenario.build(), 1, contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_testGet2", testGet(scenario.build(), 2, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testIndexOf" + contentsString.charAt(0),
-					testIndexOf(scenario.build(), contents[0], 0));
-			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
-			printTest(scenarioName + "_testRemoveNeg1",
-					testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testRemove0",
-					testRemoveIndex(scenario.build(), 0, contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemove1",
-					testRemoveIndex(scenario.build(), 1, contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_testRemove2",
-					testRemoveIndex(scenario.build(), 2, null, Result.IndexOutOfBounds));
-			// Iterator
-			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
-			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
-			printTest(scenarioName + "_testIterNext",
-					testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testIterRemove",
-					testIterRemove(scenario.build().iterator(), Result.IllegalState));
+	private IndexedUnsortedList<Integer> ABC_removeIfB_AC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeIf(element -> element.equals(ELEMENT_B));
+		return list;
+	}
 
-			printTest(scenarioName + "_iterNext0_testIterHasNext",
-					testIterHasNext(iterAfterNext(scenario.build(), 1), Result.True));
-			printTest(scenarioName + "_iterNext0_testIterNext",
-					testIterNext(iterAfterNext(scenario.build(), 1), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_iterNext0_testIterRemove",
-					testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
-			printTest(scenarioName + "_iterNextRemove0_testIterHasNext",
-					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.True));
-			printTest(scenarioName + "_iterNextRemove0_testIterNext", testIterNext(
-					iterAfterRemove(iterAfterNext(scenario.build(), 1)), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_iterNextRemove0_testIterRemove",
-					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
+	private Scenario<Integer> ABC_removeIfB_AC = () -> ABC_removeIfB_AC();
 
-			printTest(scenarioName + "_iterNext1_testIterHasNext",
-					testIterHasNext(iterAfterNext(scenario.build(), 2), Result.False));
-			printTest(scenarioName + "_iterNext1_testIterNext",
-					testIterNext(iterAfterNext(scenario.build(), 2), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext1_testIterRemove",
-					testIterRemove(iterAfterNext(scenario.build(), 2), Result.NoException));
-			printTest(scenarioName + "_iterNextRemove1_testIterHasNext",
-					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.False));
-			printTest(scenarioName + "_iterNextRemove1_testIterNext",
-					testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNextRemove1_testIterRemove",
-					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.IllegalState));
+	/**
+	 * Scenario: [A,B,C] -> removeIf(A or B) -> [C]
+	 * 
+	 * @return [C] after removeIf(element != C)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIfAB_C() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeIf(element -> !element.equals(ELEMENT_C));
+		return list;
+	}
 
-			printTest(scenarioName + "_iterNextRemove2_testIterHasNext",
-					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.False));
-			printTest(scenarioName + "_iterNextRemove2_testIterNext",
-					testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNextRemove2_testIterRemove",
-					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.IllegalState));
+	private Scenario<Integer> ABC_removeIfAB_C = () -> ABC_removeIfAB_C();
 
-			// Helper tests for the iterator
-			printTest(scenarioName + "_iterNextRemoveNext_testIterHasNext", testIterHasNext(
-					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.False));
-			printTest(scenarioName + "_iterNextRemoveNext_testIterNext", testIterNext(
-					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNextRemoveNext_testIterRemove", testIterRemove(
-					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.NoException));
-			// ListIterator
-			if (SUPPORTS_LIST_ITERATOR) {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
-				printTest(scenarioName + "_testListIterNeg1",
-						testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
-				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
-				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
-				printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.NoException));
-				printTest(scenarioName + "_testListIter3", testListIter(scenario.build(), 3, Result.IndexOutOfBounds));
+	/**
+	 * Scenario: [A,B,C] -> removeIf(X) -> [A,B,C]
+	 * 
+	 * @return [A,B,C] after removeIf(element == X)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIfX_ABC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeIf(element -> element.equals(ELEMENT_X));
+		return list;
+	}
 
-				printTest(scenarioName + "_testListIterHasNext",
-						testIterHasNext(scenario.build().listIterator(), Result.True));
-				printTest(scenarioName + "_testListIterNext",
-						testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIterNextIndex",
-						testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterHasPrevious",
-						testListIterHasPrevious(scenario.build().listIterator(), Result.False));
-				printTest(scenarioName + "_testListIterPrevious",
-						testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIterPreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIterRemove",
-						testIterRemove(scenario.build().listIterator(), Result.IllegalState));
-				printTest(scenarioName + "_testListIterAdd",
-						testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterSet",
-						testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextRemove",
-						testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
-				printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(
-						listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterNextSet", testListIterSet(
-						listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterNextRemoveRemove",
-						testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)),
-								Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextPreviousRemove",
-						testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
-								Result.NoException));
-				printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(
-						listIterAfterRemove(
-								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)),
-						Result.IllegalState));
-				printTest(scenarioName + "_testListIterNextPreviousAdd",
-						testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
-								ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIterNextPreviousSet",
-						testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
-								ELEMENT_X, Result.NoException));
+	private Scenario<Integer> ABC_removeIfX_ABC = () -> ABC_removeIfX_ABC();
 
-				printTest(scenarioName + "_testListIter0HasNext",
-						testIterHasNext(scenario.build().listIterator(0), Result.True));
-				printTest(scenarioName + "_testListIter0Next",
-						testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0NextIndex",
-						testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0HasPrevious",
-						testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
-				printTest(scenarioName + "_testListIter0Previous",
-						testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter0PreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter0Remove",
-						testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
-				printTest(scenarioName + "_testListIter0Add",
-						testListIterAdd(scenario.build().listIterator(0), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0Set",
-						testListIterSet(scenario.build().listIterator(0), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter0NextRemove",
-						testIterRemove(listIterAfterNext(scenario.build().listIterator(0), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter0NextAdd", testListIterAdd(
-						listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0NextSet", testListIterSet(
-						listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousRemove",
-						testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
-								Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousAdd",
-						testListIterAdd(
-								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
-								ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter0NextPreviousSet",
-						testListIterSet(
-								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
-								ELEMENT_X, Result.NoException));
+	/**
+	 * Scenario: [A,B,C] -> removeIf(all) -> [ ]
+	 * 
+	 * @return [ ] after removeIf(true)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeIfAll_emptyList() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeIf(element -> true);
+		return list;
+	}
 
-				printTest(scenarioName + "_testListIter1HasNext",
-						testIterHasNext(scenario.build().listIterator(1), Result.True));
-				printTest(scenarioName + "_testListIter1Next",
-						testIterNext(scenario.build().listIterator(1), contents[1], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1NextIndex",
-						testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1HasPrevious",
-						testListIterHasPrevious(scenario.build().listIterator(1), Result.True));
-				printTest(scenarioName + "_testListIter1Previous",
-						testListIterPrevious(scenario.build().listIterator(1), contents[0], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1PreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(1), 0, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter1Remove",
-						testIterRemove(scenario.build().listIterator(1), Result.IllegalState));
-				printTest(scenarioName + "_testListIter1Add",
-						testListIterAdd(scenario.build().listIterator(1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1Set",
-						testListIterSet(scenario.build().listIterator(1), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter1PreviousRemove",
-						testIterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1), Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousAdd", testListIterAdd(
-						listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousSet", testListIterSet(
-						listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextRemove",
-						testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
-								Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextAdd",
-						testListIterAdd(
-								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
-								ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter1PreviousNextSet",
-						testListIterSet(
-								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
-								ELEMENT_X, Result.NoException));
+	private Scenario<Integer> ABC_removeIfAll_emptyList = () -> ABC_removeIfAll_emptyList();
 
-				printTest(scenarioName + "_testListIter2HasNext",
-						testIterHasNext(scenario.build().listIterator(2), Result.False));
-				printTest(scenarioName + "_testListIter2Next",
-						testIterNext(scenario.build().listIterator(2), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter2NextIndex",
-						testListIterNextIndex(scenario.build().listIterator(2), 2, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2HasPrevious",
-						testListIterHasPrevious(scenario.build().listIterator(2), Result.True));
-				printTest(scenarioName + "_testListIter2Previous",
-						testListIterPrevious(scenario.build().listIterator(2), contents[1], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2PreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(2), 1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2Remove",
-						testIterRemove(scenario.build().listIterator(2), Result.IllegalState));
-				printTest(scenarioName + "_testListIter2Add",
-						testListIterAdd(scenario.build().listIterator(2), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter2Set",
-						testListIterSet(scenario.build().listIterator(2), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter2PreviousRemove",
-						testIterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 2), Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousAdd", testListIterAdd(
-						listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousSet", testListIterSet(
-						listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousNextRemove",
-						testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
-								Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousNextAdd",
-						testListIterAdd(
-								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
-								ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousNextSet",
-						testListIterSet(
-								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
-								ELEMENT_X, Result.NoException));
-			} else {
-				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
-				printTest(scenarioName + "_testListIter0",
-						testListIter(scenario.build(), 0, Result.UnsupportedOperation));
-			}
-			// TODO: tests for scenarios ending in a 2-element list
-		} catch (Exception e) {
-			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
-			e.printStackTrace();
-		} finally {
-			if (printSectionSummaries) {
-				printSectionSummary();
-			}
-		}
+	/**
+	 * Scenario: [A,B,C] -> removeRange(0, 1) -> [B,C]
+	 * 
+	 * @return [B,C] after removeRange(0, 1)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeRange01_BC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeRange(0, 1);
+		return list;
 	}
 
-	//////////////////////////////////
-	// XXX Tests for 3-element list
-	//////////////////////////////////
+	private Scenario<Integer> ABC_removeRange01_BC = () -> ABC_removeRange01_BC();
 
 	/**
-	 * Run all tests on scenarios resulting in a three-element list
+	 * Scenario: [A,B,C] -> removeRange(1, 2) -> [A,C]
 	 * 
-	 * @param scenario       lambda reference to scenario builder method
-	 * @param scenarioName   name of the scenario being tested
-	 * @param contents       elements expected in the list after scenario has been
-	 *                       set up
-	 * @param contentsString contains character labels corresponding to values in
-	 *                       contents
+	 * @return [A,C] after removeRange(1, 2)
 	 */
-	private void testThreeElementList(Scenario<Integer> scenario, String scenarioName, Integer[] contents,
-			String contentsString) {
-		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
-		try {
-			// IndexedUnsortedList [A,B,C]
-			printTest(scenarioName + "_testRemoveFirst",
-					testRemoveFirst(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveLast",
-					testRemoveLast(scenario.build(), contents[2], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveCharAt0" + contentsString.charAt(0),
-					testRemoveElement(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveCharAt1" + contentsString.charAt(1),
-					testRemoveElement(scenario.build(), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveCharAt2" + contentsString.charAt(2),
-					testRemoveElement(scenario.build(), contents[2], Result.MatchingValue));
-			printTest(scenarioName + "_testRemoveX",
-					testRemoveElement(scenario.build(), ELEMENT_X, Result.NoSuchElement));
-			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testLast", testLast(scenario.build(), contents[2], Result.MatchingValue));
-			printTest(scenarioName + "_testContains" + contentsString.charAt(0),
-					testContains(scenario.build(), contents[0], Result.True));
-			printTest(scenarioName + "_testContains" + contentsString.charAt(1),
-					testContains(scenario.build(), contents[1], Result.True));
-			printTest(scenarioName + "_testContains" + contentsString.charAt(2),
-					testContains(scenario.build(), contents[2], Result.True));
+	private IndexedUnsortedList<Integer> ABC_removeRange12_AC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeRange(1, 2);
+		return list;
+	}
+
+	private Scenario<Integer> ABC_removeRange12_AC = () -> ABC_removeRange12_AC();
+
+	/**
+	 * Scenario: [A,B,C] -> removeRange(1, 3) -> [A]
+	 * 
+	 * @return [A] after removeRange(1, 3)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeRange13_A() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeRange(1, 3);
+		return list;
+	}
+
+	private Scenario<Integer> ABC_removeRange13_A = () -> ABC_removeRange13_A();
+
+	/**
+	 * Scenario: [A,B,C] -> removeRange(1, 1) -> [A,B,C]
+	 * 
+	 * @return [A,B,C] after removeRange(1, 1)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeRange11_ABC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeRange(1, 1);
+		return list;
+	}
+
+	private Scenario<Integer> ABC_removeRange11_ABC = () -> ABC_removeRange11_ABC();
+
+	/**
+	 * Scenario: [A,B,C] -> removeRange(0, 3) -> [ ]
+	 * 
+	 * @return [ ] after removeRange(0, 3)
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeRange03_emptyList() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeRange(0, 3);
+		return list;
+	}
+
+	private Scenario<Integer> ABC_removeRange03_emptyList = () -> ABC_removeRange03_emptyList();
+
+	/**
+	 * Scenario: [A,B,C] -> clear() -> [ ]
+	 * 
+	 * @return [ ] after clear()
+	 */
+	private IndexedUnsortedList<Integer> ABC_clear_emptyList() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.clear();
+		return list;
+	}
+
+	private Scenario<Integer> ABC_clear_emptyList = () -> ABC_clear_emptyList();
+
+	/**
+	 * Scenario: [A,B,C] -> clear() -> addToRear(A) -> [A]
+	 * 
+	 * @return [A] after clear() and addToRear(A)
+	 */
+	private IndexedUnsortedList<Integer> ABC_clearAddToRearA_A() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.clear();
+		list.addToRear(ELEMENT_A);
+		return list;
+	}
+
+	private Scenario<Integer> ABC_clearAddToRearA_A = () -> ABC_clearAddToRearA_A();
+
+	//////////////////////////////////////
+	// ARRAY CAPACITY SCENARIO BUILDERS //
+	//////////////////////////////////////
+
+	/**
+	 * Scenario: [A,B,C] -> trimToSize() -> [A,B,C]
+	 * 
+	 * @return [A,B,C] with a full array, after trimToSize()
+	 */
+	private IndexedUnsortedList<Integer> ABC_trimToSize_ABC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		((IUArrayList<Integer>) list).trimToSize();
+		return list;
+	}
+
+	private Scenario<Integer> ABC_trimToSize_ABC = () -> ABC_trimToSize_ABC();
+
+	/**
+	 * Scenario: [A,B] -> ensureCapacity(100) -> [A,B]
+	 * 
+	 * @return [A,B] with room for 100 elements, after ensureCapacity(100)
+	 */
+	private IndexedUnsortedList<Integer> AB_ensureCapacity100_AB() {
+		IndexedUnsortedList<Integer> list = A_addToRearB_AB();
+		((IUArrayList<Integer>) list).ensureCapacity(100);
+		return list;
+	}
+
+	private Scenario<Integer> AB_ensureCapacity100_AB = () -> AB_ensureCapacity100_AB();
+
+	/**
+	 * Scenario: [A,B,C] -> trimToSize() -> removeLast() -> [A,B]
+	 * 
+	 * @return [A,B] after removing from a full array
+	 */
+	private IndexedUnsortedList<Integer> ABC_trimToSizeRemoveLast_AB() {
+		IndexedUnsortedList<Integer> list = ABC_trimToSize_ABC();
+		list.removeLast();
+		return list;
+	}
+
+	private Scenario<Integer> ABC_trimToSizeRemoveLast_AB = () -> ABC_trimToSizeRemoveLast_AB();
+
+	//////////////////////////////////////////////
+	// TREE SPLIT AND CONCAT SCENARIO BUILDERS //
+	//////////////////////////////////////////////
+
+	/**
+	 * Scenario: [A] -> concat([B,C]) -> [A,B,C]
+	 * 
+	 * @return [A,B,C] after concat([B,C])
+	 */
+	private IndexedUnsortedList<Integer> A_concatBC_ABC() {
+		IUTreeList<Integer> list = (IUTreeList<Integer>) emptyList_addToFrontA_A();
+		IUTreeList<Integer> other = new IUTreeList<Integer>();
+		other.addToRear(ELEMENT_B);
+		other.addToRear(ELEMENT_C);
+		list.concat(other);
+		return list;
+	}
+
+	private Scenario<Integer> A_concatBC_ABC = () -> A_concatBC_ABC();
+
+	/**
+	 * Scenario: [ ] -> concat([A,B]) -> [A,B]
+	 * 
+	 * @return [A,B] after concat([A,B])
+	 */
+	private IndexedUnsortedList<Integer> emptyList_concatAB_AB() {
+		IUTreeList<Integer> list = (IUTreeList<Integer>) newList();
+		list.concat((IUTreeList<Integer>) A_addToRearB_AB());
+		return list;
+	}
+
+	private Scenario<Integer> emptyList_concatAB_AB = () -> emptyList_concatAB_AB();
+
+	/**
+	 * Scenario: [A] -> concat([ ]) -> [A]
+	 * 
+	 * @return [A] after concat([ ])
+	 */
+	private IndexedUnsortedList<Integer> A_concatEmpty_A() {
+		IUTreeList<Integer> list = (IUTreeList<Integer>) emptyList_addToFrontA_A();
+		list.concat(new IUTreeList<Integer>());
+		return list;
+	}
+
+	private Scenario<Integer> A_concatEmpty_A = () -> A_concatEmpty_A();
+
+	/**
+	 * Scenario: [A,B,C] -> split(1) -> [A]
+	 * 
+	 * @return [A], the list split(1) was called on
+	 */
+	private IndexedUnsortedList<Integer> ABC_split1_A() {
+		IUTreeList<Integer> list = (IUTreeList<Integer>) AB_addToRearC_ABC();
+		list.split(1);
+		return list;
+	}
+
+	private Scenario<Integer> ABC_split1_A = () -> ABC_split1_A();
+
+	/**
+	 * Scenario: [A,B,C] -> split(1) -> returns [B,C]
+	 * 
+	 * @return [B,C], the list split(1) returned
+	 */
+	private IndexedUnsortedList<Integer> ABC_split1Rest_BC() {
+		IUTreeList<Integer> list = (IUTreeList<Integer>) AB_addToRearC_ABC();
+		return list.split(1);
+	}
+
+	private Scenario<Integer> ABC_split1Rest_BC = () -> ABC_split1Rest_BC();
+
+	/**
+	 * Scenario: [A,B,C] -> split(0) -> [ ]
+	 * 
+	 * @return [ ], the list split(0) was called on
+	 */
+	private IndexedUnsortedList<Integer> ABC_split0_emptyList() {
+		IUTreeList<Integer> list = (IUTreeList<Integer>) AB_addToRearC_ABC();
+		list.split(0);
+		return list;
+	}
+
+	private Scenario<Integer> ABC_split0_emptyList = () -> ABC_split0_emptyList();
+
+	/**
+	 * Scenario: [A,B,C] -> split(3) -> returns [ ]
+	 * 
+	 * @return [ ], the list split(3) returned
+	 */
+	private IndexedUnsortedList<Integer> ABC_split3Rest_emptyList() {
+		IUTreeList<Integer> list = (IUTreeList<Integer>) AB_addToRearC_ABC();
+		return list.split(3);
+	}
+
+	private Scenario<Integer> ABC_split3Rest_emptyList = () -> ABC_split3Rest_emptyList();
+
+	/**
+	 * Scenario: [A,B,C] -> split(2), concat the rest back -> [A,B,C]
+	 * 
+	 * @return [A,B,C] after split(2) and concat of the returned list
+	 */
+	private IndexedUnsortedList<Integer> ABC_split2Concat_ABC() {
+		IUTreeList<Integer> list = (IUTreeList<Integer>) AB_addToRearC_ABC();
+		list.concat(list.split(2));
+		return list;
+	}
+
+	private Scenario<Integer> ABC_split2Concat_ABC = () -> ABC_split2Concat_ABC();
+
+	/////////////////////////////////////
+	// ELEMENT INDEX SCENARIO BUILDERS //
+	/////////////////////////////////////
+
+	/**
+	 * Scenario: [A,B,C] -> enableElementIndex() -> [A,B,C]
+	 * 
+	 * @return [A,B,C] with an element index built from existing contents
+	 */
+	private IndexedUnsortedList<Integer> ABC_enableElementIndex_ABC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		if (list instanceof IUArrayList) {
+			((IUArrayList<Integer>) list).enableElementIndex();
+		} else {
+			((IUDoubleLinkedList<Integer>) list).enableElementIndex();
+		}
+		return list;
+	}
+
+	private Scenario<Integer> ABC_enableElementIndex_ABC = () -> ABC_enableElementIndex_ABC();
+
+	/**
+	 * Scenario: [C,B,C] -> enableElementIndex() -> [C,B,C]
+	 * 
+	 * @return [C,B,C] with an element index over a repeated element
+	 */
+	private IndexedUnsortedList<Integer> CBC_enableElementIndex_CBC() {
+		IndexedUnsortedList<Integer> list = ABC_set0C_CBC();
+		if (list instanceof IUArrayList) {
+			((IUArrayList<Integer>) list).enableElementIndex();
+		} else {
+			((IUDoubleLinkedList<Integer>) list).enableElementIndex();
+		}
+		return list;
+	}
+
+	private Scenario<Integer> CBC_enableElementIndex_CBC = () -> CBC_enableElementIndex_CBC();
+
+	//////////////////////////////////
+	// NODE REUSE SCENARIO BUILDERS //
+	//////////////////////////////////
+
+	/**
+	 * Scenario: [A,B,C] -> removeFirst() -> removeLast() -> addToFront(A) ->
+	 * addToRear(C) -> [A,B,C]
+	 * 
+	 * @return [A,B,C] after removing and adding back both ends
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeEndsAddEnds_ABC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.removeFirst();
+		list.removeLast();
+		list.addToFront(ELEMENT_A);
+		list.addToRear(ELEMENT_C);
+		return list;
+	}
+
+	private Scenario<Integer> ABC_removeEndsAddEnds_ABC = () -> ABC_removeEndsAddEnds_ABC();
+
+	/**
+	 * Scenario: [A,B,C] -> remove(1) -> iterator remove A -> add(0, A) ->
+	 * add(1, B) -> [A,B,C]
+	 * 
+	 * @return [A,B,C] after removing and adding back through the middle
+	 */
+	private IndexedUnsortedList<Integer> ABC_removeMiddleAddMiddle_ABC() {
+		IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+		list.remove(1);
+		Iterator<Integer> it = list.iterator();
+		it.next();
+		it.remove();
+		list.add(0, ELEMENT_A);
+		list.add(1, ELEMENT_B);
+		return list;
+	}
+
+	private Scenario<Integer> ABC_removeMiddleAddMiddle_ABC = () -> ABC_removeMiddleAddMiddle_ABC();
+
+	/////////////////////////////////
+	// XXX Tests for 0-element list
+	/////////////////////////////////
+
+	/**
+	 * Run all tests on scenarios resulting in an empty list
+	 * 
+	 * @param scenario     lambda reference to scenario builder method
+	 * @param scenarioName name of the scenario being tested
+	 */
+	private void testEmptyList(Scenario<Integer> scenario, String scenarioName) {
+		if (!canBuild(scenario, scenarioName)) {
+			return;
+		}
+		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
+		try {
+			// IndexedUnsortedList
+			printTest(scenarioName + "_testRemoveFirst", testRemoveFirst(scenario.build(), null, Result.NoSuchElement));
+			printTest(scenarioName + "_testRemoveLast", testRemoveLast(scenario.build(), null, Result.NoSuchElement));
+			printTest(scenarioName + "_testRemoveX", testRemoveElement(scenario.build(), null, Result.NoSuchElement));
+			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), null, Result.NoSuchElement));
+			printTest(scenarioName + "_testLast", testLast(scenario.build(), null, Result.NoSuchElement));
 			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
-			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.False));
-			printTest(scenarioName + "_testSize", testSize(scenario.build(), 3));
+			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.True));
+			printTest(scenarioName + "_testSize", testSize(scenario.build(), 0));
 			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
 			printTest(scenarioName + "_testAddToFront",
 					testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
 			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAfter" + contentsString.charAt(0),
-					testAddAfter(scenario.build(), contents[0], ELEMENT_X, Result.NoException));
 			printTest(scenarioName + "_testAddAfterX",
 					testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
 			printTest(scenarioName + "_testAddAtIndexNeg1",
@@ -2333,98 +2452,214 @@ public class ListTester {
 			printTest(scenarioName + "_testAddAtIndex0",
 					testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
 			printTest(scenarioName + "_testAddAtIndex1",
-					testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex2",
-					testAddAtIndex(scenario.build(), 2, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex3",
-					testAddAtIndex(scenario.build(), 3, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testAddAtIndex4",
-					testAddAtIndex(scenario.build(), 4, ELEMENT_X, Result.IndexOutOfBounds));
+					testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.IndexOutOfBounds));
 			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testSet1", testSet(scenario.build(), 1, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testSet2", testSet(scenario.build(), 2, ELEMENT_X, Result.NoException));
-			printTest(scenarioName + "_testSet3", testSet(scenario.build(), 3, ELEMENT_X, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testAdd", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAddX", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
 			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testGet1", testGet(scenario.build(), 1, contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_testGet2", testGet(scenario.build(), 2, contents[2], Result.MatchingValue));
-			printTest(scenarioName + "_testGet3", testGet(scenario.build(), 3, null, Result.IndexOutOfBounds));
-			printTest(scenarioName + "_testIndexOf" + contentsString.charAt(0),
-					testIndexOf(scenario.build(), contents[0], 0));
+			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, null, Result.IndexOutOfBounds));
 			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
+			printTest(scenarioName + "_testLastIndexOfX", testLastIndexOf(scenario.build(), ELEMENT_X, -1));
 			printTest(scenarioName + "_testRemoveNeg1",
 					testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
 			printTest(scenarioName + "_testRemove0",
-					testRemoveIndex(scenario.build(), 0, contents[0], Result.MatchingValue));
-			printTest(scenarioName + "_testRemove1",
-					testRemoveIndex(scenario.build(), 1, contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_testRemove2",
-					testRemoveIndex(scenario.build(), 2, contents[2], Result.MatchingValue));
-			printTest(scenarioName + "_testRemove3",
-					testRemoveIndex(scenario.build(), 3, null, Result.IndexOutOfBounds));
+					testRemoveIndex(scenario.build(), 0, null, Result.IndexOutOfBounds));
+			// Stream and Spliterator
+			printTest(scenarioName + "_testStream", testStream(scenario.build(), new Integer[] {}, false));
+			printTest(scenarioName + "_testParallelStream", testStream(scenario.build(), new Integer[] {}, true));
+			printTest(scenarioName + "_testSpliterator", testSpliterator(scenario.build(), new Integer[] {}));
+			printTest(scenarioName + "_testSpliteratorSplit",
+					testSpliteratorSplit(scenario.build(), new Integer[] {}));
 			// Iterator
-			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
-
-			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
+			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException)); // Existential test,
+																									// creates an
+																									// iterator
+			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.False));
 			printTest(scenarioName + "_testIterNext",
-					testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
+					testIterNext(scenario.build().iterator(), null, Result.NoSuchElement));
 			printTest(scenarioName + "_testIterRemove",
 					testIterRemove(scenario.build().iterator(), Result.IllegalState));
+			// forEach and forEachRemaining
+			printTest(scenarioName + "_testForEach", testForEach(scenario.build(), new Integer[] {}));
+			printTest(scenarioName + "_testIterForEachRemaining",
+					testIterForEachRemaining(scenario.build().iterator(), new Integer[] {}, Result.MatchingValue));
+			printTest(scenarioName + "_iterForEachRemaining_testIterRemove",
+					testIterRemove(iterAfterForEachRemaining(scenario.build().iterator()), Result.IllegalState));
+			if (SUPPORTS_LIST_ITERATOR) {
+				printTest(scenarioName + "_testListIterForEachRemaining",
+						testIterForEachRemaining(scenario.build().listIterator(), new Integer[] {}, Result.MatchingValue));
+				printTest(scenarioName + "_listIterForEachRemaining_testListIterNextIndex",
+						testListIterNextIndex(listIterAfterForEachRemaining(scenario.build().listIterator()), 0,
+								Result.MatchingValue));
+			}
+			// ListIterator
+			if (SUPPORTS_LIST_ITERATOR) {
+				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
+				printTest(scenarioName + "_testListIterNeg1",
+						testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
+				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
+				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.IndexOutOfBounds));
+				printTest(scenarioName + "_testListIterHasNext",
+						testIterHasNext(scenario.build().listIterator(), Result.False));
+				printTest(scenarioName + "_testListIterNext",
+						testIterNext(scenario.build().listIterator(), null, Result.NoSuchElement));
+				printTest(scenarioName + "_testListIterRemove",
+						testIterRemove(scenario.build().listIterator(), Result.IllegalState));
+				printTest(scenarioName + "_testListIterHasPrevious",
+						testListIterHasPrevious(scenario.build().listIterator(), Result.False));
+				printTest(scenarioName + "_testListIterPrevious",
+						testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
+				printTest(scenarioName + "_testListIterAdd",
+						testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIterSet",
+						testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
+				printTest(scenarioName + "_testListIterNextIndex",
+						testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter0NextIndex",
+						testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
+				printTest(scenarioName + "_testListIterPreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter0PreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
+			} else {
+				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
+				printTest(scenarioName + "_testListIter0",
+						testListIter(scenario.build(), 0, Result.UnsupportedOperation));
+			}
+		} catch (Exception e) {
+			printUnableToRun(scenarioName + " TESTS", e);
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
 
-			printTest(scenarioName + "_iterNext_testIterHasNext",
-					testIterHasNext(iterAfterNext(scenario.build(), 1), Result.True));
-			printTest(scenarioName + "_iterNext_testIterNext",
-					testIterNext(iterAfterNext(scenario.build(), 1), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_iterNext_testIterRemove",
-					testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
-			printTest(scenarioName + "_iterNextRemove_testIterHasNext",
-					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.True));
-			printTest(scenarioName + "_iterNextRemove_testIterNext", testIterNext(
-					iterAfterRemove(iterAfterNext(scenario.build(), 1)), contents[1], Result.MatchingValue));
-			printTest(scenarioName + "_iterNextRemove_testIterRemove",
-					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
-
-			printTest(scenarioName + "_iterNext2_testIterHasNext",
-					testIterHasNext(iterAfterNext(scenario.build(), 2), Result.True));
-			printTest(scenarioName + "_iterNext2_testIterNext",
-					testIterNext(iterAfterNext(scenario.build(), 2), contents[2], Result.MatchingValue));
-			printTest(scenarioName + "_iterNext2_testIterRemove",
-					testIterRemove(iterAfterNext(scenario.build(), 2), Result.NoException));
-			printTest(scenarioName + "_iterNext2Remove_testIterHasNext",
-					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.True));
-			printTest(scenarioName + "_iterNext2Remove_testIterNext", testIterNext(
-					iterAfterRemove(iterAfterNext(scenario.build(), 2)), contents[2], Result.MatchingValue));
-			printTest(scenarioName + "_iterNext2Remove_testIterRemove",
-					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.IllegalState));
+	//////////////////////////////////
+	// XXX Tests for 1-element list
+	//////////////////////////////////
 
-			printTest(scenarioName + "_iterNext3_testIterHasNext",
-					testIterHasNext(iterAfterNext(scenario.build(), 3), Result.False));
-			printTest(scenarioName + "_iterNext3_testIterNext",
-					testIterNext(iterAfterNext(scenario.build(), 3), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext3_testIterRemove",
-					testIterRemove(iterAfterNext(scenario.build(), 3), Result.NoException));
-			printTest(scenarioName + "_iterNext3Remove_testIterHasNext",
-					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 3)), Result.False));
-			printTest(scenarioName + "_iterNext3Remove_testIterNext",
-					testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 3)), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext3Remove_testIterRemove",
-					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 3)), Result.IllegalState));
+	/**
+	 * Run all tests on scenarios resulting in a single element list
+	 * 
+	 * @param scenario       lambda reference to scenario builder method
+	 * @param scenarioName   name of the scenario being tested
+	 * @param contents       elements expected in the list after scenario has been
+	 *                       set up
+	 * @param contentsString contains character labels corresponding to values in
+	 *                       contents
+	 */
+	private void testSingleElementList(Scenario<Integer> scenario, String scenarioName, Integer[] contents,
+			String contentsString) {
+		if (!canBuild(scenario, scenarioName)) {
+			return;
+		}
+		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
+		try {
+			// IndexedUnsortedList
+			printTest(scenarioName + "_testRemoveFirst",
+					testRemoveFirst(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveLast",
+					testRemoveLast(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveCharAt0" + contentsString.charAt(0),
+					testRemoveElement(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveX",
+					testRemoveElement(scenario.build(), ELEMENT_X, Result.NoSuchElement));
+			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testLast", testLast(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testContains" + contentsString.charAt(0),
+					testContains(scenario.build(), contents[0], Result.True));
+			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
+			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.False));
+			printTest(scenarioName + "_testSize", testSize(scenario.build(), 1));
+			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
+			printTest(scenarioName + "_testAddToFront",
+					testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAfter" + contentsString.charAt(0),
+					testAddAfter(scenario.build(), contents[0], ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAfterX",
+					testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
+			printTest(scenarioName + "_testAddAtIndexNeg1",
+					testAddAtIndex(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAddAtIndex0",
+					testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex1",
+					testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex2",
+					testAddAtIndex(scenario.build(), 2, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testSet1", testSet(scenario.build(), 1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAdd", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testGet1", testGet(scenario.build(), 1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testIndexOf" + contentsString.charAt(0),
+					testIndexOf(scenario.build(), contents[0], 0));
+			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
+			printTest(scenarioName + "_testLastIndexOf" + contentsString.charAt(0),
+					testLastIndexOf(scenario.build(), contents[0], Arrays.asList(contents).lastIndexOf(contents[0])));
+			printTest(scenarioName + "_testLastIndexOf" + contentsString.charAt(0),
+					testLastIndexOf(scenario.build(), contents[0], 0));
+			printTest(scenarioName + "_testLastIndexOfX", testLastIndexOf(scenario.build(), ELEMENT_X, -1));
+			printTest(scenarioName + "_testRemoveNeg1",
+					testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testRemove0",
+					testRemoveIndex(scenario.build(), 0, contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemove1",
+					testRemoveIndex(scenario.build(), 1, null, Result.IndexOutOfBounds));
+			// Stream and Spliterator
+			printTest(scenarioName + "_testStream", testStream(scenario.build(), contents, false));
+			printTest(scenarioName + "_testParallelStream", testStream(scenario.build(), contents, true));
+			printTest(scenarioName + "_testSpliterator", testSpliterator(scenario.build(), contents));
+			printTest(scenarioName + "_testSpliteratorSplit",
+					testSpliteratorSplit(scenario.build(), contents));
+			// Iterator
+			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException)); // Existential test,
+																									// creates an
+																									// iterator
 
-			printTest(scenarioName + "_iterNextRemoveNext_testIterHasNext", testIterHasNext(
-					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.True));
-			printTest(scenarioName + "_iterNextRemoveNext_testIterNext",
-					testIterNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), contents[2],
+			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
+			printTest(scenarioName + "_testIterNext",
+					testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testIterRemove",
+					testIterRemove(scenario.build().iterator(), Result.IllegalState));
+
+			printTest(scenarioName + "_iterNext_testIterHasNext",
+					testIterHasNext(iterAfterNext(scenario.build(), 1), Result.False));
+			printTest(scenarioName + "_iterNext_testIterNext",
+					testIterNext(iterAfterNext(scenario.build(), 1), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNext_testIterRemove",
+					testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
+
+			printTest(scenarioName + "_iterNextRemove_testIterHasNext",
+					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.False));
+			printTest(scenarioName + "_iterNextRemove_testIterNext",
+					testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNextRemove_testIterRemove",
+					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
+			// forEach and forEachRemaining
+			printTest(scenarioName + "_testForEach", testForEach(scenario.build(), contents));
+			printTest(scenarioName + "_testIterForEachRemaining",
+					testIterForEachRemaining(scenario.build().iterator(), contents, Result.MatchingValue));
+			printTest(scenarioName + "_iterNext_testIterForEachRemaining",
+					testIterForEachRemaining(iterAfterNext(scenario.build(), 1), Arrays.copyOfRange(contents, 1, 1),
 							Result.MatchingValue));
-			printTest(scenarioName + "_iterNextRemoveNext_testIterRemove", testIterRemove(
-					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.NoException));
-			printTest(scenarioName + "_iterNext2RemoveNext_testIterHasNext", testIterHasNext(
-					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), Result.False));
-			printTest(scenarioName + "_iterNext2RemoveNext_testIterNext", testIterNext(
-					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), null, Result.NoSuchElement));
-			printTest(scenarioName + "_iterNext2RemoveNext_testIterRemove", testIterRemove(
-					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), Result.NoException));
+			printTest(scenarioName + "_iterForEachRemaining_testIterRemove",
+					testIterRemove(iterAfterForEachRemaining(scenario.build().iterator()), Result.NoException));
+			printTest(scenarioName + "_testIterForEachRemainingRemove",
+					testIterForEachRemainingRemove(scenario.build(), contents));
+			if (SUPPORTS_LIST_ITERATOR) {
+				printTest(scenarioName + "_testListIterForEachRemaining",
+						testIterForEachRemaining(scenario.build().listIterator(), contents, Result.MatchingValue));
+				printTest(scenarioName + "_listIterForEachRemaining_testListIterNextIndex",
+						testListIterNextIndex(listIterAfterForEachRemaining(scenario.build().listIterator()), 1,
+								Result.MatchingValue));
+				printTest(scenarioName + "_listIterForEachRemaining_testListIterPrevious",
+						testListIterPrevious(listIterAfterForEachRemaining(scenario.build().listIterator()),
+								contents[0], Result.MatchingValue));
+			}
 			// ListIterator
 			if (SUPPORTS_LIST_ITERATOR) {
 				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
@@ -2432,9 +2667,7 @@ public class ListTester {
 						testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
 				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
 				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
-				printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.NoException));
-				printTest(scenarioName + "_testListIter3", testListIter(scenario.build(), 3, Result.NoException));
-				printTest(scenarioName + "_testListIter4", testListIter(scenario.build(), 4, Result.IndexOutOfBounds));
+				printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.IndexOutOfBounds));
 
 				printTest(scenarioName + "_testListIterHasNext",
 						testIterHasNext(scenario.build().listIterator(), Result.True));
@@ -2514,9 +2747,9 @@ public class ListTester {
 								ELEMENT_X, Result.NoException));
 
 				printTest(scenarioName + "_testListIter1HasNext",
-						testIterHasNext(scenario.build().listIterator(1), Result.True));
+						testIterHasNext(scenario.build().listIterator(1), Result.False));
 				printTest(scenarioName + "_testListIter1Next",
-						testIterNext(scenario.build().listIterator(1), contents[1], Result.MatchingValue));
+						testIterNext(scenario.build().listIterator(1), null, Result.NoSuchElement));
 				printTest(scenarioName + "_testListIter1NextIndex",
 						testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
 				printTest(scenarioName + "_testListIter1HasPrevious",
@@ -2548,119 +2781,1054 @@ public class ListTester {
 						testListIterSet(
 								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
 								ELEMENT_X, Result.NoException));
-
-				printTest(scenarioName + "_testListIter2HasNext",
-						testIterHasNext(scenario.build().listIterator(2), Result.True));
-				printTest(scenarioName + "_testListIter2Next",
-						testIterNext(scenario.build().listIterator(2), contents[2], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2NextIndex",
-						testListIterNextIndex(scenario.build().listIterator(2), 2, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2HasPrevious",
-						testListIterHasPrevious(scenario.build().listIterator(2), Result.True));
-				printTest(scenarioName + "_testListIter2Previous",
-						testListIterPrevious(scenario.build().listIterator(2), contents[1], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2PreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(2), 1, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter2Remove",
-						testIterRemove(scenario.build().listIterator(2), Result.IllegalState));
-				printTest(scenarioName + "_testListIter2Add",
-						testListIterAdd(scenario.build().listIterator(2), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter2Set",
-						testListIterSet(scenario.build().listIterator(2), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter2PreviousRemove",
-						testIterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 2), Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousAdd", testListIterAdd(
-						listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousSet", testListIterSet(
-						listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousNextRemove",
-						testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
-								Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousNextAdd",
-						testListIterAdd(
-								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
-								ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter2PreviousNextSet",
-						testListIterSet(
-								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
-								ELEMENT_X, Result.NoException));
-
-				printTest(scenarioName + "_testListIter3HasNext",
-						testIterHasNext(scenario.build().listIterator(3), Result.False));
-				printTest(scenarioName + "_testListIter3Next",
-						testIterNext(scenario.build().listIterator(3), null, Result.NoSuchElement));
-				printTest(scenarioName + "_testListIter3NextIndex",
-						testListIterNextIndex(scenario.build().listIterator(3), 3, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter3HasPrevious",
-						testListIterHasPrevious(scenario.build().listIterator(3), Result.True));
-				printTest(scenarioName + "_testListIter3Previous",
-						testListIterPrevious(scenario.build().listIterator(3), contents[2], Result.MatchingValue));
-				printTest(scenarioName + "_testListIter3PreviousIndex",
-						testListIterPreviousIndex(scenario.build().listIterator(3), 2, Result.MatchingValue));
-				printTest(scenarioName + "_testListIter3Remove",
-						testIterRemove(scenario.build().listIterator(3), Result.IllegalState));
-				printTest(scenarioName + "_testListIter3Add",
-						testListIterAdd(scenario.build().listIterator(3), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter3Set",
-						testListIterSet(scenario.build().listIterator(3), ELEMENT_X, Result.IllegalState));
-				printTest(scenarioName + "_testListIter3PreviousRemove",
-						testIterRemove(listIterAfterPrevious(scenario.build().listIterator(3), 3), Result.NoException));
-				printTest(scenarioName + "_testListIter3PreviousAdd", testListIterAdd(
-						listIterAfterPrevious(scenario.build().listIterator(3), 3), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter3PreviousSet", testListIterSet(
-						listIterAfterPrevious(scenario.build().listIterator(3), 3), ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter3PreviousNextRemove",
-						testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3),
-								Result.NoException));
-				printTest(scenarioName + "_testListIter3PreviousNextAdd",
-						testListIterAdd(
-								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3),
-								ELEMENT_X, Result.NoException));
-				printTest(scenarioName + "_testListIter3PreviousNextSet",
-						testListIterSet(
-								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3),
-								ELEMENT_X, Result.NoException));
 			} else {
 				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
 				printTest(scenarioName + "_testListIter0",
 						testListIter(scenario.build(), 0, Result.UnsupportedOperation));
 			}
 		} catch (Exception e) {
-			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", scenarioName + " TESTS");
+			printUnableToRun(scenarioName + " TESTS", e);
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/////////////////////////////////
+	// XXX Tests for 2-element list
+	/////////////////////////////////
+
+	/**
+	 * Run all tests on scenarios resulting in a two-element list
+	 * 
+	 * @param scenario       lambda reference to scenario builder method
+	 * @param scenarioName   name of the scenario being tested
+	 * @param contents       elements expected in the list after scenario has been
+	 *                       set up
+	 * @param contentsString contains character labels corresponding to values in
+	 *                       contents
+	 */
+	private void testTwoElementList(Scenario<Integer> scenario, String scenarioName, Integer[] contents,
+			String contentsString) {
+		if (!canBuild(scenario, scenarioName)) {
+			return;
+		}
+		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
+		try {
+			printTest(scenarioName + "_testRemoveFirst",
+					testRemoveFirst(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveLast",
+					testRemoveLast(scenario.build(), contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveCharAt0" + contentsString.charAt(0),
+					testRemoveElement(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveCharAt1" + contentsString.charAt(1),
+					testRemoveElement(scenario.build(), contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveX",
+					testRemoveElement(scenario.build(), ELEMENT_X, Result.NoSuchElement));
+			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testLast", testLast(scenario.build(), contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_testContains" + contentsString.charAt(0),
+					testContains(scenario.build(), contents[0], Result.True));
+			printTest(scenarioName + "_testContains" + contentsString.charAt(1),
+					testContains(scenario.build(), contents[1], Result.True));
+			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
+			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.False));
+			printTest(scenarioName + "_testSize", testSize(scenario.build(), 2));
+			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
+			printTest(scenarioName + "_testAddToFront",
+					testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAfter" + contentsString.charAt(0),
+					testAddAfter(scenario.build(), contents[0], ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAfterX",
+					testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
+			printTest(scenarioName + "_testAddAtIndexNeg1",
+					testAddAtIndex(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAddAtIndex0",
+					testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex1",
+					testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex2",
+					testAddAtIndex(scenario.build(), 2, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex3",
+					testAddAtIndex(scenario.build(), 3, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testSet1", testSet(scenario.build(), 1, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testSet2", testSet(scenario.build(), 2, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAdd", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testGet1", testGet(scenario.build(), 1, contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_testGet2", testGet(scenario.build(), 2, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testIndexOf" + contentsString.charAt(0),
+					testIndexOf(scenario.build(), contents[0], 0));
+			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
+			printTest(scenarioName + "_testLastIndexOf" + contentsString.charAt(0),
+					testLastIndexOf(scenario.build(), contents[0], Arrays.asList(contents).lastIndexOf(contents[0])));
+			printTest(scenarioName + "_testLastIndexOf" + contentsString.charAt(1),
+					testLastIndexOf(scenario.build(), contents[1], 1));
+			printTest(scenarioName + "_testLastIndexOfX", testLastIndexOf(scenario.build(), ELEMENT_X, -1));
+			printTest(scenarioName + "_testRemoveNeg1",
+					testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testRemove0",
+					testRemoveIndex(scenario.build(), 0, contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemove1",
+					testRemoveIndex(scenario.build(), 1, contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_testRemove2",
+					testRemoveIndex(scenario.build(), 2, null, Result.IndexOutOfBounds));
+			// Stream and Spliterator
+			printTest(scenarioName + "_testStream", testStream(scenario.build(), contents, false));
+			printTest(scenarioName + "_testParallelStream", testStream(scenario.build(), contents, true));
+			printTest(scenarioName + "_testSpliterator", testSpliterator(scenario.build(), contents));
+			printTest(scenarioName + "_testSpliteratorSplit",
+					testSpliteratorSplit(scenario.build(), contents));
+			// Iterator
+			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
+			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
+			printTest(scenarioName + "_testIterNext",
+					testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testIterRemove",
+					testIterRemove(scenario.build().iterator(), Result.IllegalState));
+
+			printTest(scenarioName + "_iterNext0_testIterHasNext",
+					testIterHasNext(iterAfterNext(scenario.build(), 1), Result.True));
+			printTest(scenarioName + "_iterNext0_testIterNext",
+					testIterNext(iterAfterNext(scenario.build(), 1), contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_iterNext0_testIterRemove",
+					testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
+			printTest(scenarioName + "_iterNextRemove0_testIterHasNext",
+					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.True));
+			printTest(scenarioName + "_iterNextRemove0_testIterNext", testIterNext(
+					iterAfterRemove(iterAfterNext(scenario.build(), 1)), contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_iterNextRemove0_testIterRemove",
+					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
+
+			printTest(scenarioName + "_iterNext1_testIterHasNext",
+					testIterHasNext(iterAfterNext(scenario.build(), 2), Result.False));
+			printTest(scenarioName + "_iterNext1_testIterNext",
+					testIterNext(iterAfterNext(scenario.build(), 2), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNext1_testIterRemove",
+					testIterRemove(iterAfterNext(scenario.build(), 2), Result.NoException));
+			printTest(scenarioName + "_iterNextRemove1_testIterHasNext",
+					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.False));
+			printTest(scenarioName + "_iterNextRemove1_testIterNext",
+					testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNextRemove1_testIterRemove",
+					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.IllegalState));
+
+			printTest(scenarioName + "_iterNextRemove2_testIterHasNext",
+					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.False));
+			printTest(scenarioName + "_iterNextRemove2_testIterNext",
+					testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNextRemove2_testIterRemove",
+					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.IllegalState));
+
+			// Helper tests for the iterator
+			printTest(scenarioName + "_iterNextRemoveNext_testIterHasNext", testIterHasNext(
+					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.False));
+			printTest(scenarioName + "_iterNextRemoveNext_testIterNext", testIterNext(
+					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNextRemoveNext_testIterRemove", testIterRemove(
+					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.NoException));
+			// forEach and forEachRemaining
+			printTest(scenarioName + "_testForEach", testForEach(scenario.build(), contents));
+			printTest(scenarioName + "_testIterForEachRemaining",
+					testIterForEachRemaining(scenario.build().iterator(), contents, Result.MatchingValue));
+			printTest(scenarioName + "_iterNext_testIterForEachRemaining",
+					testIterForEachRemaining(iterAfterNext(scenario.build(), 1), Arrays.copyOfRange(contents, 1, 2),
+							Result.MatchingValue));
+			printTest(scenarioName + "_iterForEachRemaining_testIterRemove",
+					testIterRemove(iterAfterForEachRemaining(scenario.build().iterator()), Result.NoException));
+			printTest(scenarioName + "_testIterForEachRemainingRemove",
+					testIterForEachRemainingRemove(scenario.build(), contents));
+			if (SUPPORTS_LIST_ITERATOR) {
+				printTest(scenarioName + "_testListIterForEachRemaining",
+						testIterForEachRemaining(scenario.build().listIterator(), contents, Result.MatchingValue));
+				printTest(scenarioName + "_listIterForEachRemaining_testListIterNextIndex",
+						testListIterNextIndex(listIterAfterForEachRemaining(scenario.build().listIterator()), 2,
+								Result.MatchingValue));
+				printTest(scenarioName + "_listIterForEachRemaining_testListIterPrevious",
+						testListIterPrevious(listIterAfterForEachRemaining(scenario.build().listIterator()),
+								contents[1], Result.MatchingValue));
+			}
+			// ListIterator
+			if (SUPPORTS_LIST_ITERATOR) {
+				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
+				printTest(scenarioName + "_testListIterNeg1",
+						testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
+				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
+				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
+				printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.NoException));
+				printTest(scenarioName + "_testListIter3", testListIter(scenario.build(), 3, Result.IndexOutOfBounds));
+
+				printTest(scenarioName + "_testListIterHasNext",
+						testIterHasNext(scenario.build().listIterator(), Result.True));
+				printTest(scenarioName + "_testListIterNext",
+						testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
+				printTest(scenarioName + "_testListIterNextIndex",
+						testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
+				printTest(scenarioName + "_testListIterHasPrevious",
+						testListIterHasPrevious(scenario.build().listIterator(), Result.False));
+				printTest(scenarioName + "_testListIterPrevious",
+						testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
+				printTest(scenarioName + "_testListIterPreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
+				printTest(scenarioName + "_testListIterRemove",
+						testIterRemove(scenario.build().listIterator(), Result.IllegalState));
+				printTest(scenarioName + "_testListIterAdd",
+						testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIterSet",
+						testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
+				printTest(scenarioName + "_testListIterNextRemove",
+						testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
+				printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(
+						listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIterNextSet", testListIterSet(
+						listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIterNextRemoveRemove",
+						testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)),
+								Result.IllegalState));
+				printTest(scenarioName + "_testListIterNextPreviousRemove",
+						testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
+								Result.NoException));
+				printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(
+						listIterAfterRemove(
+								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)),
+						Result.IllegalState));
+				printTest(scenarioName + "_testListIterNextPreviousAdd",
+						testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
+								ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIterNextPreviousSet",
+						testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
+								ELEMENT_X, Result.NoException));
+
+				printTest(scenarioName + "_testListIter0HasNext",
+						testIterHasNext(scenario.build().listIterator(0), Result.True));
+				printTest(scenarioName + "_testListIter0Next",
+						testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter0NextIndex",
+						testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter0HasPrevious",
+						testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
+				printTest(scenarioName + "_testListIter0Previous",
+						testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
+				printTest(scenarioName + "_testListIter0PreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter0Remove",
+						testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
+				printTest(scenarioName + "_testListIter0Add",
+						testListIterAdd(scenario.build().listIterator(0), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter0Set",
+						testListIterSet(scenario.build().listIterator(0), ELEMENT_X, Result.IllegalState));
+				printTest(scenarioName + "_testListIter0NextRemove",
+						testIterRemove(listIterAfterNext(scenario.build().listIterator(0), 1), Result.NoException));
+				printTest(scenarioName + "_testListIter0NextAdd", testListIterAdd(
+						listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter0NextSet", testListIterSet(
+						listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter0NextPreviousRemove",
+						testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
+								Result.NoException));
+				printTest(scenarioName + "_testListIter0NextPreviousAdd",
+						testListIterAdd(
+								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
+								ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter0NextPreviousSet",
+						testListIterSet(
+								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
+								ELEMENT_X, Result.NoException));
+
+				printTest(scenarioName + "_testListIter1HasNext",
+						testIterHasNext(scenario.build().listIterator(1), Result.True));
+				printTest(scenarioName + "_testListIter1Next",
+						testIterNext(scenario.build().listIterator(1), contents[1], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter1NextIndex",
+						testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter1HasPrevious",
+						testListIterHasPrevious(scenario.build().listIterator(1), Result.True));
+				printTest(scenarioName + "_testListIter1Previous",
+						testListIterPrevious(scenario.build().listIterator(1), contents[0], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter1PreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(1), 0, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter1Remove",
+						testIterRemove(scenario.build().listIterator(1), Result.IllegalState));
+				printTest(scenarioName + "_testListIter1Add",
+						testListIterAdd(scenario.build().listIterator(1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter1Set",
+						testListIterSet(scenario.build().listIterator(1), ELEMENT_X, Result.IllegalState));
+				printTest(scenarioName + "_testListIter1PreviousRemove",
+						testIterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1), Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousAdd", testListIterAdd(
+						listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousSet", testListIterSet(
+						listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousNextRemove",
+						testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
+								Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousNextAdd",
+						testListIterAdd(
+								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
+								ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousNextSet",
+						testListIterSet(
+								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
+								ELEMENT_X, Result.NoException));
+
+				printTest(scenarioName + "_testListIter2HasNext",
+						testIterHasNext(scenario.build().listIterator(2), Result.False));
+				printTest(scenarioName + "_testListIter2Next",
+						testIterNext(scenario.build().listIterator(2), null, Result.NoSuchElement));
+				printTest(scenarioName + "_testListIter2NextIndex",
+						testListIterNextIndex(scenario.build().listIterator(2), 2, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter2HasPrevious",
+						testListIterHasPrevious(scenario.build().listIterator(2), Result.True));
+				printTest(scenarioName + "_testListIter2Previous",
+						testListIterPrevious(scenario.build().listIterator(2), contents[1], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter2PreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(2), 1, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter2Remove",
+						testIterRemove(scenario.build().listIterator(2), Result.IllegalState));
+				printTest(scenarioName + "_testListIter2Add",
+						testListIterAdd(scenario.build().listIterator(2), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter2Set",
+						testListIterSet(scenario.build().listIterator(2), ELEMENT_X, Result.IllegalState));
+				printTest(scenarioName + "_testListIter2PreviousRemove",
+						testIterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 2), Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousAdd", testListIterAdd(
+						listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousSet", testListIterSet(
+						listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousNextRemove",
+						testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
+								Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousNextAdd",
+						testListIterAdd(
+								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
+								ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousNextSet",
+						testListIterSet(
+								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
+								ELEMENT_X, Result.NoException));
+			} else {
+				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
+				printTest(scenarioName + "_testListIter0",
+						testListIter(scenario.build(), 0, Result.UnsupportedOperation));
+			}
+			// TODO: tests for scenarios ending in a 2-element list
+		} catch (Exception e) {
+			printUnableToRun(scenarioName + " TESTS", e);
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	//////////////////////////////////
+	// XXX Tests for 3-element list
+	//////////////////////////////////
+
+	/**
+	 * Run all tests on scenarios resulting in a three-element list
+	 * 
+	 * @param scenario       lambda reference to scenario builder method
+	 * @param scenarioName   name of the scenario being tested
+	 * @param contents       elements expected in the list after scenario has been
+	 *                       set up
+	 * @param contentsString contains character labels corresponding to values in
+	 *                       contents
+	 */
+	private void testThreeElementList(Scenario<Integer> scenario, String scenarioName, Integer[] contents,
+			String contentsString) {
+		if (!canBuild(scenario, scenarioName)) {
+			return;
+		}
+		System.out.printf("\nSCENARIO: %s\n\n", scenarioName);
+		try {
+			// IndexedUnsortedList [A,B,C]
+			printTest(scenarioName + "_testRemoveFirst",
+					testRemoveFirst(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveLast",
+					testRemoveLast(scenario.build(), contents[2], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveCharAt0" + contentsString.charAt(0),
+					testRemoveElement(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveCharAt1" + contentsString.charAt(1),
+					testRemoveElement(scenario.build(), contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveCharAt2" + contentsString.charAt(2),
+					testRemoveElement(scenario.build(), contents[2], Result.MatchingValue));
+			printTest(scenarioName + "_testRemoveX",
+					testRemoveElement(scenario.build(), ELEMENT_X, Result.NoSuchElement));
+			printTest(scenarioName + "_testFirst", testFirst(scenario.build(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testLast", testLast(scenario.build(), contents[2], Result.MatchingValue));
+			printTest(scenarioName + "_testContains" + contentsString.charAt(0),
+					testContains(scenario.build(), contents[0], Result.True));
+			printTest(scenarioName + "_testContains" + contentsString.charAt(1),
+					testContains(scenario.build(), contents[1], Result.True));
+			printTest(scenarioName + "_testContains" + contentsString.charAt(2),
+					testContains(scenario.build(), contents[2], Result.True));
+			printTest(scenarioName + "_testContainsX", testContains(scenario.build(), ELEMENT_X, Result.False));
+			printTest(scenarioName + "_testIsEmpty", testIsEmpty(scenario.build(), Result.False));
+			printTest(scenarioName + "_testSize", testSize(scenario.build(), 3));
+			printTest(scenarioName + "_testToString", testToString(scenario.build(), Result.ValidString));
+			printTest(scenarioName + "_testAddToFront",
+					testAddToFront(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddToRear", testAddToRear(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAfter" + contentsString.charAt(0),
+					testAddAfter(scenario.build(), contents[0], ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAfterX",
+					testAddAfter(scenario.build(), ELEMENT_X, ELEMENT_Z, Result.NoSuchElement));
+			printTest(scenarioName + "_testAddAtIndexNeg1",
+					testAddAtIndex(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAddAtIndex0",
+					testAddAtIndex(scenario.build(), 0, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex1",
+					testAddAtIndex(scenario.build(), 1, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex2",
+					testAddAtIndex(scenario.build(), 2, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex3",
+					testAddAtIndex(scenario.build(), 3, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testAddAtIndex4",
+					testAddAtIndex(scenario.build(), 4, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testSetNeg1", testSet(scenario.build(), -1, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testSet0", testSet(scenario.build(), 0, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testSet1", testSet(scenario.build(), 1, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testSet2", testSet(scenario.build(), 2, ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testSet3", testSet(scenario.build(), 3, ELEMENT_X, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testAdd", testAdd(scenario.build(), ELEMENT_X, Result.NoException));
+			printTest(scenarioName + "_testGetNeg1", testGet(scenario.build(), -1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testGet0", testGet(scenario.build(), 0, contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testGet1", testGet(scenario.build(), 1, contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_testGet2", testGet(scenario.build(), 2, contents[2], Result.MatchingValue));
+			printTest(scenarioName + "_testGet3", testGet(scenario.build(), 3, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testIndexOf" + contentsString.charAt(0),
+					testIndexOf(scenario.build(), contents[0], 0));
+			printTest(scenarioName + "_testIndexOfX", testIndexOf(scenario.build(), ELEMENT_X, -1));
+			printTest(scenarioName + "_testLastIndexOf" + contentsString.charAt(0),
+					testLastIndexOf(scenario.build(), contents[0], Arrays.asList(contents).lastIndexOf(contents[0])));
+			printTest(scenarioName + "_testLastIndexOf" + contentsString.charAt(2),
+					testLastIndexOf(scenario.build(), contents[2], 2));
+			printTest(scenarioName + "_testLastIndexOfX", testLastIndexOf(scenario.build(), ELEMENT_X, -1));
+			printTest(scenarioName + "_testRemoveNeg1",
+					testRemoveIndex(scenario.build(), -1, null, Result.IndexOutOfBounds));
+			printTest(scenarioName + "_testRemove0",
+					testRemoveIndex(scenario.build(), 0, contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testRemove1",
+					testRemoveIndex(scenario.build(), 1, contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_testRemove2",
+					testRemoveIndex(scenario.build(), 2, contents[2], Result.MatchingValue));
+			printTest(scenarioName + "_testRemove3",
+					testRemoveIndex(scenario.build(), 3, null, Result.IndexOutOfBounds));
+			// Stream and Spliterator
+			printTest(scenarioName + "_testStream", testStream(scenario.build(), contents, false));
+			printTest(scenarioName + "_testParallelStream", testStream(scenario.build(), contents, true));
+			printTest(scenarioName + "_testSpliterator", testSpliterator(scenario.build(), contents));
+			printTest(scenarioName + "_testSpliteratorSplit",
+					testSpliteratorSplit(scenario.build(), contents));
+			// Iterator
+			printTest(scenarioName + "_testIter", testIter(scenario.build(), Result.NoException));
+
+			printTest(scenarioName + "_testIterHasNext", testIterHasNext(scenario.build().iterator(), Result.True));
+			printTest(scenarioName + "_testIterNext",
+					testIterNext(scenario.build().iterator(), contents[0], Result.MatchingValue));
+			printTest(scenarioName + "_testIterRemove",
+					testIterRemove(scenario.build().iterator(), Result.IllegalState));
+
+			printTest(scenarioName + "_iterNext_testIterHasNext",
+					testIterHasNext(iterAfterNext(scenario.build(), 1), Result.True));
+			printTest(scenarioName + "_iterNext_testIterNext",
+					testIterNext(iterAfterNext(scenario.build(), 1), contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_iterNext_testIterRemove",
+					testIterRemove(iterAfterNext(scenario.build(), 1), Result.NoException));
+			printTest(scenarioName + "_iterNextRemove_testIterHasNext",
+					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.True));
+			printTest(scenarioName + "_iterNextRemove_testIterNext", testIterNext(
+					iterAfterRemove(iterAfterNext(scenario.build(), 1)), contents[1], Result.MatchingValue));
+			printTest(scenarioName + "_iterNextRemove_testIterRemove",
+					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 1)), Result.IllegalState));
+
+			printTest(scenarioName + "_iterNext2_testIterHasNext",
+					testIterHasNext(iterAfterNext(scenario.build(), 2), Result.True));
+			printTest(scenarioName + "_iterNext2_testIterNext",
+					testIterNext(iterAfterNext(scenario.build(), 2), contents[2], Result.MatchingValue));
+			printTest(scenarioName + "_iterNext2_testIterRemove",
+					testIterRemove(iterAfterNext(scenario.build(), 2), Result.NoException));
+			printTest(scenarioName + "_iterNext2Remove_testIterHasNext",
+					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.True));
+			printTest(scenarioName + "_iterNext2Remove_testIterNext", testIterNext(
+					iterAfterRemove(iterAfterNext(scenario.build(), 2)), contents[2], Result.MatchingValue));
+			printTest(scenarioName + "_iterNext2Remove_testIterRemove",
+					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 2)), Result.IllegalState));
+
+			printTest(scenarioName + "_iterNext3_testIterHasNext",
+					testIterHasNext(iterAfterNext(scenario.build(), 3), Result.False));
+			printTest(scenarioName + "_iterNext3_testIterNext",
+					testIterNext(iterAfterNext(scenario.build(), 3), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNext3_testIterRemove",
+					testIterRemove(iterAfterNext(scenario.build(), 3), Result.NoException));
+			printTest(scenarioName + "_iterNext3Remove_testIterHasNext",
+					testIterHasNext(iterAfterRemove(iterAfterNext(scenario.build(), 3)), Result.False));
+			printTest(scenarioName + "_iterNext3Remove_testIterNext",
+					testIterNext(iterAfterRemove(iterAfterNext(scenario.build(), 3)), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNext3Remove_testIterRemove",
+					testIterRemove(iterAfterRemove(iterAfterNext(scenario.build(), 3)), Result.IllegalState));
+
+			printTest(scenarioName + "_iterNextRemoveNext_testIterHasNext", testIterHasNext(
+					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.True));
+			printTest(scenarioName + "_iterNextRemoveNext_testIterNext",
+					testIterNext(iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), contents[2],
+							Result.MatchingValue));
+			printTest(scenarioName + "_iterNextRemoveNext_testIterRemove", testIterRemove(
+					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 1)), 1), Result.NoException));
+			printTest(scenarioName + "_iterNext2RemoveNext_testIterHasNext", testIterHasNext(
+					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), Result.False));
+			printTest(scenarioName + "_iterNext2RemoveNext_testIterNext", testIterNext(
+					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), null, Result.NoSuchElement));
+			printTest(scenarioName + "_iterNext2RemoveNext_testIterRemove", testIterRemove(
+					iterAfterNext(iterAfterRemove(iterAfterNext(scenario.build(), 2)), 1), Result.NoException));
+			// forEach and forEachRemaining
+			printTest(scenarioName + "_testForEach", testForEach(scenario.build(), contents));
+			printTest(scenarioName + "_testIterForEachRemaining",
+					testIterForEachRemaining(scenario.build().iterator(), contents, Result.MatchingValue));
+			printTest(scenarioName + "_iterNext_testIterForEachRemaining",
+					testIterForEachRemaining(iterAfterNext(scenario.build(), 1), Arrays.copyOfRange(contents, 1, 3),
+							Result.MatchingValue));
+			printTest(scenarioName + "_iterForEachRemaining_testIterRemove",
+					testIterRemove(iterAfterForEachRemaining(scenario.build().iterator()), Result.NoException));
+			printTest(scenarioName + "_testIterForEachRemainingRemove",
+					testIterForEachRemainingRemove(scenario.build(), contents));
+			if (SUPPORTS_LIST_ITERATOR) {
+				printTest(scenarioName + "_testListIterForEachRemaining",
+						testIterForEachRemaining(scenario.build().listIterator(), contents, Result.MatchingValue));
+				printTest(scenarioName + "_listIterForEachRemaining_testListIterNextIndex",
+						testListIterNextIndex(listIterAfterForEachRemaining(scenario.build().listIterator()), 3,
+								Result.MatchingValue));
+				printTest(scenarioName + "_listIterForEachRemaining_testListIterPrevious",
+						testListIterPrevious(listIterAfterForEachRemaining(scenario.build().listIterator()),
+								contents[2], Result.MatchingValue));
+			}
+			// ListIterator
+			if (SUPPORTS_LIST_ITERATOR) {
+				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.NoException));
+				printTest(scenarioName + "_testListIterNeg1",
+						testListIter(scenario.build(), -1, Result.IndexOutOfBounds));
+				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.NoException));
+				printTest(scenarioName + "_testListIter1", testListIter(scenario.build(), 1, Result.NoException));
+				printTest(scenarioName + "_testListIter2", testListIter(scenario.build(), 2, Result.NoException));
+				printTest(scenarioName + "_testListIter3", testListIter(scenario.build(), 3, Result.NoException));
+				printTest(scenarioName + "_testListIter4", testListIter(scenario.build(), 4, Result.IndexOutOfBounds));
+
+				printTest(scenarioName + "_testListIterHasNext",
+						testIterHasNext(scenario.build().listIterator(), Result.True));
+				printTest(scenarioName + "_testListIterNext",
+						testIterNext(scenario.build().listIterator(), contents[0], Result.MatchingValue));
+				printTest(scenarioName + "_testListIterNextIndex",
+						testListIterNextIndex(scenario.build().listIterator(), 0, Result.MatchingValue));
+				printTest(scenarioName + "_testListIterHasPrevious",
+						testListIterHasPrevious(scenario.build().listIterator(), Result.False));
+				printTest(scenarioName + "_testListIterPrevious",
+						testListIterPrevious(scenario.build().listIterator(), null, Result.NoSuchElement));
+				printTest(scenarioName + "_testListIterPreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(), -1, Result.MatchingValue));
+				printTest(scenarioName + "_testListIterRemove",
+						testIterRemove(scenario.build().listIterator(), Result.IllegalState));
+				printTest(scenarioName + "_testListIterAdd",
+						testListIterAdd(scenario.build().listIterator(), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIterSet",
+						testListIterSet(scenario.build().listIterator(), ELEMENT_X, Result.IllegalState));
+				printTest(scenarioName + "_testListIterNextRemove",
+						testIterRemove(listIterAfterNext(scenario.build().listIterator(), 1), Result.NoException));
+				printTest(scenarioName + "_testListIterNextAdd", testListIterAdd(
+						listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIterNextSet", testListIterSet(
+						listIterAfterNext(scenario.build().listIterator(), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIterNextRemoveRemove",
+						testIterRemove(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)),
+								Result.IllegalState));
+				printTest(scenarioName + "_testListIterNextPreviousRemove",
+						testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
+								Result.NoException));
+				printTest(scenarioName + "_testListIterNextPreviousRemoveRemove", testIterRemove(
+						listIterAfterRemove(
+								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1)),
+						Result.IllegalState));
+				printTest(scenarioName + "_testListIterNextPreviousAdd",
+						testListIterAdd(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
+								ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIterNextPreviousSet",
+						testListIterSet(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(), 1), 1),
+								ELEMENT_X, Result.NoException));
+
+				printTest(scenarioName + "_testListIter0HasNext",
+						testIterHasNext(scenario.build().listIterator(0), Result.True));
+				printTest(scenarioName + "_testListIter0Next",
+						testIterNext(scenario.build().listIterator(0), contents[0], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter0NextIndex",
+						testListIterNextIndex(scenario.build().listIterator(0), 0, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter0HasPrevious",
+						testListIterHasPrevious(scenario.build().listIterator(0), Result.False));
+				printTest(scenarioName + "_testListIter0Previous",
+						testListIterPrevious(scenario.build().listIterator(0), null, Result.NoSuchElement));
+				printTest(scenarioName + "_testListIter0PreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(0), -1, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter0Remove",
+						testIterRemove(scenario.build().listIterator(0), Result.IllegalState));
+				printTest(scenarioName + "_testListIter0Add",
+						testListIterAdd(scenario.build().listIterator(0), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter0Set",
+						testListIterSet(scenario.build().listIterator(0), ELEMENT_X, Result.IllegalState));
+				printTest(scenarioName + "_testListIter0NextRemove",
+						testIterRemove(listIterAfterNext(scenario.build().listIterator(0), 1), Result.NoException));
+				printTest(scenarioName + "_testListIter0NextAdd", testListIterAdd(
+						listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter0NextSet", testListIterSet(
+						listIterAfterNext(scenario.build().listIterator(0), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter0NextPreviousRemove",
+						testIterRemove(listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
+								Result.NoException));
+				printTest(scenarioName + "_testListIter0NextPreviousAdd",
+						testListIterAdd(
+								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
+								ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter0NextPreviousSet",
+						testListIterSet(
+								listIterAfterPrevious(listIterAfterNext(scenario.build().listIterator(0), 1), 1),
+								ELEMENT_X, Result.NoException));
+
+				printTest(scenarioName + "_testListIter1HasNext",
+						testIterHasNext(scenario.build().listIterator(1), Result.True));
+				printTest(scenarioName + "_testListIter1Next",
+						testIterNext(scenario.build().listIterator(1), contents[1], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter1NextIndex",
+						testListIterNextIndex(scenario.build().listIterator(1), 1, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter1HasPrevious",
+						testListIterHasPrevious(scenario.build().listIterator(1), Result.True));
+				printTest(scenarioName + "_testListIter1Previous",
+						testListIterPrevious(scenario.build().listIterator(1), contents[0], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter1PreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(1), 0, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter1Remove",
+						testIterRemove(scenario.build().listIterator(1), Result.IllegalState));
+				printTest(scenarioName + "_testListIter1Add",
+						testListIterAdd(scenario.build().listIterator(1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter1Set",
+						testListIterSet(scenario.build().listIterator(1), ELEMENT_X, Result.IllegalState));
+				printTest(scenarioName + "_testListIter1PreviousRemove",
+						testIterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1), Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousAdd", testListIterAdd(
+						listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousSet", testListIterSet(
+						listIterAfterPrevious(scenario.build().listIterator(1), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousNextRemove",
+						testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
+								Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousNextAdd",
+						testListIterAdd(
+								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
+								ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousNextSet",
+						testListIterSet(
+								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1),
+								ELEMENT_X, Result.NoException));
+
+				printTest(scenarioName + "_testListIter2HasNext",
+						testIterHasNext(scenario.build().listIterator(2), Result.True));
+				printTest(scenarioName + "_testListIter2Next",
+						testIterNext(scenario.build().listIterator(2), contents[2], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter2NextIndex",
+						testListIterNextIndex(scenario.build().listIterator(2), 2, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter2HasPrevious",
+						testListIterHasPrevious(scenario.build().listIterator(2), Result.True));
+				printTest(scenarioName + "_testListIter2Previous",
+						testListIterPrevious(scenario.build().listIterator(2), contents[1], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter2PreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(2), 1, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter2Remove",
+						testIterRemove(scenario.build().listIterator(2), Result.IllegalState));
+				printTest(scenarioName + "_testListIter2Add",
+						testListIterAdd(scenario.build().listIterator(2), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter2Set",
+						testListIterSet(scenario.build().listIterator(2), ELEMENT_X, Result.IllegalState));
+				printTest(scenarioName + "_testListIter2PreviousRemove",
+						testIterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 2), Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousAdd", testListIterAdd(
+						listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousSet", testListIterSet(
+						listIterAfterPrevious(scenario.build().listIterator(2), 2), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousNextRemove",
+						testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
+								Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousNextAdd",
+						testListIterAdd(
+								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
+								ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousNextSet",
+						testListIterSet(
+								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 2), 2),
+								ELEMENT_X, Result.NoException));
+
+				printTest(scenarioName + "_testListIter3HasNext",
+						testIterHasNext(scenario.build().listIterator(3), Result.False));
+				printTest(scenarioName + "_testListIter3Next",
+						testIterNext(scenario.build().listIterator(3), null, Result.NoSuchElement));
+				printTest(scenarioName + "_testListIter3NextIndex",
+						testListIterNextIndex(scenario.build().listIterator(3), 3, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter3HasPrevious",
+						testListIterHasPrevious(scenario.build().listIterator(3), Result.True));
+				printTest(scenarioName + "_testListIter3Previous",
+						testListIterPrevious(scenario.build().listIterator(3), contents[2], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter3PreviousIndex",
+						testListIterPreviousIndex(scenario.build().listIterator(3), 2, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter3Remove",
+						testIterRemove(scenario.build().listIterator(3), Result.IllegalState));
+				printTest(scenarioName + "_testListIter3Add",
+						testListIterAdd(scenario.build().listIterator(3), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter3Set",
+						testListIterSet(scenario.build().listIterator(3), ELEMENT_X, Result.IllegalState));
+				printTest(scenarioName + "_testListIter3PreviousRemove",
+						testIterRemove(listIterAfterPrevious(scenario.build().listIterator(3), 3), Result.NoException));
+				printTest(scenarioName + "_testListIter3PreviousAdd", testListIterAdd(
+						listIterAfterPrevious(scenario.build().listIterator(3), 3), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter3PreviousSet", testListIterSet(
+						listIterAfterPrevious(scenario.build().listIterator(3), 3), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter3PreviousNextRemove",
+						testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3),
+								Result.NoException));
+				printTest(scenarioName + "_testListIter3PreviousNextAdd",
+						testListIterAdd(
+								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3),
+								ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter3PreviousNextSet",
+						testListIterSet(
+								listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 3), 3),
+								ELEMENT_X, Result.NoException));
+			} else {
+				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
+				printTest(scenarioName + "_testListIter0",
+						testListIter(scenario.build(), 0, Result.UnsupportedOperation));
+			}
+		} catch (Exception e) {
+			printUnableToRun(scenarioName + " TESTS", e);
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////
+	// XXX LIST TEST METHODS
+	////////////////////////////
+
+	/**
+	 * Runs removeFirst() method on given list and checks result against
+	 * expectedResult
+	 * 
+	 * @param list            a list already prepared for a given change scenario
+	 * @param expectedElement element or null if expectedResult is an Exception
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testRemoveFirst(IndexedUnsortedList<Integer> list, Integer expectedElement, Result expectedResult) {
+		Result result;
+		try {
+			Integer retVal = list.removeFirst();
+			if (retVal.equals(expectedElement)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRemoveFirst", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs removeLast() method on given list and checks result against
+	 * expectedResult
+	 * 
+	 * @param list            a list already prepared for a given change scenario
+	 * @param expectedElement element or null if expectedResult is an Exception
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testRemoveLast(IndexedUnsortedList<Integer> list, Integer expectedElement, Result expectedResult) {
+		Result result;
+		try {
+			Integer retVal = list.removeLast();
+			if (retVal.equals(expectedElement)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRemoveLast", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs removeLast() method on given list and checks result against
+	 * expectedResult
+	 * 
+	 * @param list           a list already prepared for a given change scenario
+	 * @param element        element to remove
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testRemoveElement(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+		Result result;
+		try {
+			Integer retVal = list.remove(element);
+			if (retVal.equals(element)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRemoveElement", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs first() method on a given list and checks result against expectedResult
+	 * 
+	 * @param list            a list already prepared for a given change scenario
+	 * @param expectedElement element or null if expectedResult is an Exception
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testFirst(IndexedUnsortedList<Integer> list, Integer expectedElement, Result expectedResult) {
+		Result result;
+		try {
+			Integer retVal = list.first();
+			if (retVal.equals(expectedElement)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testFirst", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs last() method on a given list and checks result against expectedResult
+	 * 
+	 * @param list            a list already prepared for a given change scenario
+	 * @param expectedElement element or null if expectedResult is an Exception
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testLast(IndexedUnsortedList<Integer> list, Integer expectedElement, Result expectedResult) {
+		Result result;
+		try {
+			Integer retVal = list.last();
+			if (retVal.equals(expectedElement)) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testLast", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs contains() method on a given list and element and checks result against
+	 * expectedResult
+	 * 
+	 * @param list           a list already prepared for a given change scenario
+	 * @param element
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testContains(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+		Result result;
+		try {
+			if (list.contains(element)) {
+				result = Result.True;
+			} else {
+				result = Result.False;
+			}
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testContains", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs isEmpty() method on a given list and checks result against
+	 * expectedResult
+	 * 
+	 * @param list           a list already prepared for a given change scenario
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testIsEmpty(IndexedUnsortedList<Integer> list, Result expectedResult) {
+		Result result;
+		try {
+			if (list.isEmpty()) {
+				result = Result.True;
+			} else {
+				result = Result.False;
+			}
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testIsEmpty", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs size() method on a given list and checks result against expectedResult
+	 * 
+	 * @param list         a list already prepared for a given change scenario
+	 * @param expectedSize
+	 * @return test success
+	 */
+	private boolean testSize(IndexedUnsortedList<Integer> list, int expectedSize) {
+		try {
+			return (list.size() == expectedSize);
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSize", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Runs toString() method on given list and attempts to confirm non-default or
+	 * empty String
+	 * difficult to test - just confirm that default address output has been
+	 * overridden
+	 * 
+	 * @param list           a list already prepared for a given change scenario
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testToString(IndexedUnsortedList<Integer> list, Result expectedResult) {
+		Result result;
+		try {
+			String str = list.toString().trim();
+			if (showToString) {
+				System.out.println("toString() output: " + str);
+			}
+			if (str.length() < (list.size() + list.size() / 2 + 2)) { // elements + commas + '[' + ']'
+				result = Result.Fail;
+			} else {
+				char lastChar = str.charAt(str.length() - 1);
+				char firstChar = str.charAt(0);
+				if (firstChar != '[' || lastChar != ']') {
+					result = Result.Fail;
+				} else if (str.contains("@")
+						&& !str.contains(" ")
+						&& Character.isLetter(str.charAt(0))
+						&& (Character.isDigit(lastChar) || (lastChar >= 'a' && lastChar <= 'f'))) {
+					result = Result.Fail; // looks like default toString()
+				} else {
+					result = Result.ValidString;
+				}
+			}
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testToString", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs addToFront() method on a given list and checks result against
+	 * expectedResult
+	 * 
+	 * @param list           a list already prepared for a given change scenario
+	 * @param element
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testAddToFront(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+		Result result;
+		try {
+			list.addToFront(element);
+			result = Result.NoException;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddToFront", e.toString());
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs addToRear() method on a given list and checks result against
+	 * expectedResult
+	 * 
+	 * @param list           a list already prepared for a given change scenario
+	 * @param element
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testAddToRear(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+		Result result;
+		try {
+			list.addToRear(element);
+			result = Result.NoException;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAddToRear", e.toString());
 			e.printStackTrace();
-		} finally {
-			if (printSectionSummaries) {
-				printSectionSummary();
-			}
+			result = Result.UnexpectedException;
 		}
+		return result == expectedResult;
 	}
 
-	////////////////////////////
-	// XXX LIST TEST METHODS
-	////////////////////////////
-
 	/**
-	 * Runs removeFirst() method on given list and checks result against
+	 * Runs addAfter() method on a given list and checks result against
 	 * expectedResult
 	 * 
-	 * @param list            a list already prepared for a given change scenario
-	 * @param expectedElement element or null if expectedResult is an Exception
+	 * @param list           a list already prepared for a given change scenario
+	 * @param target
+	 * @param element
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testRemoveFirst(IndexedUnsortedList<Integer> list, Integer expectedElement, Result expectedResult) {
+	private boolean testAddAfter(IndexedUnsortedList<Integer> list, Integer target, Integer element,
+			Result expectedResult) {
 		Result result;
 		try {
-			Integer retVal = list.removeFirst();
-			if (retVal.equals(expectedElement)) {
-				result = Result.MatchingValue;
-			} else {
-				result = Result.Fail;
-			}
+			list.addAfter(element, target);
+			result = Result.NoException;
 		} catch (NoSuchElementException e) {
 			result = Result.NoSuchElement;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testRemoveFirst", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testAddAfter", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -2668,27 +3836,25 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs removeLast() method on given list and checks result against
+	 * Runs add(int, T) method on a given list and checks result against
 	 * expectedResult
 	 * 
-	 * @param list            a list already prepared for a given change scenario
-	 * @param expectedElement element or null if expectedResult is an Exception
+	 * @param list           a list already prepared for a given change scenario
+	 * @param index
+	 * @param element
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testRemoveLast(IndexedUnsortedList<Integer> list, Integer expectedElement, Result expectedResult) {
+	private boolean testAddAtIndex(IndexedUnsortedList<Integer> list, int index, Integer element,
+			Result expectedResult) {
 		Result result;
 		try {
-			Integer retVal = list.removeLast();
-			if (retVal.equals(expectedElement)) {
-				result = Result.MatchingValue;
-			} else {
-				result = Result.Fail;
-			}
-		} catch (NoSuchElementException e) {
-			result = Result.NoSuchElement;
+			list.add(index, element);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testRemoveLast", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testAddAtIndex", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -2696,27 +3862,22 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs removeLast() method on given list and checks result against
-	 * expectedResult
+	 * Runs add(T) method on a given list and checks result against expectedResult
 	 * 
 	 * @param list           a list already prepared for a given change scenario
-	 * @param element        element to remove
+	 * @param element
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testRemoveElement(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+	private boolean testAdd(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
 		Result result;
 		try {
-			Integer retVal = list.remove(element);
-			if (retVal.equals(element)) {
-				result = Result.MatchingValue;
-			} else {
-				result = Result.Fail;
-			}
-		} catch (NoSuchElementException e) {
-			result = Result.NoSuchElement;
+			list.add(element);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testRemoveElement", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testAddAtIndex", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -2724,26 +3885,24 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs first() method on a given list and checks result against expectedResult
+	 * Runs set(int, T) method on a given list and checks result against
+	 * expectedResult
 	 * 
-	 * @param list            a list already prepared for a given change scenario
-	 * @param expectedElement element or null if expectedResult is an Exception
+	 * @param list           a list already prepared for a given change scenario
+	 * @param index
+	 * @param element
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testFirst(IndexedUnsortedList<Integer> list, Integer expectedElement, Result expectedResult) {
+	private boolean testSet(IndexedUnsortedList<Integer> list, int index, Integer element, Result expectedResult) {
 		Result result;
 		try {
-			Integer retVal = list.first();
-			if (retVal.equals(expectedElement)) {
-				result = Result.MatchingValue;
-			} else {
-				result = Result.Fail;
-			}
-		} catch (NoSuchElementException e) {
-			result = Result.NoSuchElement;
+			list.set(index, element);
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testFirst", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testSet", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -2751,26 +3910,28 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs last() method on a given list and checks result against expectedResult
+	 * Runs get() method on a given list and checks result against expectedResult
 	 * 
 	 * @param list            a list already prepared for a given change scenario
-	 * @param expectedElement element or null if expectedResult is an Exception
+	 * @param index
+	 * @param expectedElement
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testLast(IndexedUnsortedList<Integer> list, Integer expectedElement, Result expectedResult) {
+	private boolean testGet(IndexedUnsortedList<Integer> list, int index, Integer expectedElement,
+			Result expectedResult) {
 		Result result;
 		try {
-			Integer retVal = list.last();
+			Integer retVal = list.get(index);
 			if (retVal.equals(expectedElement)) {
 				result = Result.MatchingValue;
 			} else {
 				result = Result.Fail;
 			}
-		} catch (NoSuchElementException e) {
-			result = Result.NoSuchElement;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testLast", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testGet", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -2778,24 +3939,29 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs contains() method on a given list and element and checks result against
+	 * Runs remove(index) method on a given list and checks result against
 	 * expectedResult
 	 * 
-	 * @param list           a list already prepared for a given change scenario
-	 * @param element
+	 * @param list            a list already prepared for a given change scenario
+	 * @param index
+	 * @param expectedElement
 	 * @param expectedResult
 	 * @return test success
 	 */
-	private boolean testContains(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+	private boolean testRemoveIndex(IndexedUnsortedList<Integer> list, int index, Integer expectedElement,
+			Result expectedResult) {
 		Result result;
 		try {
-			if (list.contains(element)) {
-				result = Result.True;
+			Integer retVal = list.remove(index);
+			if (retVal.equals(expectedElement)) {
+				result = Result.MatchingValue;
 			} else {
-				result = Result.False;
+				result = Result.Fail;
 			}
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testContains", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testRemoveIndex", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -2803,81 +3969,64 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs isEmpty() method on a given list and checks result against
+	 * Runs indexOf() method on a given list and checks result against
 	 * expectedResult
 	 * 
-	 * @param list           a list already prepared for a given change scenario
-	 * @param expectedResult
+	 * @param list          a list already prepared for a given change scenario
+	 * @param element
+	 * @param expectedIndex
 	 * @return test success
 	 */
-	private boolean testIsEmpty(IndexedUnsortedList<Integer> list, Result expectedResult) {
-		Result result;
+	private boolean testIndexOf(IndexedUnsortedList<Integer> list, Integer element, int expectedIndex) {
 		try {
-			if (list.isEmpty()) {
-				result = Result.True;
-			} else {
-				result = Result.False;
-			}
+			return list.indexOf(element) == expectedIndex;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testIsEmpty", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testIndexOf", e.toString());
 			e.printStackTrace();
-			result = Result.UnexpectedException;
+			return false;
 		}
-		return result == expectedResult;
 	}
 
 	/**
-	 * Runs size() method on a given list and checks result against expectedResult
+	 * Runs lastIndexOf() method on a given list and checks result against
+	 * expectedResult
 	 * 
-	 * @param list         a list already prepared for a given change scenario
-	 * @param expectedSize
+	 * @param list          a list already prepared for a given change scenario
+	 * @param element
+	 * @param expectedIndex
 	 * @return test success
 	 */
-	private boolean testSize(IndexedUnsortedList<Integer> list, int expectedSize) {
+	private boolean testLastIndexOf(IndexedUnsortedList<Integer> list, Integer element, int expectedIndex) {
 		try {
-			return (list.size() == expectedSize);
+			return list.lastIndexOf(element) == expectedIndex;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testSize", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testLastIndexOf", e.toString());
 			e.printStackTrace();
 			return false;
 		}
 	}
 
 	/**
-	 * Runs toString() method on given list and attempts to confirm non-default or
-	 * empty String
-	 * difficult to test - just confirm that default address output has been
-	 * overridden
+	 * Runs addAll() method on a given list and checks result against
+	 * expectedResult
 	 * 
 	 * @param list           a list already prepared for a given change scenario
-	 * @param expectedResult
+	 * @param elements       elements to add
+	 * @param expectedResult True if the list should change, False if not
 	 * @return test success
 	 */
-	private boolean testToString(IndexedUnsortedList<Integer> list, Result expectedResult) {
+	private boolean testAddAll(IndexedUnsortedList<Integer> list, List<Integer> elements, Result expectedResult) {
 		Result result;
 		try {
-			String str = list.toString().trim();
-			if (showToString) {
-				System.out.println("toString() output: " + str);
-			}
-			if (str.length() < (list.size() + list.size() / 2 + 2)) { // elements + commas + '[' + ']'
+			int expectedSize = list.size() + elements.size();
+			boolean changed = list.addAll(elements);
+			if (list.size() != expectedSize) {
 				result = Result.Fail;
 			} else {
-				char lastChar = str.charAt(str.length() - 1);
-				char firstChar = str.charAt(0);
-				if (firstChar != '[' || lastChar != ']') {
-					result = Result.Fail;
-				} else if (str.contains("@")
-						&& !str.contains(" ")
-						&& Character.isLetter(str.charAt(0))
-						&& (Character.isDigit(lastChar) || (lastChar >= 'a' && lastChar <= 'f'))) {
-					result = Result.Fail; // looks like default toString()
-				} else {
-					result = Result.ValidString;
-				}
+				result = changed ? Result.True : Result.False;
 			}
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testToString", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testAddAll", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -2885,42 +4034,57 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs addToFront() method on a given list and checks result against
-	 * expectedResult
+	 * Runs addAll(int, Collection) method on a given list and checks result
+	 * against expectedResult
 	 * 
 	 * @param list           a list already prepared for a given change scenario
-	 * @param element
-	 * @param expectedResult
+	 * @param index          index the first new element will have
+	 * @param elements       elements to add
+	 * @param expectedResult True if the list should change, False if not, or
+	 *                       IndexOutOfBounds
 	 * @return test success
 	 */
-	private boolean testAddToFront(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+	private boolean testAddAllAtIndex(IndexedUnsortedList<Integer> list, int index, List<Integer> elements,
+			Result expectedResult) {
 		Result result;
 		try {
-			list.addToFront(element);
-			result = Result.NoException;
+			int expectedSize = list.size() + elements.size();
+			boolean changed = list.addAll(index, elements);
+			if (list.size() != expectedSize) {
+				result = Result.Fail;
+			} else {
+				result = changed ? Result.True : Result.False;
+			}
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testAddToFront", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testAddAllAtIndex", e.toString());
+			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
 	/**
-	 * Runs addToRear() method on a given list and checks result against
+	 * Runs removeIf() method on a given list and checks result against
 	 * expectedResult
 	 * 
 	 * @param list           a list already prepared for a given change scenario
-	 * @param element
-	 * @param expectedResult
+	 * @param element        element whose copies are removed
+	 * @param expectedResult True if an element should be removed, False if not
 	 * @return test success
 	 */
-	private boolean testAddToRear(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
+	private boolean testRemoveIf(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
 		Result result;
 		try {
-			list.addToRear(element);
-			result = Result.NoException;
+			boolean removed = list.removeIf(candidate -> candidate.equals(element));
+			if (list.contains(element)) {
+				result = Result.Fail;
+			} else {
+				result = removed ? Result.True : Result.False;
+			}
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testAddToRear", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testRemoveIf", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -2928,25 +4092,30 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs addAfter() method on a given list and checks result against
+	 * Runs removeRange() method on a given list and checks result against
 	 * expectedResult
 	 * 
 	 * @param list           a list already prepared for a given change scenario
-	 * @param target
-	 * @param element
-	 * @param expectedResult
+	 * @param fromIndex      index of the first element to remove
+	 * @param toIndex        index after the last element to remove
+	 * @param expectedResult NoException or IndexOutOfBounds
 	 * @return test success
 	 */
-	private boolean testAddAfter(IndexedUnsortedList<Integer> list, Integer target, Integer element,
+	private boolean testRemoveRange(IndexedUnsortedList<Integer> list, int fromIndex, int toIndex,
 			Result expectedResult) {
 		Result result;
 		try {
-			list.addAfter(element, target);
-			result = Result.NoException;
-		} catch (NoSuchElementException e) {
-			result = Result.NoSuchElement;
+			int expectedSize = list.size() - (toIndex - fromIndex);
+			list.removeRange(fromIndex, toIndex);
+			if (list.size() != expectedSize) {
+				result = Result.Fail;
+			} else {
+				result = Result.NoException;
+			}
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testAddAfter", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testRemoveRange", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -2954,102 +4123,175 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs add(int, T) method on a given list and checks result against
+	 * Runs forEach() on a given list and checks that it visits the expected
+	 * contents in order
+	 * 
+	 * @param list     a list already prepared for a given change scenario
+	 * @param contents elements expected in the list
+	 * @return test success
+	 */
+	private boolean testForEach(IndexedUnsortedList<Integer> list, Integer[] contents) {
+		try {
+			List<Integer> elements = new ArrayList<Integer>();
+			list.forEach(elements::add);
+			return elements.equals(Arrays.asList(contents));
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testForEach", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Runs forEach() on a given list with an action that adds to the front of
+	 * the list the first time it runs, and checks the result against
 	 * expectedResult
 	 * 
 	 * @param list           a list already prepared for a given change scenario
-	 * @param index
-	 * @param element
-	 * @param expectedResult
+	 * @param element        element the action adds
+	 * @param expectedResult ConcurrentModification or NoException
 	 * @return test success
 	 */
-	private boolean testAddAtIndex(IndexedUnsortedList<Integer> list, int index, Integer element,
+	private boolean testForEachAddToFrontConcurrent(IndexedUnsortedList<Integer> list, Integer element,
 			Result expectedResult) {
 		Result result;
 		try {
-			list.add(index, element);
+			boolean[] added = { false };
+			list.forEach(current -> {
+				if (!added[0]) {
+					added[0] = true;
+					list.addToFront(element);
+				}
+			});
 			result = Result.NoException;
-		} catch (IndexOutOfBoundsException e) {
-			result = Result.IndexOutOfBounds;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testAddAtIndex", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testForEachAddToFrontConcurrent", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
 		return result == expectedResult;
 	}
 
+	////////////////////////////
+	// XXX STREAM AND SPLITERATOR TESTS
+	////////////////////////////
+
 	/**
-	 * Runs add(T) method on a given list and checks result against expectedResult
+	 * Collects stream() or parallelStream() of a given list and checks that
+	 * it holds the expected contents in order
 	 * 
-	 * @param list           a list already prepared for a given change scenario
-	 * @param element
-	 * @param expectedResult
+	 * @param list     a list already prepared for a given change scenario
+	 * @param contents elements expected in the list
+	 * @param parallel true to use parallelStream(), false for stream()
 	 * @return test success
 	 */
-	private boolean testAdd(IndexedUnsortedList<Integer> list, Integer element, Result expectedResult) {
-		Result result;
+	private boolean testStream(IndexedUnsortedList<Integer> list, Integer[] contents, boolean parallel) {
 		try {
-			list.add(element);
-			result = Result.NoException;
-		} catch (IndexOutOfBoundsException e) {
-			result = Result.IndexOutOfBounds;
+			Stream<Integer> stream = parallel ? list.parallelStream() : list.stream();
+			return stream.collect(Collectors.toList()).equals(Arrays.asList(contents));
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testAddAtIndex", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testStream", e.toString());
 			e.printStackTrace();
-			result = Result.UnexpectedException;
+			return false;
 		}
-		return result == expectedResult;
 	}
 
 	/**
-	 * Runs set(int, T) method on a given list and checks result against
-	 * expectedResult
+	 * Traverses a given list's spliterator with tryAdvance() and checks its
+	 * characteristics, size estimate and the elements it returns
 	 * 
-	 * @param list           a list already prepared for a given change scenario
-	 * @param index
-	 * @param element
-	 * @param expectedResult
+	 * @param list     a list already prepared for a given change scenario
+	 * @param contents elements expected in the list
 	 * @return test success
 	 */
-	private boolean testSet(IndexedUnsortedList<Integer> list, int index, Integer element, Result expectedResult) {
-		Result result;
+	private boolean testSpliterator(IndexedUnsortedList<Integer> list, Integer[] contents) {
 		try {
-			list.set(index, element);
-			result = Result.NoException;
-		} catch (IndexOutOfBoundsException e) {
-			result = Result.IndexOutOfBounds;
+			Spliterator<Integer> spliterator = list.spliterator();
+			if (!spliterator.hasCharacteristics(Spliterator.ORDERED)) {
+				return false;
+			}
+			if (spliterator.hasCharacteristics(Spliterator.SIZED) && spliterator.estimateSize() != contents.length) {
+				return false;
+			}
+			List<Integer> elements = new ArrayList<Integer>();
+			while (spliterator.tryAdvance(elements::add)) {
+			}
+			return elements.equals(Arrays.asList(contents)) && !spliterator.tryAdvance(elements::add);
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testSet", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testSpliterator", e.toString());
 			e.printStackTrace();
-			result = Result.UnexpectedException;
+			return false;
 		}
-		return result == expectedResult;
 	}
 
 	/**
-	 * Runs get() method on a given list and checks result against expectedResult
+	 * Splits a given list's spliterator as far as it will go and checks that
+	 * the pieces hold the expected contents in order, and that the sizes of
+	 * the two pieces of every split add up when the spliterator is SUBSIZED
 	 * 
-	 * @param list            a list already prepared for a given change scenario
-	 * @param index
-	 * @param expectedElement
-	 * @param expectedResult
+	 * @param list     a list already prepared for a given change scenario
+	 * @param contents elements expected in the list
 	 * @return test success
 	 */
-	private boolean testGet(IndexedUnsortedList<Integer> list, int index, Integer expectedElement,
+	private boolean testSpliteratorSplit(IndexedUnsortedList<Integer> list, Integer[] contents) {
+		try {
+			List<Integer> elements = new ArrayList<Integer>();
+			return splitAndCollect(list.spliterator(), elements) && elements.equals(Arrays.asList(contents));
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSpliteratorSplit", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Recursively split a spliterator and collect its elements, first piece
+	 * first
+	 * 
+	 * @param spliterator spliterator to split
+	 * @param elements    collects the elements in order
+	 * @return false if the sizes of a split did not add up
+	 */
+	private boolean splitAndCollect(Spliterator<Integer> spliterator, List<Integer> elements) {
+		boolean subsized = spliterator.hasCharacteristics(Spliterator.SUBSIZED);
+		long size = spliterator.getExactSizeIfKnown();
+		Spliterator<Integer> prefix = spliterator.trySplit();
+		if (prefix == null) {
+			spliterator.forEachRemaining(elements::add);
+			return true;
+		}
+		if (subsized && prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown() != size) {
+			return false;
+		}
+		return splitAndCollect(prefix, elements) && splitAndCollect(spliterator, elements);
+	}
+
+	/**
+	 * Traverses a spliterator with forEachRemaining() and checks the result
+	 * against expectedResult
+	 * 
+	 * @param spliterator    a spliterator already prepared for a given scenario
+	 * @param contents       elements expected from the traversal
+	 * @param expectedResult MatchingValue or ConcurrentModification
+	 * @return test success
+	 */
+	private boolean testSpliteratorForEachRemaining(Spliterator<Integer> spliterator, Integer[] contents,
 			Result expectedResult) {
 		Result result;
 		try {
-			Integer retVal = list.get(index);
-			if (retVal.equals(expectedElement)) {
+			List<Integer> elements = new ArrayList<Integer>();
+			spliterator.forEachRemaining(elements::add);
+			if (elements.equals(Arrays.asList(contents))) {
 				result = Result.MatchingValue;
 			} else {
 				result = Result.Fail;
 			}
-		} catch (IndexOutOfBoundsException e) {
-			result = Result.IndexOutOfBounds;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testGet", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testSpliteratorForEachRemaining", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -3057,29 +4299,54 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs remove(index) method on a given list and checks result against
+	 * Runs tryAdvance() on a spliterator and checks the result against
 	 * expectedResult
 	 * 
-	 * @param list            a list already prepared for a given change scenario
-	 * @param index
-	 * @param expectedElement
-	 * @param expectedResult
+	 * @param spliterator    a spliterator already prepared for a given scenario
+	 * @param expectedResult True, False or ConcurrentModification
 	 * @return test success
 	 */
-	private boolean testRemoveIndex(IndexedUnsortedList<Integer> list, int index, Integer expectedElement,
+	private boolean testSpliteratorTryAdvance(Spliterator<Integer> spliterator, Result expectedResult) {
+		Result result;
+		try {
+			result = spliterator.tryAdvance(element -> {
+			}) ? Result.True : Result.False;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testSpliteratorTryAdvance", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs tryAdvance() or forEachRemaining() on a spliterator whose list
+	 * changed after it was bound, and checks the result against
+	 * expectedResult. A ConcurrentModificationException only counts if no
+	 * element reached the action before it.
+	 * 
+	 * @param spliterator    a spliterator bound before a change to its list
+	 * @param useTryAdvance  true for tryAdvance(), false for forEachRemaining()
+	 * @param expectedResult ConcurrentModification
+	 * @return test success
+	 */
+	private boolean testSpliteratorStale(Spliterator<Integer> spliterator, boolean useTryAdvance,
 			Result expectedResult) {
 		Result result;
+		List<Integer> elements = new ArrayList<Integer>();
 		try {
-			Integer retVal = list.remove(index);
-			if (retVal.equals(expectedElement)) {
-				result = Result.MatchingValue;
+			if (useTryAdvance) {
+				spliterator.tryAdvance(elements::add);
 			} else {
-				result = Result.Fail;
+				spliterator.forEachRemaining(elements::add);
 			}
-		} catch (IndexOutOfBoundsException e) {
-			result = Result.IndexOutOfBounds;
+			result = Result.NoException;
+		} catch (ConcurrentModificationException e) {
+			result = elements.isEmpty() ? Result.ConcurrentModification : Result.Fail;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testRemoveIndex", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testSpliteratorStale", e.toString());
 			e.printStackTrace();
 			result = Result.UnexpectedException;
 		}
@@ -3087,22 +4354,35 @@ public class ListTester {
 	}
 
 	/**
-	 * Runs indexOf() method on a given list and checks result against
-	 * expectedResult
+	 * Runs forEach() on a stream of a given list with an action that adds to
+	 * the front of the list the first time it runs, and checks the result
+	 * against expectedResult
 	 * 
-	 * @param list          a list already prepared for a given change scenario
-	 * @param element
-	 * @param expectedIndex
+	 * @param list           a list already prepared for a given change scenario
+	 * @param element        element the action adds
+	 * @param expectedResult ConcurrentModification or NoException
 	 * @return test success
 	 */
-	private boolean testIndexOf(IndexedUnsortedList<Integer> list, Integer element, int expectedIndex) {
+	private boolean testStreamAddToFrontConcurrent(IndexedUnsortedList<Integer> list, Integer element,
+			Result expectedResult) {
+		Result result;
 		try {
-			return list.indexOf(element) == expectedIndex;
+			boolean[] added = { false };
+			list.stream().forEach(current -> {
+				if (!added[0]) {
+					added[0] = true;
+					list.addToFront(element);
+				}
+			});
+			result = Result.NoException;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
 		} catch (Exception e) {
-			System.out.printf("%s caught unexpected %s\n", "testIndexOf", e.toString());
+			System.out.printf("%s caught unexpected %s\n", "testStreamAddToFrontConcurrent", e.toString());
 			e.printStackTrace();
-			return false;
+			result = Result.UnexpectedException;
 		}
+		return result == expectedResult;
 	}
 
 	////////////////////////////
@@ -3237,6 +4517,64 @@ public class ListTester {
 		return result == expectedResult;
 	}
 
+	/**
+	 * Runs an iterator's forEachRemaining() method and checks result against
+	 * expectedResult. On success the iterator must also be exhausted.
+	 * 
+	 * @param iterator       an iterator already positioned for the call
+	 * @param contents       elements expected from the rest of the iteration
+	 * @param expectedResult MatchingValue or ConcurrentModification
+	 * @return test success
+	 */
+	private boolean testIterForEachRemaining(Iterator<Integer> iterator, Integer[] contents,
+			Result expectedResult) {
+		Result result;
+		try {
+			List<Integer> elements = new ArrayList<Integer>();
+			iterator.forEachRemaining(elements::add);
+			if (elements.equals(Arrays.asList(contents)) && !iterator.hasNext()) {
+				result = Result.MatchingValue;
+			} else {
+				result = Result.Fail;
+			}
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testIterForEachRemaining", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/**
+	 * Runs forEachRemaining() and then remove() on an iterator over a given
+	 * list, and checks that remove() took out the last element and left the
+	 * others in order
+	 * 
+	 * @param list     a list already prepared for a given change scenario
+	 * @param contents elements in the list before the calls, at least one
+	 * @return test success
+	 */
+	private boolean testIterForEachRemainingRemove(IndexedUnsortedList<Integer> list, Integer[] contents) {
+		try {
+			Iterator<Integer> iterator = list.iterator();
+			iterator.forEachRemaining(element -> {
+			});
+			iterator.remove();
+			List<Integer> elements = new ArrayList<Integer>();
+			for (Integer element : list) {
+				elements.add(element);
+			}
+			return elements.equals(Arrays.asList(contents).subList(0, contents.length - 1))
+					&& list.size() == contents.length - 1;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testIterForEachRemainingRemove", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
 	//////////////////////////////////////////////////////////
 	// XXX HELPER METHODS FOR TESTING ITERATORS
 	// Note: You can create other similar helpers if you want
@@ -3287,6 +4625,19 @@ public class ListTester {
 		return iterator;
 	}
 
+	/**
+	 * Helper for testing iterators. Return an Iterator that has had
+	 * forEachRemaining() called once with an action that does nothing.
+	 * 
+	 * @param iterator
+	 * @return same Iterator following a call to forEachRemaining()
+	 */
+	private Iterator<Integer> iterAfterForEachRemaining(Iterator<Integer> iterator) {
+		iterator.forEachRemaining(element -> {
+		});
+		return iterator;
+	}
+
 	////////////////////////////////////////////////////////////////////////
 	// XXX LISTITERATOR TESTS
 	// Note: can use Iterator tests for hasNext(), next(), and remove()
@@ -3603,6 +4954,19 @@ public class ListTester {
 		return iterator;
 	}
 
+	/**
+	 * Helper for testing ListIterators. Return a ListIterator that has had
+	 * forEachRemaining() called once with an action that does nothing.
+	 * 
+	 * @param iterator
+	 * @return same iterator after forEachRemaining()
+	 */
+	private ListIterator<Integer> listIterAfterForEachRemaining(ListIterator<Integer> iterator) {
+		iterator.forEachRemaining(element -> {
+		});
+		return iterator;
+	}
+
 	////////////////////////////////////////////////////////
 	// XXX Iterator Concurrency Tests
 	// Can simply use as given. Don't need to add more.
@@ -3919,8 +5283,7 @@ public class ListTester {
 			list.remove(0);
 			printTest("A_remove0_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
 		} catch (Exception e) {
-			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_IteratorConcurrency");
-			e.printStackTrace();
+			printUnableToRun("test_IteratorConcurrency", e);
 		} finally {
 			if (printSectionSummaries) {
 				printSectionSummary();
@@ -5360,8 +6723,276 @@ public class ListTester {
 			printTest("A_remove0_testListIterPreviousIndexConcurrent",
 					testListIterPreviousIndex(it1, -1, Result.ConcurrentModification));
 		} catch (Exception e) {
-			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ListIterConcurrency");
-			e.printStackTrace();
+			printUnableToRun("test_ListIterConcurrency", e);
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Bulk Operation Tests
+	////////////////////////////////////////////////////////
+
+	/**
+	 * run tests on the return values and index bounds of addAll, removeIf,
+	 * removeRange and clear, and check that each of them invalidates an
+	 * open iterator
+	 */
+	private void test_BulkOperations() {
+		System.out.println("\nBulk Operation Tests\n");
+		try {
+			printTest("emptyList_testAddAllAB", testAddAll(newList(), Arrays.asList(ELEMENT_A, ELEMENT_B), Result.True));
+			printTest("emptyList_testAddAllEmpty", testAddAll(newList(), new ArrayList<Integer>(), Result.False));
+			printTest("ABC_testAddAllEmpty",
+					testAddAll(AB_addToRearC_ABC(), new ArrayList<Integer>(), Result.False));
+			printTest("emptyList_testAddAllAtIndex0AB",
+					testAddAllAtIndex(newList(), 0, Arrays.asList(ELEMENT_A, ELEMENT_B), Result.True));
+			printTest("emptyList_testAddAllAtIndex1AB",
+					testAddAllAtIndex(newList(), 1, Arrays.asList(ELEMENT_A, ELEMENT_B), Result.IndexOutOfBounds));
+			printTest("ABC_testAddAllAtIndexNeg1D",
+					testAddAllAtIndex(AB_addToRearC_ABC(), -1, Arrays.asList(ELEMENT_D), Result.IndexOutOfBounds));
+			printTest("ABC_testAddAllAtIndex3D",
+					testAddAllAtIndex(AB_addToRearC_ABC(), 3, Arrays.asList(ELEMENT_D), Result.True));
+			printTest("ABC_testAddAllAtIndex4D",
+					testAddAllAtIndex(AB_addToRearC_ABC(), 4, Arrays.asList(ELEMENT_D), Result.IndexOutOfBounds));
+			printTest("ABC_testAddAllAtIndex4Empty",
+					testAddAllAtIndex(AB_addToRearC_ABC(), 4, new ArrayList<Integer>(), Result.IndexOutOfBounds));
+			printTest("ABC_testAddAllAtIndex2Empty",
+					testAddAllAtIndex(AB_addToRearC_ABC(), 2, new ArrayList<Integer>(), Result.False));
+
+			printTest("emptyList_testRemoveIfX", testRemoveIf(newList(), ELEMENT_X, Result.False));
+			printTest("ABC_testRemoveIfX", testRemoveIf(AB_addToRearC_ABC(), ELEMENT_X, Result.False));
+			printTest("ABC_testRemoveIfB", testRemoveIf(AB_addToRearC_ABC(), ELEMENT_B, Result.True));
+			printTest("CBC_testRemoveIfC", testRemoveIf(ABC_set0C_CBC(), ELEMENT_C, Result.True));
+
+			printTest("emptyList_testRemoveRange00", testRemoveRange(newList(), 0, 0, Result.NoException));
+			printTest("emptyList_testRemoveRange01", testRemoveRange(newList(), 0, 1, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRangeNeg11",
+					testRemoveRange(AB_addToRearC_ABC(), -1, 1, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRange21", testRemoveRange(AB_addToRearC_ABC(), 2, 1, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRange04", testRemoveRange(AB_addToRearC_ABC(), 0, 4, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRange44", testRemoveRange(AB_addToRearC_ABC(), 4, 4, Result.IndexOutOfBounds));
+			printTest("ABC_testRemoveRange33", testRemoveRange(AB_addToRearC_ABC(), 3, 3, Result.NoException));
+			printTest("ABC_testRemoveRange03", testRemoveRange(AB_addToRearC_ABC(), 0, 3, Result.NoException));
+
+			IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+			Iterator<Integer> it1 = list.iterator();
+			list.addAll(Arrays.asList(ELEMENT_D));
+			printTest("ABC_addAllD_testIterNextConcurrent",
+					testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			list.addAll(1, Arrays.asList(ELEMENT_D));
+			printTest("ABC_addAll1D_testIterNextConcurrent",
+					testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			it1.next();
+			list.addAll(0, Arrays.asList(ELEMENT_D));
+			printTest("ABC_iterNextAddAll0D_testIterRemoveConcurrent",
+					testIterRemove(it1, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			list.removeIf(element -> element.equals(ELEMENT_B));
+			printTest("ABC_removeIfB_testIterNextConcurrent",
+					testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			it1.next();
+			list.removeIf(element -> element.equals(ELEMENT_C));
+			printTest("ABC_iterNextRemoveIfC_testIterRemoveConcurrent",
+					testIterRemove(it1, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			list.removeRange(1, 2);
+			printTest("ABC_removeRange12_testIterNextConcurrent",
+					testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			it1.next();
+			list.removeRange(0, 3);
+			printTest("ABC_iterNextRemoveRange03_testIterHasNextConcurrent",
+					testIterHasNext(it1, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			list.clear();
+			printTest("ABC_clear_testIterNextConcurrent",
+					testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			it1.next();
+			list.clear();
+			printTest("ABC_iterNextClear_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+		} catch (Exception e) {
+			printUnableToRun("test_BulkOperations", e);
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX Spliterator Concurrency Tests
+	////////////////////////////////////////////////////////
+
+	/**
+	 * run tests on spliterators that are created before, or used across, a
+	 * change to the list: they bind to the list on first use, and fail fast
+	 * once bound
+	 */
+	private void test_SpliteratorConcurrency() {
+		System.out.println("\nSpliterator Concurrency Tests\n");
+		try {
+			Integer[] LIST_ABCD = { ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D };
+
+			IndexedUnsortedList<Integer> list = newList();
+			Spliterator<Integer> spliterator = list.spliterator();
+			list.addToRear(ELEMENT_A);
+			printTest("emptyList_spliteratorAddToRearA_testForEachRemaining",
+					testSpliteratorForEachRemaining(spliterator, new Integer[] { ELEMENT_A }, Result.MatchingValue));
+			list = AB_addToRearC_ABC();
+			spliterator = list.spliterator();
+			list.addToRear(ELEMENT_D);
+			printTest("ABC_spliteratorAddToRearD_testForEachRemaining",
+					testSpliteratorForEachRemaining(spliterator, LIST_ABCD, Result.MatchingValue));
+			list = AB_addToRearC_ABC();
+			spliterator = list.spliterator();
+			list.removeFirst();
+			printTest("ABC_spliteratorRemoveFirst_testForEachRemaining",
+					testSpliteratorForEachRemaining(spliterator, new Integer[] { ELEMENT_B, ELEMENT_C },
+							Result.MatchingValue));
+			list = AB_addToRearC_ABC();
+			spliterator = list.spliterator();
+			list.addToRear(ELEMENT_D);
+			printTest("ABC_spliteratorAddToRearD_testTryAdvance", testSpliteratorTryAdvance(spliterator, Result.True));
+
+			list = AB_addToRearC_ABC();
+			spliterator = list.spliterator();
+			spliterator.tryAdvance(element -> {
+			});
+			list.addToRear(ELEMENT_D);
+			printTest("ABC_tryAdvanceAddToRearD_testTryAdvanceConcurrent",
+					testSpliteratorTryAdvance(spliterator, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			spliterator = list.spliterator();
+			spliterator.tryAdvance(element -> {
+			});
+			list.removeLast();
+			printTest("ABC_tryAdvanceRemoveLast_testForEachRemainingConcurrent",
+					testSpliteratorForEachRemaining(spliterator, new Integer[] { ELEMENT_B }, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			spliterator = list.spliterator();
+			spliterator.tryAdvance(element -> {
+			});
+			list.set(1, ELEMENT_D);
+			printTest("ABC_tryAdvanceSet1D_testForEachRemainingConcurrent",
+					testSpliteratorForEachRemaining(spliterator, new Integer[] { ELEMENT_D, ELEMENT_C },
+							Result.ConcurrentModification));
+
+			printTest("ABC_testStreamAddToFrontConcurrent",
+					testStreamAddToFrontConcurrent(AB_addToRearC_ABC(), ELEMENT_D, Result.ConcurrentModification));
+
+			// bound, then shrunk far below the fence: nothing stale may be read
+			list = newListOfSize(SHRINK_SIZE);
+			spliterator = list.spliterator();
+			spliterator.trySplit();
+			list.removeRange(0, SHRINK_SIZE - 5);
+			printTest("L2000_trySplitRemoveRange0to1995_testTryAdvanceConcurrent",
+					testSpliteratorStale(spliterator, true, Result.ConcurrentModification));
+			list = newListOfSize(SHRINK_SIZE);
+			spliterator = list.spliterator();
+			spliterator.trySplit();
+			list.removeRange(0, SHRINK_SIZE - 5);
+			printTest("L2000_trySplitRemoveRange0to1995_testForEachRemainingConcurrent",
+					testSpliteratorStale(spliterator, false, Result.ConcurrentModification));
+			// adding after the shrink lets node pools reuse freed nodes
+			list = newListOfSize(SHRINK_SIZE);
+			spliterator = list.spliterator();
+			spliterator.tryAdvance(element -> {
+			});
+			list.removeRange(0, SHRINK_SIZE - 5);
+			list.addToRear(ELEMENT_A);
+			list.addToRear(ELEMENT_B);
+			printTest("L2000_tryAdvanceRemoveRange0to1995AddToRearAB_testTryAdvanceConcurrent",
+					testSpliteratorStale(spliterator, true, Result.ConcurrentModification));
+			list = newListOfSize(SHRINK_SIZE);
+			spliterator = list.spliterator();
+			spliterator.tryAdvance(element -> {
+			});
+			list.removeRange(0, SHRINK_SIZE - 5);
+			list.addToRear(ELEMENT_A);
+			list.addToRear(ELEMENT_B);
+			printTest("L2000_tryAdvanceRemoveRange0to1995AddToRearAB_testForEachRemainingConcurrent",
+					testSpliteratorStale(spliterator, false, Result.ConcurrentModification));
+		} catch (Exception e) {
+			printUnableToRun("test_SpliteratorConcurrency", e);
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX forEach Concurrency Tests
+	////////////////////////////////////////////////////////
+
+	/**
+	 * run tests on forEach and forEachRemaining when the list changes before
+	 * or during the traversal
+	 */
+	private void test_ForEachConcurrency() {
+		System.out.println("\nforEach Concurrency Tests\n");
+		try {
+			printTest("ABC_testForEachAddToFrontConcurrent",
+					testForEachAddToFrontConcurrent(AB_addToRearC_ABC(), ELEMENT_D, Result.ConcurrentModification));
+			printTest("A_testForEachAddToFrontConcurrent",
+					testForEachAddToFrontConcurrent(emptyList_addToFrontA_A(), ELEMENT_D,
+							Result.ConcurrentModification));
+
+			IndexedUnsortedList<Integer> list = AB_addToRearC_ABC();
+			Iterator<Integer> it1 = list.iterator();
+			list.addToRear(ELEMENT_D);
+			printTest("ABC_addToRearD_testIterForEachRemainingConcurrent",
+					testIterForEachRemaining(it1, new Integer[] {}, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			it1.next();
+			list.removeLast();
+			printTest("ABC_iterNextRemoveLast_testIterForEachRemainingConcurrent",
+					testIterForEachRemaining(it1, new Integer[] {}, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			it1 = iterAfterNext(list, 3);
+			list.removeFirst();
+			printTest("ABC_iterNext3RemoveFirst_testIterForEachRemainingConcurrent",
+					testIterForEachRemaining(it1, new Integer[] {}, Result.ConcurrentModification));
+			list = AB_addToRearC_ABC();
+			IndexedUnsortedList<Integer> changing = list;
+			it1 = list.iterator();
+			boolean[] added = { false };
+			try {
+				it1.forEachRemaining(element -> {
+					if (!added[0]) {
+						added[0] = true;
+						changing.addToFront(ELEMENT_D);
+					}
+				});
+				printTest("ABC_iterForEachRemainingAddToFrontD_testConcurrent", false);
+			} catch (ConcurrentModificationException e) {
+				printTest("ABC_iterForEachRemainingAddToFrontD_testConcurrent", true);
+			}
+			list = AB_addToRearC_ABC();
+			it1 = list.iterator();
+			it1.forEachRemaining(element -> {
+			});
+			list.addToRear(ELEMENT_D);
+			printTest("ABC_iterForEachRemainingAddToRearD_testIterRemoveConcurrent",
+					testIterRemove(it1, Result.ConcurrentModification));
+		} catch (Exception e) {
+			printUnableToRun("test_ForEachConcurrency", e);
 		} finally {
 			if (printSectionSummaries) {
 				printSectionSummary();
@@ -0,0 +1,132 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+/**
+ * Streams any IndexedUnsortedList to a channel in a compact binary format.
+ * The format is the one IUMappedList stores its file in: a 16 byte header
+ * (magic number, format version, element width, element count) followed by
+ * one fixed width record per element, encoded by an ElementCodec. A written
+ * file can be read back with ListReader or opened in place as an
+ * IUMappedList.
+ *
+ * The list is walked with its own iterator, and records are encoded into a
+ * single reusable buffer that is written out whenever it fills, so memory
+ * use does not depend on the size of the list. A writer reuses its buffer,
+ * so it must not be shared between threads.
+ *
+ * @param <T> - type of elements being written
+ */
+public class ListWriter<T> {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private final ElementCodec<? super T> codec;
+    private final int width;
+    private final ByteBuffer buffer;
+
+    /**
+     * Create a writer with the default buffer size.
+     *
+     * @param codec converts elements to bytes
+     */
+    public ListWriter(ElementCodec<? super T> codec) {
+        this(codec, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a writer that buffers about bufferSize bytes between channel
+     * writes. The buffer always holds at least the header and one record.
+     *
+     * @param codec      converts elements to bytes
+     * @param bufferSize bytes to buffer between writes
+     */
+    public ListWriter(ElementCodec<? super T> codec, int bufferSize) {
+        if (codec == null) {
+            throw new NullPointerException();
+        }
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("codec width must be positive: " + codec.width());
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Illegal buffer size: " + bufferSize);
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        int capacity = Math.max(bufferSize, Math.max(IUMappedList.HEADER_SIZE, width));
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Write the list to a file, replacing anything already there.
+     *
+     * @param list the list to write
+     * @param path the file to write to
+     * @throws IOException if writing fails
+     */
+    public void write(IndexedUnsortedList<? extends T> list, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(list, channel);
+        }
+    }
+
+    /**
+     * Write the header and every element of the list to the channel. The
+     * channel is left open.
+     *
+     * @param list    the list to write
+     * @param channel where the bytes go
+     * @throws IOException if writing fails
+     * @throws ConcurrentModificationException if the list changes while it
+     *                                         is written
+     */
+    public void write(IndexedUnsortedList<? extends T> list, WritableByteChannel channel) throws IOException {
+        if (list == null || channel == null) {
+            throw new NullPointerException();
+        }
+        int count = list.size();
+
+        buffer.clear();
+        buffer.putInt(IUMappedList.MAGIC);
+        buffer.putInt(IUMappedList.FORMAT_VERSION);
+        buffer.putInt(width);
+        buffer.putInt(count);
+
+        int written = 0;
+        Iterator<? extends T> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            T element = iterator.next();
+            // A record never straddles two writes
+            if (buffer.remaining() < width) {
+                drain(channel);
+            }
+            codec.write(buffer, buffer.position(), element);
+            buffer.position(buffer.position() + width);
+            written++;
+        }
+        drain(channel);
+
+        // The header promised count records
+        if (written != count) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Write out everything put in the buffer so far and clear it.
+     *
+     * @param channel where the bytes go
+     * @throws IOException if writing fails
+     */
+    private void drain(WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
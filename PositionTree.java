@@ -0,0 +1,248 @@
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Order statistic tree over the slots of an array based list, used to give
+ * an element index locations that stay exact while elements shift. The
+ * list inserts a Position wherever it inserts an element and removes one
+ * wherever it removes an element, so the tree always holds one Position
+ * per element, in list order. A Position handed out earlier then knows its
+ * current index, however many elements were added or removed in front of
+ * it since.
+ *
+ * The tree is a treap like IUTreeList: positions are implied by the shape,
+ * every node keeps the size of its subtree, and random priorities keep it
+ * balanced with high probability. Nodes also link to their parent, so the
+ * index of a Position is found by walking up to the root. insert, remove,
+ * positionAt and indexOf take O(log n) expected steps.
+ */
+public class PositionTree {
+    // Estimated bytes per Position: header (12), priority and size (8) and
+    // three references (12), with compressed references
+    private static final long BYTES_PER_POSITION = 32;
+    private Position root;
+
+    /**
+     * Initialize an empty tree
+     */
+    public PositionTree() {
+        root = null;
+    }
+
+    /**
+     * Returns the number of positions in the tree
+     *
+     * @return the number of positions
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Add a position at index, moving the positions from index onwards one
+     * index later.
+     *
+     * @param index index of the new position, 0 <= index <= size
+     * @return the new position
+     * @throws IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public Position insert(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Position position = new Position();
+        if (root == null) {
+            root = position;
+            return position;
+        }
+
+        // Walk down to the empty slot for index, counting the new position
+        // in the size of every subtree it joins
+        Position parent = root;
+        while (true) {
+            parent.size++;
+            int leftSize = size(parent.left);
+            if (index <= leftSize) {
+                if (parent.left == null) {
+                    parent.left = position;
+                    break;
+                }
+                parent = parent.left;
+            } else {
+                index -= leftSize + 1;
+                if (parent.right == null) {
+                    parent.right = position;
+                    break;
+                }
+                parent = parent.right;
+            }
+        }
+        position.parent = parent;
+
+        // Restore the priority order by rotating the new leaf up
+        while (position.parent != null && position.parent.priority < position.priority) {
+            rotateUp(position);
+        }
+        return position;
+    }
+
+    /**
+     * Remove the position at index, moving the positions after it one index
+     * earlier.
+     *
+     * @param index index of the position to remove
+     * @return the removed position
+     * @throws IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public Position remove(int index) {
+        Position position = positionAt(index);
+
+        // Rotate the position down below its higher priority child until it
+        // is a leaf, then cut it off
+        while (position.left != null || position.right != null) {
+            Position child;
+            if (position.left == null) {
+                child = position.right;
+            } else if (position.right == null) {
+                child = position.left;
+            } else {
+                child = (position.left.priority > position.right.priority) ? position.left : position.right;
+            }
+            rotateUp(child);
+        }
+        Position parent = position.parent;
+        if (parent == null) {
+            root = null;
+        } else if (parent.left == position) {
+            parent.left = null;
+        } else {
+            parent.right = null;
+        }
+        position.parent = null;
+        for (Position ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.size--;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position currently at index
+     *
+     * @param index index of the position
+     * @return the position at index
+     * @throws IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public Position positionAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Position current = root;
+        while (true) {
+            int leftSize = size(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index == leftSize) {
+                return current;
+            } else {
+                index -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the current index of a position in this tree. The position
+     * must not have been removed.
+     *
+     * @param position a position returned by insert
+     * @return its index
+     */
+    public int indexOf(Position position) {
+        int index = size(position.left);
+        for (Position current = position; current.parent != null; current = current.parent) {
+            if (current == current.parent.right) {
+                index += size(current.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Remove every position
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Estimate the memory the tree uses
+     *
+     * @return estimated bytes used by the positions
+     */
+    public long footprintBytes() {
+        return size() * BYTES_PER_POSITION;
+    }
+
+    /**
+     * Returns the size of a subtree, 0 for an empty one
+     *
+     * @param position root of the subtree, may be null
+     * @return the number of positions in it
+     */
+    private static int size(Position position) {
+        return (position == null) ? 0 : position.size;
+    }
+
+    /**
+     * Rotate a position above its parent, keeping the order of positions,
+     * subtree sizes and parent links intact.
+     *
+     * @param position a position that has a parent
+     */
+    private void rotateUp(Position position) {
+        Position parent = position.parent;
+        Position grandparent = parent.parent;
+        if (position == parent.left) {
+            parent.left = position.right;
+            if (position.right != null) {
+                position.right.parent = parent;
+            }
+            position.right = parent;
+        } else {
+            parent.right = position.left;
+            if (position.left != null) {
+                position.left.parent = parent;
+            }
+            position.left = parent;
+        }
+        parent.parent = position;
+        position.parent = grandparent;
+        if (grandparent == null) {
+            root = position;
+        } else if (grandparent.left == parent) {
+            grandparent.left = position;
+        } else {
+            grandparent.right = position;
+        }
+        parent.size = size(parent.left) + size(parent.right) + 1;
+        position.size = size(position.left) + size(position.right) + 1;
+    }
+
+    /**
+     * One slot of the list. Holds no element, only its place in the tree.
+     */
+    public static final class Position {
+        private Position left;
+        private Position right;
+        private Position parent;
+        private final int priority;
+        private int size;
+
+        /**
+         * Initialize a leaf with a random priority
+         */
+        private Position() {
+            this.priority = ThreadLocalRandom.current().nextInt();
+            this.size = 1;
+        }
+    }
+}
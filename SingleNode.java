@@ -0,0 +1,67 @@
+/**
+ * A node class for creating a single linked data structure.
+ * Same as Node without the previous link, which a single linked list never
+ * follows, so each node holds one reference fewer.
+ */
+
+public class SingleNode<T> {
+    private T element;
+    private SingleNode<T> nextNode;
+
+    /**
+     * Initialize a new node with a desired element.
+     * 
+     * @param element a desired element to be stored.
+     */
+    public SingleNode(T element) {
+        this.element = element;
+        nextNode = null;
+    }
+
+    /**
+     * Initialize a new node with a given element and known next node.
+     * 
+     * @param element  a desired element to be stored.
+     * @param nextNode a known node in the chain/linked data structure.
+     */
+    public SingleNode(T element, SingleNode<T> nextNode) {
+        this.element = element;
+        this.nextNode = nextNode;
+    }
+
+    /**
+     * Display the desired element.
+     * 
+     * @return an element value.
+     */
+    public T getElement() {
+        return element;
+    }
+
+    /**
+     * Overwrite an existing element.
+     * 
+     * @param element a desired element to be stored.
+     */
+    public void setElement(T element) {
+        this.element = element;
+    }
+
+    /**
+     * Display the next node in the chain.
+     * 
+     * @return the next node value.
+     */
+    public SingleNode<T> getNextNode() {
+        return nextNode;
+    }
+
+    /**
+     * Overwrite an existing known node.
+     * 
+     * @param nextNode a desired node to be overwritten.
+     */
+    public void setNextNode(SingleNode<T> nextNode) {
+        this.nextNode = nextNode;
+    }
+}